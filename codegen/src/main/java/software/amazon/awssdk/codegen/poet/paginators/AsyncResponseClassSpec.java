@@ -42,6 +42,7 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
 import software.amazon.awssdk.core.pagination.async.PaginatedItemsPublisher;
 import software.amazon.awssdk.core.pagination.async.ResponsesSubscription;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Java poet {@link ClassSpec} to generate the response class for async paginated operations.
@@ -51,6 +52,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
     protected static final String LAST_PAGE_FIELD = "isLastPage";
     private static final String SUBSCRIBER = "subscriber";
     private static final String SUBSCRIBE_METHOD = "subscribe";
+    private static final String PAGINATOR = "paginator";
 
     public AsyncResponseClassSpec(IntermediateModel model, String c2jOperationName, PaginatorDefinition paginatorDefinition) {
         super(model, c2jOperationName, paginatorDefinition);
@@ -63,8 +65,11 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addAnnotation(PoetUtils.generatedAnnotation())
                                                .addSuperinterface(getAsyncResponseInterface())
                                                .addFields(fields().collect(Collectors.toList()))
+                                               .addField(prefetchPagesField())
                                                .addMethod(publicConstructor())
                                                .addMethod(privateConstructor())
+                                               .addMethod(prefetchingConstructor())
+                                               .addMethod(prefetchPagesMethod())
                                                .addMethod(subscribeMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForAsyncResponseClass(
@@ -134,6 +139,39 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                        REQUEST_MEMBER)
                          .addStatement("this.$L = $L", LAST_PAGE_FIELD, LAST_PAGE_FIELD)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
+                         .build();
+    }
+
+    /**
+     * A constructor that copies the given paginator, so that the user agent of the first request isn't applied again, and only
+     * changes the number of pages to prefetch.
+     */
+    private MethodSpec prefetchingConstructor() {
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                                                   .addModifiers(Modifier.PRIVATE)
+                                                   .addParameter(className(), PAGINATOR)
+                                                   .addParameter(int.class, PREFETCH_PAGES_MEMBER);
+        fields().forEach(f -> constructor.addStatement("this.$1N = $2L.$1N", f, PAGINATOR));
+        return constructor.addStatement("this.$1L = $1L", PREFETCH_PAGES_MEMBER)
+                          .build();
+    }
+
+    private MethodSpec prefetchPagesMethod() {
+        return MethodSpec.methodBuilder(PREFETCH_PAGES_MEMBER)
+                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                         .addParameter(int.class, PREFETCH_PAGES_MEMBER)
+                         .returns(className())
+                         .addStatement("$1T.isNotNegative($2L, $2S)", Validate.class, PREFETCH_PAGES_MEMBER)
+                         .addStatement("return new $T(this, $L)", className(), PREFETCH_PAGES_MEMBER)
+                         .addJavadoc("Returns a publisher that requests up to {@code prefetchPages} pages ahead of the demand of "
+                                     + "its subscribers. Pages can only be requested one after the other, so the next page is "
+                                     + "requested as soon as the previous page is received, and up to {@code prefetchPages} "
+                                     + "pages are held in memory until they are requested by the subscriber. A value of 0, "
+                                     + "the default, only requests a page when the subscriber requests it.\n"
+                                     + "\n"
+                                     + "@param prefetchPages The maximum number of pages to request ahead of the subscriber.\n"
+                                     + "@return A copy of this publisher that prefetches the given number of pages.\n")
                          .build();
     }
 
@@ -147,9 +185,9 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addParameter(ParameterizedTypeName.get(ClassName.get(Subscriber.class),
                                                                  WildcardTypeName.supertypeOf(responseType())),
                                        SUBSCRIBER)
-                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).build())",
+                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).$5L($5L).build())",
                                        SUBSCRIBER, ResponsesSubscription.class,
-                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), PREFETCH_PAGES_MEMBER)
                          .build();
     }
 
@@ -212,9 +250,10 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                                                       resultKeyType)))
                          .addCode(getIteratorLambdaBlock(resultKey, resultKeyModel))
                          .addCode("\n")
-                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L).build()",
+                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L)"
+                                       + ".$5L($5L).build()",
                                        PaginatedItemsPublisher.class, NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName(),
-                                       LAST_PAGE_FIELD)
+                                       LAST_PAGE_FIELD, PREFETCH_PAGES_MEMBER)
                          .addJavadoc(CodeBlock.builder()
                                               .add("Returns a publisher that can be used to get a stream of data. You need to "
                                                    + "subscribe to the publisher to request the stream of data. The publisher "
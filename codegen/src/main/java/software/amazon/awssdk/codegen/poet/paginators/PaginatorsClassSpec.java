@@ -47,6 +47,7 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
     protected static final String PREVIOUS_PAGE_METHOD_ARGUMENT = "previousPage";
     protected static final String RESPONSE_LITERAL = "response";
     protected static final String LAST_SUCCESSFUL_PAGE_LITERAL = "lastSuccessfulPage";
+    protected static final String PREFETCH_PAGES_MEMBER = "prefetchPages";
 
     protected final IntermediateModel model;
     protected final String c2jOperationName;
@@ -93,6 +94,12 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
         return FieldSpec.builder(requestType(), REQUEST_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    // Generates
+    // private final int prefetchPages;
+    protected FieldSpec prefetchPagesField() {
+        return FieldSpec.builder(int.class, PREFETCH_PAGES_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
     protected String nextPageFetcherClassName() {
         return operationModel.getReturnType().getReturnType() + "Fetcher";
     }
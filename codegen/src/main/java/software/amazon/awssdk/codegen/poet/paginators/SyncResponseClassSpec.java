@@ -25,6 +25,7 @@ import com.squareup.javapoet.TypeSpec;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +39,7 @@ import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
 import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Java poet {@link ClassSpec} to generate the response class for sync paginated operations.
@@ -45,6 +47,8 @@ import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
 public class SyncResponseClassSpec extends PaginatorsClassSpec {
 
     protected static final String ITERATOR_METHOD = "iterator";
+    protected static final String PREFETCH_EXECUTOR_MEMBER = "prefetchExecutor";
+    private static final String PAGINATOR = "paginator";
 
     public SyncResponseClassSpec(IntermediateModel model, String c2jOperationName, PaginatorDefinition paginatorDefinition) {
         super(model, c2jOperationName, paginatorDefinition);
@@ -57,7 +61,11 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addAnnotation(PoetUtils.generatedAnnotation())
                                                .addSuperinterface(getSyncResponseInterface())
                                                .addFields(fields().collect(Collectors.toList()))
+                                               .addField(prefetchPagesField())
+                                               .addField(prefetchExecutorField())
                                                .addMethod(constructor())
+                                               .addMethod(prefetchingConstructor())
+                                               .addMethod(prefetchPagesMethod())
                                                .addMethod(iteratorMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForSyncResponseClass(
@@ -98,6 +106,10 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
         return FieldSpec.builder(SyncPageFetcher.class, NEXT_PAGE_FETCHER_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    private FieldSpec prefetchExecutorField() {
+        return FieldSpec.builder(Executor.class, PREFETCH_EXECUTOR_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
     protected MethodSpec constructor() {
         return MethodSpec.constructorBuilder()
                          .addModifiers(Modifier.PUBLIC)
@@ -109,9 +121,51 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                                        poetExtensions.getUserAgentClass(),
                                        REQUEST_MEMBER)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
+                         .addStatement("this.$L = null", PREFETCH_EXECUTOR_MEMBER)
                 .build();
     }
 
+    /**
+     * A constructor that copies the given paginator, so that the user agent of the first request isn't applied again, and only
+     * changes how pages are prefetched.
+     */
+    private MethodSpec prefetchingConstructor() {
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                                                   .addModifiers(Modifier.PRIVATE)
+                                                   .addParameter(className(), PAGINATOR)
+                                                   .addParameter(int.class, PREFETCH_PAGES_MEMBER)
+                                                   .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER);
+        fields().forEach(f -> constructor.addStatement("this.$1N = $2L.$1N", f, PAGINATOR));
+        return constructor.addStatement("this.$1L = $1L", PREFETCH_PAGES_MEMBER)
+                          .addStatement("this.$1L = $1L", PREFETCH_EXECUTOR_MEMBER)
+                          .build();
+    }
+
+    private MethodSpec prefetchPagesMethod() {
+        return MethodSpec.methodBuilder(PREFETCH_PAGES_MEMBER)
+                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                         .addParameter(int.class, PREFETCH_PAGES_MEMBER)
+                         .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER)
+                         .returns(className())
+                         .addStatement("$1T.isNotNegative($2L, $2S)", Validate.class, PREFETCH_PAGES_MEMBER)
+                         .addStatement("$1T.paramNotNull($2L, $2S)", Validate.class, PREFETCH_EXECUTOR_MEMBER)
+                         .addStatement("return new $T(this, $L, $L)", className(), PREFETCH_PAGES_MEMBER,
+                                       PREFETCH_EXECUTOR_MEMBER)
+                         .addJavadoc("Returns an iterable whose iterators request up to {@code prefetchPages} pages ahead of "
+                                     + "the page being iterated on, using the given executor to make the service calls. Pages "
+                                     + "can only be requested one after the other, so the next page is requested as soon as the "
+                                     + "previous page is received, and up to {@code prefetchPages} pages are held in memory "
+                                     + "until they are iterated on. Pages that were requested ahead are still received when the "
+                                     + "iteration stops early. A value of 0, the default, only requests a page when the iterator "
+                                     + "reaches it.\n"
+                                     + "\n"
+                                     + "@param prefetchPages The maximum number of pages to request ahead of the iterator.\n"
+                                     + "@param prefetchExecutor The executor used to request pages ahead of the iterator.\n"
+                                     + "@return A copy of this iterable that prefetches the given number of pages.\n")
+                         .build();
+    }
+
     /**
      * A {@link MethodSpec} for the overridden iterator() method which is inherited
      * from the interface.
@@ -121,8 +175,9 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(ParameterizedTypeName.get(ClassName.get(Iterator.class), responseType()))
-                .addStatement("return $1T.builder().$2L($3L).build()", PaginatedResponsesIterator.class,
-                              NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                .addStatement("return $1T.builder().$2L($3L).$4L($4L).$5L($5L).build()", PaginatedResponsesIterator.class,
+                              NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), PREFETCH_PAGES_MEMBER,
+                              PREFETCH_EXECUTOR_MEMBER)
                 .build();
     }
 
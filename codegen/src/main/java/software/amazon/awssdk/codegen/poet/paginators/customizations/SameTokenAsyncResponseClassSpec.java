@@ -57,6 +57,7 @@ public class SameTokenAsyncResponseClassSpec extends AsyncResponseClassSpec {
                          .addStatement("this.$L = $L", CLIENT_MEMBER, CLIENT_MEMBER)
                          .addStatement("this.$L = $L", REQUEST_MEMBER, REQUEST_MEMBER)
                          .addStatement("this.$L = $L", LAST_PAGE_FIELD, LAST_PAGE_FIELD)
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
                          .build();
     }
 
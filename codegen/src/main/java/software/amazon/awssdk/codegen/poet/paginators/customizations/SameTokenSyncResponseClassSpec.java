@@ -55,6 +55,8 @@ public class SameTokenSyncResponseClassSpec extends SyncResponseClassSpec {
                          .addParameter(requestType(), REQUEST_MEMBER)
                          .addStatement("this.$L = $L", CLIENT_MEMBER, CLIENT_MEMBER)
                          .addStatement("this.$L = $L", REQUEST_MEMBER, REQUEST_MEMBER)
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
+                         .addStatement("this.$L = null", PREFETCH_EXECUTOR_MEMBER)
                          .build();
     }
 
@@ -17,10 +17,13 @@ package software.amazon.awssdk.codegen.poet.rules2;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -40,11 +43,25 @@ import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
 import software.amazon.awssdk.codegen.poet.rules.EndpointRulesSpecUtils;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
 
 public class EndpointProviderSpec2 implements ClassSpec {
+    /**
+     * The maximum number of resolved endpoints cached by each provider. The cache is keyed on the parameters that the rules
+     * reference, so most clients only ever use a handful of entries, e.g. one per bucket for S3.
+     */
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+
+    /**
+     * The number of resolved endpoints evicted at once when the cache is full. A workload that uses more keys than the cache
+     * holds, e.g. more buckets than entries, only pays for the scan of the cache once per batch of misses.
+     */
+    private static final int ENDPOINT_CACHE_EVICTION_BATCH_SIZE = 16;
+
     private final IntermediateModel intermediateModel;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
     private final Map<String, KeyTypePair> knownEndpointAttributes;
@@ -123,9 +140,14 @@ public class EndpointProviderSpec2 implements ClassSpec {
                                             .addSuperinterface(endpointRulesSpecUtils.providerInterfaceName())
                                             .addAnnotation(SdkInternalApi.class);
 
+        builder.addField(endpointCacheSizeField());
+        builder.addField(endpointCacheEvictionBatchSizeField());
+        builder.addField(endpointCacheField());
         builder.addType(codegenLocalState());
         builder.addType(codegenLocalStateBuilder());
+        builder.addType(codegenEndpointCacheKey());
         builder.addMethod(resolveEndpointMethod());
+        builder.addMethod(resolveUncachedEndpointMethod());
         List<MethodSpec.Builder> methods = new ArrayList<>();
         createRuleMethod(utils.root(), methods);
         for (MethodSpec.Builder methodBuilder : methods) {
@@ -143,6 +165,30 @@ public class EndpointProviderSpec2 implements ClassSpec {
                              "Default" + endpointRulesSpecUtils.providerInterfaceName().simpleName());
     }
 
+    private FieldSpec endpointCacheSizeField() {
+        return FieldSpec.builder(int.class, "ENDPOINT_CACHE_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$L", ENDPOINT_CACHE_SIZE)
+                        .build();
+    }
+
+    private FieldSpec endpointCacheEvictionBatchSizeField() {
+        return FieldSpec.builder(int.class, "ENDPOINT_CACHE_EVICTION_BATCH_SIZE", Modifier.PRIVATE, Modifier.STATIC,
+                                 Modifier.FINAL)
+                        .initializer("$L", ENDPOINT_CACHE_EVICTION_BATCH_SIZE)
+                        .build();
+    }
+
+    private FieldSpec endpointCacheField() {
+        ClassName cacheKey = ClassName.bestGuess("EndpointCacheKey");
+        TypeName cacheType = ParameterizedTypeName.get(ClassName.get(ConcurrentLruCache.class), cacheKey,
+                                                       ClassName.get(Endpoint.class));
+        return FieldSpec.builder(cacheType, "endpointCache", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("$T.<$T, $T>builder($L::resolveUncachedEndpoint).maxSize(ENDPOINT_CACHE_SIZE)"
+                                     + ".evictionBatchSize(ENDPOINT_CACHE_EVICTION_BATCH_SIZE).build()",
+                                     ConcurrentLruCache.class, cacheKey, Endpoint.class, className().simpleName())
+                        .build();
+    }
+
     private MethodSpec resolveEndpointMethod() {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("resolveEndpoint")
                                                .addModifiers(Modifier.PUBLIC)
@@ -152,6 +198,22 @@ public class EndpointProviderSpec2 implements ClassSpec {
 
         builder.addCode(validateRequiredParams());
         builder.beginControlFlow("try");
+        builder.addStatement("return $T.completedFuture(endpointCache.get(new $T(params)))", CompletableFuture.class,
+                             ClassName.bestGuess("EndpointCacheKey"));
+        builder.nextControlFlow("catch ($T error)", Exception.class);
+        builder.addStatement("return $T.failedFuture(error)", CompletableFutureUtils.class);
+        builder.endControlFlow();
+
+        return builder.build();
+    }
+
+    private MethodSpec resolveUncachedEndpointMethod() {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("resolveUncachedEndpoint")
+                                               .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                               .returns(Endpoint.class)
+                                               .addParameter(ClassName.bestGuess("EndpointCacheKey"), "key");
+
+        builder.addStatement("$T params = key.params", endpointRulesSpecUtils.parametersClassName());
         String regionParamName = utils.regionParamName();
         if (regionParamName != null) {
             builder.addStatement("$T result = $L(params, new $T(params.$L()))", ruleResult(), utils.root().ruleId(),
@@ -174,14 +236,64 @@ public class EndpointProviderSpec2 implements ClassSpec {
                .addStatement("throw $T.create(errorMsg)", SdkClientException.class)
                .endControlFlow();
 
-        builder.addStatement("return $T.completedFuture(result.endpoint())", CompletableFuture.class);
-        builder.nextControlFlow("catch ($T error)", Exception.class);
-        builder.addStatement("return $T.failedFuture(error)", CompletableFutureUtils.class);
-        builder.endControlFlow();
-
+        builder.addStatement("return result.endpoint()");
         return builder.build();
     }
 
+    /**
+     * The key of the endpoint cache. Two keys are equal when all the parameters referenced by the rules are equal, the other
+     * parameters, e.g. the object key for S3, don't change the resolved endpoint and would only dilute the cache.
+     */
+    private TypeSpec codegenEndpointCacheKey() {
+        ClassName paramsClass = endpointRulesSpecUtils.parametersClassName();
+        TypeSpec.Builder b = TypeSpec.classBuilder("EndpointCacheKey")
+                                     .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+        b.addField(paramsClass, "params", Modifier.PRIVATE, Modifier.FINAL);
+        b.addField(ParameterizedTypeName.get(List.class, Object.class), "values", Modifier.PRIVATE, Modifier.FINAL);
+
+        CodeBlock.Builder values = CodeBlock.builder();
+        List<String> referencedParams = referencedParamMethodNames();
+        for (int i = 0; i < referencedParams.size(); i++) {
+            values.add(i == 0 ? "params.$L()" : ", params.$L()", referencedParams.get(i));
+        }
+        b.addMethod(MethodSpec.constructorBuilder()
+                              .addParameter(paramsClass, "params")
+                              .addStatement("this.params = params")
+                              .addStatement("this.values = $T.asList($L)", Arrays.class, values.build())
+                              .build());
+        b.addMethod(MethodSpec.methodBuilder("equals")
+                              .addAnnotation(Override.class)
+                              .addModifiers(Modifier.PUBLIC)
+                              .returns(boolean.class)
+                              .addParameter(Object.class, "rhs")
+                              .addStatement("return rhs instanceof EndpointCacheKey && values.equals(((EndpointCacheKey) rhs)"
+                                            + ".values)")
+                              .build());
+        b.addMethod(MethodSpec.methodBuilder("hashCode")
+                              .addAnnotation(Override.class)
+                              .addModifiers(Modifier.PUBLIC)
+                              .returns(int.class)
+                              .addStatement("return values.hashCode()")
+                              .build());
+        return b.build();
+    }
+
+    /**
+     * Returns the accessor names of the parameters that are referenced by the rules, in the order they are declared in the
+     * ruleset.
+     */
+    private List<String> referencedParamMethodNames() {
+        List<String> result = new ArrayList<>();
+        Map<String, ParameterModel> parameters = intermediateModel.getEndpointRuleSetModel().getParameters();
+        parameters.keySet().forEach(name -> {
+            String methodName = endpointRulesSpecUtils.paramMethodName(name);
+            if (utils.params().containsKey(methodName) || methodName.equals(utils.regionParamName())) {
+                result.add(methodName);
+            }
+        });
+        return result;
+    }
+
     private CodeBlock validateRequiredParams() {
         CodeBlock.Builder b = CodeBlock.builder();
         Map<String, ParameterModel> parameters = intermediateModel.getEndpointRuleSetModel().getParameters();
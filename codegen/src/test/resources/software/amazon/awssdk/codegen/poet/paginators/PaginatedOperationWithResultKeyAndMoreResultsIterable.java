@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
@@ -13,6 +14,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyAndMoreResultsRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyAndMoreResultsResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -81,16 +83,51 @@ public class PaginatedOperationWithResultKeyAndMoreResultsIterable implements
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int prefetchPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithResultKeyAndMoreResultsIterable(JsonProtocolTestsClient client,
                                                                  PaginatedOperationWithResultKeyAndMoreResultsRequest firstRequest) {
         this.client = client;
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.nextPageFetcher = new PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher();
+        this.prefetchPages = 0;
+        this.prefetchExecutor = null;
+    }
+
+    private PaginatedOperationWithResultKeyAndMoreResultsIterable(
+            PaginatedOperationWithResultKeyAndMoreResultsIterable paginator, int prefetchPages, Executor prefetchExecutor) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = paginator.nextPageFetcher;
+        this.prefetchPages = prefetchPages;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns an iterable whose iterators request up to {@code prefetchPages} pages ahead of the page being iterated
+     * on, using the given executor to make the service calls. Pages can only be requested one after the other, so the
+     * next page is requested as soon as the previous page is received, and up to {@code prefetchPages} pages are held
+     * in memory until they are iterated on. Pages that were requested ahead are still received when the iteration stops
+     * early. A value of 0, the default, only requests a page when the iterator reaches it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the iterator.
+     * @param prefetchExecutor
+     *        The executor used to request pages ahead of the iterator.
+     * @return A copy of this iterable that prefetches the given number of pages.
+     */
+    public final PaginatedOperationWithResultKeyAndMoreResultsIterable prefetchPages(int prefetchPages, Executor prefetchExecutor) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        Validate.paramNotNull(prefetchExecutor, "prefetchExecutor");
+        return new PaginatedOperationWithResultKeyAndMoreResultsIterable(this, prefetchPages, prefetchExecutor);
     }
 
     @Override
     public Iterator<PaginatedOperationWithResultKeyAndMoreResultsResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).prefetchPages(prefetchPages)
+                .prefetchExecutor(prefetchExecutor).build();
     }
 
     /**
@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyAndMoreResultsRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyAndMoreResultsResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -83,6 +84,8 @@ public class PaginatedOperationWithResultKeyAndMoreResultsPublisher implements
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithResultKeyAndMoreResultsPublisher(JsonProtocolTestsAsyncClient client,
                                                                   PaginatedOperationWithResultKeyAndMoreResultsRequest firstRequest) {
         this(client, firstRequest, false);
@@ -94,11 +97,37 @@ public class PaginatedOperationWithResultKeyAndMoreResultsPublisher implements
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithResultKeyAndMoreResultsPublisher(
+            PaginatedOperationWithResultKeyAndMoreResultsPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = paginator.nextPageFetcher;
+        this.isLastPage = paginator.isLastPage;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code prefetchPages} pages ahead of the demand of its subscribers. Pages
+     * can only be requested one after the other, so the next page is requested as soon as the previous page is
+     * received, and up to {@code prefetchPages} pages are held in memory until they are requested by the subscriber. A
+     * value of 0, the default, only requests a page when the subscriber requests it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the subscriber.
+     * @return A copy of this publisher that prefetches the given number of pages.
+     */
+    public final PaginatedOperationWithResultKeyAndMoreResultsPublisher prefetchPages(int prefetchPages) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return new PaginatedOperationWithResultKeyAndMoreResultsPublisher(this, prefetchPages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyAndMoreResultsResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                .prefetchPages(prefetchPages).build());
     }
 
     /**
@@ -115,7 +144,7 @@ public class PaginatedOperationWithResultKeyAndMoreResultsPublisher implements
         };
         return PaginatedItemsPublisher.builder()
                                       .nextPageFetcher(new PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher())
-                                      .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                                      .iteratorFunction(getIterator).isLastPage(isLastPage).prefetchPages(prefetchPages).build();
     }
 
     private class PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher implements
@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -83,6 +84,8 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                     PaginatedOperationWithResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -94,11 +97,36 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithResultKeyPublisher(PaginatedOperationWithResultKeyPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = paginator.nextPageFetcher;
+        this.isLastPage = paginator.isLastPage;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code prefetchPages} pages ahead of the demand of its subscribers. Pages
+     * can only be requested one after the other, so the next page is requested as soon as the previous page is
+     * received, and up to {@code prefetchPages} pages are held in memory until they are requested by the subscriber. A
+     * value of 0, the default, only requests a page when the subscriber requests it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the subscriber.
+     * @return A copy of this publisher that prefetches the given number of pages.
+     */
+    public final PaginatedOperationWithResultKeyPublisher prefetchPages(int prefetchPages) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return new PaginatedOperationWithResultKeyPublisher(this, prefetchPages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                .prefetchPages(prefetchPages).build());
     }
 
     /**
@@ -114,7 +142,7 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new PaginatedOperationWithResultKeyResponseFetcher())
-                                      .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                                      .iteratorFunction(getIterator).isLastPage(isLastPage).prefetchPages(prefetchPages).build();
     }
 
     private class PaginatedOperationWithResultKeyResponseFetcher implements
@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsClient
 import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyResponse;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -77,16 +79,51 @@ public class PaginatedOperationWithoutResultKeyIterable implements SdkIterable<P
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int prefetchPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithoutResultKeyIterable(JsonProtocolTestsClient client,
                                                       PaginatedOperationWithoutResultKeyRequest firstRequest) {
         this.client = client;
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+        this.prefetchExecutor = null;
+    }
+
+    private PaginatedOperationWithoutResultKeyIterable(PaginatedOperationWithoutResultKeyIterable paginator, int prefetchPages,
+            Executor prefetchExecutor) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = paginator.nextPageFetcher;
+        this.prefetchPages = prefetchPages;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns an iterable whose iterators request up to {@code prefetchPages} pages ahead of the page being iterated
+     * on, using the given executor to make the service calls. Pages can only be requested one after the other, so the
+     * next page is requested as soon as the previous page is received, and up to {@code prefetchPages} pages are held
+     * in memory until they are iterated on. Pages that were requested ahead are still received when the iteration stops
+     * early. A value of 0, the default, only requests a page when the iterator reaches it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the iterator.
+     * @param prefetchExecutor
+     *        The executor used to request pages ahead of the iterator.
+     * @return A copy of this iterable that prefetches the given number of pages.
+     */
+    public final PaginatedOperationWithoutResultKeyIterable prefetchPages(int prefetchPages, Executor prefetchExecutor) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        Validate.paramNotNull(prefetchExecutor, "prefetchExecutor");
+        return new PaginatedOperationWithoutResultKeyIterable(this, prefetchPages, prefetchExecutor);
     }
 
     @Override
     public Iterator<PaginatedOperationWithoutResultKeyResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).prefetchPages(prefetchPages)
+                .prefetchExecutor(prefetchExecutor).build();
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsAsyncC
 import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyResponse;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -78,6 +79,8 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithoutResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                        PaginatedOperationWithoutResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -89,11 +92,36 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithoutResultKeyPublisher(PaginatedOperationWithoutResultKeyPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = paginator.nextPageFetcher;
+        this.isLastPage = paginator.isLastPage;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code prefetchPages} pages ahead of the demand of its subscribers. Pages
+     * can only be requested one after the other, so the next page is requested as soon as the previous page is
+     * received, and up to {@code prefetchPages} pages are held in memory until they are requested by the subscriber. A
+     * value of 0, the default, only requests a page when the subscriber requests it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the subscriber.
+     * @return A copy of this publisher that prefetches the given number of pages.
+     */
+    public final PaginatedOperationWithoutResultKeyPublisher prefetchPages(int prefetchPages) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return new PaginatedOperationWithoutResultKeyPublisher(this, prefetchPages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithoutResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                .prefetchPages(prefetchPages).build());
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
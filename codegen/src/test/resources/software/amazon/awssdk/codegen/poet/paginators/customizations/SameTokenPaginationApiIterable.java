@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
@@ -13,6 +14,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsClient
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -78,14 +80,47 @@ public class SameTokenPaginationApiIterable implements SdkIterable<SameTokenPagi
 
     private final SameTokenPaginationApiRequest firstRequest;
 
+    private final int prefetchPages;
+
+    private final Executor prefetchExecutor;
+
     public SameTokenPaginationApiIterable(JsonProtocolTestsClient client, SameTokenPaginationApiRequest firstRequest) {
         this.client = client;
         this.firstRequest = firstRequest;
+        this.prefetchPages = 0;
+        this.prefetchExecutor = null;
+    }
+
+    private SameTokenPaginationApiIterable(SameTokenPaginationApiIterable paginator, int prefetchPages, Executor prefetchExecutor) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.prefetchPages = prefetchPages;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns an iterable whose iterators request up to {@code prefetchPages} pages ahead of the page being iterated
+     * on, using the given executor to make the service calls. Pages can only be requested one after the other, so the
+     * next page is requested as soon as the previous page is received, and up to {@code prefetchPages} pages are held
+     * in memory until they are iterated on. Pages that were requested ahead are still received when the iteration stops
+     * early. A value of 0, the default, only requests a page when the iterator reaches it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the iterator.
+     * @param prefetchExecutor
+     *        The executor used to request pages ahead of the iterator.
+     * @return A copy of this iterable that prefetches the given number of pages.
+     */
+    public final SameTokenPaginationApiIterable prefetchPages(int prefetchPages, Executor prefetchExecutor) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        Validate.paramNotNull(prefetchExecutor, "prefetchExecutor");
+        return new SameTokenPaginationApiIterable(this, prefetchPages, prefetchExecutor);
     }
 
     @Override
     public Iterator<SameTokenPaginationApiResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher())
+                .prefetchPages(prefetchPages).prefetchExecutor(prefetchExecutor).build();
     }
 
     /**
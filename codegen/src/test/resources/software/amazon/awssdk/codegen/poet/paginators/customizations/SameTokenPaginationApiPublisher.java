@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsAsyncC
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -80,6 +81,8 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public SameTokenPaginationApiPublisher(JsonProtocolTestsAsyncClient client, SameTokenPaginationApiRequest firstRequest) {
         this(client, firstRequest, false);
     }
@@ -89,12 +92,35 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
         this.client = client;
         this.firstRequest = firstRequest;
         this.isLastPage = isLastPage;
+        this.prefetchPages = 0;
+    }
+
+    private SameTokenPaginationApiPublisher(SameTokenPaginationApiPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.isLastPage = paginator.isLastPage;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code prefetchPages} pages ahead of the demand of its subscribers. Pages
+     * can only be requested one after the other, so the next page is requested as soon as the previous page is
+     * received, and up to {@code prefetchPages} pages are held in memory until they are requested by the subscriber. A
+     * value of 0, the default, only requests a page when the subscriber requests it.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to request ahead of the subscriber.
+     * @return A copy of this publisher that prefetches the given number of pages.
+     */
+    public final SameTokenPaginationApiPublisher prefetchPages(int prefetchPages) {
+        Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return new SameTokenPaginationApiPublisher(this, prefetchPages);
     }
 
     @Override
     public void subscribe(Subscriber<? super SameTokenPaginationApiResponse> subscriber) {
         subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber)
-                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).build());
+                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).prefetchPages(prefetchPages).build());
     }
 
     /**
@@ -110,7 +136,7 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher())
-                .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                                      .iteratorFunction(getIterator).isLastPage(isLastPage).prefetchPages(prefetchPages).build();
     }
 
     private class SameTokenPaginationApiResponseFetcher implements AsyncPageFetcher<SameTokenPaginationApiResponse> {
@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.query.endpoints.internal;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -15,31 +16,45 @@ import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
 
 @Generated("software.amazon.awssdk:codegen")
 @SdkInternalApi
 public final class DefaultQueryEndpointProvider implements QueryEndpointProvider {
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+
+    private static final int ENDPOINT_CACHE_EVICTION_BATCH_SIZE = 16;
+
+    private final ConcurrentLruCache<EndpointCacheKey, Endpoint> endpointCache = ConcurrentLruCache
+            .<EndpointCacheKey, Endpoint> builder(DefaultQueryEndpointProvider::resolveUncachedEndpoint)
+            .maxSize(ENDPOINT_CACHE_SIZE).evictionBatchSize(ENDPOINT_CACHE_EVICTION_BATCH_SIZE).build();
+
     @Override
     public CompletableFuture<Endpoint> resolveEndpoint(QueryEndpointParams params) {
         Validate.notNull(params.region(), "Parameter 'region' must not be null");
         try {
-            RuleResult result = endpointRule0(params, new LocalState(params.region()));
-            if (result.canContinue()) {
-                throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
-            }
-            if (result.isError()) {
-                String errorMsg = result.error();
-                if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
-                    errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
-                }
-                throw SdkClientException.create(errorMsg);
-            }
-            return CompletableFuture.completedFuture(result.endpoint());
+            return CompletableFuture.completedFuture(endpointCache.get(new EndpointCacheKey(params)));
         } catch (Exception error) {
             return CompletableFutureUtils.failedFuture(error);
         }
     }
 
+    private static Endpoint resolveUncachedEndpoint(EndpointCacheKey key) {
+        QueryEndpointParams params = key.params;
+        RuleResult result = endpointRule0(params, new LocalState(params.region()));
+        if (result.canContinue()) {
+            throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
+        }
+        if (result.isError()) {
+            String errorMsg = result.error();
+            if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
+                errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
+            }
+            throw SdkClientException.create(errorMsg);
+        }
+        return result.endpoint();
+    }
+
     private static RuleResult endpointRule0(QueryEndpointParams params, LocalState locals) {
         return endpointRule1(params, locals);
     }
@@ -320,4 +335,26 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
             return new LocalState(this);
         }
     }
+
+    private static final class EndpointCacheKey {
+        private final QueryEndpointParams params;
+
+        private final List<Object> values;
+
+        EndpointCacheKey(QueryEndpointParams params) {
+            this.params = params;
+            this.values = Arrays.asList(params.region(), params.useDualStackEndpoint(), params.useFipsEndpoint(),
+                    params.endpointId(), params.arnList());
+        }
+
+        @Override
+        public boolean equals(Object rhs) {
+            return rhs instanceof EndpointCacheKey && values.equals(((EndpointCacheKey) rhs).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
 }
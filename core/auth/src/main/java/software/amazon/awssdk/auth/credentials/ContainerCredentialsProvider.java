@@ -49,8 +49,8 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
-import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.RefreshScheduler;
 
 /**
  * {@link AwsCredentialsProvider} implementation that loads credentials from a local metadata service.
@@ -104,7 +104,10 @@ public final class ContainerCredentialsProvider
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
-                                                  .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
+                                                  .prefetchStrategy(RefreshScheduler.shared()
+                                                                                    .prefetchStrategy(builder.asyncThreadName,
+                                                                                                      Arrays.asList(PROVIDER_NAME,
+                                                                                                                    endpoint)))
                                                   .build();
         } else {
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
@@ -24,6 +24,7 @@ import java.net.URI;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -49,8 +50,8 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
-import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.RefreshScheduler;
 
 /**
  * Credentials provider implementation that loads credentials from the Amazon EC2 Instance Metadata Service.
@@ -114,9 +115,15 @@ public final class InstanceProfileCredentialsProvider
 
         if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            // Providers reading the same default configuration load the same credentials, so their refreshes are shared.
+            Object deduplicationKey = builder.profileFile == null
+                                      ? Arrays.asList(PROVIDER_NAME, endpoint, profileName, staleTime, clock)
+                                      : null;
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
-                                                  .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
+                                                  .prefetchStrategy(RefreshScheduler.shared()
+                                                                                    .prefetchStrategy(builder.asyncThreadName,
+                                                                                                      deduplicationKey))
                                                   .staleValueBehavior(ALLOW)
                                                   .clock(clock)
                                                   .build();
@@ -17,7 +17,6 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import static software.amazon.awssdk.auth.signer.Aws4UnsignedPayloadSigner.UNSIGNED_PAYLOAD;
 import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.RESOLVED_CHECKSUM_SPECS;
-import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -636,8 +635,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         private List<Pair<String, List<String>>> canonicalizeSigningHeaders(SdkHttpFullRequest.Builder headers) {
             List<Pair<String, List<String>>> result = new ArrayList<>(headers.numHeaders());
 
-            headers.forEachHeader((key, value) -> {
-                String lowerCaseHeader = lowerCase(key);
+            headers.forEachLowerCaseHeader((lowerCaseHeader, value) -> {
                 if (!LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
                     result.add(Pair.of(lowerCaseHeader, value));
                 }
@@ -22,7 +22,6 @@ import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUES
 import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUEST_ID_HEADERS;
 import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZ_ID_2_HEADER;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +31,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrameDecoder;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrameDecoder.Frame;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
@@ -44,8 +45,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
-import software.amazon.eventstream.Message;
-import software.amazon.eventstream.MessageDecoder;
+import software.amazon.eventstream.HeaderValue;
 
 /**
  * Unmarshalling layer on top of the {@link AsyncResponseTransformer} to decode event stream messages and deliver them to the
@@ -167,9 +167,9 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
         exceptionsMayBeSent.set(true);
 
-        SynchronousMessageDecoder decoder = new SynchronousMessageDecoder();
+        EventStreamFrameDecoder<EventHeaders> decoder = new EventStreamFrameDecoder<>(EventHeaders::new);
         eventStreamResponseHandler.onEventStream(publisher.flatMapIterable(decoder::decode)
-                                                          .flatMapIterable(this::transformMessage)
+                                                          .flatMapIterable(this::transformFrame)
                                                           .doAfterOnComplete(this::handleOnStreamComplete)
                                                           .doAfterOnError(this::handleOnStreamError)
                                                           .doAfterOnCancel(this::handleOnStreamCancel));
@@ -207,23 +207,15 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         future.complete(null);
     }
 
-    private static final class SynchronousMessageDecoder {
-        private final MessageDecoder decoder = new MessageDecoder();
-
-        private Iterable<Message> decode(ByteBuffer bytes) {
-            decoder.feed(bytes);
-            return decoder.getDecodedMessages();
-        }
-    }
-
-    private Iterable<EventT> transformMessage(Message message) {
+    private Iterable<EventT> transformFrame(Frame<EventHeaders> frame) {
         try {
-            if (isEvent(message)) {
-                return transformEventMessage(message);
-            } else if (isError(message) || isException(message)) {
-                throw transformErrorMessage(message);
+            EventHeaders headers = frame.headers();
+            if (isEvent(headers)) {
+                return transformEventFrame(frame);
+            } else if (isError(headers) || isException(headers)) {
+                throw transformErrorFrame(frame);
             } else {
-                log.debug(() -> getLogPrefix() + "Decoded a message of an unknown type, it will be dropped: " + message);
+                log.debug(() -> getLogPrefix() + "Decoded a message of an unknown type, it will be dropped: " + headers.values);
                 return emptyList();
             }
         } catch (Error | SdkException e) {
@@ -233,9 +225,9 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         }
     }
 
-    private Iterable<EventT> transformEventMessage(Message message) throws Exception {
-        SdkHttpFullResponse response = adaptMessageToResponse(message, false);
-        if (message.getHeaders().get(":event-type").getString().equals("initial-response")) {
+    private Iterable<EventT> transformEventFrame(Frame<EventHeaders> frame) throws Exception {
+        SdkHttpFullResponse response = adaptFrameToResponse(frame, false);
+        if (frame.headers().stringValue(":event-type").equals("initial-response")) {
             ResponseT initialResponse = initialResponseHandler.handle(response, attributesFactory.get());
             eventStreamResponseHandler.responseReceived(initialResponse);
             log.debug(() -> getLogPrefix() + "Decoded initial response: " + initialResponse);
@@ -247,8 +239,8 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         return singleton(event);
     }
 
-    private Throwable transformErrorMessage(Message message) throws Exception {
-        SdkHttpFullResponse errorResponse = adaptMessageToResponse(message, true);
+    private Throwable transformErrorFrame(Frame<EventHeaders> frame) throws Exception {
+        SdkHttpFullResponse errorResponse = adaptFrameToResponse(frame, true);
         Throwable exception = exceptionResponseHandler.handle(errorResponse, attributesFactory.get());
         log.debug(() -> getLogPrefix() + "Decoded error or exception: " + exception, exception);
         return exception;
@@ -271,16 +263,30 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
     }
 
     /**
-     * Transforms an event stream message into a {@link SdkHttpFullResponse} so we can reuse our existing generated unmarshallers.
+     * Transforms an event stream frame into a {@link SdkHttpFullResponse} so we can reuse our existing generated unmarshallers.
+     * The headers of the response are only created once for frames that share the same headers, and the content of the
+     * response reads the payload of the frame without copying it.
      *
-     * @param message Message to transform.
+     * @param frame Frame to transform.
      */
-    private SdkHttpFullResponse adaptMessageToResponse(Message message, boolean isException) {
+    private SdkHttpFullResponse adaptFrameToResponse(Frame<EventHeaders> frame, boolean isException) {
+        EventHeaders headers = frame.headers();
+        if (headers.response == null) {
+            headers.response = adaptHeadersToResponse(headers, isException);
+        }
+
+        return headers.response.toBuilder()
+                               .content(AbortableInputStream.create(frame.payloadAsStream()))
+                               .build();
+    }
+
+    private SdkHttpFullResponse adaptHeadersToResponse(EventHeaders eventHeaders, boolean isException) {
         Map<String, List<String>> headers =
-            message.getHeaders()
-                   .entrySet()
-                   .stream()
-                   .collect(HashMap::new, (m, e) -> m.put(e.getKey(), singletonList(e.getValue().getString())), Map::putAll);
+            eventHeaders.values
+                        .entrySet()
+                        .stream()
+                        .collect(HashMap::new, (m, e) -> m.put(e.getKey(), singletonList(e.getValue().getString())),
+                                 Map::putAll);
 
         if (requestId != null) {
             headers.put(X_AMZN_REQUEST_ID_HEADER, singletonList(requestId));
@@ -289,10 +295,7 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
             headers.put(X_AMZ_ID_2_HEADER, singletonList(extendedRequestId));
         }
 
-        SdkHttpFullResponse.Builder builder =
-            SdkHttpFullResponse.builder()
-                               .content(AbortableInputStream.create(new ByteArrayInputStream(message.getPayload())))
-                               .headers(headers);
+        SdkHttpFullResponse.Builder builder = SdkHttpFullResponse.builder().headers(headers);
 
         if (!isException) {
             builder.statusCode(200);
@@ -302,27 +305,47 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
     }
 
     /**
-     * @param m Message frame.
+     * @param headers Headers of the message frame.
      * @return True if frame is an event frame, false if not.
      */
-    private boolean isEvent(Message m) {
-        return "event".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isEvent(EventHeaders headers) {
+        return "event".equals(headers.stringValue(":message-type"));
     }
 
     /**
-     * @param m Message frame.
+     * @param headers Headers of the message frame.
      * @return True if frame is an error frame, false if not.
      */
-    private boolean isError(Message m) {
-        return "error".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isError(EventHeaders headers) {
+        return "error".equals(headers.stringValue(":message-type"));
     }
 
     /**
-     * @param m Message frame.
+     * @param headers Headers of the message frame.
      * @return True if frame is an exception frame, false if not.
      */
-    private boolean isException(Message m) {
-        return "exception".equals(m.getHeaders().get(":message-type").getString());
+    private boolean isException(EventHeaders headers) {
+        return "exception".equals(headers.stringValue(":message-type"));
+    }
+
+    /**
+     * The headers of a message frame, shared between the frames of the stream that have the same headers.
+     */
+    private static final class EventHeaders {
+        private final Map<String, HeaderValue> values;
+
+        /**
+         * The response without content that the frames with these headers are adapted to, once the first one is adapted.
+         */
+        private SdkHttpFullResponse response;
+
+        private EventHeaders(Map<String, HeaderValue> values) {
+            this.values = values;
+        }
+
+        private String stringValue(String name) {
+            return values.get(name).getString();
+        }
     }
 
     /**
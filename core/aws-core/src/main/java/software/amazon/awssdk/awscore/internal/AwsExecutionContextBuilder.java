@@ -47,7 +47,9 @@ import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorChainResolver;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.useragent.BusinessMetricCollection;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -74,7 +76,7 @@ public final class AwsExecutionContextBuilder {
         // Don't edit this without considering those
 
         SdkRequest originalRequest = executionParams.getInput();
-        MetricCollector metricCollector = resolveMetricCollector(executionParams);
+        MetricCollector metricCollector = resolveMetricCollector(executionParams, clientConfig);
 
         ExecutionAttributes executionAttributes = mergeExecutionAttributeOverrides(
             executionParams.executionAttributes(),
@@ -134,7 +136,7 @@ public final class AwsExecutionContextBuilder {
         putAuthSchemeResolutionAttributes(executionAttributes, clientConfig, originalRequest);
 
         ExecutionInterceptorChain executionInterceptorChain =
-                new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+                ExecutionInterceptorChainResolver.resolve(clientConfig);
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                      .request(originalRequest)
@@ -268,10 +270,11 @@ public final class AwsExecutionContextBuilder {
         return executionAttributes;
     }
 
-    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                          SdkClientConfiguration clientConfig) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfig);
         }
         return metricCollector;
     }
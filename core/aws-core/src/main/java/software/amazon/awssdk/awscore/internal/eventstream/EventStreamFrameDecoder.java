@@ -0,0 +1,363 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.internal.eventstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.eventstream.HeaderValue;
+
+/**
+ * Decodes event stream frames from a sequence of {@link ByteBuffer}s without copying them.
+ * <p>
+ * Frames that are entirely contained in one buffer are returned as slices of that buffer, only frames that span multiple
+ * buffers are copied into a buffer of the size of the frame. The prelude and message checksums are computed as the bytes of a
+ * frame are seen, so each byte is read once to validate it. The buffers given to {@link #decode(ByteBuffer)} must therefore not
+ * be modified after they are given to this decoder, as the returned frames may still refer to them.
+ * <p>
+ * Events of the same type usually have the exact same headers, so the decoded headers are shared between frames whose encoded
+ * headers are identical, instead of being decoded for every frame.
+ *
+ * @param <HeadersT> The type the headers of a frame are transformed to.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class EventStreamFrameDecoder<HeadersT> {
+    private static final int PRELUDE_LENGTH = 8;
+    private static final int PRELUDE_LENGTH_WITH_CRC = PRELUDE_LENGTH + 4;
+    private static final int CRC_LENGTH = 4;
+    private static final int MESSAGE_OVERHEAD = PRELUDE_LENGTH_WITH_CRC + CRC_LENGTH;
+    private static final int MAX_HEADERS_LENGTH = 128 * 1024;
+    private static final int MAX_PAYLOAD_LENGTH = 24 * 1024 * 1024;
+    private static final int MAX_CACHED_HEADERS = 8;
+    private static final String EVENT_TYPE_HEADER = ":event-type";
+
+    private final Function<Map<String, HeaderValue>, HeadersT> headersTransformer;
+    private final List<CachedHeaders<HeadersT>> cachedHeaders = new ArrayList<>(MAX_CACHED_HEADERS);
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer partialPrelude = ByteBuffer.allocate(PRELUDE_LENGTH_WITH_CRC);
+
+    /**
+     * The frame that is being received across multiple buffers, or null if the next frame hasn't been started yet.
+     */
+    private ByteBuffer partialFrame;
+    private int nextEvictedHeaders;
+
+    /**
+     * @param headersTransformer Transforms the decoded headers of a frame. It is called once for each distinct set of
+     * encoded headers, and the result is shared between the frames with those headers.
+     */
+    public EventStreamFrameDecoder(Function<Map<String, HeaderValue>, HeadersT> headersTransformer) {
+        this.headersTransformer = headersTransformer;
+    }
+
+    /**
+     * Decodes the frames that are completed by the given bytes. The bytes of a frame that isn't complete yet are kept until the
+     * next call.
+     *
+     * @param bytes The next bytes of the event stream. The position of the buffer isn't modified.
+     * @return The frames that were completed by the given bytes.
+     */
+    public List<Frame<HeadersT>> decode(ByteBuffer bytes) {
+        ByteBuffer input = bytes.duplicate();
+        List<Frame<HeadersT>> frames = null;
+        while (input.hasRemaining()) {
+            Frame<HeadersT> frame = partialFrame == null && partialPrelude.position() == 0 ? decodeInPlace(input) : null;
+            if (frame == null) {
+                frame = decodePartial(input);
+            }
+            if (frame != null) {
+                if (frames == null) {
+                    frames = new ArrayList<>(2);
+                }
+                frames.add(frame);
+            }
+        }
+        return frames == null ? Collections.emptyList() : frames;
+    }
+
+    /**
+     * Decodes the next frame as a slice of the input, if the input contains the whole frame. Otherwise, returns null without
+     * consuming any of the input.
+     */
+    private Frame<HeadersT> decodeInPlace(ByteBuffer input) {
+        if (input.remaining() < PRELUDE_LENGTH_WITH_CRC) {
+            return null;
+        }
+        int totalLength = decodePrelude(input, input.position());
+        if (input.remaining() < totalLength) {
+            return null;
+        }
+
+        ByteBuffer frame = input.slice();
+        frame.limit(totalLength);
+        input.position(input.position() + totalLength);
+
+        ByteBuffer checksummed = frame.duplicate();
+        checksummed.limit(totalLength - CRC_LENGTH);
+        crc.reset();
+        crc.update(checksummed);
+        return decodeFrame(frame);
+    }
+
+    /**
+     * Copies the input into the frame that is being received across multiple buffers, and decodes it once it's complete.
+     */
+    private Frame<HeadersT> decodePartial(ByteBuffer input) {
+        if (partialFrame == null) {
+            transferTo(input, partialPrelude);
+            if (partialPrelude.hasRemaining()) {
+                return null;
+            }
+            partialPrelude.flip();
+            int totalLength = decodePrelude(partialPrelude, 0);
+            partialFrame = ByteBuffer.allocate(totalLength);
+            crc.reset();
+            crc.update(partialPrelude.array(), 0, PRELUDE_LENGTH_WITH_CRC);
+            partialFrame.put(partialPrelude);
+            partialPrelude.clear();
+        }
+
+        int start = partialFrame.position();
+        transferTo(input, partialFrame);
+        int checksummedEnd = Math.min(partialFrame.position(), partialFrame.capacity() - CRC_LENGTH);
+        if (checksummedEnd > start) {
+            crc.update(partialFrame.array(), start, checksummedEnd - start);
+        }
+        if (partialFrame.hasRemaining()) {
+            return null;
+        }
+
+        ByteBuffer frame = partialFrame;
+        partialFrame = null;
+        frame.flip();
+        return decodeFrame(frame);
+    }
+
+    /**
+     * Validates the prelude at the given index of the buffer, and returns the total length of the frame.
+     */
+    private int decodePrelude(ByteBuffer buffer, int index) {
+        int totalLength = buffer.getInt(index);
+        int headersLength = buffer.getInt(index + 4);
+        long preludeCrc = Integer.toUnsignedLong(buffer.getInt(index + PRELUDE_LENGTH));
+
+        ByteBuffer prelude = buffer.duplicate();
+        prelude.position(index);
+        prelude.limit(index + PRELUDE_LENGTH);
+        crc.reset();
+        crc.update(prelude);
+        if (crc.getValue() != preludeCrc) {
+            throw new IllegalArgumentException(String.format("Prelude checksum failure: expected 0x%x, computed 0x%x",
+                                                             preludeCrc, crc.getValue()));
+        }
+        if (headersLength < 0 || headersLength > MAX_HEADERS_LENGTH) {
+            throw new IllegalArgumentException("Illegal headers_length value: " + headersLength);
+        }
+        long payloadLength = (long) totalLength - headersLength - MESSAGE_OVERHEAD;
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_LENGTH) {
+            throw new IllegalArgumentException("Illegal payload size: " + payloadLength);
+        }
+        return totalLength;
+    }
+
+    /**
+     * Validates the message checksum of a complete frame, which must start at index 0 of the buffer, and decodes it. The
+     * {@link #crc} must contain the checksum of the whole frame but its trailing checksum.
+     */
+    private Frame<HeadersT> decodeFrame(ByteBuffer frame) {
+        int totalLength = frame.limit();
+        long messageCrc = Integer.toUnsignedLong(frame.getInt(totalLength - CRC_LENGTH));
+        if (crc.getValue() != messageCrc) {
+            throw new IllegalArgumentException(String.format("Message checksum failure: expected 0x%x, computed 0x%x",
+                                                             messageCrc, crc.getValue()));
+        }
+
+        int headersEnd = PRELUDE_LENGTH_WITH_CRC + frame.getInt(4);
+        ByteBuffer headers = frame.duplicate();
+        headers.position(PRELUDE_LENGTH_WITH_CRC);
+        headers.limit(headersEnd);
+
+        ByteBuffer payload = frame.duplicate();
+        payload.position(headersEnd);
+        payload.limit(totalLength - CRC_LENGTH);
+
+        return new Frame<>(headers(headers), payload.slice());
+    }
+
+    private HeadersT headers(ByteBuffer encodedHeaders) {
+        for (CachedHeaders<HeadersT> cached : cachedHeaders) {
+            if (cached.matches(encodedHeaders)) {
+                return cached.headers;
+            }
+        }
+
+        byte[] encoded = new byte[encodedHeaders.remaining()];
+        encodedHeaders.duplicate().get(encoded);
+        Map<String, HeaderValue> decoded = decodeHeaders(encodedHeaders);
+        HeaderValue eventType = decoded.get(EVENT_TYPE_HEADER);
+        CachedHeaders<HeadersT> cached = new CachedHeaders<>(encoded, eventType, headersTransformer.apply(decoded));
+
+        // Keep the latest headers of each event type, so that events with headers that change on each event can't evict the
+        // headers of all the other event types.
+        for (int i = 0; i < cachedHeaders.size(); i++) {
+            if (Objects.equals(cachedHeaders.get(i).eventType, eventType)) {
+                cachedHeaders.set(i, cached);
+                return cached.headers;
+            }
+        }
+        if (cachedHeaders.size() < MAX_CACHED_HEADERS) {
+            cachedHeaders.add(cached);
+        } else {
+            cachedHeaders.set(nextEvictedHeaders, cached);
+            nextEvictedHeaders = (nextEvictedHeaders + 1) % MAX_CACHED_HEADERS;
+        }
+        return cached.headers;
+    }
+
+    private static Map<String, HeaderValue> decodeHeaders(ByteBuffer encodedHeaders) {
+        ByteBuffer buffer = encodedHeaders.duplicate();
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        while (buffer.hasRemaining()) {
+            String name = decodeString(buffer, Byte.toUnsignedInt(buffer.get()));
+            headers.put(name, decodeHeaderValue(buffer));
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    private static HeaderValue decodeHeaderValue(ByteBuffer buffer) {
+        byte type = buffer.get();
+        switch (type) {
+            case 0:
+                return HeaderValue.fromBoolean(true);
+            case 1:
+                return HeaderValue.fromBoolean(false);
+            case 2:
+                return HeaderValue.fromByte(buffer.get());
+            case 3:
+                return HeaderValue.fromShort(buffer.getShort());
+            case 4:
+                return HeaderValue.fromInteger(buffer.getInt());
+            case 5:
+                return HeaderValue.fromLong(buffer.getLong());
+            case 6:
+                byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(bytes);
+                return HeaderValue.fromByteArray(bytes);
+            case 7:
+                return HeaderValue.fromString(decodeString(buffer, Short.toUnsignedInt(buffer.getShort())));
+            case 8:
+                return HeaderValue.fromTimestamp(Instant.ofEpochMilli(buffer.getLong()));
+            case 9:
+                return HeaderValue.fromUuid(new UUID(buffer.getLong(), buffer.getLong()));
+            default:
+                throw new IllegalArgumentException("Got unknown headerTypeId " + type);
+        }
+    }
+
+    private static String decodeString(ByteBuffer buffer, int length) {
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, UTF_8);
+        }
+        return value;
+    }
+
+    private static void transferTo(ByteBuffer source, ByteBuffer destination) {
+        int length = Math.min(source.remaining(), destination.remaining());
+        ByteBuffer chunk = source.duplicate();
+        chunk.limit(chunk.position() + length);
+        destination.put(chunk);
+        source.position(source.position() + length);
+    }
+
+    /**
+     * A decoded event stream frame.
+     *
+     * @param <HeadersT> The type the headers of the frame were transformed to.
+     */
+    public static final class Frame<HeadersT> {
+        private final HeadersT headers;
+        private final ByteBuffer payload;
+
+        private Frame(HeadersT headers, ByteBuffer payload) {
+            this.headers = headers;
+            this.payload = payload;
+        }
+
+        /**
+         * @return The transformed headers of this frame, which may be shared with other frames.
+         */
+        public HeadersT headers() {
+            return headers;
+        }
+
+        /**
+         * @return A stream of the payload of this frame, which reads the buffer that was given to the decoder without copying
+         * it when the buffer is backed by an accessible array.
+         */
+        public ByteArrayInputStream payloadAsStream() {
+            if (payload.hasArray()) {
+                return new ByteArrayInputStream(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+            }
+            return new ByteArrayInputStream(BinaryUtils.copyRemainingBytesFrom(payload));
+        }
+    }
+
+    private static final class CachedHeaders<HeadersT> {
+        private final byte[] encoded;
+        private final HeaderValue eventType;
+        private final HeadersT headers;
+
+        private CachedHeaders(byte[] encoded, HeaderValue eventType, HeadersT headers) {
+            this.encoded = encoded;
+            this.eventType = eventType;
+            this.headers = headers;
+        }
+
+        private boolean matches(ByteBuffer encodedHeaders) {
+            if (encodedHeaders.remaining() != encoded.length) {
+                return false;
+            }
+            int position = encodedHeaders.position();
+            for (int i = 0; i < encoded.length; i++) {
+                if (encodedHeaders.get(position + i) != encoded[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -20,12 +20,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,6 +42,7 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.utils.ImmutableMap;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.eventstream.HeaderValue;
 import software.amazon.eventstream.Message;
 
@@ -147,6 +152,33 @@ public class EventStreamAsyncResponseTransformerTest {
             .hasValue(2);
     }
 
+    @Test
+    public void eventsWithSameHeaders_eachUnmarshallTheirOwnPayload() throws Exception {
+        Map<String, HeaderValue> headers = ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                                           ":event-type", HeaderValue.fromString("foo"));
+        ByteBuffer first = new Message(headers, "first".getBytes(StandardCharsets.UTF_8)).toByteBuffer();
+        ByteBuffer second = new Message(headers, "second".getBytes(StandardCharsets.UTF_8)).toByteBuffer();
+        ByteBuffer secondStart = second.duplicate();
+        secondStart.limit(secondStart.position() + 10);
+        ByteBuffer secondEnd = second.duplicate();
+        secondEnd.position(secondEnd.position() + 10);
+
+        List<Object> events = new ArrayList<>();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        AsyncResponseTransformer<SdkResponse, Void> transformer =
+            EventStreamAsyncResponseTransformer.builder()
+                                               .eventStreamResponseHandler(onEventStream(p -> p.subscribe(events::add)))
+                                               .eventResponseHandler((r, e) -> IoUtils.toUtf8String(r.content().get()))
+                                               .executor(Executors.newSingleThreadExecutor())
+                                               .future(future)
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(first, secondStart, secondEnd)));
+        future.get(10, TimeUnit.SECONDS);
+
+        assertThat(events).containsExactly("first", "second");
+    }
+
     @Test
     public void unknownExceptionEventsThrowException() {
         Map<String, HeaderValue> headers = new HashMap<>();
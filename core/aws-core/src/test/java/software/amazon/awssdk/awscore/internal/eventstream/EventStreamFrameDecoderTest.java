@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.internal.eventstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.internal.eventstream.EventStreamFrameDecoder.Frame;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+
+public class EventStreamFrameDecoderTest {
+
+    @Test
+    public void decode_framesInOneBuffer_decodesAllFrames() throws Exception {
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+        ByteBuffer first = event("foo", "first").toByteBuffer();
+        ByteBuffer second = event("bar", "second").toByteBuffer();
+        ByteBuffer both = ByteBuffer.allocate(first.remaining() + second.remaining()).put(first).put(second);
+        both.flip();
+
+        List<Frame<Map<String, HeaderValue>>> frames = decoder.decode(both);
+
+        assertThat(frames).hasSize(2);
+        assertThat(frames.get(0).headers().get(":event-type").getString()).isEqualTo("foo");
+        assertThat(payload(frames.get(0))).isEqualTo("first");
+        assertThat(frames.get(1).headers().get(":event-type").getString()).isEqualTo("bar");
+        assertThat(payload(frames.get(1))).isEqualTo("second");
+        assertThat(both.position()).isZero();
+    }
+
+    @Test
+    public void decode_frameSplitAcrossBuffers_decodesFrameOnceComplete() throws Exception {
+        Message message = event("foo", "a payload that is split across many buffers");
+        byte[] encoded = toBytes(message.toByteBuffer());
+
+        for (int chunkSize = 1; chunkSize < encoded.length; chunkSize++) {
+            EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+            List<Frame<Map<String, HeaderValue>>> frames = new ArrayList<>();
+            for (int offset = 0; offset < encoded.length; offset += chunkSize) {
+                int length = Math.min(chunkSize, encoded.length - offset);
+                frames.addAll(decoder.decode(ByteBuffer.wrap(encoded, offset, length)));
+            }
+
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).headers()).isEqualTo(message.getHeaders());
+            assertThat(payload(frames.get(0))).isEqualTo("a payload that is split across many buffers");
+        }
+    }
+
+    @Test
+    public void decode_frameInOneBuffer_payloadIsNotCopied() throws Exception {
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+        ByteBuffer encoded = event("foo", "payload").toByteBuffer();
+
+        Frame<Map<String, HeaderValue>> frame = decoder.decode(encoded).get(0);
+        encoded.array()[encoded.arrayOffset() + encoded.limit() - 5] = 'X';
+
+        assertThat(payload(frame)).isEqualTo("payloaX");
+    }
+
+    @Test
+    public void decode_sameHeaders_transformsHeadersOnce() {
+        AtomicInteger transformations = new AtomicInteger();
+        EventStreamFrameDecoder<Object> decoder = new EventStreamFrameDecoder<>(h -> {
+            transformations.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = decoder.decode(event("foo", "1").toByteBuffer()).get(0).headers();
+        Object other = decoder.decode(event("bar", "2").toByteBuffer()).get(0).headers();
+        Object second = decoder.decode(event("foo", "3").toByteBuffer()).get(0).headers();
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(transformations).hasValue(2);
+    }
+
+    @Test
+    public void decode_differentHeadersWithSameEventType_transformsBoth() {
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+        Map<String, HeaderValue> headers = new LinkedHashMap<>(event("foo", "").getHeaders());
+        headers.put("id", HeaderValue.fromInteger(1));
+        Map<String, HeaderValue> otherHeaders = new LinkedHashMap<>(headers);
+        otherHeaders.put("id", HeaderValue.fromInteger(2));
+
+        Map<String, HeaderValue> first = decoder.decode(new Message(headers, new byte[0]).toByteBuffer()).get(0).headers();
+        Map<String, HeaderValue> second = decoder.decode(new Message(otherHeaders, new byte[0]).toByteBuffer()).get(0).headers();
+
+        assertThat(first.get("id").getInteger()).isEqualTo(1);
+        assertThat(second.get("id").getInteger()).isEqualTo(2);
+    }
+
+    @Test
+    public void decode_allHeaderTypes_decodesSameAsMessage() {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put("true", HeaderValue.fromBoolean(true));
+        headers.put("false", HeaderValue.fromBoolean(false));
+        headers.put("integer", HeaderValue.fromInteger(70_000));
+        headers.put("long", HeaderValue.fromLong(5_000_000_000L));
+        headers.put("bytes", HeaderValue.fromByteArray(new byte[] {1, 2, 3}));
+        headers.put("string", HeaderValue.fromString("value"));
+        headers.put("timestamp", HeaderValue.fromTimestamp(Instant.ofEpochMilli(1_000_000)));
+        headers.put("uuid", HeaderValue.fromUuid(UUID.randomUUID()));
+        Message message = new Message(headers, new byte[0]);
+
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+
+        assertThat(decoder.decode(message.toByteBuffer()).get(0).headers()).isEqualTo(message.getHeaders());
+    }
+
+    @Test
+    public void decode_corruptedPrelude_throwsException() {
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+        byte[] encoded = toBytes(event("foo", "payload").toByteBuffer());
+        encoded[5]++;
+
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap(encoded)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Prelude checksum failure");
+    }
+
+    @Test
+    public void decode_corruptedPayload_throwsException() {
+        byte[] encoded = toBytes(event("foo", "payload").toByteBuffer());
+        encoded[encoded.length - 5]++;
+
+        EventStreamFrameDecoder<Map<String, HeaderValue>> decoder = new EventStreamFrameDecoder<>(h -> h);
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap(encoded)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Message checksum failure");
+
+        EventStreamFrameDecoder<Map<String, HeaderValue>> splitDecoder = new EventStreamFrameDecoder<>(h -> h);
+        splitDecoder.decode(ByteBuffer.wrap(encoded, 0, 20));
+        assertThatThrownBy(() -> splitDecoder.decode(ByteBuffer.wrap(encoded, 20, encoded.length - 20)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Message checksum failure");
+    }
+
+    private static Message event(String eventType, String payload) {
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put(":message-type", HeaderValue.fromString("event"));
+        headers.put(":event-type", HeaderValue.fromString(eventType));
+        headers.put(":content-type", HeaderValue.fromString("application/json"));
+        return new Message(headers, payload.getBytes(UTF_8));
+    }
+
+    private static String payload(Frame<?> frame) throws Exception {
+        return new String(IoUtils.toByteArray(frame.payloadAsStream()), UTF_8);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
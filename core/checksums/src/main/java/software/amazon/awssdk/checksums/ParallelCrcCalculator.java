@@ -0,0 +1,296 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.checksums.internal.Crc64NvmeChecksum;
+import software.amazon.awssdk.checksums.internal.CrcCombineFunction;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32Checksum;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+import software.amazon.awssdk.utils.NumericUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Calculates CRC checksums of large buffers by splitting them into segments, calculating the checksum of each segment on a
+ * {@link ForkJoinPool} and combining the results in order. Also allows combining the checksums of consecutive parts of an
+ * object, such as the parts of a multipart upload, into the checksum of the whole object without reading the data again.
+ * <p>
+ * Only the CRC32, CRC32C and CRC64NVME algorithms can be combined, see {@link #isSupported(ChecksumAlgorithm)}.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ParallelCrcCalculator {
+    private static final int DEFAULT_SEGMENT_SIZE_IN_BYTES = 4 * 1024 * 1024;
+
+    private final ChecksumAlgorithm algorithm;
+    private final CrcCombineFunction combineFunction;
+    private final int checksumSizeInBytes;
+    private final ForkJoinPool forkJoinPool;
+    private final long segmentSizeInBytes;
+
+    private ParallelCrcCalculator(Builder builder) {
+        this.algorithm = Validate.paramNotNull(builder.algorithm, "algorithm");
+        this.forkJoinPool = builder.forkJoinPool != null ? builder.forkJoinPool : ForkJoinPool.commonPool();
+        this.segmentSizeInBytes = builder.segmentSizeInBytes != null
+                                  ? Validate.isPositive(builder.segmentSizeInBytes, "segmentSizeInBytes")
+                                  : DEFAULT_SEGMENT_SIZE_IN_BYTES;
+        switch (algorithm.algorithmId()) {
+            case "CRC32":
+                this.combineFunction = SdkCrc32Checksum::combine;
+                this.checksumSizeInBytes = 4;
+                break;
+            case "CRC32C":
+                this.combineFunction = SdkCrc32CChecksum::combine;
+                this.checksumSizeInBytes = 4;
+                break;
+            case "CRC64NVME":
+                this.combineFunction = Crc64NvmeChecksum::combine;
+                this.checksumSizeInBytes = 8;
+                break;
+            default:
+                throw new IllegalArgumentException("Checksum algorithm cannot be combined: " + algorithm);
+        }
+    }
+
+    /**
+     * Create a calculator for the given algorithm, using the common {@link ForkJoinPool}.
+     *
+     * @throws IllegalArgumentException if the algorithm is not {@link #isSupported(ChecksumAlgorithm) supported}.
+     */
+    public static ParallelCrcCalculator create(ChecksumAlgorithm algorithm) {
+        return builder().algorithm(algorithm).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether checksums of the given algorithm can be calculated in parallel and combined.
+     */
+    public static boolean isSupported(ChecksumAlgorithm algorithm) {
+        switch (algorithm.algorithmId()) {
+            case "CRC32":
+            case "CRC32C":
+            case "CRC64NVME":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public ChecksumAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Calculate the checksum of the remaining bytes of the buffer. The position of the buffer is not changed.
+     */
+    public long checksum(ByteBuffer buffer) {
+        ByteBuffer data = buffer.slice();
+        return checksum((offset, length) -> {
+            ByteBuffer segment = data.duplicate();
+            segment.position((int) offset).limit((int) (offset + length));
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(segment);
+            return checksum.getValue();
+        }, data.remaining());
+    }
+
+    /**
+     * Create a checksum that calculates the checksum of each update of at least one segment in parallel, and of smaller
+     * updates on the calling thread. The checksum is not thread safe.
+     */
+    public SdkChecksum newChecksum() {
+        return new CombiningChecksum();
+    }
+
+    /**
+     * Combine the checksum of some data with the checksum of the data that follows it.
+     *
+     * @param crc1 The checksum of the first part of the data.
+     * @param crc2 The checksum of the second part of the data.
+     * @param length2 The length of the second part of the data.
+     * @return The checksum of both parts of the data.
+     */
+    public long combine(long crc1, long crc2, long length2) {
+        return combineFunction.combine(crc1, crc2, length2);
+    }
+
+    /**
+     * Convert a checksum value to the bytes of {@link SdkChecksum#getChecksumBytes()}.
+     */
+    public byte[] toBytes(long crc) {
+        byte[] bytes = NumericUtils.longToByte(crc);
+        byte[] checksumBytes = new byte[checksumSizeInBytes];
+        System.arraycopy(bytes, bytes.length - checksumSizeInBytes, checksumBytes, 0, checksumSizeInBytes);
+        return checksumBytes;
+    }
+
+    /**
+     * Convert the bytes of {@link SdkChecksum#getChecksumBytes()} to a checksum value.
+     */
+    public long fromBytes(byte[] checksumBytes) {
+        Validate.isTrue(checksumBytes.length == checksumSizeInBytes, "%s checksums must be %s bytes, but was %s bytes.",
+                        algorithm.algorithmId(), checksumSizeInBytes, checksumBytes.length);
+        long crc = 0;
+        for (byte b : checksumBytes) {
+            crc = (crc << 8) | (b & 0xFF);
+        }
+        return crc;
+    }
+
+    private long checksum(SegmentChecksum segmentChecksum, long length) {
+        if (length <= segmentSizeInBytes) {
+            return segmentChecksum.checksum(0, length);
+        }
+        List<ForkJoinTask<Long>> segments = new ArrayList<>();
+        for (long offset = 0; offset < length; offset += segmentSizeInBytes) {
+            long segmentOffset = offset;
+            long segmentLength = Math.min(segmentSizeInBytes, length - offset);
+            segments.add(forkJoinPool.submit(() -> segmentChecksum.checksum(segmentOffset, segmentLength)));
+        }
+
+        long crc = segments.get(0).join();
+        for (int i = 1; i < segments.size(); i++) {
+            long offset = i * segmentSizeInBytes;
+            crc = combineFunction.combine(crc, segments.get(i).join(), Math.min(segmentSizeInBytes, length - offset));
+        }
+        return crc;
+    }
+
+    @FunctionalInterface
+    private interface SegmentChecksum {
+        long checksum(long offset, long length);
+    }
+
+    /**
+     * Calculates the checksum of the data before the last update of at least one segment in parallel, and the checksum of
+     * the data after it sequentially, and combines the two when the value is requested.
+     */
+    private final class CombiningChecksum implements SdkChecksum {
+        private final SdkChecksum sequentialChecksum = SdkChecksum.forAlgorithm(algorithm);
+        private long sequentialLength;
+        private long crc;
+        private Long crcAtMark;
+
+        @Override
+        public void update(int b) {
+            sequentialChecksum.update(b);
+            sequentialLength += 1;
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            if (len < segmentSizeInBytes) {
+                sequentialChecksum.update(b, off, len);
+                sequentialLength += len;
+            } else {
+                updateInParallel(ByteBuffer.wrap(b, off, len));
+            }
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            int length = buffer.remaining();
+            if (length < segmentSizeInBytes) {
+                sequentialChecksum.update(buffer);
+                sequentialLength += length;
+            } else {
+                updateInParallel(buffer);
+                buffer.position(buffer.limit());
+            }
+        }
+
+        private void updateInParallel(ByteBuffer buffer) {
+            crc = getValue();
+            sequentialChecksum.reset();
+            sequentialLength = 0;
+            crc = combineFunction.combine(crc, checksum(buffer), buffer.remaining());
+        }
+
+        @Override
+        public long getValue() {
+            if (sequentialLength == 0) {
+                return crc;
+            }
+            return combineFunction.combine(crc, sequentialChecksum.getValue(), sequentialLength);
+        }
+
+        @Override
+        public byte[] getChecksumBytes() {
+            return toBytes(getValue());
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            crcAtMark = getValue();
+        }
+
+        @Override
+        public void reset() {
+            crc = crcAtMark != null ? crcAtMark : 0;
+            sequentialChecksum.reset();
+            sequentialLength = 0;
+        }
+    }
+
+    public static final class Builder {
+        private ChecksumAlgorithm algorithm;
+        private ForkJoinPool forkJoinPool;
+        private Integer segmentSizeInBytes;
+
+        private Builder() {
+        }
+
+        /**
+         * The checksum algorithm, one of CRC32, CRC32C or CRC64NVME.
+         */
+        public Builder algorithm(ChecksumAlgorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * The pool on which the checksums of the segments are calculated. Defaults to {@link ForkJoinPool#commonPool()}.
+         */
+        public Builder forkJoinPool(ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * The size of the segments whose checksums are calculated by one thread. Data no larger than one segment is
+         * checksummed on the calling thread. Defaults to 4 MiB.
+         */
+        public Builder segmentSizeInBytes(Integer segmentSizeInBytes) {
+            this.segmentSizeInBytes = segmentSizeInBytes;
+            return this;
+        }
+
+        public ParallelCrcCalculator build() {
+            return new ParallelCrcCalculator(this);
+        }
+    }
+}
@@ -26,12 +26,29 @@ import software.amazon.awssdk.checksums.SdkChecksum;
 @SdkInternalApi
 public final class Crc64NvmeChecksum implements SdkChecksum {
 
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final long[][] COMBINE_MATRICES = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL, 64);
+
     private final SdkChecksum sdkChecksum;
 
     public Crc64NvmeChecksum() {
         this.sdkChecksum = CrcChecksumProvider.crc64NvmeCrtImplementation();
     }
 
+    /**
+     * Combines two CRC64NVME values into a single CRC using the specified combine matrices.
+     * Please refer {@link CrcCombineChecksumUtil#combine(long, long, long, long[][])}
+     *
+     * @param crc1 The first CRC value.
+     * @param crc2 The second CRC value.
+     * @param originalLengthOfCrc2 The length of the original data for the second CRC.
+     * @return The combined CRC value.
+     */
+    public static long combine(long crc1, long crc2, long originalLengthOfCrc2) {
+        return CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES);
+    }
+
     @Override
     public byte[] getChecksumBytes() {
         return longToByte(sdkChecksum.getValue());
@@ -32,6 +32,12 @@ public final class CrcCombineChecksumUtil {
 
     public static final int CRC_SIZE = 32;
 
+    /**
+     * The number of combine matrices, one per bit of the length of the data of the second CRC, so that data of any length can
+     * be combined.
+     */
+    private static final int MATRIX_COUNT = 64;
+
     private CrcCombineChecksumUtil() {
     }
 
@@ -42,7 +48,18 @@ public final class CrcCombineChecksumUtil {
      * @return A 2D array representing the combine matrices.
      */
     public static long[][] generateCombineMatrices(long polynomial) {
-        long[][] combineMatrices = new long[CRC_SIZE][CRC_SIZE];
+        return generateCombineMatrices(polynomial, CRC_SIZE);
+    }
+
+    /**
+     * Generates the combine matrices for CRC calculations of the given size, e.g. 64 for CRC64NVME.
+     *
+     * @param polynomial The reflected CRC polynomial.
+     * @param crcSize The size of the CRC in bits.
+     * @return A 2D array representing the combine matrices.
+     */
+    public static long[][] generateCombineMatrices(long polynomial, int crcSize) {
+        long[][] combineMatrices = new long[MATRIX_COUNT][crcSize];
         initializeFirstMatrix(combineMatrices, polynomial);
         deriveRemainingMatrices(combineMatrices);
         return combineMatrices;
@@ -84,7 +101,8 @@ public final class CrcCombineChecksumUtil {
             originalLengthOfCrc2 >>= 1;
         }
         crc1 ^= crc2;
-        return crc1;
+        int crcSize = combineMatrices[0].length;
+        return crcSize < Long.SIZE ? crc1 & ((1L << crcSize) - 1) : crc1;
     }
 
     /**
@@ -103,7 +121,7 @@ public final class CrcCombineChecksumUtil {
             if ((vector & 1) != 0) {
                 sum ^= l;
             }
-            vector >>= 1;
+            vector >>>= 1;
         }
         return sum;
     }
@@ -111,7 +129,7 @@ public final class CrcCombineChecksumUtil {
     private static void initializeFirstMatrix(long[][] combineMatrices, long polynomial) {
         combineMatrices[0][0] = polynomial;
         long row = 1;
-        for (int i = 1; i < CRC_SIZE; i++) {
+        for (int i = 1; i < combineMatrices[0].length; i++) {
             combineMatrices[0][i] = row;
             row <<= 1;
         }
@@ -123,8 +141,8 @@ public final class CrcCombineChecksumUtil {
      * @param combineMatrices The combine matrices to be derived.
      */
     private static void deriveRemainingMatrices(long[][] combineMatrices) {
-        for (int i = 0; i < CRC_SIZE - 1; i++) {
-            for (int j = 0; j < CRC_SIZE; j++) {
+        for (int i = 0; i < combineMatrices.length - 1; i++) {
+            for (int j = 0; j < combineMatrices[i].length; j++) {
                 combineMatrices[i + 1][j] = gf2MatrixTimes(combineMatrices[i], combineMatrices[i][j]);
             }
         }
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+
+class ParallelCrcCalculatorTest {
+    private static final int SEGMENT_SIZE = 1024;
+    private static final byte[] DATA = new byte[10 * SEGMENT_SIZE + 123];
+
+    private static ForkJoinPool forkJoinPool;
+
+    @BeforeAll
+    static void setup() {
+        new Random(0).nextBytes(DATA);
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void teardown() {
+        forkJoinPool.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void checksum_buffer_matchesSequentialChecksum(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        ByteBuffer buffer = ByteBuffer.wrap(DATA, 7, DATA.length - 7);
+
+        assertThat(calculator(algorithm).checksum(buffer)).isEqualTo(sequentialChecksum(algorithm, 7, DATA.length - 7));
+        assertThat(buffer.position()).isEqualTo(7);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void checksum_directBuffer_matchesSequentialChecksum(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length).put(DATA);
+        buffer.flip();
+
+        assertThat(calculator(algorithm).checksum(buffer)).isEqualTo(sequentialChecksum(algorithm, 0, DATA.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void newChecksum_smallAndLargeUpdates_matchesSequentialChecksum(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        SdkChecksum checksum = calculator(algorithm).newChecksum();
+
+        checksum.update(DATA, 0, 10);
+        checksum.update(ByteBuffer.wrap(DATA, 10, 3 * SEGMENT_SIZE));
+        checksum.update(DATA[10 + 3 * SEGMENT_SIZE]);
+        checksum.update(DATA, 11 + 3 * SEGMENT_SIZE, DATA.length - 11 - 3 * SEGMENT_SIZE);
+
+        assertThat(checksum.getValue()).isEqualTo(sequentialChecksum(algorithm, 0, DATA.length));
+        assertThat(checksum.getChecksumBytes()).isEqualTo(sequentialChecksumBytes(algorithm, 0, DATA.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void newChecksum_resetAfterMark_restoresMarkedChecksum(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        SdkChecksum checksum = calculator(algorithm).newChecksum();
+
+        checksum.update(DATA, 0, 2 * SEGMENT_SIZE);
+        checksum.mark(Integer.MAX_VALUE);
+        checksum.update(DATA, 2 * SEGMENT_SIZE, 100);
+        checksum.reset();
+        checksum.update(DATA, 2 * SEGMENT_SIZE, DATA.length - 2 * SEGMENT_SIZE);
+
+        assertThat(checksum.getValue()).isEqualTo(sequentialChecksum(algorithm, 0, DATA.length));
+    }
+
+    @Test
+    void newChecksum_withoutUpdates_matchesChecksumOfNoData() {
+        SdkChecksum checksum = calculator(DefaultChecksumAlgorithm.CRC32C).newChecksum();
+
+        assertThat(checksum.getValue()).isEqualTo(sequentialChecksum(DefaultChecksumAlgorithm.CRC32C, 0, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void combine_partChecksums_matchesChecksumOfWholeData(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        ParallelCrcCalculator calculator = calculator(algorithm);
+        int partSize = 3000;
+
+        long combined = sequentialChecksum(algorithm, 0, partSize);
+        for (int offset = partSize; offset < DATA.length; offset += partSize) {
+            int length = Math.min(partSize, DATA.length - offset);
+            combined = calculator.combine(combined, sequentialChecksum(algorithm, offset, length), length);
+        }
+
+        assertThat(combined).isEqualTo(sequentialChecksum(algorithm, 0, DATA.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void combine_partsLargerThanOneGibibyte_isAssociative(String algorithmId) {
+        ParallelCrcCalculator calculator = calculator(() -> algorithmId);
+        long a = 0x12345678L;
+        long b = 0x23456789L;
+        long c = 0x3456789AL;
+        long length = 3L << 30;
+
+        assertThat(calculator.combine(calculator.combine(a, b, length), c, length))
+            .isEqualTo(calculator.combine(a, calculator.combine(b, c, length), 2 * length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void toBytes_matchesChecksumBytes(String algorithmId) {
+        ChecksumAlgorithm algorithm = () -> algorithmId;
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(DATA);
+        ParallelCrcCalculator calculator = calculator(algorithm);
+
+        assertThat(calculator.toBytes(checksum.getValue())).isEqualTo(checksum.getChecksumBytes());
+        assertThat(calculator.fromBytes(checksum.getChecksumBytes())).isEqualTo(checksum.getValue());
+    }
+
+    @Test
+    void create_unsupportedAlgorithm_throwsException() {
+        assertThat(ParallelCrcCalculator.isSupported(DefaultChecksumAlgorithm.SHA256)).isFalse();
+        assertThatThrownBy(() -> ParallelCrcCalculator.create(DefaultChecksumAlgorithm.SHA256))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ParallelCrcCalculator calculator(ChecksumAlgorithm algorithm) {
+        return ParallelCrcCalculator.builder()
+                                    .algorithm(algorithm)
+                                    .forkJoinPool(forkJoinPool)
+                                    .segmentSizeInBytes(SEGMENT_SIZE)
+                                    .build();
+    }
+
+    private static long sequentialChecksum(ChecksumAlgorithm algorithm, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(DATA, offset, length);
+        return checksum.getValue();
+    }
+
+    private static byte[] sequentialChecksumBytes(ChecksumAlgorithm algorithm, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(DATA, offset, length);
+        return checksum.getChecksumBytes();
+    }
+}
@@ -44,6 +44,7 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect", "transfer-encoding");
+    private static final Comparator<Pair<String, List<String>>> HEADER_NAME_ORDER = Comparator.comparing(Pair::left);
 
     private final SdkHttpRequest request;
     private final String contentHash;
@@ -54,7 +55,6 @@ public final class V4CanonicalRequest {
     private SortedMap<String, List<String>> canonicalParams;
     private List<Pair<String, List<String>>> canonicalHeaders;
     private String canonicalQueryString;
-    private String canonicalHeadersString;
     private String signedHeadersString;
     private String canonicalRequestString;
 
@@ -88,7 +88,7 @@ public final class V4CanonicalRequest {
     public String getCanonicalRequestString() {
         if (canonicalRequestString == null) {
             canonicalRequestString = getCanonicalRequestString(request.method().toString(), canonicalUri(),
-                                                               canonicalQueryString(), canonicalHeadersString(),
+                                                               canonicalQueryString(), canonicalHeaders(),
                                                                getSignedHeadersString(), contentHash);
         }
         return canonicalRequestString;
@@ -122,13 +122,6 @@ public final class V4CanonicalRequest {
         return canonicalQueryString;
     }
 
-    private String canonicalHeadersString() {
-        if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
-        }
-        return canonicalHeadersString;
-    }
-
     /**
      * Get the list of headers that are to be signed.
      * <p>
@@ -139,14 +132,9 @@ public final class V4CanonicalRequest {
         List<Pair<String, List<String>>> result = new ArrayList<>(request.numHeaders());
 
         // headers retrieved from the request are already sorted case-insensitively
-        request.forEachHeader((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
-            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
-                result.add(Pair.of(lowerCaseHeader, value));
-            }
-        });
+        request.forEachLowerCaseHeader((key, value) -> addLowerCaseCanonicalHeader(result, key, value));
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
@@ -157,18 +145,37 @@ public final class V4CanonicalRequest {
     public static List<Pair<String, List<String>>> getCanonicalHeaders(Map<String, List<String>> headers) {
         List<Pair<String, List<String>>> result = new ArrayList<>(headers.size());
 
-        headers.forEach((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
-            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
-                result.add(Pair.of(lowerCaseHeader, value));
-            }
-        });
+        headers.forEach((key, value) -> addCanonicalHeader(result, key, value));
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
 
+    private static void addCanonicalHeader(List<Pair<String, List<String>>> canonicalHeaders, String name, List<String> values) {
+        addLowerCaseCanonicalHeader(canonicalHeaders, lowerCase(name), values);
+    }
+
+    private static void addLowerCaseCanonicalHeader(List<Pair<String, List<String>>> canonicalHeaders, String lowerCaseName,
+                                                    List<String> values) {
+        if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseName)) {
+            canonicalHeaders.add(Pair.of(lowerCaseName, values));
+        }
+    }
+
+    /**
+     * Sorts the headers by their lower-case name. Headers sorted case-insensitively, which is the case for the headers of a
+     * request, are almost always sorted by their lower-case name already, in which case the list is only checked.
+     */
+    private static void sortIfNeeded(List<Pair<String, List<String>>> canonicalHeaders) {
+        for (int i = 1; i < canonicalHeaders.size(); i++) {
+            if (canonicalHeaders.get(i - 1).left().compareTo(canonicalHeaders.get(i).left()) > 0) {
+                canonicalHeaders.sort(HEADER_NAME_ORDER);
+                return;
+            }
+        }
+    }
+
     /**
      * Get the string representing the headers that will be signed and their values. The input list is expected to be sorted
      * case-insensitively.
@@ -185,7 +192,12 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
+        appendCanonicalHeaders(result, canonicalHeaders);
+        return result.toString();
+    }
+
+    private static void appendCanonicalHeaders(StringBuilder result, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
             result.append(header.left());
             result.append(":");
             for (String headerValue : header.right()) {
@@ -194,29 +206,25 @@ public final class V4CanonicalRequest {
             }
             result.setLength(result.length() - 1);
             result.append("\n");
-        });
-        return result.toString();
+        }
     }
 
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
     public static String getSignedHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        String signedHeadersString;
-        StringBuilder headersString = new StringBuilder(512);
+        int length = 0;
         for (Pair<String, List<String>> header : canonicalHeaders) {
-            headersString.append(header.left()).append(";");
+            length += header.left().length() + 1;
         }
-        // get rid of trailing semicolon
-        signedHeadersString = headersString.toString();
-
-        boolean trimTrailingSemicolon = signedHeadersString.length() > 1 &&
-                                        signedHeadersString.endsWith(";");
-
-        if (trimTrailingSemicolon) {
-            signedHeadersString = signedHeadersString.substring(0, signedHeadersString.length() - 1);
+        StringBuilder headersString = new StringBuilder(length);
+        for (Pair<String, List<String>> header : canonicalHeaders) {
+            if (headersString.length() > 0) {
+                headersString.append(';');
+            }
+            headersString.append(header.left());
         }
-        return signedHeadersString;
+        return headersString.toString();
     }
 
     /**
@@ -225,14 +233,19 @@ public final class V4CanonicalRequest {
      * Each {@link String} parameter is separated by a newline character.
      */
     private static String getCanonicalRequestString(String httpMethod, String canonicalUri, String canonicalParamsString,
-                                                    String canonicalHeadersString, String signedHeadersString,
-                                                    String contentHash) {
-        return httpMethod + SignerConstant.LINE_SEPARATOR +
-               canonicalUri + SignerConstant.LINE_SEPARATOR +
-               canonicalParamsString + SignerConstant.LINE_SEPARATOR +
-               canonicalHeadersString + SignerConstant.LINE_SEPARATOR +
-               signedHeadersString + SignerConstant.LINE_SEPARATOR +
-               contentHash;
+                                                    List<Pair<String, List<String>>> canonicalHeaders,
+                                                    String signedHeadersString, String contentHash) {
+        // The canonical headers are written directly into the canonical request, instead of being built as a separate string
+        // first. 2048 covers the canonical headers of most requests, see getCanonicalHeadersString.
+        StringBuilder result = new StringBuilder(2048 + canonicalUri.length() + canonicalParamsString.length());
+        result.append(httpMethod).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalUri).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalParamsString).append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalHeaders(result, canonicalHeaders);
+        result.append(SignerConstant.LINE_SEPARATOR)
+              .append(signedHeadersString).append(SignerConstant.LINE_SEPARATOR)
+              .append(contentHash);
+        return result.toString();
     }
 
     /**
@@ -296,8 +309,9 @@ public final class V4CanonicalRequest {
      * If the path is empty, a single-forward slash ('/') is returned.
      */
     private static String getCanonicalUri(SdkHttpRequest request, Options options) {
-        String path = options.normalizePath ? request.getUri().normalize().getRawPath()
-                                            : request.encodedPath();
+        boolean normalizePath = options.normalizePath && needsNormalization(request.encodedPath());
+        String path = normalizePath ? request.getUri().normalize().getRawPath()
+                                    : request.encodedPath();
 
         if (StringUtils.isEmpty(path)) {
             return "/";
@@ -314,10 +328,10 @@ public final class V4CanonicalRequest {
         // Normalization can leave a trailing slash at the end of the resource path,
         // even if the input path doesn't end with one. Example input: /foo/bar/.
         // Remove the trailing slash if the input path doesn't end with one.
-        boolean trimTrailingSlash = options.normalizePath &&
+        boolean trimTrailingSlash = normalizePath &&
                                     path.length() > 1 &&
-                                    !request.getUri().getPath().endsWith("/") &&
-                                    path.charAt(path.length() - 1) == '/';
+                                    path.charAt(path.length() - 1) == '/' &&
+                                    !request.getUri().getPath().endsWith("/");
 
         if (trimTrailingSlash) {
             path = path.substring(0, path.length() - 1);
@@ -325,6 +339,15 @@ public final class V4CanonicalRequest {
         return path;
     }
 
+    /**
+     * Whether normalizing the given path, as done by {@link java.net.URI#normalize()}, could change it. Normalization removes
+     * empty segments and "." and ".." segments, so paths without "//" or "/." are returned as-is, and don't need to be parsed
+     * into a URI.
+     */
+    private static boolean needsNormalization(String path) {
+        return path != null && !path.isEmpty() && (path.charAt(0) != '/' || path.contains("//") || path.contains("/."));
+    }
+
     /**
      * Get the sorted map of query parameters that are to be signed.
      */
@@ -36,7 +36,9 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -47,8 +49,12 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final int SIGNING_KEY_CACHE_SIZE = 300;
+
+    private static final ConcurrentLruCache<SigningKeyCacheKey, byte[]> SIGNING_KEY_CACHE =
+        ConcurrentLruCache.builder(SignerUtils::newCachedSigningKey)
+                          .maxSize(SIGNING_KEY_CACHE_SIZE)
+                          .build();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -56,6 +62,12 @@ public final class SignerUtils {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneId.of("UTC"));
 
+    /**
+     * The last formatted signing time. Requests signed within the same second share the same date and time strings, so they
+     * don't need to be formatted again.
+     */
+    private static volatile FormattedSigningTime lastSigningTime = new FormattedSigningTime(Instant.EPOCH);
+
     private SignerUtils() {
     }
 
@@ -65,7 +77,7 @@ public final class SignerUtils {
      * For example, given an Instant with millis-value of 1416863450581, this method returns "20141124"
      */
     public static String formatDate(Instant instant) {
-        return DATE_FORMATTER.format(instant);
+        return formattedSigningTime(instant).date;
     }
 
     /**
@@ -75,7 +87,16 @@ public final class SignerUtils {
      * For example, given an Instant with millis-value of 1416863450581, this method returns "20141124T211050Z"
      */
     public static String formatDateTime(Instant instant) {
-        return TIME_FORMATTER.format(instant);
+        return formattedSigningTime(instant).dateTime;
+    }
+
+    private static FormattedSigningTime formattedSigningTime(Instant instant) {
+        FormattedSigningTime signingTime = lastSigningTime;
+        if (signingTime.epochSecond != instant.getEpochSecond()) {
+            signingTime = new FormattedSigningTime(instant);
+            lastSigningTime = signingTime;
+        }
+        return signingTime;
     }
 
     /**
@@ -91,30 +112,22 @@ public final class SignerUtils {
     }
 
     /**
-     * Get the signing key based on the given credentials and a credential-scope
+     * Get the signing key based on the given credentials and a credential-scope. Signing keys are cached per day, region,
+     * service and credentials, since deriving one takes four HMAC computations.
+     * <p>
+     * The returned array is shared with other callers and must not be modified.
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-                        credentialScope.getInstant().toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                                          credentialScope.getDate(),
-                                          credentialScope.getRegion(),
-                                          credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
-        return signingKey;
+        return SIGNING_KEY_CACHE.get(new SigningKeyCacheKey(credentials, credentialScope));
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+    private static byte[] newCachedSigningKey(SigningKeyCacheKey key) {
+        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
+                        key.credentialScope.getInstant().toEpochMilli());
+        return newSigningKey(key.credentials,
+                             key.credentialScope.getDate(),
+                             key.credentialScope.getRegion(),
+                             key.credentialScope.getService());
     }
 
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
@@ -301,4 +314,60 @@ public final class SignerUtils {
     private static SdkChecksum sha256Checksum() {
         return SdkChecksum.forAlgorithm(() -> "SHA256");
     }
+
+    /**
+     * The key of a cached signing key: the access key and secret key of the credentials, and the day, region and service of
+     * the credential scope.
+     */
+    private static final class SigningKeyCacheKey {
+        private final AwsCredentialsIdentity credentials;
+        private final CredentialScope credentialScope;
+        private final long daysSinceEpoch;
+        private final int hashCode;
+
+        private SigningKeyCacheKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
+            this.credentials = credentials;
+            this.credentialScope = credentialScope;
+            this.daysSinceEpoch = DateUtils.numberOfDaysSinceEpoch(credentialScope.getInstant().toEpochMilli());
+            int result = credentials.accessKeyId().hashCode();
+            result = 31 * result + credentials.secretAccessKey().hashCode();
+            result = 31 * result + credentialScope.getRegion().hashCode();
+            result = 31 * result + credentialScope.getService().hashCode();
+            result = 31 * result + Long.hashCode(daysSinceEpoch);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SigningKeyCacheKey)) {
+                return false;
+            }
+            SigningKeyCacheKey other = (SigningKeyCacheKey) o;
+            return daysSinceEpoch == other.daysSinceEpoch
+                   && credentials.accessKeyId().equals(other.credentials.accessKeyId())
+                   && credentials.secretAccessKey().equals(other.credentials.secretAccessKey())
+                   && credentialScope.getRegion().equals(other.credentialScope.getRegion())
+                   && credentialScope.getService().equals(other.credentialScope.getService());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class FormattedSigningTime {
+        private final long epochSecond;
+        private final String date;
+        private final String dateTime;
+
+        private FormattedSigningTime(Instant instant) {
+            this.epochSecond = instant.getEpochSecond();
+            this.date = DATE_FORMATTER.format(instant);
+            this.dateTime = TIME_FORMATTER.format(instant);
+        }
+    }
 }
@@ -18,11 +18,16 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -48,6 +53,9 @@ public class V4CanonicalRequestTest {
             tc("Multiple segments with dot -> should remove dot", "/foo/./bar", "/foo/bar"),
             tc("Multiple segments with ending dot -> should remove dot and trailing slash", "/foo/bar/.", "/foo/bar"),
             tc("Multiple segments with dots -> should remove dots and preceding segment", "/foo/bar/../baz", "/foo/baz"),
+            tc("Multiple segments with empty segment -> should remove empty segment", "/foo//bar", "/foo/bar"),
+            tc("Segment starting with dot -> unchanged", "/foo/.bar", "/foo/.bar"),
+            tc("Segment ending with dot -> unchanged", "/foo./bar", "/foo./bar"),
             tc("First segment has colon -> unchanged, url encoded first", "foo:/bar", "/foo%3A/bar", true, true),
 
             // Double-url-encoding + normalization
@@ -184,6 +192,20 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void canonicalHeaders_unsortedHeaders_shouldSortByLowerCaseName() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("X-Amz-Date", Collections.singletonList("20150830T123600Z"));
+        headers.put("host", Collections.singletonList("localhost"));
+        headers.put("Content-Type", Collections.singletonList("text/plain"));
+
+        List<Pair<String, List<String>>> canonicalHeaders = V4CanonicalRequest.getCanonicalHeaders(headers);
+
+        assertEquals("content-type;host;x-amz-date", V4CanonicalRequest.getSignedHeadersString(canonicalHeaders));
+        assertEquals("content-type:text/plain\nhost:localhost\nx-amz-date:20150830T123600Z\n",
+                     V4CanonicalRequest.getCanonicalHeadersString(canonicalHeaders));
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
@@ -21,6 +21,8 @@ import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerCo
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -29,6 +31,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 public class SignerUtilsTest {
 
@@ -79,4 +84,54 @@ public class SignerUtilsTest {
         assertThat(request.firstMatchingHeader(CONTENT_LENGTH)).isEmpty();
         assertThat(request.firstMatchingHeader(X_AMZ_DECODED_CONTENT_LENGTH)).contains(String.valueOf(expectedLength));
     }
+
+    @Test
+    void deriveSigningKey_shouldMatchSpecificationExample() {
+        AwsCredentialsIdentity credentials =
+            AwsCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+        CredentialScope scope = new CredentialScope("us-east-1", "iam", Instant.parse("2015-08-30T12:36:00Z"));
+
+        assertThat(BinaryUtils.toHex(SignerUtils.deriveSigningKey(credentials, scope)))
+            .isEqualTo("c4afb1cc5771d871763a393e44b703571b55cc28424d1a5e86da6ed3c154a4b9");
+    }
+
+    @Test
+    void deriveSigningKey_sameDayAndScope_shouldReuseSigningKey() {
+        AwsCredentialsIdentity credentials = AwsCredentialsIdentity.create("akid", "skid");
+        Instant morning = Instant.parse("2024-01-01T01:00:00Z");
+
+        byte[] signingKey = SignerUtils.deriveSigningKey(credentials, new CredentialScope("us-west-2", "dynamodb", morning));
+        byte[] sameDay = SignerUtils.deriveSigningKey(AwsCredentialsIdentity.create("akid", "skid"),
+                                                      new CredentialScope("us-west-2", "dynamodb",
+                                                                          morning.plus(Duration.ofHours(20))));
+
+        assertThat(sameDay).isSameAs(signingKey);
+    }
+
+    @Test
+    void deriveSigningKey_differentDayOrCredentials_shouldDeriveNewSigningKey() {
+        AwsCredentialsIdentity credentials = AwsCredentialsIdentity.create("akid", "skid");
+        Instant morning = Instant.parse("2024-01-01T01:00:00Z");
+        byte[] signingKey = SignerUtils.deriveSigningKey(credentials, new CredentialScope("us-west-2", "dynamodb", morning));
+
+        byte[] nextDay = SignerUtils.deriveSigningKey(credentials,
+                                                      new CredentialScope("us-west-2", "dynamodb",
+                                                                          morning.plus(Duration.ofDays(1))));
+        byte[] otherSecret = SignerUtils.deriveSigningKey(AwsCredentialsIdentity.create("akid", "skid2"),
+                                                          new CredentialScope("us-west-2", "dynamodb", morning));
+
+        assertThat(nextDay).isNotEqualTo(signingKey);
+        assertThat(otherSecret).isNotEqualTo(signingKey);
+    }
+
+    @Test
+    void formatDateTime_consecutiveInstants_shouldFormatEachSecond() {
+        Instant instant = Instant.ofEpochMilli(1416863450581L);
+
+        assertThat(SignerUtils.formatDateTime(instant)).isEqualTo("20141124T211050Z");
+        assertThat(SignerUtils.formatDate(instant)).isEqualTo("20141124");
+        assertThat(SignerUtils.formatDateTime(instant.plusMillis(300))).isEqualTo("20141124T211050Z");
+        assertThat(SignerUtils.formatDateTime(instant.plusSeconds(1))).isEqualTo("20141124T211051Z");
+        assertThat(SignerUtils.formatDate(instant.plus(Duration.ofHours(3)))).isEqualTo("20141125");
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that does not take a lock when metrics are reported or children are created.
+ * <p>
+ * Every reported record is pushed onto a single lock-free stack, so each record is a single allocation and the collector
+ * itself only allocates its two stack heads. The records are reversed back into reporting order and grouped by metric, in
+ * the order each metric was first reported, when {@link #collect()} is called.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrentMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(ConcurrentMetricCollector.class);
+    private final String name;
+    private final AtomicReference<RecordNode<?>> records = new AtomicReference<>();
+    private final AtomicReference<ChildNode> children = new AtomicReference<>();
+
+    private ConcurrentMetricCollector(String name) {
+        this.name = name;
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new ConcurrentMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        RecordNode<T> node = new RecordNode<>(metric, data);
+        RecordNode<?> head;
+        do {
+            head = records.get();
+            node.next = head;
+        } while (!records.compareAndSet(head, node));
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = new ConcurrentMetricCollector(name);
+        ChildNode node = new ChildNode(child);
+        ChildNode head;
+        do {
+            head = children.get();
+            node.next = head;
+        } while (!children.compareAndSet(head, node));
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        List<MetricCollection> collectedChildren = new ArrayList<>();
+        for (ChildNode child = children.get(); child != null; child = child.next) {
+            collectedChildren.add(child.collector.collect());
+        }
+        Collections.reverse(collectedChildren);
+
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, snapshotRecords(), collectedChildren);
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrentMetricCollector")
+                       .add("metrics", snapshotRecords()).build();
+    }
+
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> snapshotRecords() {
+        List<RecordNode<?>> reported = new ArrayList<>();
+        for (RecordNode<?> node = records.get(); node != null; node = node.next) {
+            reported.add(node);
+        }
+        Collections.reverse(reported);
+
+        Map<SdkMetric<?>, List<MetricRecord<?>>> result = new LinkedHashMap<>();
+        for (RecordNode<?> node : reported) {
+            result.computeIfAbsent(node.metric, m -> new ArrayList<>()).add(node);
+        }
+        return result;
+    }
+
+    /**
+     * A reported metric value, which doubles as a link in the stack of reported values.
+     */
+    private static final class RecordNode<T> implements MetricRecord<T> {
+        private final SdkMetric<T> metric;
+        private final T value;
+        private RecordNode<?> next;
+
+        private RecordNode(SdkMetric<T> metric, T value) {
+            this.metric = metric;
+            this.value = value;
+        }
+
+        @Override
+        public SdkMetric<T> metric() {
+            return metric;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricRecord")
+                           .add("metric", metric.name())
+                           .add("value", value)
+                           .build();
+        }
+    }
+
+    private static final class ChildNode {
+        private final MetricCollector collector;
+        private ChildNode next;
+
+        private ChildNode(MetricCollector collector) {
+            this.collector = collector;
+        }
+    }
+}
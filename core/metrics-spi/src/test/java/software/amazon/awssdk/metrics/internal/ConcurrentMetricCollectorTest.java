@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.AfterClass;
+import org.junit.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class ConcurrentMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("concurrent-m1", Integer.class, MetricLevel.INFO,
+                                                                  MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("concurrent-m2", String.class, MetricLevel.INFO,
+                                                                 MetricCategory.CORE);
+
+    @AfterClass
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollectionInReportingOrder() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "a");
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(M1)).containsExactly(values);
+        assertThat(collect.metricValues(M2)).containsExactly("a");
+    }
+
+    @Test
+    public void testCollect_metricDeclaredAfterCollectorCreated_isCollected() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        SdkMetric<Integer> lateMetric = SdkMetric.create("concurrent-late", Integer.class, MetricLevel.INFO,
+                                                         MetricCategory.CORE);
+        collector.reportMetric(lateMetric, 1);
+        collector.reportMetric(lateMetric, 2);
+        collector.reportMetric(M1, 3);
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(lateMetric)).containsExactly(1, 2);
+        assertThat(collect.metricValues(M1)).containsExactly(3);
+        assertThat(collect).hasSize(3);
+    }
+
+    @Test
+    public void testToString_metricsInFirstReportedOrder() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        collector.reportMetric(M2, "a");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "b");
+
+        String metrics = collector.toString();
+        assertThat(metrics.indexOf("concurrent-m2")).isLessThan(metrics.indexOf("concurrent-m1"));
+        assertThat(metrics.indexOf("value=a")).isLessThan(metrics.indexOf("value=b"));
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildrenInCreationOrder() {
+        MetricCollector parent = ConcurrentMetricCollector.create("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testConcurrentReporting_noRecordsLost() throws Exception {
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    MetricCollector child = collector.createChild("child");
+                    for (int j = 0; j < reportsPerThread; j++) {
+                        collector.reportMetric(M1, j);
+                        child.reportMetric(M1, j);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        MetricCollection collected = collector.collect();
+        assertThat(collected.metricValues(M1)).hasSize(threads * reportsPerThread);
+        assertThat(collected.children()).hasSize(threads);
+        collected.children().forEach(c -> assertThat(c.metricValues(M1)).hasSize(reportsPerThread));
+    }
+}
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -23,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.json.internal.SegmentedByteArrayOutputStream;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -35,11 +35,11 @@ import software.amazon.awssdk.utils.DateUtils;
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
     /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
+     * Buffer the content is written to. It's reused by the next generator created on this thread once the content has been
+     * read, see {@link #getBytes()}.
      */
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private SegmentedByteArrayOutputStream buffer = SegmentedByteArrayOutputStream.acquire();
+    private byte[] content;
     private final JsonGenerator generator;
     private final String contentType;
 
@@ -49,7 +49,7 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
              * A {@link JsonGenerator} created is by default enabled with
              * UTF-8 encoding
              */
-            this.generator = factory.createGenerator(baos);
+            this.generator = factory.createGenerator(buffer);
             this.contentType = contentType;
         } catch (IOException e) {
             throw new JsonGenerationException(e);
@@ -273,8 +273,14 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      */
     @Override
     public byte[] getBytes() {
+        if (content != null) {
+            return content.clone();
+        }
         close();
-        return baos.toByteArray();
+        content = buffer.toByteArray();
+        buffer.release();
+        buffer = null;
+        return content;
     }
 
     @Override
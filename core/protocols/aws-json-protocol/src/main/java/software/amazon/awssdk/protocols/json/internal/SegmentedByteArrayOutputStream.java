@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An output stream that buffers its content in a list of segments instead of a single array. Unlike
+ * {@link java.io.ByteArrayOutputStream}, growing the buffer never copies the content written so far, so the only copy is
+ * the one made by {@link #toByteArray()}.
+ * <p>
+ * Streams are reused by the thread that marshalls the request: {@link #acquire()} hands out the stream cached for the
+ * current thread, and {@link #release()} returns it, keeping up to {@link #MAX_RETAINED_CAPACITY} bytes of segments for the
+ * next request. Request bodies are usually written and read on the same thread, so steady-state marshalling of requests
+ * smaller than that doesn't allocate any buffer besides the final body.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class SegmentedByteArrayOutputStream extends OutputStream {
+
+    /**
+     * Size of the first segment, the same as the initial size of the buffer previously used by the generators.
+     */
+    static final int INITIAL_SEGMENT_SIZE = 1024;
+
+    /**
+     * Segments double in size up to this limit, so large bodies don't allocate very large contiguous arrays.
+     */
+    static final int MAX_SEGMENT_SIZE = 256 * 1024;
+
+    /**
+     * Maximum capacity kept for reuse by each thread. Larger segments are dropped on release so that marshalling a single
+     * large request doesn't pin its buffer to the thread.
+     */
+    static final int MAX_RETAINED_CAPACITY = 128 * 1024;
+
+    private static final ThreadLocal<SegmentedByteArrayOutputStream> CACHED = new ThreadLocal<>();
+
+    private final List<byte[]> segments = new ArrayList<>();
+
+    /**
+     * Index of the segment currently written to.
+     */
+    private int segmentIndex;
+
+    /**
+     * Position in the segment currently written to.
+     */
+    private int position;
+
+    /**
+     * Number of bytes in the segments before the current one.
+     */
+    private int completedSize;
+
+    SegmentedByteArrayOutputStream() {
+        segments.add(new byte[INITIAL_SEGMENT_SIZE]);
+    }
+
+    /**
+     * Returns the stream cached for the current thread, or a new stream if there is none (e.g. because it is already used
+     * by another generator on this thread). The stream must be handed back with {@link #release()} once its content has
+     * been read, otherwise it is simply garbage collected.
+     */
+    public static SegmentedByteArrayOutputStream acquire() {
+        SegmentedByteArrayOutputStream stream = CACHED.get();
+        if (stream == null) {
+            return new SegmentedByteArrayOutputStream();
+        }
+        CACHED.remove();
+        return stream;
+    }
+
+    /**
+     * Clears this stream and caches it for reuse by the current thread. The stream must not be used after it's released.
+     */
+    public void release() {
+        reset();
+        CACHED.set(this);
+    }
+
+    @Override
+    public void write(int b) {
+        byte[] segment = currentSegment();
+        segment[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            byte[] segment = currentSegment();
+            int toCopy = Math.min(len, segment.length - position);
+            System.arraycopy(b, off, segment, position, toCopy);
+            position += toCopy;
+            off += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    /**
+     * @return The number of bytes written to this stream.
+     */
+    public int size() {
+        return completedSize + position;
+    }
+
+    /**
+     * @return A new array with the content of this stream.
+     */
+    public byte[] toByteArray() {
+        byte[] result = new byte[size()];
+        int offset = 0;
+        for (int i = 0; i < segmentIndex; i++) {
+            byte[] segment = segments.get(i);
+            System.arraycopy(segment, 0, result, offset, segment.length);
+            offset += segment.length;
+        }
+        System.arraycopy(segments.get(segmentIndex), 0, result, offset, position);
+        return result;
+    }
+
+    /**
+     * Discards the content of this stream, keeping the segments that fit in {@link #MAX_RETAINED_CAPACITY}.
+     */
+    void reset() {
+        int retainedCapacity = 0;
+        int retainedSegments = 0;
+        while (retainedSegments < segments.size()
+               && retainedCapacity + segments.get(retainedSegments).length <= MAX_RETAINED_CAPACITY) {
+            retainedCapacity += segments.get(retainedSegments).length;
+            retainedSegments++;
+        }
+        segments.subList(retainedSegments, segments.size()).clear();
+        segmentIndex = 0;
+        position = 0;
+        completedSize = 0;
+    }
+
+    /**
+     * @return The number of bytes this stream can hold without allocating another segment.
+     */
+    int capacity() {
+        int capacity = 0;
+        for (byte[] segment : segments) {
+            capacity += segment.length;
+        }
+        return capacity;
+    }
+
+    private byte[] currentSegment() {
+        byte[] segment = segments.get(segmentIndex);
+        if (position < segment.length) {
+            return segment;
+        }
+
+        completedSize += segment.length;
+        segmentIndex++;
+        position = 0;
+        if (segmentIndex == segments.size()) {
+            // Double the total capacity, as ByteArrayOutputStream would, but without copying what's already written
+            segments.add(new byte[Math.min(completedSize, MAX_SEGMENT_SIZE)]);
+        }
+        return segments.get(segmentIndex);
+    }
+}
@@ -40,11 +40,12 @@ import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.TraitType;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.protocols.jsoncore.JsonValueNodeFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.Base64Variant;
+import software.amazon.awssdk.thirdparty.jackson.core.Base64Variants;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
-import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -54,6 +55,19 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @ThreadSafe
 @SuppressWarnings("unchecked")
 final class JsonUnmarshallingParser {
+    /**
+     * Base64 variant used to decode blobs straight from the parser's buffer, without first materializing the encoded value as a
+     * {@code String}. Padding is optional to match the leniency of {@link java.util.Base64#getDecoder()}, which was used
+     * previously.
+     */
+    private static final Base64Variant BLOB_BASE64_VARIANT =
+        Base64Variants.MIME_NO_LINEFEEDS.withReadPadding(Base64Variant.PaddingReadBehaviour.PADDING_ALLOWED);
+
+    /**
+     * The largest absolute epoch-second value that can be converted to epoch-millis without overflow.
+     */
+    private static final long MAX_EPOCH_SECONDS = Long.MAX_VALUE / 1000;
+
     private final JsonFactory jsonFactory;
     private final JsonValueNodeFactory jsonValueNodeFactory;
     private final JsonUnmarshallerRegistry unmarshallerRegistry;
@@ -337,7 +351,7 @@ final class JsonUnmarshallingParser {
                     return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
                 }
                 expect(lookAhead, JsonToken.VALUE_STRING);
-                return SdkBytes.fromByteArray(BinaryUtils.fromBase64(parser.getText()));
+                return SdkBytes.fromByteArrayUnsafe(parser.getBinaryValue(BLOB_BASE64_VARIANT));
             default:
                 throw new JsonParseException("unexpected token, expecting token for: " + knownType + ", got: " + lookAhead);
         }
@@ -414,6 +428,10 @@ final class JsonUnmarshallingParser {
         if (format == TimestampFormatTrait.Format.UNIX_TIMESTAMP_MILLIS) {
             return Instant.ofEpochMilli(parser.getLongValue());
         }
+        if (format == TimestampFormatTrait.Format.UNIX_TIMESTAMP && isEpochSecondsInteger(parser, lookAhead)) {
+            // Same result as DateUtils.parseUnixTimestampInstant, without going through a string and a BigDecimal.
+            return Instant.ofEpochMilli(parser.getLongValue() * 1000);
+        }
 
         JsonUnmarshaller<Object> unmarshaller = unmarshallerRegistry.getUnmarshaller(MarshallLocation.PAYLOAD,
                                                                                      field.marshallingType());
@@ -421,6 +439,22 @@ final class JsonUnmarshallingParser {
                                                  (SdkField<Object>) field);
     }
 
+    /**
+     * Returns true if the current token is an integer number of epoch seconds that can be converted to epoch-millis without
+     * overflow.
+     */
+    private boolean isEpochSecondsInteger(JsonParser parser, JsonToken lookAhead) throws IOException {
+        if (lookAhead != JsonToken.VALUE_NUMBER_INT) {
+            return false;
+        }
+        JsonParser.NumberType numberType = parser.getNumberType();
+        if (numberType != JsonParser.NumberType.INT && numberType != JsonParser.NumberType.LONG) {
+            return false;
+        }
+        long seconds = parser.getLongValue();
+        return seconds <= MAX_EPOCH_SECONDS && seconds >= -MAX_EPOCH_SECONDS;
+    }
+
     /**
      * Returns the timestamp format for the give field.
      */
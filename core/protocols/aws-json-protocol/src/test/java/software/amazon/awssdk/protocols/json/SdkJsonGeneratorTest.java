@@ -15,14 +15,17 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,6 +174,44 @@ public class SdkJsonGeneratorTest {
         assertTrue(j == 3);
     }
 
+    @Test
+    public void largeObject_WrittenAcrossSegments() throws IOException {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue(value.toString());
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals(value.toString(), node.asObject().get("stringProp").text());
+    }
+
+    @Test
+    public void getBytes_CalledTwice_ReturnsSameContent() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+        byte[] first = jsonGenerator.getBytes();
+        byte[] second = jsonGenerator.getBytes();
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void consecutiveGenerators_DoNotShareContent() throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("a much longer value than the next one");
+        jsonGenerator.writeEndObject();
+        jsonGenerator.getBytes();
+
+        jsonGenerator = new SdkJsonGenerator(JsonFactory.builder().build(), "application/json");
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("short");
+        jsonGenerator.writeEndObject();
+        assertEquals("{\"stringProp\":\"short\"}", new String(jsonGenerator.getBytes(), StandardCharsets.UTF_8));
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return JsonNode.parser().parse(new ByteArrayInputStream(jsonGenerator.getBytes()));
     }
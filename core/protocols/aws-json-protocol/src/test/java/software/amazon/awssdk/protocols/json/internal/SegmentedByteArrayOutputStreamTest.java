@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SegmentedByteArrayOutputStreamTest {
+
+    @Test
+    void write_acrossSegments_toByteArrayReturnsAllContent() {
+        byte[] expected = new byte[SegmentedByteArrayOutputStream.MAX_SEGMENT_SIZE * 3 + 17];
+        new Random(42).nextBytes(expected);
+
+        SegmentedByteArrayOutputStream stream = new SegmentedByteArrayOutputStream();
+        stream.write(expected[0]);
+        int offset = 1;
+        while (offset < expected.length) {
+            int len = Math.min(8000, expected.length - offset);
+            stream.write(expected, offset, len);
+            offset += len;
+        }
+
+        assertThat(stream.size()).isEqualTo(expected.length);
+        assertThat(stream.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void emptyStream_toByteArrayReturnsEmptyArray() {
+        assertThat(new SegmentedByteArrayOutputStream().toByteArray()).isEmpty();
+    }
+
+    @Test
+    void release_largeStream_onlyRetainsBoundedCapacity() {
+        SegmentedByteArrayOutputStream stream = new SegmentedByteArrayOutputStream();
+        stream.write(new byte[SegmentedByteArrayOutputStream.MAX_RETAINED_CAPACITY * 4], 0,
+                     SegmentedByteArrayOutputStream.MAX_RETAINED_CAPACITY * 4);
+
+        stream.release();
+
+        assertThat(stream.size()).isZero();
+        assertThat(stream.capacity()).isBetween(SegmentedByteArrayOutputStream.INITIAL_SEGMENT_SIZE,
+                                                SegmentedByteArrayOutputStream.MAX_RETAINED_CAPACITY);
+        assertThat(SegmentedByteArrayOutputStream.acquire()).isSameAs(stream);
+    }
+
+    @Test
+    void acquire_whileCachedStreamInUse_returnsNewStream() {
+        SegmentedByteArrayOutputStream first = SegmentedByteArrayOutputStream.acquire();
+        SegmentedByteArrayOutputStream second = SegmentedByteArrayOutputStream.acquire();
+        assertThat(second).isNotSameAs(first);
+
+        second.release();
+        first.release();
+        assertThat(SegmentedByteArrayOutputStream.acquire()).isSameAs(first);
+    }
+
+    @Test
+    void reusedStream_doesNotReturnPreviousContent() {
+        SegmentedByteArrayOutputStream stream = SegmentedByteArrayOutputStream.acquire();
+        stream.write(new byte[] {1, 2, 3, 4}, 0, 4);
+        stream.release();
+
+        SegmentedByteArrayOutputStream reused = SegmentedByteArrayOutputStream.acquire();
+        reused.write(9);
+        assertThat(reused.toByteArray()).containsExactly(9);
+    }
+}
@@ -122,6 +122,46 @@ class JsonUnmarshallingParserTest {
         assertEquals(Instant.ofEpochMilli(1099510880771L), timestamp);
     }
 
+    @Test
+    public void parsingTimestampWithIntegerEpochSeconds() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from("{\"timestampMember\": 1099510880}"));
+        assertNotNull(req);
+        assertEquals(Instant.ofEpochSecond(1099510880L), req.timestampMember());
+    }
+
+    @Test
+    public void parsingTimestampWithNegativeIntegerEpochSeconds() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from("{\"timestampMember\": -1}"));
+        assertNotNull(req);
+        assertEquals(Instant.ofEpochSecond(-1L), req.timestampMember());
+    }
+
+    @Test
+    public void parsingBlobDecodesBase64() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from("{\"blobMember\": \"aGVsbG8gd29ybGQ=\"}"));
+        assertNotNull(req);
+        assertEquals("hello world", req.blobMember().asUtf8String());
+    }
+
+    @Test
+    public void parsingBlobWithoutPaddingDecodesBase64() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from("{\"blobMember\": \"aGVsbG8gd29ybGQ\"}"));
+        assertNotNull(req);
+        assertEquals("hello world", req.blobMember().asUtf8String());
+    }
+
+    @Test
+    public void parsingEmptyBlobReturnsEmptyBytes() {
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from("{\"blobMember\": \"\"}"));
+        assertNotNull(req);
+        assertEquals(0, req.blobMember().asByteArrayUnsafe().length);
+    }
+
     static JsonUnmarshallingParser parser() {
         ProtocolUnmarshallDependencies dependencies = JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies();
         JsonUnmarshallingParser parser = JsonUnmarshallingParser
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Pull parser that walks an XML document one element at a time, so that callers can unmarshall straight from the input
+ * stream instead of first parsing the whole document into an {@link XmlElement} with {@link XmlDomParser}.
+ * <p>
+ * The parser is always positioned on the start of an element, starting with the root element. {@link #nextChildElement()}
+ * moves to the children of that element one by one, and the methods that consume an element ({@link #elementText()},
+ * {@link #skipElement()} and {@link #parseElement()}) leave the parser on its end, so that the next call to
+ * {@link #nextChildElement()} moves to the next sibling.
+ * <p>
+ * Closing the parser does not close the underlying input stream.
+ */
+@SdkProtectedApi
+@NotThreadSafe
+public final class XmlPullParser implements SdkAutoCloseable {
+
+    private final XMLStreamReader reader;
+
+    private XmlPullParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Creates a parser positioned on the root element of the given document.
+     *
+     * @return The parser, or null if the document is empty.
+     */
+    public static XmlPullParser create(InputStream inputStream) {
+        LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+
+            XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(stream);
+            // Skip ahead to the first start element
+            int event = reader.next();
+            while (event != XMLStreamConstants.START_ELEMENT) {
+                if (event == XMLStreamConstants.END_DOCUMENT) {
+                    return null;
+                }
+                event = reader.next();
+            }
+            return new XmlPullParser(reader);
+        } catch (IOException | XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * @return The local name of the element the parser is positioned on.
+     */
+    public String elementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Returns the value of an attribute of the element the parser is positioned on. Attributes are named the same way as
+     * in {@link XmlElement#attributes()}, i.e. {@code prefix:localName}.
+     *
+     * @return The value of the attribute, or null if the element doesn't have it.
+     */
+    public String attribute(String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (name.equals(attributeName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Moves to the start of the next child of the current element, skipping any text in between.
+     *
+     * @return True if the parser moved to a child element, false if the end of the current element was reached instead.
+     */
+    public boolean nextChildElement() {
+        try {
+            int event;
+            do {
+                event = reader.next();
+            } while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT);
+            return event == XMLStreamConstants.START_ELEMENT;
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Reads the text content of the current element, which must not have child elements, and moves to its end.
+     */
+    public String elementText() {
+        try {
+            return reader.getElementText();
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Skips the current element, including all of its children, and moves to its end.
+     */
+    public void skipElement() {
+        try {
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Parses the current element and its children into an {@link XmlElement}, the same way {@link XmlDomParser} does, and
+     * moves to its end.
+     */
+    public XmlElement parseElement() {
+        try {
+            return readElement();
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    private XmlElement readElement() throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.put(attributeName(i), reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        // The text content is the text since the last child element, which is only turned into a string when it ends.
+        StringBuilder text = null;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (text != null) {
+                    elementBuilder.textContent(text.toString());
+                    text = null;
+                }
+                elementBuilder.addChildElement(readElement());
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                       || event == XMLStreamConstants.SPACE) {
+                text = text == null ? new StringBuilder() : text;
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (text != null) {
+                    elementBuilder.textContent(text.toString());
+                }
+                return elementBuilder.build();
+            }
+        }
+    }
+
+    private String attributeName(int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    private static SdkClientException parseFailure(Exception e) {
+        return SdkClientException.create("Could not parse XML response.", e);
+    }
+}
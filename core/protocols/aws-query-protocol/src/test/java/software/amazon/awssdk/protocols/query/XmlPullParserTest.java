@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlPullParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlPullParserTest {
+
+    @Test
+    public void simpleXmlDocument_WalkedElementByElement() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <skipped><nested>value</nested></skipped>"
+                     + " <integerMember>42</integerMember>"
+                     + "</Struct>";
+        try (XmlPullParser parser = XmlPullParser.create(new StringInputStream(xml))) {
+            assertThat(parser.elementName()).isEqualTo("Struct");
+
+            assertThat(parser.nextChildElement()).isTrue();
+            assertThat(parser.elementName()).isEqualTo("stringMember");
+            assertThat(parser.elementText()).isEqualTo("stringVal");
+
+            assertThat(parser.nextChildElement()).isTrue();
+            assertThat(parser.elementName()).isEqualTo("skipped");
+            parser.skipElement();
+
+            assertThat(parser.nextChildElement()).isTrue();
+            assertThat(parser.elementName()).isEqualTo("integerMember");
+            assertThat(parser.elementText()).isEqualTo("42");
+
+            assertThat(parser.nextChildElement()).isFalse();
+        }
+    }
+
+    @Test
+    public void xmlWithAttributes_AttributesNamedLikeDomParser() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\" plain=\"bar\">"
+                     + "</Struct>";
+        XmlElement element = XmlDomParser.parse(new StringInputStream(xml));
+        try (XmlPullParser parser = XmlPullParser.create(new StringInputStream(xml))) {
+            assertThat(parser.attribute("xsi:type")).isEqualTo(element.attributes().get("xsi:type")).isEqualTo("foo");
+            assertThat(parser.attribute(":plain")).isEqualTo(element.attributes().get(":plain")).isEqualTo("bar");
+            assertThat(parser.attribute("xsi:nil")).isNull();
+        }
+    }
+
+    @Test
+    public void parseElement_SameAsDomParser() {
+        String xml = "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>";
+        XmlElement expected = XmlDomParser.parse(new StringInputStream(xml));
+        try (XmlPullParser parser = XmlPullParser.create(new StringInputStream(xml))) {
+            XmlElement element = parser.parseElement();
+            assertThat(element.elementName()).isEqualTo(expected.elementName());
+            assertThat(element.getElementByName("Code").textContent()).isEqualTo("NoSuchKey");
+            assertThat(element.getElementByName("Message").textContent())
+                .isEqualTo(expected.getElementByName("Message").textContent());
+        }
+    }
+
+    @Test
+    public void emptyDocument_ReturnsNull() {
+        assertThat(XmlPullParser.create(new StringInputStream(""))).isNull();
+    }
+
+    @Test
+    public void malformedDocument_ThrowsSdkClientException() {
+        XmlPullParser parser = XmlPullParser.create(new StringInputStream("<Struct><stringMember>"));
+        assertThatThrownBy(() -> {
+            while (parser.nextChildElement()) {
+                parser.elementText();
+            }
+        }).isInstanceOf(SdkClientException.class);
+    }
+}
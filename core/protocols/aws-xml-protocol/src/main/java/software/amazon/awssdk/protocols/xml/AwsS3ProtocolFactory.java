@@ -59,6 +59,7 @@ public final class AwsS3ProtocolFactory extends AwsXmlProtocolFactory {
     public static final class Builder extends AwsXmlProtocolFactory.Builder<Builder> {
 
         private Builder() {
+            enableFastUnmarshallingByDefault(true);
         }
 
         @Override
@@ -87,7 +88,8 @@ public final class AwsS3ProtocolFactory extends AwsXmlProtocolFactory {
     private <T extends AwsResponse> HttpResponseHandler<Response<T>> createErrorCouldBeInBodyResponseHandler(
         Supplier<SdkPojo> pojoSupplier, XmlOperationMetadata staxOperationMetadata) {
 
-        return new AwsXmlPredicatedResponseHandler<>(r -> pojoSupplier.get(),
+        return new AwsXmlPredicatedResponseHandler<>(protocolUnmarshaller(),
+                                                     r -> pojoSupplier.get(),
                                                      createResponseTransformer(pojoSupplier),
                                                      createErrorTransformer(),
                                                      DecorateErrorFromResponseBodyUnmarshaller.of(this::getErrorRoot),
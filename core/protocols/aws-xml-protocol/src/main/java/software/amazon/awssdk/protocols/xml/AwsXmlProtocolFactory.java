@@ -49,6 +49,7 @@ import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlErrorTrans
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlResponseHandler;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlResponseTransformer;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlUnmarshallingContext;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlResponseHandler;
 
@@ -80,11 +81,23 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final XmlProtocolUnmarshaller protocolUnmarshaller;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        Boolean enableFastUnmarshalling = null;
+        if (clientConfiguration != null) {
+            enableFastUnmarshalling = clientConfiguration.option(SdkClientXmlProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER);
+        }
+        if (enableFastUnmarshalling == null) {
+            enableFastUnmarshalling = builder.enableFastUnmarshallingByDefault;
+        }
+        this.protocolUnmarshaller = enableFastUnmarshalling ? XmlProtocolUnmarshaller.builder()
+                                                                                     .enableFastUnmarshalling(true)
+                                                                                     .build()
+                                                            : XML_PROTOCOL_UNMARSHALLER;
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -128,7 +141,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    protocolUnmarshaller, pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -136,7 +149,14 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            protocolUnmarshaller, r -> pojoSupplier.get());
+    }
+
+    /**
+     * The unmarshaller used for successful responses.
+     */
+    XmlProtocolUnmarshaller protocolUnmarshaller() {
+        return protocolUnmarshaller;
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
@@ -191,10 +211,20 @@ public class AwsXmlProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableFastUnmarshallingByDefault;
 
         Builder() {
         }
 
+        /**
+         * Whether responses are unmarshalled straight from the response stream when
+         * {@link SdkClientXmlProtocolAdvancedOption#ENABLE_FAST_UNMARSHALLER} is not configured.
+         */
+        final SubclassT enableFastUnmarshallingByDefault(boolean enableFastUnmarshallingByDefault) {
+            this.enableFastUnmarshallingByDefault = enableFastUnmarshallingByDefault;
+            return getSubclass();
+        }
+
         /**
          * Registers a new modeled exception by the error code.
          *
@@ -28,7 +28,6 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -43,6 +42,7 @@ import software.amazon.awssdk.utils.Logger;
 public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHandler<Response<OutputT>> {
     private static final Logger log = Logger.loggerFor(AwsXmlPredicatedResponseHandler.class);
 
+    private final XmlProtocolUnmarshaller unmarshaller;
     private final Function<SdkHttpFullResponse, SdkPojo> pojoSupplier;
     private final Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
@@ -51,6 +51,8 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     /**
      * Standard constructor
+     * @param unmarshaller The unmarshaller used to parse the response, or unmarshall it straight from the response stream if
+     *                     it has the fast unmarshalling codepath enabled
      * @param pojoSupplier A method that supplies an empty builder of the correct type
      * @param successResponseTransformer A function that can unmarshall a response object from parsed XML
      * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
@@ -58,12 +60,14 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
      * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
      */
     public AwsXmlPredicatedResponseHandler(
+        XmlProtocolUnmarshaller unmarshaller,
         Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
         Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
 
+        this.unmarshaller = unmarshaller;
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
@@ -112,13 +116,17 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
-
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        try {
+            return unmarshaller.parseOrUnmarshall(pojoSupplier.apply(httpFullResponse), httpFullResponse, context).build();
+        } catch (SdkException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // The response may be unmarshalled while it is parsed, so report failures like other unmarshalling failures
+            throw unmarshallingFailure(e, httpFullResponse);
+        }
     }
 
     /**
@@ -137,14 +145,18 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                 throw (SdkException) e;
             }
 
-            String errorMessage =
-                    "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
-                    + parsedResponse.sdkHttpFullResponse().statusCode() + ", Response Text: "
-                    + parsedResponse.sdkHttpFullResponse().statusText().orElse(null);
-            throw SdkClientException.builder().message(errorMessage).cause(e).build();
+            throw unmarshallingFailure(e, parsedResponse.sdkHttpFullResponse());
         }
     }
 
+    private static SdkClientException unmarshallingFailure(Exception e, SdkHttpFullResponse httpResponse) {
+        String errorMessage =
+                "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
+                + httpResponse.statusCode() + ", Response Text: "
+                + httpResponse.statusText().orElse(null);
+        return SdkClientException.builder().message(errorMessage).cause(e).build();
+    }
+
     /**
      * Responsible for handling an error response, including unmarshalling the error response
      * into the most specific exception type possible, and throwing the exception.
@@ -0,0 +1,33 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.ClientOption;
+
+@SdkInternalApi
+public class SdkClientXmlProtocolAdvancedOption<T> extends ClientOption<T> {
+    /**
+     * Enables the fast unmarshall code path, which unmarshalls responses straight from the response stream. This is enabled
+     * by default for Amazon S3. This option is internal and subject to removal in future releases of the SDK.
+     */
+    public static final SdkClientXmlProtocolAdvancedOption<Boolean> ENABLE_FAST_UNMARSHALLER =
+        new SdkClientXmlProtocolAdvancedOption<>(Boolean.class);
+
+    protected SdkClientXmlProtocolAdvancedOption(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
@@ -40,6 +40,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlPullParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,19 +50,84 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final String ERROR_IN_SUCCESS_BODY_ELEMENT_NAME = "Error";
 
-    private XmlProtocolUnmarshaller() {
+    private final XmlUnmarshallingParser unmarshallingParser;
+
+    private XmlProtocolUnmarshaller(Builder builder) {
+        this.unmarshallingParser = builder.enableFastUnmarshalling ? XmlUnmarshallingParser.create() : null;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (isFastUnmarshallingSupported(sdkPojo, response)) {
+            return (TypeT) fastUnmarshall(sdkPojo, response);
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshalls a response that may carry an error document in the body of a successful HTTP response, as some S3
+     * operations do. If the fast unmarshalling codepath is enabled and supports the response, the document is unmarshalled
+     * straight from the response stream, unless its root element is {@code Error}, in which case only that document is
+     * parsed and returned in the context so that it can be unmarshalled as an error. Otherwise, the document is parsed with
+     * {@link XmlResponseParserUtils#parse(SdkPojo, SdkHttpFullResponse)}, to be unmarshalled later by
+     * {@link #unmarshall(SdkPojo, XmlElement, SdkHttpFullResponse)}.
+     */
+    public AwsXmlUnmarshallingContext.Builder parseOrUnmarshall(SdkPojo sdkPojo,
+                                                                SdkHttpFullResponse response,
+                                                                AwsXmlUnmarshallingContext.Builder context) {
+        if (response.isSuccessful() && isFastUnmarshallingSupported(sdkPojo, response)) {
+            return fastUnmarshall(sdkPojo, response, context);
+        }
+        return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, response));
+    }
+
+    private boolean isFastUnmarshallingSupported(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return unmarshallingParser != null && response.content().isPresent() && unmarshallingParser.isSupported(sdkPojo);
+    }
+
+    private SdkPojo fastUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlPullParser parser = XmlPullParser.create(response.content().get());
+        try {
+            return unmarshallingParser.unmarshall(unmarshallerContext(response), sdkPojo, parser);
+        } finally {
+            closeQuietly(parser);
+        }
+    }
+
+    private AwsXmlUnmarshallingContext.Builder fastUnmarshall(SdkPojo sdkPojo,
+                                                              SdkHttpFullResponse response,
+                                                              AwsXmlUnmarshallingContext.Builder context) {
+        XmlPullParser parser = XmlPullParser.create(response.content().get());
+        try {
+            if (parser != null && ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(parser.elementName())) {
+                return context.parsedXml(parser.parseElement());
+            }
+            return context.unmarshalledResponse(unmarshallingParser.unmarshall(unmarshallerContext(response), sdkPojo, parser));
+        } finally {
+            closeQuietly(parser);
+        }
+    }
+
+    private static void closeQuietly(XmlPullParser parser) {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (RuntimeException e) {
+                // Closing the parser doesn't close the underlying stream, which is owned by the response handler.
+            }
+        }
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -70,12 +136,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
-                                                                           .response(response)
-                                                                           .registry(REGISTRY)
-                                                                           .protocolUnmarshaller(this)
-                                                                           .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(unmarshallerContext(response), sdkPojo, resultRoot);
+    }
+
+    private XmlUnmarshallerContext unmarshallerContext(SdkHttpFullResponse response) {
+        return XmlUnmarshallerContext.builder()
+                                     .response(response)
+                                     .registry(REGISTRY)
+                                     .protocolUnmarshaller(this)
+                                     .build();
     }
 
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -243,4 +312,30 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             .payloadUnmarshaller(MarshallingType.MAP, XmlPayloadUnmarshaller::unmarshallMap)
             .build();
     }
+
+    /**
+     * Builder for {@link XmlProtocolUnmarshaller}.
+     */
+    public static final class Builder {
+        private boolean enableFastUnmarshalling = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Whether to unmarshall responses straight from the response stream, instead of first parsing the whole document
+         * into an {@link XmlElement} tree.
+         *
+         * @param enableFastUnmarshalling Whether to enable the fast unmarshalling codepath. Default to {@code false}.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
+        public XmlProtocolUnmarshaller build() {
+            return new XmlProtocolUnmarshaller(this);
+        }
+    }
 }
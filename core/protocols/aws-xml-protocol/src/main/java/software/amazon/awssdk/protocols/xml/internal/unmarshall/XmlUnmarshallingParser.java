@@ -0,0 +1,261 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlPullParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an XML document straight into the model builders from an {@link XmlPullParser}, without first building the
+ * {@link XmlElement} tree of the whole document.
+ * <p>
+ * The mapping from elements to fields is the same as the one used by {@link XmlProtocolUnmarshaller} when unmarshalling
+ * from a parsed {@link XmlElement}. Response shapes with an explicit payload member are not supported, see
+ * {@link #isSupported(SdkPojo)}.
+ */
+@SdkInternalApi
+@ThreadSafe
+@SuppressWarnings("unchecked")
+final class XmlUnmarshallingParser {
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPE_CONVERTERS =
+        createSimpleTypeConverters();
+
+    private final Map<Class<?>, PojoFields> pojoFieldsCache = new ConcurrentHashMap<>();
+
+    private XmlUnmarshallingParser() {
+    }
+
+    static XmlUnmarshallingParser create() {
+        return new XmlUnmarshallingParser();
+    }
+
+    /**
+     * @return True if the given response shape can be unmarshalled by this parser. Shapes without any payload member don't
+     * need a parser, and shapes with an explicit payload member are unmarshalled from the raw content.
+     */
+    boolean isSupported(SdkPojo sdkPojo) {
+        return pojoFields(sdkPojo).supported;
+    }
+
+    /**
+     * Unmarshalls the element the parser is positioned on into the given builder and returns the built object. The parser
+     * is left on the end of the element. If the parser is null, only the non-payload members (e.g. headers) are
+     * unmarshalled.
+     */
+    SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlPullParser parser) {
+        PojoFields fields = pojoFields(sdkPojo);
+
+        for (SdkField<?> field : fields.nonPayloadFields) {
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        if (parser != null) {
+            for (SdkField<?> field : fields.attributeFields) {
+                String value = parser.attribute(field.unmarshallLocationName());
+                if (value != null) {
+                    field.set(sdkPojo, value);
+                }
+            }
+            readMembers(context, sdkPojo, fields, parser);
+        }
+
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private void readMembers(XmlUnmarshallerContext context, SdkPojo sdkPojo, PojoFields fields, XmlPullParser parser) {
+        // Flattened lists and maps are spread over repeated sibling elements, so they're only set once the parent is done.
+        Map<SdkField<?>, Object> flattened = null;
+        // Like XmlProtocolUnmarshaller, a repeated element of any other member keeps the value of the first one.
+        Set<SdkField<?>> read = null;
+
+        while (parser.nextChildElement()) {
+            SdkField<?> field = fields.payloadFields.get(parser.elementName());
+            if (field == null) {
+                parser.skipElement();
+                continue;
+            }
+
+            if (isFlattenedList(field)) {
+                ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+                flattened = flattened == null ? new IdentityHashMap<>() : flattened;
+                List<Object> list = (List<Object>) flattened.computeIfAbsent(field, f -> new ArrayList<>());
+                list.add(readValue(context, listTrait.memberFieldInfo(), parser));
+            } else if (isFlattenedMap(field)) {
+                MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+                flattened = flattened == null ? new IdentityHashMap<>() : flattened;
+                Map<String, Object> map = (Map<String, Object>) flattened.computeIfAbsent(field, f -> new HashMap<>());
+                readMapEntry(context, mapTrait, map, parser);
+            } else {
+                read = read == null ? Collections.newSetFromMap(new IdentityHashMap<>()) : read;
+                if (read.add(field)) {
+                    field.set(sdkPojo, readValue(context, field, parser));
+                } else {
+                    parser.skipElement();
+                }
+            }
+        }
+
+        if (flattened != null) {
+            flattened.forEach((field, value) -> field.set(sdkPojo, value));
+        }
+    }
+
+    private Object readValue(XmlUnmarshallerContext context, SdkField<?> field, XmlPullParser parser) {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshall(context, field.constructor().get(), parser);
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(context, field, parser);
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(context, field, parser);
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) SIMPLE_TYPE_CONVERTERS.get(type);
+        if (converter == null) {
+            throw SdkClientException.create("No unmarshaller registered for " + type + " in the XML payload.");
+        }
+        return converter.convert(parser.elementText(), (SdkField<Object>) field);
+    }
+
+    private List<Object> readList(XmlUnmarshallerContext context, SdkField<?> field, XmlPullParser parser) {
+        ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                       : listTrait.memberFieldInfo().locationName();
+        List<Object> list = new ArrayList<>();
+        while (parser.nextChildElement()) {
+            if (memberLocation.equals(parser.elementName())) {
+                list.add(readValue(context, listTrait.memberFieldInfo(), parser));
+            } else {
+                parser.skipElement();
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(XmlUnmarshallerContext context, SdkField<?> field, XmlPullParser parser) {
+        MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextChildElement()) {
+            if ("entry".equals(parser.elementName())) {
+                readMapEntry(context, mapTrait, map, parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(XmlUnmarshallerContext context, MapTrait mapTrait, Map<String, Object> map,
+                              XmlPullParser parser) {
+        String key = null;
+        Object value = null;
+        while (parser.nextChildElement()) {
+            String name = parser.elementName();
+            if (name.equals(mapTrait.keyLocationName())) {
+                key = parser.elementText();
+            } else if (name.equals(mapTrait.valueLocationName())) {
+                value = readValue(context, mapTrait.valueFieldInfo(), parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        map.put(key, value);
+    }
+
+    private static boolean isFlattenedList(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST
+               && field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+    }
+
+    private static boolean isFlattenedMap(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.MAP
+               && field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+    }
+
+    private PojoFields pojoFields(SdkPojo sdkPojo) {
+        return pojoFieldsCache.computeIfAbsent(sdkPojo.getClass(), c -> new PojoFields(sdkPojo.sdkFields()));
+    }
+
+    private static Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> createSimpleTypeConverters() {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, XmlProtocolUnmarshaller.INSTANT_STRING_TO_VALUE);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * The fields of a model class, indexed by how they're located in the response.
+     */
+    private static final class PojoFields {
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private final List<SdkField<?>> attributeFields = new ArrayList<>();
+        private final Map<String, SdkField<?>> payloadFields = new HashMap<>();
+        private final boolean supported;
+
+        private PojoFields(List<SdkField<?>> sdkFields) {
+            boolean hasExplicitPayloadMember = false;
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    nonPayloadFields.add(field);
+                } else if (field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT)) {
+                    attributeFields.add(field);
+                } else {
+                    payloadFields.put(field.unmarshallLocationName(), field);
+                }
+                hasExplicitPayloadMember |= field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT);
+            }
+            this.supported = !hasExplicitPayloadMember && (!payloadFields.isEmpty() || !attributeFields.isEmpty());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
 import software.amazon.awssdk.retries.internal.DefaultAdaptiveRetryStrategy;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
 import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucketStore;
@@ -43,6 +44,8 @@ import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucke
  *     <li>Uses a dynamic backoff delay based on load currently perceived against the downstream resource
  *     <li>Circuit breaking (disabling retries) in the event of high downstream failures within an individual scope. The
  *     circuit breaking will never prevent the first attempt
+ *     <li>No limit on the number of concurrent requests. Enable a limit that adapts to the observed latency with
+ *     {@link Builder#concurrencyLimitEnabled}.
  * </ol>
  *
  * @see StandardRetryStrategy
@@ -88,6 +91,21 @@ public interface AdaptiveRetryStrategy extends RetryStrategy {
          */
         Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling);
 
+        /**
+         * Whether the strategy limits the number of concurrent requests with a limit that adapts to the observed latency.
+         *
+         * <p>The limit grows while the latency of successful attempts stays close to the lowest latency observed, and shrinks
+         * when the latency increases, which indicates that requests are queueing downstream, or when attempts are throttled.
+         * Attempts, including the first one, that would exceed the current limit fail immediately with a
+         * {@link TokenAcquisitionFailedException} instead of adding load to the downstream resource.
+         *
+         * <p>Note: Like the circuit breaker, the limit is local to the created {@link RetryStrategy} and to the scope of the
+         * request. To limit the concurrency per client, use a separate {@link RetryStrategy} for each client.
+         *
+         * <p>By default, this is {@code false}.
+         */
+        Builder concurrencyLimitEnabled(Boolean concurrencyLimitEnabled);
+
         @Override
         AdaptiveRetryStrategy build();
     }
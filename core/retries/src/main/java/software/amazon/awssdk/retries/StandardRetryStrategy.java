@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
 import software.amazon.awssdk.retries.internal.DefaultStandardRetryStrategy;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
 
@@ -36,6 +37,8 @@ import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
  *     <li>Circuit breaking (disabling retries) in the event of high downstream failures within an individual scope. The
  *     circuit breaking will never prevent the first attempt. Adjust with
  *     {@link Builder#circuitBreakerEnabled}.
+ *     <li>No limit on the number of concurrent requests. Enable a limit that adapts to the observed latency with
+ *     {@link Builder#concurrencyLimitEnabled}.
  * </ol>
  *
  * @see AdaptiveRetryStrategy
@@ -89,6 +92,21 @@ public interface StandardRetryStrategy extends RetryStrategy {
          */
         Builder circuitBreakerEnabled(Boolean circuitBreakerEnabled);
 
+        /**
+         * Whether the strategy limits the number of concurrent requests with a limit that adapts to the observed latency.
+         *
+         * <p>The limit grows while the latency of successful attempts stays close to the lowest latency observed, and shrinks
+         * when the latency increases, which indicates that requests are queueing downstream, or when attempts are throttled.
+         * Attempts, including the first one, that would exceed the current limit fail immediately with a
+         * {@link TokenAcquisitionFailedException} instead of adding load to the downstream resource.
+         *
+         * <p>Note: Like the circuit breaker, the limit is local to the created {@link RetryStrategy} and to the scope of the
+         * request. To limit the concurrency per client, use a separate {@link RetryStrategy} for each client.
+         *
+         * <p>By default, this is {@code false}.
+         */
+        Builder concurrencyLimitEnabled(Boolean concurrencyLimitEnabled);
+
         @Override
         StandardRetryStrategy build();
     }
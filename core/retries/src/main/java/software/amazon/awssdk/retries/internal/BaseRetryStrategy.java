@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -38,6 +39,9 @@ import software.amazon.awssdk.retries.internal.circuitbreaker.AcquireResponse;
 import software.amazon.awssdk.retries.internal.circuitbreaker.ReleaseResponse;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucket;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiter;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterStore;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyPermit;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -58,6 +62,7 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     protected final Predicate<Throwable> treatAsThrottling;
     protected final int exceptionCost;
     protected final TokenBucketStore tokenBucketStore;
+    protected final ConcurrencyLimiterStore concurrencyLimiterStore;
     protected final Set<String> defaultsAdded;
     protected final boolean useClientDefaults;
 
@@ -72,6 +77,7 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         this.treatAsThrottling = Validate.paramNotNull(builder.treatAsThrottling, "treatAsThrottling");
         this.exceptionCost = Validate.paramNotNull(builder.exceptionCost, "exceptionCost");
         this.tokenBucketStore = Validate.paramNotNull(builder.tokenBucketStore, "tokenBucketStore");
+        this.concurrencyLimiterStore = concurrencyLimiterStore(builder);
         this.defaultsAdded = Collections.unmodifiableSet(
             Validate.paramNotNull(new HashSet<>(builder.defaultsAdded), "defaultsAdded"));
         this.useClientDefaults = builder.useClientDefaults == null || builder.useClientDefaults;
@@ -86,7 +92,16 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     public final AcquireInitialTokenResponse acquireInitialToken(AcquireInitialTokenRequest request) {
         logAcquireInitialToken(request);
         DefaultRetryToken token = DefaultRetryToken.builder().scope(request.scope()).build();
-        return AcquireInitialTokenResponse.create(token, computeInitialBackoff(request));
+        Duration backoff = computeInitialBackoff(request);
+
+        // Is there room for the attempt within the concurrency limit?
+        ConcurrencyLimiter limiter = concurrencyLimiterForScope(token.scope());
+        if (limiter != null) {
+            ConcurrencyPermit permit = limiter.tryAcquire(backoff.toNanos())
+                                              .orElseThrow(() -> concurrencyLimitReached(limiter, token, null));
+            return AcquireInitialTokenResponse.create(token.toBuilder().concurrencyPermit(permit).build(), backoff);
+        }
+        return AcquireInitialTokenResponse.create(token, backoff);
     }
 
     /**
@@ -98,6 +113,9 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     public final RefreshRetryTokenResponse refreshRetryToken(RefreshRetryTokenRequest request) {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
 
+        // The failed attempt is no longer in-flight, whether it's retried or not.
+        releaseConcurrencyPermitAfterFailure(request, token);
+
         // Check if we meet the preconditions needed for retrying. These will throw if the expected condition is not meet.
         // 1) is retryable?
         throwOnNonRetryableException(request);
@@ -116,6 +134,17 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         DefaultRetryToken refreshedToken = refreshToken(request, acquireResponse);
         Duration backoff = computeBackoff(request, refreshedToken);
 
+        // 4) is there room for the retry within the concurrency limit?
+        ConcurrencyLimiter limiter = concurrencyLimiterForScope(token.scope());
+        if (limiter != null) {
+            Optional<ConcurrencyPermit> permit = limiter.tryAcquire(backoff.toNanos());
+            if (!permit.isPresent()) {
+                tokenBucketStore.tokenBucketForScope(token.scope()).release(acquireResponse.capacityAcquired());
+                throw concurrencyLimitReached(limiter, refreshedToken, request.failure());
+            }
+            refreshedToken = refreshedToken.toBuilder().concurrencyPermit(permit.get()).build();
+        }
+
         logRefreshTokenSuccess(refreshedToken, acquireResponse, backoff);
         return RefreshRetryTokenResponseImpl.create(refreshedToken, backoff);
     }
@@ -129,6 +158,12 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     public final RecordSuccessResponse recordSuccess(RecordSuccessRequest request) {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
 
+        // Use the latency of the attempt to update the concurrency limit.
+        ConcurrencyPermit permit = token.concurrencyPermit();
+        if (permit != null) {
+            permit.releaseOnSuccess();
+        }
+
         // Update the circuit breaker token bucket.
         ReleaseResponse releaseResponse = releaseTokenBucketCapacity(token);
 
@@ -217,6 +252,7 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
         return token.toBuilder()
                     .increaseAttempt()
+                    .concurrencyPermit(null)
                     .state(DefaultRetryToken.TokenState.IN_PROGRESS)
                     .capacityAcquired(acquireResponse.capacityAcquired())
                     .capacityRemaining(acquireResponse.capacityRemaining())
@@ -244,6 +280,38 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
                     .build();
     }
 
+    private ConcurrencyLimiter concurrencyLimiterForScope(String scope) {
+        if (concurrencyLimiterStore == null) {
+            return null;
+        }
+        return concurrencyLimiterStore.limiterForScope(scope);
+    }
+
+    private void releaseConcurrencyPermitAfterFailure(RefreshRetryTokenRequest request, DefaultRetryToken token) {
+        ConcurrencyPermit permit = token.concurrencyPermit();
+        if (permit == null) {
+            return;
+        }
+        if (treatAsThrottling.test(request.failure())) {
+            permit.releaseOnThrottling();
+        } else {
+            permit.releaseIgnored();
+        }
+    }
+
+    private TokenAcquisitionFailedException concurrencyLimitReached(ConcurrencyLimiter limiter,
+                                                                    DefaultRetryToken token,
+                                                                    Throwable failure) {
+        DefaultRetryToken refreshedToken =
+            token.toBuilder()
+                 .concurrencyPermit(null)
+                 .state(DefaultRetryToken.TokenState.TOKEN_ACQUISITION_FAILED)
+                 .build();
+        String message = concurrencyLimitReachedMessage(token, limiter);
+        log.debug(() -> message, failure);
+        return new TokenAcquisitionFailedException(message, refreshedToken, failure);
+    }
+
     private void throwOnMaxAttemptsReached(RefreshRetryTokenRequest request) {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
         if (maxAttemptsReached(token)) {
@@ -317,6 +385,12 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
                              response.maxCapacity());
     }
 
+    private String concurrencyLimitReachedMessage(DefaultRetryToken token, ConcurrencyLimiter limiter) {
+        return String.format("Request attempt %d rejected to protect the downstream service. "
+                             + "The number of in-flight requests reached the concurrency limit (%d).",
+                             token.attempt(), limiter.limit());
+    }
+
     private void logAcquireInitialToken(AcquireInitialTokenRequest request) {
         // Request attempt 1 token acquired (backoff: 0ms, cost: 0, capacity: 500/500)
         TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(request.scope());
@@ -355,6 +429,16 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         return true;
     }
 
+    private static ConcurrencyLimiterStore concurrencyLimiterStore(Builder builder) {
+        if (builder.concurrencyLimitEnabled == null || !builder.concurrencyLimitEnabled) {
+            return null;
+        }
+        if (builder.concurrencyLimiterStore != null) {
+            return builder.concurrencyLimiterStore;
+        }
+        return ConcurrencyLimiterStore.builder().build();
+    }
+
     static Duration maxOf(Duration left, Duration right) {
         if (left.compareTo(right) >= 0) {
             return left;
@@ -395,6 +479,7 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
                        .add("treatAsThrottling", treatAsThrottling)
                        .add("exceptionCost", exceptionCost)
                        .add("tokenBucketStore", tokenBucketStore)
+                       .add("concurrencyLimiterStore", concurrencyLimiterStore)
                        .add("defaultsAdded", defaultsAdded)
                        .add("useClientDefaults", useClientDefaults)
                        .build();
@@ -412,6 +497,8 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         private BackoffStrategy throttlingBackoffStrategy;
         private Predicate<Throwable> treatAsThrottling = throwable -> false;
         private TokenBucketStore tokenBucketStore;
+        private Boolean concurrencyLimitEnabled;
+        private ConcurrencyLimiterStore concurrencyLimiterStore;
 
         Builder() {
             retryPredicates = new ArrayList<>();
@@ -427,6 +514,8 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
             this.throttlingBackoffStrategy = strategy.throttlingBackoffStrategy;
             this.treatAsThrottling = strategy.treatAsThrottling;
             this.tokenBucketStore = strategy.tokenBucketStore;
+            this.concurrencyLimitEnabled = strategy.concurrencyLimiterStore != null;
+            this.concurrencyLimiterStore = strategy.concurrencyLimiterStore;
             this.defaultsAdded = new HashSet<>(strategy.defaultsAdded);
             this.useClientDefaults = strategy.useClientDefaults;
         }
@@ -447,6 +536,14 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
             this.circuitBreakerEnabled = enabled;
         }
 
+        void setConcurrencyLimitEnabled(Boolean enabled) {
+            this.concurrencyLimitEnabled = enabled;
+        }
+
+        void setConcurrencyLimiterStore(ConcurrencyLimiterStore concurrencyLimiterStore) {
+            this.concurrencyLimiterStore = concurrencyLimiterStore;
+        }
+
         void setBackoffStrategy(BackoffStrategy backoffStrategy) {
             this.backoffStrategy = backoffStrategy;
         }
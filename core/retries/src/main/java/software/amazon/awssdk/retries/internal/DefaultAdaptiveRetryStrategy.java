@@ -23,6 +23,7 @@ import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterStore;
 import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucket;
 import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucketStore;
 import software.amazon.awssdk.utils.Logger;
@@ -124,6 +125,17 @@ public final class DefaultAdaptiveRetryStrategy
             return this;
         }
 
+        @Override
+        public Builder concurrencyLimitEnabled(Boolean concurrencyLimitEnabled) {
+            setConcurrencyLimitEnabled(concurrencyLimitEnabled);
+            return this;
+        }
+
+        public Builder concurrencyLimiterStore(ConcurrencyLimiterStore concurrencyLimiterStore) {
+            setConcurrencyLimiterStore(concurrencyLimiterStore);
+            return this;
+        }
+
         public Builder tokenBucketExceptionCost(int exceptionCost) {
             setTokenBucketExceptionCost(exceptionCost);
             return this;
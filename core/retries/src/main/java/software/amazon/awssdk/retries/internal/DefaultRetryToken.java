@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyPermit;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -37,6 +38,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
     private final int capacityAcquired;
     private final int capacityRemaining;
     private final List<Throwable> failures;
+    private final ConcurrencyPermit concurrencyPermit;
 
     private DefaultRetryToken(Builder builder) {
         this.scope = Validate.paramNotNull(builder.scope, "scope");
@@ -45,6 +47,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         this.capacityAcquired = Validate.isNotNegative(builder.capacityAcquired, "capacityAcquired");
         this.capacityRemaining = Validate.isNotNegative(builder.capacityRemaining, "capacityRemaining");
         this.failures = Collections.unmodifiableList(Validate.paramNotNull(builder.failures, "failures"));
+        this.concurrencyPermit = builder.concurrencyPermit;
     }
 
     /**
@@ -82,6 +85,14 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         return state;
     }
 
+    /**
+     * Returns the permit acquired from the concurrency limiter for the current attempt, or {@code null} if the retry strategy
+     * doesn't limit concurrency.
+     */
+    public ConcurrencyPermit concurrencyPermit() {
+        return concurrencyPermit;
+    }
+
     /**
      * Creates a new builder to mutate the current instance.
      */
@@ -98,6 +109,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
                        .add("capacityAcquired", capacityAcquired)
                        .add("capacityRemaining", capacityRemaining)
                        .add("failures", failures)
+                       .add("concurrencyPermit", concurrencyPermit)
                        .build();
     }
 
@@ -144,6 +156,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         private int capacityAcquired = 0;
         private int capacityRemaining = 0;
         private List<Throwable> failures;
+        private ConcurrencyPermit concurrencyPermit;
 
         Builder() {
             this.failures = new ArrayList<>();
@@ -155,6 +168,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
             this.capacityAcquired = token.capacityAcquired;
             this.capacityRemaining = token.capacityRemaining;
             this.failures = new ArrayList<>(token.failures);
+            this.concurrencyPermit = token.concurrencyPermit;
         }
 
         /**
@@ -205,6 +219,14 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
             return this;
         }
 
+        /**
+         * Sets the permit acquired from the concurrency limiter for the current attempt.
+         */
+        public Builder concurrencyPermit(ConcurrencyPermit concurrencyPermit) {
+            this.concurrencyPermit = concurrencyPermit;
+            return this;
+        }
+
         /**
          * Creates a new {@link DefaultRetryToken} with the configured values.
          */
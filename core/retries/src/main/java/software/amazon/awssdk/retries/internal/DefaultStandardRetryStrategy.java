@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.retries.StandardRetryStrategy;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterStore;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -85,6 +86,17 @@ public final class DefaultStandardRetryStrategy
             return this;
         }
 
+        @Override
+        public Builder concurrencyLimitEnabled(Boolean concurrencyLimitEnabled) {
+            setConcurrencyLimitEnabled(concurrencyLimitEnabled);
+            return this;
+        }
+
+        public Builder concurrencyLimiterStore(ConcurrencyLimiterStore concurrencyLimiterStore) {
+            setConcurrencyLimiterStore(concurrencyLimiterStore);
+            return this;
+        }
+
         public Builder tokenBucketExceptionCost(int exceptionCost) {
             setTokenBucketExceptionCost(exceptionCost);
             return this;
@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Caps the number of in-flight requests with a limit that adapts to the latency observed for the requests, following the TCP
+ * Vegas congestion control algorithm.
+ * <p>
+ * The limiter tracks the lowest latency observed, which approximates the latency of the downstream resource without any load.
+ * For each completed request, it estimates the number of requests that are queued downstream as
+ * {@code limit * (1 - minLatency / latency)}. The limit grows while that queue is small, and shrinks when it grows large or
+ * when requests are throttled. Because the lowest latency can change over time, e.g. after the resource scaled, it's reset
+ * periodically to the latency of the last request.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiter {
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ConcurrencyLimiterClock clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Lock lock = new ReentrantLock();
+    private volatile int limit;
+
+    // Guarded by lock.
+    private double estimatedLimit;
+    private long minLatencyNanos;
+    private long samplesUntilProbe;
+    private boolean probing;
+    private long probeStartNanos;
+    private int probeSamples;
+    private long probeMinLatencyNanos;
+    private int windowSamples;
+    private long windowLatencySumNanos;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, ConcurrencyLimiterClock clock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+        resetProbe();
+    }
+
+    /**
+     * Try to acquire a permit to make a request. If the number of in-flight requests has already reached the current limit then
+     * an empty optional is returned.
+     *
+     * @param delayNanos The time the caller waits before starting the request, which is excluded from its latency.
+     */
+    public Optional<ConcurrencyPermit> tryAcquire(long delayNanos) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new ConcurrencyPermit(this, clock.nanoTime() + delayNanos, current + 1));
+    }
+
+    /**
+     * Retrieve the current limit of in-flight requests.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Retrieve a snapshot of the number of in-flight requests.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    void release(ConcurrencyPermit permit, ConcurrencyPermit.Outcome outcome) {
+        inFlight.decrementAndGet();
+        switch (outcome) {
+            case SUCCEEDED:
+                long latencyNanos = clock.nanoTime() - permit.startTimeNanos();
+                if (latencyNanos > 0) {
+                    update(permit, latencyNanos, false);
+                }
+                break;
+            case DROPPED:
+                update(permit, 0, true);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void update(ConcurrencyPermit permit, long latencyNanos, boolean dropped) {
+        lock.lock();
+        try {
+            if (probing) {
+                updateProbe(permit, latencyNanos, dropped);
+                return;
+            }
+            windowMaxInFlight = Math.max(windowMaxInFlight, permit.inFlightAtStart());
+            if (dropped) {
+                windowDropped = true;
+            } else {
+                windowSamples++;
+                windowLatencySumNanos += latencyNanos;
+                if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos) {
+                    minLatencyNanos = latencyNanos;
+                }
+                if (--samplesUntilProbe <= 0) {
+                    startProbe();
+                    return;
+                }
+            }
+            // Like TCP Vegas, adjust the limit once per round-trip rather than after every request.
+            if (windowDropped || windowSamples >= Math.max(1, limit / 2)) {
+                updateLimit();
+                resetWindow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The lowest latency observed might be outdated, e.g. if the resource got slower since. To measure it again, the limit is
+     * halved until enough requests started with the lower limit completed, which drains the queues the current limit may
+     * have built downstream.
+     */
+    private void startProbe() {
+        probing = true;
+        probeStartNanos = clock.nanoTime();
+        probeSamples = 0;
+        probeMinLatencyNanos = Long.MAX_VALUE;
+        limit = Math.max(minLimit, limit / 2);
+    }
+
+    private void updateProbe(ConcurrencyPermit permit, long latencyNanos, boolean dropped) {
+        if (dropped || permit.startTimeNanos() < probeStartNanos) {
+            return;
+        }
+        probeMinLatencyNanos = Math.min(probeMinLatencyNanos, latencyNanos);
+        if (++probeSamples >= Math.max(1, limit / 2)) {
+            minLatencyNanos = probeMinLatencyNanos;
+            probing = false;
+            limit = (int) estimatedLimit;
+            resetProbe();
+            resetWindow();
+        }
+    }
+
+    private void updateLimit() {
+        double current = estimatedLimit;
+        double log = Math.max(1, Math.log10(current));
+        double newLimit;
+        if (windowDropped) {
+            newLimit = current - log;
+        } else if (windowMaxInFlight * 2 < current) {
+            // The caller isn't using the current limit, latency tells nothing about a higher one.
+            return;
+        } else {
+            double latencyNanos = (double) windowLatencySumNanos / windowSamples;
+            double queueSize = Math.ceil(current * (1 - minLatencyNanos / latencyNanos));
+            if (queueSize <= log) {
+                newLimit = current + 6 * log;
+            } else if (queueSize < 3 * log) {
+                newLimit = current + log;
+            } else if (queueSize > 6 * log) {
+                newLimit = current - log;
+            } else {
+                return;
+            }
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private void resetProbe() {
+        samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+    }
+
+    private void resetWindow() {
+        windowSamples = 0;
+        windowLatencySumNanos = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimiter")
+                       .add("limit", limit)
+                       .add("inFlight", inFlight)
+                       .add("minLimit", minLimit)
+                       .add("maxLimit", maxLimit)
+                       .build();
+    }
+}
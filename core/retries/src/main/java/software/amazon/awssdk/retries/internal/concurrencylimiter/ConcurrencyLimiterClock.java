@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+@SdkInternalApi
+public interface ConcurrencyLimiterClock {
+    /**
+     * Returns the current value of a monotonic time source in nanoseconds. This value needs not to be related to the actual
+     * wall clock-time as it's only used to measure elapsed time, see {@link System#nanoTime()}.
+     *
+     * @return the current value of a monotonic time source in nanoseconds
+     */
+    long nanoTime();
+}
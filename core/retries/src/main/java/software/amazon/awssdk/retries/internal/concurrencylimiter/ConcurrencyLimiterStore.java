@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
+
+/**
+ * A store to keep concurrency limiters per scope.
+ */
+@SdkInternalApi
+public final class ConcurrencyLimiterStore {
+    private static final int MAX_ENTRIES = 128;
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 1000;
+    private static final ConcurrencyLimiterClock DEFAULT_CLOCK = System::nanoTime;
+    private final ConcurrentLruCache<String, ConcurrencyLimiter> scopeToLimiter;
+
+    private ConcurrencyLimiterStore(Builder builder) {
+        int initialLimit = Validate.isPositive(builder.initialLimit, "initialLimit");
+        int minLimit = Validate.isPositive(builder.minLimit, "minLimit");
+        int maxLimit = Validate.isPositive(builder.maxLimit, "maxLimit");
+        Validate.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+                        "initialLimit (%s) must be between minLimit (%s) and maxLimit (%s)", initialLimit, minLimit, maxLimit);
+        ConcurrencyLimiterClock clock = Validate.paramNotNull(builder.clock, "clock");
+        this.scopeToLimiter =
+            ConcurrentLruCache.<String, ConcurrencyLimiter>builder(x -> new ConcurrencyLimiter(initialLimit, minLimit,
+                                                                                                maxLimit, clock))
+                              .maxSize(MAX_ENTRIES)
+                              .build();
+    }
+
+    /**
+     * Returns the {@link ConcurrencyLimiter} for the given scope.
+     */
+    public ConcurrencyLimiter limiterForScope(String scope) {
+        Validate.paramNotNull(scope, "scope");
+        return scopeToLimiter.get(scope);
+    }
+
+    /**
+     * Returns a new builder to create a new store.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private ConcurrencyLimiterClock clock = DEFAULT_CLOCK;
+
+        Builder() {
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public Builder clock(ConcurrencyLimiterClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ConcurrencyLimiterStore build() {
+            return new ConcurrencyLimiterStore(this);
+        }
+    }
+}
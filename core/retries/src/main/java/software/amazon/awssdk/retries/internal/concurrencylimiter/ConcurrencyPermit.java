@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A slot acquired from a {@link ConcurrencyLimiter} for a single request attempt. Only the first release of a permit has any
+ * effect, so the permit can be safely released again by code that doesn't know whether the attempt already completed.
+ */
+@SdkInternalApi
+public final class ConcurrencyPermit {
+    private final ConcurrencyLimiter limiter;
+    private final long startTimeNanos;
+    private final int inFlightAtStart;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ConcurrencyPermit(ConcurrencyLimiter limiter, long startTimeNanos, int inFlightAtStart) {
+        this.limiter = limiter;
+        this.startTimeNanos = startTimeNanos;
+        this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * Releases the permit after the attempt succeeded, using its latency to update the limit.
+     */
+    public void releaseOnSuccess() {
+        release(Outcome.SUCCEEDED);
+    }
+
+    /**
+     * Releases the permit after the attempt was throttled, which reduces the limit.
+     */
+    public void releaseOnThrottling() {
+        release(Outcome.DROPPED);
+    }
+
+    /**
+     * Releases the permit without updating the limit, e.g. when the attempt failed for a reason unrelated to load.
+     */
+    public void releaseIgnored() {
+        release(Outcome.IGNORED);
+    }
+
+    /**
+     * Returns the current limit of the limiter that issued this permit.
+     */
+    public int limit() {
+        return limiter.limit();
+    }
+
+    long startTimeNanos() {
+        return startTimeNanos;
+    }
+
+    int inFlightAtStart() {
+        return inFlightAtStart;
+    }
+
+    private void release(Outcome outcome) {
+        if (released.compareAndSet(false, true)) {
+            limiter.release(this, outcome);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyPermit")
+                       .add("inFlightAtStart", inFlightAtStart)
+                       .add("released", released)
+                       .build();
+    }
+
+    enum Outcome {
+        SUCCEEDED,
+        DROPPED,
+        IGNORED
+    }
+}
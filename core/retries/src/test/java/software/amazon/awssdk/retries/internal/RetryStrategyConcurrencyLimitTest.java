@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.retries.AdaptiveRetryStrategy;
+import software.amazon.awssdk.retries.StandardRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterStore;
+
+/**
+ * Tests that the retry strategies limit the number of in-flight attempts when the concurrency limit is enabled.
+ */
+class RetryStrategyConcurrencyLimitTest {
+    private static final IllegalArgumentException IAE = new IllegalArgumentException();
+    private static final IllegalStateException THROTTLING = new IllegalStateException();
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void concurrencyLimitDisabledByDefault_doesNotAcquirePermits(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = strategy.get().build();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(acquire(retryStrategy).concurrencyPermit()).isNull();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void acquireInitialToken_limitReached_fails(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 2);
+        acquire(retryStrategy);
+        acquire(retryStrategy);
+
+        assertThatThrownBy(() -> acquire(retryStrategy))
+            .isInstanceOf(TokenAcquisitionFailedException.class)
+            .hasMessageContaining("concurrency limit (2)")
+            .satisfies(e -> assertThat(((DefaultRetryToken) ((TokenAcquisitionFailedException) e).token()).state())
+                .isEqualTo(DefaultRetryToken.TokenState.TOKEN_ACQUISITION_FAILED));
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void recordSuccess_releasesPermit(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 1);
+        DefaultRetryToken token = acquire(retryStrategy);
+
+        retryStrategy.recordSuccess(RecordSuccessRequest.create(token));
+
+        assertThat(acquire(retryStrategy).concurrencyPermit()).isNotNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void refreshRetryToken_keepsPermitForRetry(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 1);
+        DefaultRetryToken token = acquire(retryStrategy);
+
+        DefaultRetryToken refreshed = refresh(retryStrategy, token, IAE);
+
+        assertThat(refreshed.concurrencyPermit()).isNotNull().isNotSameAs(token.concurrencyPermit());
+        assertThatThrownBy(() -> acquire(retryStrategy)).isInstanceOf(TokenAcquisitionFailedException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void refreshRetryToken_limitReached_failsAndReleasesPermit(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 2);
+        DefaultRetryToken first = acquire(retryStrategy);
+        DefaultRetryToken second = acquire(retryStrategy);
+
+        // A throttled attempt reduces the limit to one, which is held by the second attempt.
+        assertThatThrownBy(() -> refresh(retryStrategy, first, THROTTLING))
+            .isInstanceOf(TokenAcquisitionFailedException.class)
+            .hasMessageContaining("concurrency limit (1)");
+
+        retryStrategy.recordSuccess(RecordSuccessRequest.create(second));
+        assertThat(acquire(retryStrategy).concurrencyPermit()).isNotNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void refreshRetryToken_nonRetryable_releasesPermit(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 1);
+        DefaultRetryToken token = acquire(retryStrategy);
+
+        assertThatThrownBy(() -> refresh(retryStrategy, token, new RuntimeException()))
+            .isInstanceOf(TokenAcquisitionFailedException.class);
+
+        assertThat(acquire(retryStrategy).concurrencyPermit()).isNotNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("strategies")
+    void toBuilder_sharesLimit(Supplier<RetryStrategy.Builder<?, ?>> strategy) {
+        RetryStrategy retryStrategy = limited(strategy, 1);
+        acquire(retryStrategy);
+
+        RetryStrategy copy = retryStrategy.toBuilder().maxAttempts(5).build();
+
+        assertThatThrownBy(() -> acquire(copy)).isInstanceOf(TokenAcquisitionFailedException.class);
+    }
+
+    static List<Supplier<RetryStrategy.Builder<?, ?>>> strategies() {
+        return Arrays.asList(
+            () -> StandardRetryStrategy.builder()
+                                       .concurrencyLimitEnabled(false)
+                                       .treatAsThrottling(t -> t == THROTTLING)
+                                       .backoffStrategy(BackoffStrategy.retryImmediately())
+                                       .retryOnException(t -> t == IAE || t == THROTTLING),
+            () -> AdaptiveRetryStrategy.builder()
+                                       .concurrencyLimitEnabled(false)
+                                       .treatAsThrottling(t -> t == THROTTLING)
+                                       .backoffStrategy(BackoffStrategy.retryImmediately())
+                                       .throttlingBackoffStrategy(BackoffStrategy.retryImmediately())
+                                       .retryOnException(t -> t == IAE || t == THROTTLING));
+    }
+
+    private static RetryStrategy limited(Supplier<RetryStrategy.Builder<?, ?>> strategy, int limit) {
+        ConcurrencyLimiterStore store = ConcurrencyLimiterStore.builder()
+                                                               .initialLimit(limit)
+                                                               .build();
+        RetryStrategy.Builder<?, ?> builder = strategy.get();
+        if (builder instanceof DefaultStandardRetryStrategy.Builder) {
+            return ((DefaultStandardRetryStrategy.Builder) builder).concurrencyLimitEnabled(true)
+                                                                   .concurrencyLimiterStore(store)
+                                                                   .build();
+        }
+        return ((DefaultAdaptiveRetryStrategy.Builder) builder).concurrencyLimitEnabled(true)
+                                                               .concurrencyLimiterStore(store)
+                                                               .build();
+    }
+
+    private static DefaultRetryToken acquire(RetryStrategy strategy) {
+        RetryToken token = strategy.acquireInitialToken(AcquireInitialTokenRequest.create("scope")).token();
+        return (DefaultRetryToken) token;
+    }
+
+    private static DefaultRetryToken refresh(RetryStrategy strategy, RetryToken token, Throwable failure) {
+        RefreshRetryTokenRequest request = RefreshRetryTokenRequest.builder()
+                                                                   .token(token)
+                                                                   .failure(failure)
+                                                                   .suggestedDelay(Duration.ZERO)
+                                                                   .build();
+        return (DefaultRetryToken) strategy.refreshRetryToken(request).token();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+    private static final long BASE_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock();
+    }
+
+    @Test
+    void tryAcquire_belowLimit_acquiresPermit() {
+        ConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire(0)).isPresent();
+        assertThat(limiter.tryAcquire(0)).isPresent();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void tryAcquire_atLimit_isRejected() {
+        ConcurrencyLimiter limiter = limiter(2);
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        assertThat(limiter.tryAcquire(0)).isEmpty();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void release_calledTwice_onlyReleasesOnce() {
+        ConcurrencyLimiter limiter = limiter(2);
+        ConcurrencyPermit permit = limiter.tryAcquire(0).get();
+        limiter.tryAcquire(0);
+
+        permit.releaseIgnored();
+        permit.releaseOnSuccess();
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseOnThrottling_reducesLimit() {
+        ConcurrencyLimiter limiter = limiter(20);
+
+        limiter.tryAcquire(0).get().releaseOnThrottling();
+
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void releaseIgnored_keepsLimit() {
+        ConcurrencyLimiter limiter = limiter(20);
+
+        limiter.tryAcquire(0).get().releaseIgnored();
+
+        assertThat(limiter.limit()).isEqualTo(20);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void releaseOnSuccess_lowConcurrency_keepsLimit() {
+        ConcurrencyLimiter limiter = limiter(20);
+
+        // The caller never uses more than a single permit, so the limit isn't raised.
+        for (int i = 0; i < 100; i++) {
+            ConcurrencyPermit permit = limiter.tryAcquire(0).get();
+            clock.advance(BASE_LATENCY);
+            permit.releaseOnSuccess();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void latency_excludesDelayBeforeAttempt() {
+        ConcurrencyLimiter limiter = limiter(4);
+        // Establish the latency without load.
+        ConcurrencyPermit first = limiter.tryAcquire(0).get();
+        clock.advance(BASE_LATENCY);
+        first.releaseOnSuccess();
+
+        List<ConcurrencyPermit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(1)).get());
+        }
+        clock.advance(TimeUnit.SECONDS.toNanos(1) + BASE_LATENCY);
+        permits.forEach(ConcurrencyPermit::releaseOnSuccess);
+
+        // Without the delay every attempt had the latency without load, so the limit can only grow.
+        assertThat(limiter.limit()).isGreaterThan(4);
+    }
+
+    @Test
+    void simulatedServer_limitConvergesToServerCapacity() {
+        int serverCapacity = 50;
+        ConcurrencyLimiter limiter = limiter(20);
+        SimulatedServer server = new SimulatedServer(limiter, serverCapacity, 500);
+
+        server.run(TimeUnit.SECONDS.toNanos(30));
+
+        // Vegas keeps a few requests queued on the server, on top of its capacity.
+        assertThat(server.averageLimit(10, 30)).isBetween((double) serverCapacity, 1.5 * serverCapacity);
+        assertThat(server.maxLimit(10, 30)).isLessThan(2 * serverCapacity);
+    }
+
+    @Test
+    void simulatedServer_capacityDrops_limitFollows() {
+        ConcurrencyLimiter limiter = limiter(20);
+        SimulatedServer server = new SimulatedServer(limiter, 200, 500);
+        server.run(TimeUnit.SECONDS.toNanos(30));
+
+        server.serverCapacity = 20;
+        server.run(TimeUnit.SECONDS.toNanos(30));
+
+        assertThat(server.averageLimit(10, 30)).isBetween(200.0, 300.0);
+        assertThat(server.averageLimit(40, 60)).isBetween(20.0, 30.0);
+    }
+
+    private ConcurrencyLimiter limiter(int initialLimit) {
+        return new ConcurrencyLimiter(initialLimit, 1, 1000, clock);
+    }
+
+    /**
+     * A closed-loop simulation of callers sharing a server. The server processes up to its capacity in parallel at a fixed
+     * latency, requests above that capacity queue and the latency grows proportionally. Callers rejected by the limiter wait a
+     * millisecond before trying again.
+     */
+    private final class SimulatedServer {
+        private final ConcurrencyLimiter limiter;
+        private final PriorityQueue<Event> events = new PriorityQueue<>();
+        private final List<long[]> limitHistory = new ArrayList<>();
+        private int serverCapacity;
+        private int serverInFlight;
+
+        SimulatedServer(ConcurrencyLimiter limiter, int serverCapacity, int callers) {
+            this.limiter = limiter;
+            this.serverCapacity = serverCapacity;
+            for (int i = 0; i < callers; i++) {
+                events.add(new Event(clock.nanoTime(), null));
+            }
+        }
+
+        void run(long durationNanos) {
+            long end = clock.nanoTime() + durationNanos;
+            while (!events.isEmpty() && events.peek().time <= end) {
+                Event event = events.poll();
+                clock.current = event.time;
+                if (event.permit != null) {
+                    serverInFlight--;
+                    event.permit.releaseOnSuccess();
+                    limitHistory.add(new long[] {clock.current, limiter.limit()});
+                }
+                Optional<ConcurrencyPermit> permit = limiter.tryAcquire(0);
+                if (permit.isPresent()) {
+                    serverInFlight++;
+                    long latency = BASE_LATENCY * Math.max(serverCapacity, serverInFlight) / serverCapacity;
+                    events.add(new Event(clock.current + latency, permit.get()));
+                } else {
+                    events.add(new Event(clock.current + TimeUnit.MILLISECONDS.toNanos(1), null));
+                }
+            }
+            clock.current = end;
+        }
+
+        double averageLimit(int fromSecond, int toSecond) {
+            return limits(fromSecond, toSecond).average().getAsDouble();
+        }
+
+        long maxLimit(int fromSecond, int toSecond) {
+            return limits(fromSecond, toSecond).max().getAsLong();
+        }
+
+        private LongStream limits(int fromSecond, int toSecond) {
+            long from = TimeUnit.SECONDS.toNanos(fromSecond);
+            long to = TimeUnit.SECONDS.toNanos(toSecond);
+            return limitHistory.stream().filter(e -> e[0] >= from && e[0] < to).mapToLong(e -> e[1]);
+        }
+    }
+
+    private static final class Event implements Comparable<Event> {
+        private final long time;
+        private final ConcurrencyPermit permit;
+
+        Event(long time, ConcurrencyPermit permit) {
+            this.time = time;
+            this.permit = permit;
+        }
+
+        @Override
+        public int compareTo(Event o) {
+            return Long.compare(time, o.time);
+        }
+    }
+
+    private static final class MutableClock implements ConcurrencyLimiterClock {
+        private long current;
+
+        void advance(long nanos) {
+            current += nanos;
+        }
+
+        @Override
+        public long nanoTime() {
+            return current;
+        }
+    }
+}
@@ -135,6 +135,7 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
                                    .position(configuration.position())
                                    .chunkSizeInBytes(configuration.chunkSizeInBytes())
                                    .numBytesToRead(configuration.numBytesToRead())
+                                   .memoryMappingEnabled(configuration.memoryMappingEnabled())
                                    .build();
     }
 
@@ -335,6 +335,17 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
          */
         CompletableFuture<ResultT> resultFuture();
 
+        /**
+         * Indicates if the individual {@link AsyncResponseTransformer} published by {@link #publisher()} can receive their
+         * content concurrently and in any order. When {@code false}, each individual {@code AsyncResponseTransformer} must have
+         * received all of its content before the next one is published.
+         *
+         * @return true if the individual {@code AsyncResponseTransformer} can be used concurrently.
+         */
+        default boolean parallelSplitSupported() {
+            return false;
+        }
+
         static <ResponseT, ResultT> Builder<ResponseT, ResultT> builder() {
             return DefaultAsyncResponseTransformerSplitResult.builder();
         }
@@ -367,6 +378,24 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
              * @return an instance of this Builder
              */
             Builder<ResponseT, ResultT> resultFuture(CompletableFuture<ResultT> future);
+
+            /**
+             * @return the value which was configured on this Builder instance, or false if none was configured.
+             */
+            default boolean parallelSplitSupported() {
+                return false;
+            }
+
+            /**
+             * Sets whether the individual {@link AsyncResponseTransformer} published by the publisher can receive their content
+             * concurrently and in any order. Builders that don't support parallel splits ignore this value, and their
+             * {@link SplitResult} report {@code false}.
+             * @param parallelSplitSupported true if the individual {@code AsyncResponseTransformer} can be used concurrently.
+             * @return an instance of this Builder
+             */
+            default Builder<ResponseT, ResultT> parallelSplitSupported(boolean parallelSplitSupported) {
+                return this;
+            }
         }
     }
 }
@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.utils.Logger;
@@ -53,6 +54,18 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
     default void transformerExceptionOccurred(Throwable t) {
     }
 
+    /**
+     * Returns the listener to notify of the events of one of the individual {@link AsyncResponseTransformer}s published when
+     * the transformer is {@link AsyncResponseTransformer#split(SplittingTransformerConfiguration) split}. It is invoked for each
+     * of them. When all of them have completed, this listener is notified with {@link #subscriberOnComplete()}.
+     * <p>
+     * By default this returns null, and the wrapped transformer is split as a whole, so that this listener is notified as if
+     * the transformer had not been split.
+     */
+    default AsyncResponseTransformerListener<ResponseT> partListener() {
+        return null;
+    }
+
     /**
      * Wrap a {@link AsyncResponseTransformer} with a new one that will notify a {@link AsyncResponseTransformerListener} of
      * important events occurring.
@@ -99,6 +112,24 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
             delegate.exceptionOccurred(error);
         }
 
+        @Override
+        public SplitResult<ResponseT, ResultT> split(SplittingTransformerConfiguration splitConfig) {
+            if (listener.partListener() == null) {
+                return AsyncResponseTransformer.super.split(splitConfig);
+            }
+
+            SplitResult<ResponseT, ResultT> split = delegate.split(splitConfig);
+            split.resultFuture().whenComplete((r, t) -> {
+                if (t == null) {
+                    invoke(listener::subscriberOnComplete, "subscriberOnComplete");
+                }
+            });
+            return split.toBuilder()
+                        .publisher(split.publisher().map(part -> new NotifyingAsyncResponseTransformer<>(
+                            part, listener.partListener())))
+                        .build();
+        }
+
         static void invoke(Runnable runnable, String callbackName) {
             try {
                 runnable.run();
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.internal.async.DirectCompletionExecutor;
+import software.amazon.awssdk.core.internal.async.SharedCompletionPool;
+
+/**
+ * Built-in {@link Executor}s that can be configured as the
+ * {@link SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR} of async clients, instead of the dedicated thread pool
+ * that each async client creates by default.
+ * <p>
+ * For example:
+ * {@snippet :
+ * S3AsyncClient s3 =
+ *     S3AsyncClient.builder()
+ *                  .asyncConfiguration(c -> c.advancedOption(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+ *                                                            FutureCompletionExecutors.sharedPool()))
+ *                  .build();
+ * }
+ */
+@SdkPublicApi
+public final class FutureCompletionExecutors {
+    private FutureCompletionExecutors() {
+    }
+
+    /**
+     * An executor that completes the {@link CompletableFuture}s returned by async clients directly on the async HTTP client's
+     * I/O thread (e.g. the Netty or CRT event loop) that received the response. This avoids a thread hand-off and the queueing
+     * delay of a thread pool for every call.
+     * <p>
+     * Callbacks attached to the returned futures then run on the I/O thread, so they must be short and must never block, e.g.
+     * by calling {@link CompletableFuture#join()} on the result of another SDK call. To limit the damage done by a callback
+     * that does not follow these rules, this executor:
+     * <ul>
+     *     <li>Hands completions over to the {@link #sharedPool()} if they are nested too deeply on the same thread.</li>
+     *     <li>Hands all further completions over to the {@link #sharedPool()}, and logs a warning, once a completion is
+     *     observed blocking the I/O thread for longer than 10 milliseconds.</li>
+     * </ul>
+     * Each call to this method returns a new executor, so that a blocking callback of one client does not affect others.
+     */
+    public static Executor direct() {
+        return new DirectCompletionExecutor(SharedCompletionPool.get());
+    }
+
+    /**
+     * A process-wide, work-stealing {@link ForkJoinPool} shared by all the clients that use it. Its daemon threads are created
+     * when needed, up to the number of available processors (and at least 8), so many clients can be created without each
+     * of them holding on to its own idle threads.
+     * <p>
+     * The pool is never shut down, and closing a client does not affect it.
+     */
+    public static Executor sharedPool() {
+        return SharedCompletionPool.get();
+    }
+}
@@ -51,6 +51,8 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
      * We strongly <strong>discourage</strong> using {@code Runnable::run}, which executes the future-completion directly from
      * within the I/O thread because it may block the I/O thread and cause deadlock, especially if you are sending
      * another SDK request in the {@link CompletableFuture} chain since the SDK may perform blocking calls in some cases.
+     * If your callbacks never block, use {@link FutureCompletionExecutors#direct()} instead, which guards the I/O thread
+     * against callbacks that do. To share one pool between many clients, use {@link FutureCompletionExecutors#sharedPool()}.
      */
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
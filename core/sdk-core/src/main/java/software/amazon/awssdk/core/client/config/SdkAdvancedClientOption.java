@@ -64,6 +64,16 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Collect the metrics of each API call with a lock-free metric collector instead of the default synchronized one. This
+     * reduces monitor contention when many threads report metrics for the same client at very high request rates.
+     * <p>
+     * This has no effect unless at least one {@link software.amazon.awssdk.metrics.MetricPublisher} is configured. Defaults to
+     * {@code false}.
+     */
+    public static final SdkAdvancedClientOption<Boolean> USE_CONCURRENT_METRIC_COLLECTOR =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
@@ -32,6 +32,8 @@ import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -102,6 +104,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<List<ExecutionInterceptor>> EXECUTION_INTERCEPTORS =
             new SdkClientOption<>(new UnsafeValueType(List.class));
 
+    /**
+     * The chain of the {@link #EXECUTION_INTERCEPTORS}, created once per client so that the interceptor methods each
+     * interceptor overrides are only detected once. When the execution interceptors are modified, it is created again.
+     */
+    public static final SdkClientOption<ExecutionInterceptorChain> EXECUTION_INTERCEPTOR_CHAIN =
+        new SdkClientOption<>(ExecutionInterceptorChain.class);
+
     /**
      * The effective endpoint the client is configured to make requests to. If the client has been configured with
      * an endpoint override then this value will be the provided endpoint value.
@@ -156,6 +165,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<ScheduledExecutorService> CONFIGURED_SCHEDULED_EXECUTOR_SERVICE =
         new SdkClientOption<>(ScheduledExecutorService.class);
 
+    /**
+     * The timer used to schedule the API call and API call attempt timeouts. When this is not set, the timeouts are scheduled
+     * on the {@link #SCHEDULED_EXECUTOR_SERVICE}.
+     */
+    public static final SdkClientOption<HashedWheelTimer> TIMEOUT_TIMER = new SdkClientOption<>(HashedWheelTimer.class);
+
     /**
      * The asynchronous HTTP client implementation to make HTTP requests with.
      */
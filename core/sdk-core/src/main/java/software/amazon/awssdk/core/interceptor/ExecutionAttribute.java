@@ -15,10 +15,11 @@
 
 package software.amazon.awssdk.core.interceptor;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -50,9 +51,15 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
     private static final ConcurrentMap<String, ExecutionAttribute<?>> NAME_HISTORY = new ConcurrentHashMap<>();
-    
+
+    /**
+     * Every attribute created so far, indexed by {@link #ordinal()}.
+     */
+    private static final List<ExecutionAttribute<?>> ATTRIBUTES_BY_ORDINAL = new CopyOnWriteArrayList<>();
+
     private final String name;
     private final ValueStorage<T> storage;
+    private final int ordinal;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -69,6 +76,7 @@ public final class ExecutionAttribute<T> {
                        new DefaultValueStorage() :
                        storage;
         ensureUnique();
+        this.ordinal = register(this);
     }
 
     /**
@@ -132,6 +140,33 @@ public final class ExecutionAttribute<T> {
         }
     }
 
+    private static synchronized int register(ExecutionAttribute<?> attribute) {
+        ATTRIBUTES_BY_ORDINAL.add(attribute);
+        return ATTRIBUTES_BY_ORDINAL.size() - 1;
+    }
+
+    /**
+     * The index of this attribute's value in {@link ExecutionAttributes}. Ordinals are dense, starting at zero, and are
+     * assigned in the order the attributes are created.
+     */
+    int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * The attribute with the provided {@link #ordinal()}.
+     */
+    static ExecutionAttribute<?> forOrdinal(int ordinal) {
+        return ATTRIBUTES_BY_ORDINAL.get(ordinal);
+    }
+
+    /**
+     * The number of attributes created so far, which is one more than the highest {@link #ordinal()}.
+     */
+    static int count() {
+        return ATTRIBUTES_BY_ORDINAL.size();
+    }
+
     @Override
     public String toString() {
         return name;
@@ -214,45 +249,45 @@ public final class ExecutionAttribute<T> {
      */
     interface ValueStorage<T> {
         /**
-         * Retrieve an attribute's value from the provided attribute map.
+         * Retrieve an attribute's value from the provided attributes.
          */
-        T get(Map<ExecutionAttribute<?>, Object> attributes);
+        T get(ExecutionAttributes attributes);
 
         /**
-         * Set an attribute's value to the provided attribute map.
+         * Set an attribute's value to the provided attributes.
          */
-        void set(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void set(ExecutionAttributes attributes, T value);
 
         /**
-         * Set an attribute's value to the provided attribute map, if the value is not already in the map.
+         * Set an attribute's value to the provided attributes, if the value is not already in the attributes.
          */
-        void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void setIfAbsent(ExecutionAttributes attributes, T value);
     }
 
     /**
-     * An implementation of {@link ValueStorage} that stores the current execution attribute in the provided attributes map.
+     * An implementation of {@link ValueStorage} that stores the current execution attribute in the provided attributes.
      */
     private final class DefaultValueStorage implements ValueStorage<T> {
         @SuppressWarnings("unchecked") // Safe because of the implementation of set()
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return (T) attributes.get(ExecutionAttribute.this);
+        public T get(ExecutionAttributes attributes) {
+            return (T) attributes.getValue(ExecutionAttribute.this);
         }
 
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(ExecutionAttribute.this, value);
+        public void set(ExecutionAttributes attributes, T value) {
+            attributes.setValue(ExecutionAttribute.this, value);
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.putIfAbsent(ExecutionAttribute.this, value);
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
+            attributes.setValueIfAbsent(ExecutionAttribute.this, value);
         }
     }
 
     /**
      * An implementation of {@link ValueStorage} that derives its value from a different execution attribute in the provided
-     * attributes map.
+     * attributes.
      */
     private static final class DerivationValueStorage<T, U> implements ValueStorage<T> {
         private final Supplier<ExecutionAttribute<U>> realAttribute;
@@ -267,18 +302,19 @@ public final class ExecutionAttribute<T> {
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return readMapping.apply((U) attributes.get(realAttribute.get()));
+        public T get(ExecutionAttributes attributes) {
+            return readMapping.apply((U) attributes.getValue(realAttribute.get()));
         }
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.compute(realAttribute.get(), (k, real) -> writeMapping.apply((U) real, value));
+        public void set(ExecutionAttributes attributes, T value) {
+            ExecutionAttribute<U> real = realAttribute.get();
+            attributes.computeValue(real, writeMapping.apply((U) attributes.getValue(real), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -288,7 +324,7 @@ public final class ExecutionAttribute<T> {
 
     /**
      * An implementation of {@link ValueStorage} that is backed by a different execution attribute in the provided
-     * attributes map (mirrors its value), and maps (updates) to another attribute.
+     * attributes (mirrors its value), and maps (updates) to another attribute.
      */
     private static final class MappedValueStorage<T, U> implements ValueStorage<T> {
         private final Supplier<ExecutionAttribute<T>> backingAttributeSupplier;
@@ -305,22 +341,23 @@ public final class ExecutionAttribute<T> {
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
+        public T get(ExecutionAttributes attributes) {
             return readMapping.apply(
-                (T) attributes.get(backingAttributeSupplier.get()),
-                (U) attributes.get(attributeSupplier.get())
+                (T) attributes.getValue(backingAttributeSupplier.get()),
+                (U) attributes.getValue(attributeSupplier.get())
             );
         }
 
         @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(backingAttributeSupplier.get(), value);
-            attributes.compute(attributeSupplier.get(), (k, attr) -> writeMapping.apply((U) attr, value));
+        public void set(ExecutionAttributes attributes, T value) {
+            attributes.setValue(backingAttributeSupplier.get(), value);
+            ExecutionAttribute<U> attribute = attributeSupplier.get();
+            attributes.computeValue(attribute, writeMapping.apply((U) attributes.getValue(attribute), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributes attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,28 +36,61 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 @SdkPublicApi
 @NotThreadSafe
 public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-    private final Map<ExecutionAttribute<?>, Object> attributes;
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * Stored in place of values that were explicitly set to null, because unlike unset attributes, those are included in
+     * {@link #getAttributes()}.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    /**
+     * The attribute values, indexed by {@link ExecutionAttribute#ordinal()}. Unset attributes are null. The array is created
+     * on the first write, and may be shorter than the number of attributes if attributes were created since.
+     */
+    private Object[] values = NO_VALUES;
+
+    /**
+     * Whether {@link #values} is shared with a copy of these attributes, in which case it is copied before it is modified.
+     * Copies are made for every execution, but most of them are read far more often than they are modified.
+     */
+    private boolean shared;
 
     public ExecutionAttributes() {
-        this.attributes = new HashMap<>(32);
     }
 
     protected ExecutionAttributes(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-        this.attributes = new HashMap<>(attributes);
+        attributes.forEach(this::setValue);
     }
-    
+
+    private ExecutionAttributes(ExecutionAttributes source) {
+        this.values = source.values;
+        this.shared = true;
+        if (!source.shared) {
+            source.shared = true;
+        }
+    }
+
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
      * is not set.
      */
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return attribute.storage().get(attributes);
+        return attribute.storage().get(this);
     }
 
     /**
-     * Retrieve the collection of attributes.
+     * Retrieve a snapshot of the collection of attributes.
      */
     public Map<ExecutionAttribute<?>, Object> getAttributes() {
+        Object[] values = this.values;
+        Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                attributes.put(ExecutionAttribute.forOrdinal(i), value == NULL_VALUE ? null : value);
+            }
+        }
         return Collections.unmodifiableMap(attributes);
     }
 
@@ -72,7 +106,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        attribute.storage().set(attributes, value);
+        attribute.storage().set(this, value);
         return this;
     }
 
@@ -80,7 +114,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attribute.storage().setIfAbsent(attributes, value);
+        attribute.storage().setIfAbsent(this, value);
         return this;
     }
 
@@ -88,18 +122,82 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Merge attributes of a higher precedence into the current lower precedence collection.
      */
     public ExecutionAttributes merge(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        Map<ExecutionAttribute<?>, Object> copiedAttributes = new HashMap<>(this.attributes);
-        lowerPrecedenceExecutionAttributes.getAttributes().forEach(copiedAttributes::putIfAbsent);
-        return new ExecutionAttributes(copiedAttributes);
+        ExecutionAttributes mergedAttributes = new ExecutionAttributes(this);
+        mergedAttributes.putAbsentAttributes(lowerPrecedenceExecutionAttributes);
+        return mergedAttributes;
     }
 
     /**
      * Add the provided attributes to this attribute, if the provided attribute does not exist.
      */
     public void putAbsentAttributes(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        if (lowerPrecedenceExecutionAttributes != null) {
-            lowerPrecedenceExecutionAttributes.getAttributes().forEach(attributes::putIfAbsent);
+        if (lowerPrecedenceExecutionAttributes == null) {
+            return;
+        }
+        Object[] lowerPrecedenceValues = lowerPrecedenceExecutionAttributes.values;
+        for (int i = 0; i < lowerPrecedenceValues.length; i++) {
+            Object value = lowerPrecedenceValues[i];
+            if (value != null && isAbsent(i)) {
+                writableValues()[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Retrieve the value stored for the provided attribute, bypassing the attribute's value storage.
+     */
+    Object getValue(ExecutionAttribute<?> attribute) {
+        int ordinal = attribute.ordinal();
+        Object[] values = this.values;
+        if (ordinal >= values.length) {
+            return null;
+        }
+        Object value = values[ordinal];
+        return value == NULL_VALUE ? null : value;
+    }
+
+    /**
+     * Store the value for the provided attribute, bypassing the attribute's value storage.
+     */
+    void setValue(ExecutionAttribute<?> attribute, Object value) {
+        writableValues()[attribute.ordinal()] = value == null ? NULL_VALUE : value;
+    }
+
+    /**
+     * Store the value for the provided attribute if its current value is null, like {@link Map#putIfAbsent}.
+     */
+    void setValueIfAbsent(ExecutionAttribute<?> attribute, Object value) {
+        if (isAbsent(attribute.ordinal())) {
+            setValue(attribute, value);
+        }
+    }
+
+    /**
+     * Store the value for the provided attribute, or remove the attribute if the value is null, like {@link Map#compute}.
+     */
+    void computeValue(ExecutionAttribute<?> attribute, Object value) {
+        if (value != null) {
+            setValue(attribute, value);
+        } else if (attribute.ordinal() < values.length && values[attribute.ordinal()] != null) {
+            writableValues()[attribute.ordinal()] = null;
+        }
+    }
+
+    private boolean isAbsent(int ordinal) {
+        return ordinal >= values.length || values[ordinal] == null || values[ordinal] == NULL_VALUE;
+    }
+
+    /**
+     * Retrieve the values for modification, copying them first if they are shared with a copy of these attributes, or if they
+     * don't have room for every attribute created so far.
+     */
+    private Object[] writableValues() {
+        int count = ExecutionAttribute.count();
+        if (shared || values.length < count) {
+            values = Arrays.copyOf(values, Math.max(values.length, count));
+            shared = false;
         }
+        return values;
     }
 
     public static Builder builder() {
@@ -112,7 +210,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
     }
 
     public ExecutionAttributes copy() {
-        return toBuilder().build();
+        return new ExecutionAttributes(this);
     }
 
     @Override
@@ -127,18 +225,18 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
         ExecutionAttributes that = (ExecutionAttributes) o;
 
-        return attributes != null ? attributes.equals(that.attributes) : that.attributes == null;
+        return getAttributes().equals(that.getAttributes());
     }
 
     @Override
     public int hashCode() {
-        return attributes != null ? attributes.hashCode() : 0;
+        return getAttributes().hashCode();
     }
 
     @Override
     public String toString() {
         return ToString.builder("ExecutionAttributes")
-                       .add("attributes", attributes.keySet())
+                       .add("attributes", getAttributes().keySet())
                        .build();
     }
 
@@ -148,7 +246,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
     private static class UnmodifiableExecutionAttributes extends ExecutionAttributes {
         UnmodifiableExecutionAttributes(ExecutionAttributes executionAttributes) {
-            super(executionAttributes.attributes);
+            super(executionAttributes);
         }
 
         @Override
@@ -167,13 +265,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * copy() if it's because of {@link #unmodifiableExecutionAttributes(ExecutionAttributes)}.
      */
     public static final class Builder implements CopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-        private final Map<ExecutionAttribute<?>, Object> executionAttributes = new HashMap<>(32);
+        private final ExecutionAttributes executionAttributes;
 
         private Builder() {
+            this.executionAttributes = new ExecutionAttributes();
         }
 
         private Builder(ExecutionAttributes source) {
-            this.executionAttributes.putAll(source.attributes);
+            this.executionAttributes = new ExecutionAttributes(source);
         }
 
         /**
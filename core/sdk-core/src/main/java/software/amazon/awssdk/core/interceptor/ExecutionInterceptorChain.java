@@ -16,11 +16,14 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.Set;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
@@ -40,28 +43,57 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ *
+ * <p>Most interceptors only override a few of the {@link ExecutionInterceptor} methods. When the chain is created, it detects
+ * which methods each interceptor overrides, and each method of the chain only invokes the interceptors that override the
+ * corresponding interceptor methods. Interceptors that don't override a method would only return the context unchanged.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    /**
+     * The hooks overridden by each interceptor class, detected once per class.
+     */
+    private static final ClassValue<Set<Hook>> OVERRIDDEN_HOOKS = new ClassValue<Set<Hook>>() {
+        @Override
+        protected Set<Hook> computeValue(Class<?> type) {
+            return overriddenHooks(type);
+        }
+    };
+
     private final List<ExecutionInterceptor> interceptors;
 
+    /**
+     * The interceptors that override each {@link Hook}, indexed by {@link Hook#ordinal()}, in the order they were provided.
+     */
+    private final ExecutionInterceptor[][] interceptorsByHook;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
-        this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.interceptors = Collections.unmodifiableList(new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors")));
+        this.interceptorsByHook = interceptorsByHook(this.interceptors);
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
+    /**
+     * The interceptors of this chain, in the order they were provided.
+     */
+    public List<ExecutionInterceptor> interceptors() {
+        return interceptors;
+    }
+
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : participants(Hook.BEFORE_EXECUTION)) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : participants(Hook.MODIFY_REQUEST)) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
 
             if (interceptorResult != result.request()) {
@@ -73,17 +105,21 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : participants(Hook.BEFORE_MARSHALLING)) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : participants(Hook.AFTER_MARSHALLING)) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : participants(Hook.MODIFY_HTTP_REQUEST)) {
             AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
@@ -102,29 +138,33 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : participants(Hook.BEFORE_TRANSMISSION)) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        ExecutionInterceptor[] participants = participants(Hook.AFTER_TRANSMISSION);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            participants[i].afterTransmission(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+        ExecutionInterceptor[] participants = participants(Hook.MODIFY_HTTP_RESPONSE);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = participants[i];
+            SdkHttpResponse interceptorResult = interceptor.modifyHttpResponse(result, executionAttributes);
+            InputStream response = interceptor.modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
             if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
-                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptor, "modifyHttpResponse");
                 result = result.copy(r -> r.httpResponse(interceptorResult)
                                            .responseBody(response));
             }
-
-
         }
 
         return result;
@@ -134,8 +174,9 @@ public class ExecutionInterceptorChain {
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
+        ExecutionInterceptor[] participants = participants(Hook.MODIFY_ASYNC_HTTP_RESPONSE);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = participants[i];
 
             Publisher<ByteBuffer> newResponsePublisher =
                 interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
@@ -149,20 +190,27 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] participants = participants(Hook.BEFORE_UNMARSHALLING);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            participants[i].beforeUnmarshalling(context, executionAttributes);
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] participants = participants(Hook.AFTER_UNMARSHALLING);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            participants[i].afterUnmarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
+        ExecutionInterceptor[] participants = participants(Hook.MODIFY_RESPONSE);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            SdkResponse interceptorResult = participants[i].modifyResponse(result, executionAttributes);
 
             if (interceptorResult != result.response()) {
-                validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
+                validateInterceptorResult(result.response(), interceptorResult, participants[i], "modifyResponse");
                 result = result.copy(b -> b.response(interceptorResult));
             }
         }
@@ -171,18 +219,22 @@ public class ExecutionInterceptorChain {
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        ExecutionInterceptor[] participants = participants(Hook.AFTER_EXECUTION);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            participants[i].afterExecution(context, executionAttributes);
+        }
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
+        ExecutionInterceptor[] participants = participants(Hook.MODIFY_EXCEPTION);
+        for (int i = participants.length - 1; i >= 0; i--) {
+            Throwable interceptorResult = participants[i].modifyException(result, executionAttributes);
 
             if (interceptorResult != result.exception()) {
                 validateInterceptorResult(result.exception(), interceptorResult,
-                                          interceptors.get(i), "modifyException");
+                                          participants[i], "modifyException");
                 result = result.copy(b -> b.exception(interceptorResult));
             }
         }
@@ -191,7 +243,9 @@ public class ExecutionInterceptorChain {
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : participants(Hook.ON_EXECUTION_FAILURE)) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -212,12 +266,79 @@ public class ExecutionInterceptorChain {
                               interceptor, newMessage.getClass(), methodName, originalMessage.getClass());
     }
 
+    private ExecutionInterceptor[] participants(Hook hook) {
+        return interceptorsByHook[hook.ordinal()];
+    }
+
+    private static ExecutionInterceptor[][] interceptorsByHook(List<ExecutionInterceptor> interceptors) {
+        Hook[] hooks = Hook.values();
+        ExecutionInterceptor[][] result = new ExecutionInterceptor[hooks.length][];
+        for (Hook hook : hooks) {
+            List<ExecutionInterceptor> participants = new ArrayList<>();
+            for (ExecutionInterceptor interceptor : interceptors) {
+                if (OVERRIDDEN_HOOKS.get(interceptor.getClass()).contains(hook)) {
+                    participants.add(interceptor);
+                }
+            }
+            result[hook.ordinal()] = participants.toArray(new ExecutionInterceptor[0]);
+        }
+        return result;
+    }
+
+    /**
+     * Determine which hooks the provided interceptor class overrides. If this can't be determined for a hook, the interceptor
+     * is assumed to override it.
+     */
+    private static Set<Hook> overriddenHooks(Class<?> type) {
+        Set<Hook> result = EnumSet.noneOf(Hook.class);
+        for (Hook hook : Hook.values()) {
+            for (String methodName : hook.methodNames) {
+                if (overrides(type, methodName, hook.contextType)) {
+                    result.add(hook);
+                    break;
+                }
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static boolean overrides(Class<?> type, String methodName, Class<?> contextType) {
+        try {
+            Method method = type.getMethod(methodName, contextType, ExecutionAttributes.class);
+            return method.getDeclaringClass() != ExecutionInterceptor.class;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            LOG.debug(() -> "Unable to determine whether " + type + " overrides " + methodName + ", so it will be invoked.", e);
+            return true;
+        }
+    }
+
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * The methods of this chain, and the {@link ExecutionInterceptor} methods that an interceptor must override for that chain
+     * method to invoke it.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private enum Hook {
+        BEFORE_EXECUTION(Context.BeforeExecution.class, "beforeExecution"),
+        MODIFY_REQUEST(Context.ModifyRequest.class, "modifyRequest"),
+        BEFORE_MARSHALLING(Context.BeforeMarshalling.class, "beforeMarshalling"),
+        AFTER_MARSHALLING(Context.AfterMarshalling.class, "afterMarshalling"),
+        MODIFY_HTTP_REQUEST(Context.ModifyHttpRequest.class, "modifyHttpRequest", "modifyHttpContent", "modifyAsyncHttpContent"),
+        BEFORE_TRANSMISSION(Context.BeforeTransmission.class, "beforeTransmission"),
+        AFTER_TRANSMISSION(Context.AfterTransmission.class, "afterTransmission"),
+        MODIFY_HTTP_RESPONSE(Context.ModifyHttpResponse.class, "modifyHttpResponse", "modifyHttpResponseContent"),
+        MODIFY_ASYNC_HTTP_RESPONSE(Context.ModifyHttpResponse.class, "modifyAsyncHttpResponseContent"),
+        BEFORE_UNMARSHALLING(Context.BeforeUnmarshalling.class, "beforeUnmarshalling"),
+        AFTER_UNMARSHALLING(Context.AfterUnmarshalling.class, "afterUnmarshalling"),
+        MODIFY_RESPONSE(Context.ModifyResponse.class, "modifyResponse"),
+        AFTER_EXECUTION(Context.AfterExecution.class, "afterExecution"),
+        MODIFY_EXCEPTION(Context.FailedExecution.class, "modifyException"),
+        ON_EXECUTION_FAILURE(Context.FailedExecution.class, "onExecutionFailure");
+
+        private final Class<?> contextType;
+        private final String[] methodNames;
+
+        Hook(Class<?> contextType, String... methodNames) {
+            this.contextType = contextType;
+            this.methodNames = methodNames;
         }
     }
 }
@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.ParallelCrcCalculator;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -63,11 +64,22 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         Validate.notNull(builder.trailerHeader, "trailerHeader cannot be null");
         this.wrapped = builder.asyncRequestBody;
         this.algorithm = builder.algorithm;
-        this.sdkChecksum = builder.algorithm != null ? SdkChecksum.forAlgorithm(algorithm) : null;
+        this.sdkChecksum = builder.algorithm != null ? newChecksum(algorithm) : null;
         this.trailerHeader = builder.trailerHeader;
         this.totalBytes = initTotalBytes(wrapped, builder.contentLengthHeader);
     }
 
+    /**
+     * CRC checksums of large buffers are calculated in parallel, so that a large in-memory body is not checksummed by a
+     * single thread.
+     */
+    private static SdkChecksum newChecksum(ChecksumAlgorithm algorithm) {
+        if (ParallelCrcCalculator.isSupported(algorithm)) {
+            return ParallelCrcCalculator.create(algorithm).newChecksum();
+        }
+        return SdkChecksum.forAlgorithm(algorithm);
+    }
+
     static long initTotalBytes(AsyncRequestBody wrapped, Long contentLengthHeader) {
         if (contentLengthHeader != null) {
             return contentLengthHeader;
@@ -180,11 +192,19 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             sdkChecksum.reset();
         }
 
+        // The checksum is updated with the buffers of the wrapped body before they are split into chunks, so that large
+        // buffers can be checksummed in parallel.
+        SdkPublisher<ByteBuffer> source = sdkChecksum != null ? wrapped.map(this::updateChecksum) : wrapped;
         SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes);
-        alwaysInvokeOnNext(wrapped.flatMapIterable(synchronousChunkBuffer::buffer))
+        alwaysInvokeOnNext(source.flatMapIterable(synchronousChunkBuffer::buffer))
                  .subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes));
     }
 
+    private ByteBuffer updateChecksum(ByteBuffer buffer) {
+        sdkChecksum.update(buffer.duplicate());
+        return buffer;
+    }
+
     private SdkPublisher<ByteBuffer> alwaysInvokeOnNext(SdkPublisher<ByteBuffer> source) {
         return subscriber -> source.subscribe(new OnNextGuaranteedSubscriber(subscriber));
     }
@@ -217,11 +237,6 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         public void onNext(ByteBuffer byteBuffer) {
             boolean lastByte = this.remainingBytes.addAndGet(-byteBuffer.remaining()) <= 0;
             try {
-                if (checksum != null) {
-                    byteBuffer.mark();
-                    checksum.update(byteBuffer);
-                    byteBuffer.reset();
-                }
                 if (lastByte && checksumBytes == null && checksum != null) {
                     checksumBytes = checksum.getChecksumBytes();
                     ByteBuffer allocatedBuffer = getFinalChecksumAppendedChunk(byteBuffer);
@@ -27,12 +27,14 @@ public final class DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT
 
     private final SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> publisher;
     private final CompletableFuture<ResultT> future;
+    private final boolean parallelSplitSupported;
 
     private DefaultAsyncResponseTransformerSplitResult(Builder<ResponseT, ResultT> builder) {
         this.publisher = Validate.paramNotNull(
             builder.publisher(), "asyncResponseTransformerPublisher");
         this.future = Validate.paramNotNull(
             builder.resultFuture(), "future");
+        this.parallelSplitSupported = builder.parallelSplitSupported();
     }
 
     /**
@@ -52,6 +54,11 @@ public final class DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT
         return this.future;
     }
 
+    @Override
+    public boolean parallelSplitSupported() {
+        return this.parallelSplitSupported;
+    }
+
     @Override
     public AsyncResponseTransformer.SplitResult.Builder<ResponseT, ResultT> toBuilder() {
         return new DefaultBuilder<>(this);
@@ -65,6 +72,7 @@ public final class DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT
         implements AsyncResponseTransformer.SplitResult.Builder<ResponseT, ResultT> {
         private SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> publisher;
         private CompletableFuture<ResultT> future;
+        private boolean parallelSplitSupported;
 
         DefaultBuilder() {
         }
@@ -72,6 +80,7 @@ public final class DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT
         DefaultBuilder(DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT> split) {
             this.publisher = split.publisher;
             this.future = split.future;
+            this.parallelSplitSupported = split.parallelSplitSupported;
         }
 
         @Override
@@ -97,6 +106,18 @@ public final class DefaultAsyncResponseTransformerSplitResult<ResponseT, ResultT
             return this;
         }
 
+        @Override
+        public boolean parallelSplitSupported() {
+            return this.parallelSplitSupported;
+        }
+
+        @Override
+        public AsyncResponseTransformer.SplitResult.Builder<ResponseT, ResultT> parallelSplitSupported(
+            boolean parallelSplitSupported) {
+            this.parallelSplitSupported = parallelSplitSupported;
+            return this;
+        }
+
         @Override
         public AsyncResponseTransformer.SplitResult<ResponseT, ResultT> build() {
             return new DefaultAsyncResponseTransformerSplitResult<>(this);
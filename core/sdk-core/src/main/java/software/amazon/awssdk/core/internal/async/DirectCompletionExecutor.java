@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.FutureCompletionExecutors;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The executor returned by {@link FutureCompletionExecutors#direct()}. Runs completions on the calling thread, until one of
+ * them blocks the calling thread for too long, after which all completions are handed over to a fallback executor.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DirectCompletionExecutor implements Executor {
+    private static final Logger log = Logger.loggerFor(DirectCompletionExecutor.class);
+
+    private static final Duration DEFAULT_BLOCKING_THRESHOLD = Duration.ofMillis(10);
+
+    /**
+     * The maximum number of completions nested on the same thread, e.g. because completing one future completes another
+     * future of this executor, before completions are handed over to the fallback executor to avoid overflowing the stack.
+     */
+    private static final int MAX_INLINE_DEPTH = 16;
+
+    private static final ThreadLocal<int[]> INLINE_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Executor fallbackExecutor;
+    private final long blockingThresholdNanos;
+
+    /**
+     * Whether a completion was observed blocking the calling thread, after which every completion is handed over to the
+     * {@link #fallbackExecutor}.
+     */
+    private volatile boolean blockingDetected = false;
+
+    public DirectCompletionExecutor(Executor fallbackExecutor) {
+        this(fallbackExecutor, DEFAULT_BLOCKING_THRESHOLD);
+    }
+
+    @SdkTestInternalApi
+    DirectCompletionExecutor(Executor fallbackExecutor, Duration blockingThreshold) {
+        this.fallbackExecutor = Validate.paramNotNull(fallbackExecutor, "fallbackExecutor");
+        this.blockingThresholdNanos = Validate.isPositive(blockingThreshold, "blockingThreshold").toNanos();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        int[] depth = INLINE_DEPTH.get();
+        if (blockingDetected || depth[0] >= MAX_INLINE_DEPTH) {
+            fallbackExecutor.execute(command);
+            return;
+        }
+
+        long start = System.nanoTime();
+        depth[0]++;
+        try {
+            command.run();
+        } finally {
+            depth[0]--;
+            long duration = System.nanoTime() - start;
+            if (duration > blockingThresholdNanos && !blockingDetected) {
+                blockingDetected = true;
+                log.warn(() -> String.format("Completing an SDK future blocked the async HTTP client's I/O thread (%s) for %d "
+                                             + "ms. Future completions will run on the shared future completion pool. "
+                                             + "Callbacks run on the I/O thread must not block.",
+                                             Thread.currentThread().getName(), duration / 1_000_000));
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    boolean blockingDetected() {
+        return blockingDetected;
+    }
+}
@@ -21,7 +21,9 @@ import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -57,6 +59,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
 
+    /**
+     * Maximum size (in bytes) of the regions of the file mapped at once when memory mapping is enabled. Chunks delivered to the
+     * subscriber are slices of these regions.
+     */
+    private static final int MAX_MAPPED_REGION_SIZE = 16 * 1024 * 1024;
+
     /**
      * File to read.
      */
@@ -70,6 +78,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final boolean memoryMappingEnabled;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
@@ -78,6 +87,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMappingEnabled = Boolean.TRUE.equals(builder.memoryMappingEnabled);
     }
 
     @Override
@@ -106,6 +116,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public boolean memoryMappingEnabled() {
+        return memoryMappingEnabled;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -118,14 +132,22 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
-        AsynchronousFileChannel channel = null;
+        Channel channel = null;
         try {
-            channel = openInputChannel(this.path);
+            Subscription subscription;
+            if (memoryMappingEnabled) {
+                FileChannel fileChannel = FileChannel.open(this.path, StandardOpenOption.READ);
+                channel = fileChannel;
+                subscription = new FileSubscription(null, fileChannel, s);
+            } else {
+                AsynchronousFileChannel asyncChannel = openInputChannel(this.path);
+                channel = asyncChannel;
+                subscription = new FileSubscription(asyncChannel, null, s);
+            }
 
             // We need to synchronize here because the subscriber could call
             // request() from within onSubscribe which would potentially
             // trigger onNext before onSubscribe is finished.
-            Subscription subscription = new FileSubscription(channel, s);
 
             synchronized (subscription) {
                 s.onSubscribe(subscription);
@@ -192,6 +214,17 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file is read through memory-mapped regions, delivering read-only slices of the mapped file to the
+         * subscriber instead of copying the file content into heap buffers.
+         *
+         * <p>By default, it's disabled.
+         *
+         * @param memoryMappingEnabled whether to read the file through memory-mapped regions
+         * @return The builder for method chaining.
+         */
+        Builder memoryMappingEnabled(Boolean memoryMappingEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +233,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMappingEnabled;
 
         @Override
         public Builder path(Path path) {
@@ -229,6 +263,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             return this;
         }
 
+        @Override
+        public Builder memoryMappingEnabled(Boolean memoryMappingEnabled) {
+            this.memoryMappingEnabled = memoryMappingEnabled;
+            return this;
+        }
+
         public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
             chunkSizeInBytes(chunkSizeInBytes);
         }
@@ -240,10 +280,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     }
 
     /**
-     * Reads the file for one subscriber.
+     * Reads the file for one subscriber, either asynchronously into heap buffers or by mapping regions of the file into memory.
      */
     private final class FileSubscription implements Subscription {
         private final AsynchronousFileChannel inputChannel;
+        private final FileChannel mappedChannel;
         private final Subscriber<? super ByteBuffer> subscriber;
 
         private final AtomicLong currentPosition;
@@ -255,11 +296,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private volatile boolean done = false;
         private final Object lock = new Object();
 
+        /**
+         * The region of the file currently mapped, when memory mapping is enabled. Only accessed by the reading thread.
+         */
+        private ByteBuffer mappedRegion;
+
         private FileSubscription(AsynchronousFileChannel inputChannel,
+                                 FileChannel mappedChannel,
                                  Subscriber<? super ByteBuffer> subscriber) throws IOException {
             this.inputChannel = inputChannel;
+            this.mappedChannel = mappedChannel;
             this.subscriber = subscriber;
-            this.sizeAtStart = inputChannel.size();
+            this.sizeAtStart = inputChannel != null ? inputChannel.size() : mappedChannel.size();
             this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
             this.remainingBytes = new AtomicLong(numBytesToRead);
             this.currentPosition = new AtomicLong(position);
@@ -278,6 +326,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 signalOnError(ex);
             } else {
                 try {
+                    boolean startReading = false;
                     // We need to synchronize here because of the race condition
                     // where readData finishes reading at the same time request
                     // demand comes in
@@ -292,6 +341,15 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
                         if (!readInProgress) {
                             readInProgress = true;
+                            startReading = true;
+                        }
+                    }
+                    // Mapped chunks are delivered from this thread, so the subscriber must be able to call request()
+                    // without the lock being held.
+                    if (startReading) {
+                        if (mappedChannel != null) {
+                            readMappedData();
+                        } else {
                             readData();
                         }
                     }
@@ -363,8 +421,60 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             });
         }
 
+        private void readMappedData() {
+            try {
+                while (mappedChannel.isOpen() && !done) {
+                    ByteBuffer chunk = nextMappedChunk();
+                    int readBytes = chunk.remaining();
+                    currentPosition.addAndGet(readBytes);
+                    remainingBytes.addAndGet(-readBytes);
+
+                    signalOnNext(chunk);
+
+                    if (remainingBytes.get() == 0) {
+                        closeFile();
+                        signalOnComplete();
+                    }
+
+                    synchronized (lock) {
+                        if (--outstandingDemand <= 0) {
+                            readInProgress = false;
+                            return;
+                        }
+                    }
+                }
+            } catch (Throwable throwable) {
+                closeFile();
+                signalOnError(throwable);
+            }
+        }
+
+        /**
+         * Returns the next chunk of the file as a slice of the mapped region, mapping the next region of the file once the
+         * current one was fully delivered.
+         */
+        private ByteBuffer nextMappedChunk() throws IOException {
+            if (mappedRegion == null || !mappedRegion.hasRemaining()) {
+                long regionSize = Math.min(MAX_MAPPED_REGION_SIZE, remainingBytes.get());
+                if (currentPosition.get() + regionSize > mappedChannel.size()) {
+                    throw new IOException("Fewer bytes were read than were expected, was the file modified after reading "
+                                          + "started?");
+                }
+                mappedRegion = mappedChannel.map(FileChannel.MapMode.READ_ONLY, currentPosition.get(), regionSize);
+            }
+            ByteBuffer chunk = mappedRegion.slice();
+            int chunkSize = Math.min(chunkSizeInBytes, chunk.remaining());
+            chunk.limit(chunkSize);
+            mappedRegion.position(mappedRegion.position() + chunkSize);
+            return chunk;
+        }
+
         private void closeFile() {
             try {
+                if (mappedChannel != null) {
+                    mappedChannel.close();
+                    return;
+                }
                 inputChannel.close();
             } catch (IOException e) {
                 log.warn(() -> "Failed to close the file", e);
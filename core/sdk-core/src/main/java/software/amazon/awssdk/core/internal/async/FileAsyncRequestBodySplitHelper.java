@@ -48,6 +48,7 @@ public final class FileAsyncRequestBodySplitHelper {
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
+    private final boolean memoryMappingEnabled;
 
     private volatile boolean isDone = false;
 
@@ -62,6 +63,7 @@ public final class FileAsyncRequestBodySplitHelper {
         this.totalContentLength = asyncRequestBody.contentLength().get();
         this.remainingBytes = new AtomicLong(totalContentLength);
         this.path = asyncRequestBody.path();
+        this.memoryMappingEnabled = asyncRequestBody.memoryMappingEnabled();
         this.chunkSize = splitConfiguration.chunkSizeInBytes() == null ?
                          AsyncRequestBodySplitConfiguration.defaultConfiguration().chunkSizeInBytes() :
                          splitConfiguration.chunkSizeInBytes();
@@ -134,6 +136,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
                                                                         .chunkSizeInBytes(bufferPerAsyncRequestBody)
+                                                                        .memoryMappingEnabled(memoryMappingEnabled)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
@@ -41,6 +41,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -92,7 +93,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return  0L;
     }
 
-    private AsynchronousFileChannel createChannel(Path path) throws IOException {
+    static AsynchronousFileChannel createChannel(Path path, FileTransformerConfiguration configuration) throws IOException {
         Set<OpenOption> options = new HashSet<>();
         switch (configuration.fileWriteOption()) {
             case CREATE_OR_APPEND_TO_EXISTING:
@@ -138,7 +139,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
         try {
             // onStream may be called multiple times so reset the file channel every time
-            this.fileChannel = createChannel(path);
+            this.fileChannel = createChannel(path, configuration);
             publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
                                                    position));
         } catch (Throwable e) {
@@ -146,6 +147,23 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    /**
+     * Splits this transformer into transformers that can write their content concurrently, each one at the position in the
+     * file of the part it receives.
+     *
+     * @see FileAsyncResponseTransformerPublisher
+     */
+    @Override
+    public SplitResult<ResponseT, ResponseT> split(SplittingTransformerConfiguration splitConfig) {
+        Validate.notNull(splitConfig, "splitConfig must not be null");
+        CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        return SplitResult.<ResponseT, ResponseT>builder()
+                          .publisher(new FileAsyncResponseTransformerPublisher<>(path, configuration, position, future))
+                          .resultFuture(future)
+                          .parallelSplitSupported(true)
+                          .build();
+    }
+
     @Override
     public void exceptionOccurred(Throwable throwable) {
         try {
@@ -0,0 +1,257 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Publishes the individual {@link AsyncResponseTransformer} of a {@link FileAsyncResponseTransformer} that was
+ * {@link FileAsyncResponseTransformer#split split}. Each individual transformer writes the content it receives directly at its
+ * position in the file, so they can receive their content concurrently and in any order.
+ * <p>
+ * The position of a part is determined by the {@code Content-Range} header of its response, relative to the response of the
+ * first published transformer. The first published transformer creates the file according to the
+ * {@link FileTransformerConfiguration}, so it must have received its content before any other one receives content.
+ * <p>
+ * Cancelling the subscription to this publisher signals that all the individual transformers received their content, and
+ * completes the result future with the response of the first one. The result future is completed exceptionally as soon as any
+ * individual transformer fails.
+ */
+@SdkInternalApi
+public final class FileAsyncResponseTransformerPublisher<ResponseT>
+    implements SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> {
+
+    private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformerPublisher.class);
+    private static final String CONTENT_RANGE_PREFIX = "bytes ";
+
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+
+    /**
+     * The position in the file at which the content of the first individual transformer is written.
+     */
+    private final long position;
+    private final CompletableFuture<ResponseT> resultFuture;
+    private final AtomicLong outstandingDemand = new AtomicLong(0);
+    private final AtomicBoolean emitting = new AtomicBoolean(false);
+    private final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+    /**
+     * The first byte of the content received by the first individual transformer, according to its {@code Content-Range}.
+     */
+    private volatile Long firstPartStart;
+    private volatile ResponseT firstResponse;
+    private Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber;
+    private boolean firstPartPublished;
+
+    FileAsyncResponseTransformerPublisher(Path path, FileTransformerConfiguration configuration, long position,
+                                          CompletableFuture<ResponseT> resultFuture) {
+        this.path = Validate.paramNotNull(path, "path");
+        this.configuration = Validate.paramNotNull(configuration, "configuration");
+        this.position = position;
+        this.resultFuture = Validate.paramNotNull(resultFuture, "resultFuture");
+        this.resultFuture.whenComplete((r, e) -> {
+            if (e != null) {
+                isCancelled.set(true);
+                deleteFileIfNeeded();
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        this.subscriber = subscriber;
+        subscriber.onSubscribe(new PartTransformerSubscription());
+    }
+
+    private void emit() {
+        do {
+            if (!emitting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                while (outstandingDemand.get() > 0 && !isCancelled.get()) {
+                    outstandingDemand.decrementAndGet();
+                    boolean firstPart = !firstPartPublished;
+                    firstPartPublished = true;
+                    subscriber.onNext(new PartTransformer(firstPart));
+                }
+            } finally {
+                emitting.set(false);
+            }
+        } while (outstandingDemand.get() > 0 && !isCancelled.get());
+    }
+
+    private void deleteFileIfNeeded() {
+        if (configuration.failureBehavior() == FailureBehavior.DELETE) {
+            runAndLogError(log.logger(),
+                           String.format("Failed to delete the file %s", path),
+                           () -> Files.deleteIfExists(path));
+        }
+    }
+
+    /**
+     * Parses the position of the first byte from a {@code Content-Range} header of the form {@code bytes 0-499/1234}.
+     */
+    private static Optional<Long> contentRangeStart(Object response) {
+        if (!(response instanceof SdkResponse)) {
+            return Optional.empty();
+        }
+        SdkHttpResponse httpResponse = ((SdkResponse) response).sdkHttpResponse();
+        if (httpResponse == null) {
+            return Optional.empty();
+        }
+        return httpResponse.firstMatchingHeader("Content-Range").flatMap(contentRange -> {
+            int dash = contentRange.indexOf('-');
+            if (!contentRange.startsWith(CONTENT_RANGE_PREFIX) || dash < 0) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Long.parseLong(contentRange.substring(CONTENT_RANGE_PREFIX.length(), dash).trim()));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private final class PartTransformerSubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("Amount requested must be positive"));
+                return;
+            }
+            outstandingDemand.updateAndGet(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            emit();
+        }
+
+        @Override
+        public void cancel() {
+            if (isCancelled.compareAndSet(false, true)) {
+                log.trace(() -> "All parts were received, completing the result future");
+                resultFuture.complete(firstResponse);
+            }
+        }
+    }
+
+    /**
+     * Writes the content of a single part at its position in the file.
+     */
+    private final class PartTransformer implements AsyncResponseTransformer<ResponseT, ResponseT> {
+        private final boolean firstPart;
+        private volatile CompletableFuture<Void> future;
+        private volatile ResponseT response;
+        private volatile AsynchronousFileChannel fileChannel;
+
+        private PartTransformer(boolean firstPart) {
+            this.firstPart = firstPart;
+        }
+
+        @Override
+        public CompletableFuture<ResponseT> prepare() {
+            future = new CompletableFuture<>();
+            return future.thenApply(ignored -> response);
+        }
+
+        @Override
+        public void onResponse(ResponseT response) {
+            this.response = response;
+            if (firstPart) {
+                firstResponse = response;
+                firstPartStart = contentRangeStart(response).orElse(0L);
+            }
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            try {
+                long writePosition = writePosition();
+                // onStream may be called multiple times so reset the file channel every time
+                this.fileChannel = openChannel();
+                publisher.subscribe(new FileAsyncResponseTransformer.FileSubscriber(fileChannel, path, future,
+                                                                                     this::exceptionOccurred,
+                                                                                     writePosition));
+            } catch (Throwable e) {
+                exceptionOccurred(e);
+            }
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            if (fileChannel != null) {
+                runAndLogError(log.logger(),
+                               String.format("Failed to close the file %s, resource may be leaked", path),
+                               () -> fileChannel.close());
+            }
+            if (future != null) {
+                future.completeExceptionally(error);
+            }
+            resultFuture.completeExceptionally(error);
+        }
+
+        private long writePosition() {
+            if (firstPart) {
+                return position;
+            }
+            Long first = firstPartStart;
+            if (first == null) {
+                throw new IllegalStateException("The first part must receive its response before any other part.");
+            }
+            long start = contentRangeStart(response).orElseThrow(
+                () -> SdkClientException.create("Cannot determine the position of the part in " + path
+                                                + ", the response has no valid Content-Range header"));
+            return position + start - first;
+        }
+
+        private AsynchronousFileChannel openChannel() throws IOException {
+            if (firstPart) {
+                return FileAsyncResponseTransformer.createChannel(path, configuration);
+            }
+            // The first part already created the file as configured, the other parts only write into it.
+            return AsynchronousFileChannel.open(path,
+                                                Collections.singleton(StandardOpenOption.WRITE),
+                                                configuration.executorService().orElse(null));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.FutureCompletionExecutors;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Holds the process-wide future completion pool returned by {@link FutureCompletionExecutors#sharedPool()}.
+ */
+@SdkInternalApi
+public final class SharedCompletionPool {
+    private static final Logger log = Logger.loggerFor(SharedCompletionPool.class);
+
+    private static final Lazy<ForkJoinPool> POOL = new Lazy<>(SharedCompletionPool::createPool);
+
+    private SharedCompletionPool() {
+    }
+
+    public static Executor get() {
+        return POOL.getValue();
+    }
+
+    private static ForkJoinPool createPool() {
+        int parallelism = Math.max(8, Runtime.getRuntime().availableProcessors());
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("sdk-async-response-shared-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // Async mode processes tasks in FIFO order, which suits event-style tasks that are never joined.
+        return new ForkJoinPool(parallelism, threadFactory,
+                                (thread, e) -> log.warn(() -> "Uncaught exception completing an SDK future.", e),
+                                true);
+    }
+}
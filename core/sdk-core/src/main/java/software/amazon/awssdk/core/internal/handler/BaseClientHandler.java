@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorChainResolver;
 import software.amazon.awssdk.core.internal.io.SdkLengthAwareInputStream;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
@@ -209,7 +210,7 @@ public abstract class BaseClientHandler {
             .putAttribute(SdkExecutionAttribute.PROFILE_NAME, clientConfiguration.option(SdkClientOption.PROFILE_NAME));
 
         ExecutionInterceptorChain interceptorChain =
-            new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+            ExecutionInterceptorChainResolver.resolve(clientConfiguration);
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(originalRequest)
@@ -218,7 +219,7 @@ public abstract class BaseClientHandler {
         interceptorChain.beforeExecution(interceptorContext, executionAttributes);
         interceptorContext = interceptorChain.modifyRequest(interceptorContext, executionAttributes);
 
-        MetricCollector metricCollector = resolveMetricCollector(params);
+        MetricCollector metricCollector = resolveMetricCollector(params, clientConfiguration);
 
         return ExecutionContext.builder()
                                .interceptorChain(interceptorChain)
@@ -337,10 +338,11 @@ public abstract class BaseClientHandler {
         return (x, y) -> function2.apply(function1.apply(x, y), y);
     }
 
-    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                   SdkClientConfiguration clientConfiguration) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfiguration);
         }
         return metricCollector;
     }
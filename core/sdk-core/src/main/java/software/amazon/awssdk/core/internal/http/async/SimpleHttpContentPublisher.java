@@ -17,7 +17,10 @@ package software.amazon.awssdk.core.internal.http.async;
 
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Optional;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -37,11 +40,44 @@ public final class SimpleHttpContentPublisher implements SdkHttpContentPublisher
     private final int length;
 
     public SimpleHttpContentPublisher(SdkHttpFullRequest request) {
-        this.content = request.contentStreamProvider().map(p -> invokeSafely(() -> IoUtils.toByteArray(p.newStream())))
+        this.content = request.contentStreamProvider().map(p -> invokeSafely(() -> readContent(p.newStream())))
                                                       .orElseGet(() -> new byte[0]);
         this.length = content.length;
     }
 
+    /**
+     * Reads the content into an array sized from {@link InputStream#available()}, which is exact for in-memory request bodies
+     * such as marshalled JSON or CBOR, so the content is copied once instead of being buffered and copied again.
+     */
+    private static byte[] readContent(InputStream inputStream) throws IOException {
+        int available = inputStream.available();
+        if (available <= 0) {
+            return IoUtils.toByteArray(inputStream);
+        }
+
+        byte[] content = new byte[available];
+        int read = 0;
+        while (read < available) {
+            int n = inputStream.read(content, read, available - read);
+            if (n == -1) {
+                return Arrays.copyOf(content, read);
+            }
+            read += n;
+        }
+
+        int next = inputStream.read();
+        if (next == -1) {
+            return content;
+        }
+
+        // The stream had more content than it reported as available
+        byte[] rest = IoUtils.toByteArray(inputStream);
+        byte[] result = Arrays.copyOf(content, available + 1 + rest.length);
+        result[available] = (byte) next;
+        System.arraycopy(rest, 0, result, available + 1, rest.length);
+        return result;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of((long) length);
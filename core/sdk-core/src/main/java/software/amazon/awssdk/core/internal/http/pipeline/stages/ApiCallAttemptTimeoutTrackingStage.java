@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -47,12 +48,14 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final Duration apiCallAttemptTimeout;
     private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
 
     public ApiCallAttemptTimeoutTrackingStage(HttpClientDependencies dependencies,
                                               RequestPipeline<SdkHttpFullRequest,
                                               Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.clientConfiguration().option(SdkClientOption.TIMEOUT_TIMER);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
     }
 
@@ -66,7 +69,8 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         try {
             long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
 
-            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutTimer, timeoutExecutor, timeoutInMillis,
+                                                                 Thread.currentThread());
 
             Response<OutputT> response;
             try {
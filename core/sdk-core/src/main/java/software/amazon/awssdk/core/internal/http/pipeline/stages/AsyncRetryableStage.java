@@ -75,6 +75,9 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute() {
             CompletableFuture<Response<OutputT>> future = new CompletableFuture<>();
+            // Releases the attempt's slot in the concurrency limit if the execution completed without reporting its outcome,
+            // e.g. because it was cancelled.
+            future.whenComplete((r, t) -> retryableStageHelper.releaseConcurrencyPermit());
             try {
                 attemptFirstExecute(future);
             } catch (Throwable t) {
@@ -49,30 +49,35 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         RetryableStageHelper retryableStageHelper = new RetryableStageHelper(request, context, dependencies);
         Duration initialDelay = retryableStageHelper.acquireInitialToken();
-        TimeUnit.MILLISECONDS.sleep(initialDelay.toMillis());
-        while (true) {
-            try {
-                retryableStageHelper.startingAttempt();
-                Response<OutputT> response = executeRequest(retryableStageHelper, context);
-                retryableStageHelper.recordAttemptSucceeded();
-                return response;
-            } catch (SdkExceptionWithRetryAfterHint | SdkException | IOException e) {
-                Throwable throwable = e;
-                if (e instanceof SdkExceptionWithRetryAfterHint) {
-                    SdkExceptionWithRetryAfterHint wrapper = (SdkExceptionWithRetryAfterHint) e;
-                    throwable = wrapper.cause();
-                }
-                retryableStageHelper.setLastException(throwable);
-                Duration suggestedDelay = suggestedDelay(e);
-                Optional<Duration> backoffDelay = retryableStageHelper.tryRefreshToken(suggestedDelay);
-                if (backoffDelay.isPresent()) {
-                    Duration delay = backoffDelay.get();
-                    retryableStageHelper.logBackingOff(delay);
-                    TimeUnit.MILLISECONDS.sleep(delay.toMillis());
-                } else {
-                    throw retryableStageHelper.retryPolicyDisallowedRetryException();
+        try {
+            TimeUnit.MILLISECONDS.sleep(initialDelay.toMillis());
+            while (true) {
+                try {
+                    retryableStageHelper.startingAttempt();
+                    Response<OutputT> response = executeRequest(retryableStageHelper, context);
+                    retryableStageHelper.recordAttemptSucceeded();
+                    return response;
+                } catch (SdkExceptionWithRetryAfterHint | SdkException | IOException e) {
+                    Throwable throwable = e;
+                    if (e instanceof SdkExceptionWithRetryAfterHint) {
+                        SdkExceptionWithRetryAfterHint wrapper = (SdkExceptionWithRetryAfterHint) e;
+                        throwable = wrapper.cause();
+                    }
+                    retryableStageHelper.setLastException(throwable);
+                    Duration suggestedDelay = suggestedDelay(e);
+                    Optional<Duration> backoffDelay = retryableStageHelper.tryRefreshToken(suggestedDelay);
+                    if (backoffDelay.isPresent()) {
+                        Duration delay = backoffDelay.get();
+                        retryableStageHelper.logBackingOff(delay);
+                        TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+                    } else {
+                        throw retryableStageHelper.retryPolicyDisallowedRetryException();
+                    }
                 }
             }
+        } finally {
+            // Releases the attempt's slot in the concurrency limit if the loop exited without reporting its outcome.
+            retryableStageHelper.releaseConcurrencyPermit();
         }
     }
 
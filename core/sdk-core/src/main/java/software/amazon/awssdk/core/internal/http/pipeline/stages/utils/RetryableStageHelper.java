@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
 
 import static software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute.EXECUTION_ATTEMPT;
 import static software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute.RETRY_TOKEN;
+import static software.amazon.awssdk.core.metrics.CoreMetric.CONCURRENCY_LIMIT;
 import static software.amazon.awssdk.core.metrics.CoreMetric.RETRY_COUNT;
 
 import java.time.Duration;
@@ -48,6 +49,8 @@ import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.retries.api.RetryToken;
 import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.DefaultRetryToken;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyPermit;
 
 /**
  * Contains the logic shared by {@link RetryableStage} and {@link AsyncRetryableStage} when querying and interacting with a
@@ -100,18 +103,41 @@ public final class RetryableStageHelper {
      * This method returns a delay that the caller have to wait before attempting the first request. If this method returns
      * {@link Duration#ZERO} if the calling code does not have to wait. As of today the only strategy that might return a non-zero
      * value is {@link AdaptiveRetryStrategy}.
+     *
+     * @throws SdkClientException if the retry strategy doesn't allow the request, e.g. because its concurrency limit was reached.
      */
     public Duration acquireInitialToken() {
         String scope = "GLOBAL";
         AcquireInitialTokenRequest acquireRequest = AcquireInitialTokenRequest.create(scope);
-        AcquireInitialTokenResponse acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        AcquireInitialTokenResponse acquireResponse;
+        try {
+            acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        } catch (TokenAcquisitionFailedException e) {
+            throw SdkClientException.create("Unable to execute HTTP request: " + e.getMessage(), e);
+        }
         RetryToken retryToken = acquireResponse.token();
         Duration delay = acquireResponse.delay();
         context.executionAttributes().putAttribute(RETRY_TOKEN, retryToken);
         context.executionAttributes().putAttribute(LAST_BACKOFF_DELAY_DURATION, delay);
+        ConcurrencyPermit permit = concurrencyPermit(retryToken);
+        if (permit != null) {
+            context.executionContext().metricCollector().reportMetric(CONCURRENCY_LIMIT, permit.limit());
+        }
         return delay;
     }
 
+    /**
+     * Invoke when the execution ends without reporting the outcome of the last attempt to the retry strategy, e.g. because it
+     * was interrupted or cancelled. This releases the slot the attempt held in the concurrency limit of the retry strategy, if
+     * any. Calling this method after the outcome was reported has no effect.
+     */
+    public void releaseConcurrencyPermit() {
+        ConcurrencyPermit permit = concurrencyPermit(context.executionAttributes().getAttribute(RETRY_TOKEN));
+        if (permit != null) {
+            permit.releaseIgnored();
+        }
+    }
+
     /**
      * Notify the retry strategy that the request attempt succeeded.
      */
@@ -262,6 +288,13 @@ public final class RetryableStageHelper {
         return Math.max(0, attemptNumber - 1);
     }
 
+    private static ConcurrencyPermit concurrencyPermit(RetryToken token) {
+        if (token instanceof DefaultRetryToken) {
+            return ((DefaultRetryToken) token).concurrencyPermit();
+        }
+        return null;
+    }
+
     /**
      * Returns the {@link RetryStrategy} to be used by this class. If there's a client configured retry-policy then an adapter to
      * wrap it is returned. This allows this code to be backwards compatible with previously configured retry-policies by the
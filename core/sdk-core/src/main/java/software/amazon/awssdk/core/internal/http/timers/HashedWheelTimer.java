@@ -0,0 +1,381 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A timer for the API call and API call attempt timeouts, built on a hashed timing wheel.
+ * <p>
+ * Almost every timeout is cancelled long before it expires, so scheduling and cancelling must be cheap. Both are O(1) and
+ * lock-free: new timeouts are queued for the worker thread, which places them in the bucket of the wheel for their deadline,
+ * and cancelled timeouts are unlinked from their bucket by the worker thread. The worker thread advances one bucket every
+ * tick, and runs the timeouts of that bucket whose deadline has passed. Timeouts therefore expire up to one tick late.
+ * <p>
+ * Expired timeouts are handed off to the task executor instead of running on the worker thread. The {@link TimeoutTask}s used
+ * by the SDK abort requests, which may close sockets, and complete futures, which runs their dependent stages. Neither of these
+ * may delay the expiration of the timeouts of other clients sharing the worker thread.
+ * <p>
+ * One {@link #shared()} timer is used by all clients that do not configure their own scheduled executor service.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelTimer {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /**
+     * The number of threads running expired timeouts of the shared timer, the same as the core size of the scheduled executor
+     * service that clients used before.
+     */
+    private static final int DEFAULT_TASK_THREADS = 5;
+
+    /**
+     * The maximum number of new timeouts moved into the wheel per tick, so that a burst of new timeouts cannot delay the
+     * expiration of the timeouts of the current tick indefinitely.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_STOPPED = 2;
+
+    private static final Lazy<HashedWheelTimer> SHARED = new Lazy<>(HashedWheelTimer::new);
+
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+    private final Executor taskExecutor;
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The {@link System#nanoTime()} at which the worker thread started. Deadlines are relative to this time. Written by the
+     * worker thread before it starts processing timeouts, and read by scheduling threads after {@link #startWorker()}.
+     */
+    private volatile long startTime;
+
+    /**
+     * Released by the worker thread once it has initialized the {@link #startTime}.
+     */
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL,
+             new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer").daemonThreads(true).build(),
+             defaultTaskExecutor());
+    }
+
+    @SdkTestInternalApi
+    HashedWheelTimer(Duration tickDuration, int ticksPerWheel, ThreadFactory threadFactory, Executor taskExecutor) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isTrue(Integer.bitCount(ticksPerWheel) == 1, "ticksPerWheel must be a power of two: %s", ticksPerWheel);
+        this.tickDurationNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.workerThread = threadFactory.newThread(new Worker());
+        this.taskExecutor = Validate.paramNotNull(taskExecutor, "taskExecutor");
+    }
+
+    private static Executor defaultTaskExecutor() {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(DEFAULT_TASK_THREADS, DEFAULT_TASK_THREADS,
+                                   60L, TimeUnit.SECONDS,
+                                   new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-task").daemonThreads(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The timer shared by all clients. Its worker thread is a daemon thread that is started on first use and is never stopped.
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED.getValue();
+    }
+
+    /**
+     * Schedule the task to run once the delay has passed, unless the returned {@link Timeout} is cancelled first.
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Validate.paramNotNull(task, "task");
+        startWorker();
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        if (delay > 0 && deadline < 0) {
+            // Guard against overflow.
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not expired yet never run. This must not be invoked on the {@link #shared()}
+     * timer.
+     */
+    @SdkTestInternalApi
+    void stop() {
+        if (workerState.getAndSet(WORKER_STOPPED) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+    }
+
+    private void startWorker() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            case WORKER_STOPPED:
+                throw new IllegalStateException("The timer has been stopped.");
+            default:
+                throw new IllegalStateException("Unknown worker state: " + workerState.get());
+        }
+
+        // Wait until the worker thread has initialized the start time that deadlines are relative to.
+        boolean interrupted = false;
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                // The worker is about to initialize the start time, so keep waiting and restore the interrupt afterwards.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A timeout scheduled with {@link #newTimeout(Runnable, long, TimeUnit)}.
+     */
+    public final class Timeout {
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        // The following fields are only accessed by the worker thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Prevent the task from running, if it hasn't started running already.
+         *
+         * @return true if the task will not run because of this call.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+            // Let the worker thread unlink the timeout from its bucket, so that cancelled timeouts don't pile up.
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                taskExecutor.execute(this::runTask);
+            } catch (Throwable t) {
+                log.warn(() -> "Failed to submit a timeout task. It will run on the timer thread.", t);
+                runTask();
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn(() -> "An exception was thrown by a timeout task.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly-linked list of the timeouts of one slot of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private long tick;
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            // Zero means the start time hasn't been initialized.
+            startTime = now == 0 ? 1 : now;
+            startTimeInitialized.countDown();
+
+            while (workerState.get() == WORKER_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline <= 0) {
+                    continue;
+                }
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+
+        /**
+         * Sleep until the end of the current tick.
+         *
+         * @return The time since the start time, or a non-positive value if the sleep was interrupted.
+         */
+        private long waitForNextTick() {
+            long deadline = tickDurationNanos * (tick + 1);
+            while (true) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMillis = (deadline - currentTime + 999_999) / 1_000_000;
+                if (sleepTimeMillis <= 0) {
+                    return currentTime;
+                }
+                try {
+                    Thread.sleep(sleepTimeMillis);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_STOPPED) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+
+        private void removeCancelledTimeouts() {
+            Timeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                long expirationTick = timeout.deadline / tickDurationNanos;
+                timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+                // Timeouts whose deadline has already passed are expired in the current tick.
+                long ticks = Math.max(expirationTick, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+}
@@ -47,17 +47,32 @@ public final class TimerUtils {
                                                            ScheduledExecutorService timeoutExecutor,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
+        return timeAsyncTaskIfNeeded(completableFuture, null, timeoutExecutor, exceptionSupplier, timeoutInMills);
+    }
+
+    /**
+     * Schedule a {@link TimeoutTask} and exceptional completes a {@link CompletableFuture} with the provide exception
+     * if not otherwise completed before the given timeout.
+     *
+     * @param completableFuture the completableFuture to be timed
+     * @param timeoutTimer the timer to execute the {@link TimeoutTask}, or null to use the timeoutExecutor
+     * @param timeoutExecutor the executor to execute the {@link TimeoutTask} if there is no timeoutTimer
+     * @param exceptionSupplier the exception to thrown after timeout
+     * @param timeoutInMills the timeout in milliseconds.
+     * @param <T> the type of the {@link CompletableFuture}
+     * @return a {@link TimeoutTracker}
+     */
+    public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
+                                                           HashedWheelTimer timeoutTimer,
+                                                           ScheduledExecutorService timeoutExecutor,
+                                                           Supplier<SdkClientException> exceptionSupplier,
+                                                           long timeoutInMills) {
         if (timeoutInMills <= 0) {
             return NoOpTimeoutTracker.INSTANCE;
         }
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
-
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutTracker timeoutTracker = schedule(timeoutTask, timeoutTimer, timeoutExecutor, timeoutInMills);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -75,11 +90,38 @@ public final class TimerUtils {
     public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
+        return timeSyncTaskIfNeeded(null, timeoutExecutor, timeoutInMills, threadToInterrupt);
+    }
+
+    /**
+     * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
+     *
+     * @param timeoutTimer the timer to execute the {@link TimeoutTask}, or null to use the timeoutExecutor
+     * @param timeoutExecutor the executor to execute the {@link TimeoutTask} if there is no timeoutTimer
+     * @param timeoutInMills the timeout in milliseconds.
+     * @param threadToInterrupt the thread to interrupt
+     * @return a {@link TimeoutTracker}
+     */
+    public static TimeoutTracker timeSyncTaskIfNeeded(HashedWheelTimer timeoutTimer,
+                                                      ScheduledExecutorService timeoutExecutor,
+                                                      long timeoutInMills,
+                                                      Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
             return NoOpTimeoutTracker.INSTANCE;
         }
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
+        return schedule(timeoutTask, timeoutTimer, timeoutExecutor, timeoutInMills);
+    }
+
+    private static TimeoutTracker schedule(TimeoutTask timeoutTask,
+                                           HashedWheelTimer timeoutTimer,
+                                           ScheduledExecutorService timeoutExecutor,
+                                           long timeoutInMills) {
+        if (timeoutTimer != null) {
+            return new ApiCallTimeoutTracker(timeoutTask,
+                                             timeoutTimer.newTimeout(timeoutTask, timeoutInMills, TimeUnit.MILLISECONDS));
+        }
 
         ScheduledFuture<?> scheduledFuture =
             timeoutExecutor.schedule(timeoutTask,
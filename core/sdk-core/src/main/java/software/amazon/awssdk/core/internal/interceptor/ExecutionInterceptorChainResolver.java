@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.interceptor;
+
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+
+/**
+ * Resolves the {@link ExecutionInterceptorChain} to use for a request.
+ */
+@SdkInternalApi
+public final class ExecutionInterceptorChainResolver {
+    private ExecutionInterceptorChainResolver() {
+    }
+
+    /**
+     * Return the {@link SdkClientOption#EXECUTION_INTERCEPTOR_CHAIN} of the provided configuration, if it is a chain of the
+     * configuration's current {@link SdkClientOption#EXECUTION_INTERCEPTORS}. Otherwise, create a new chain of them.
+     * <p>
+     * The interceptor list is mutable, and can be modified in place after the chain was created, for example by a plugin that
+     * adds an interceptor to the client's override configuration.
+     */
+    public static ExecutionInterceptorChain resolve(SdkClientConfiguration configuration) {
+        List<ExecutionInterceptor> interceptors = configuration.option(SdkClientOption.EXECUTION_INTERCEPTORS);
+        ExecutionInterceptorChain chain = configuration.option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN);
+        if (chain != null && sameInterceptors(chain.interceptors(), interceptors)) {
+            return chain;
+        }
+        return new ExecutionInterceptorChain(interceptors);
+    }
+
+    private static boolean sameInterceptors(List<ExecutionInterceptor> chainInterceptors,
+                                            List<ExecutionInterceptor> interceptors) {
+        if (interceptors == null || chainInterceptors.size() != interceptors.size()) {
+            return false;
+        }
+        for (int i = 0; i < interceptors.size(); i++) {
+            if (chainInterceptors.get(i) != interceptors.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
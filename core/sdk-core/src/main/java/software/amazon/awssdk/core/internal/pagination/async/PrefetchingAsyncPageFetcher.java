@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link AsyncPageFetcher} that requests up to a fixed number of pages ahead of the pages requested by its caller, so that
+ * the round trip for the next page overlaps with the processing of the current one.
+ *
+ * <p>Pages can only be requested one after the other, because each request needs the token from the previous response. When
+ * a page is received, the next one is requested right away unless the configured number of pages is already waiting to be
+ * returned. Calling {@link #nextPage(Object)} with the last page returned takes the next page from those waiting, or waits for
+ * it if it is still in flight. Any other call discards the waiting pages and requests a page from the delegate.
+ *
+ * <p>Whether a page has a next page is evaluated once, right after the page is received, because some fetchers track the
+ * token of the last page they requested and would evaluate it differently once the next page was requested.
+ *
+ * <p>A fetcher is meant to be used by a single subscription, and {@link #close()} cancels the requests that were made ahead.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class PrefetchingAsyncPageFetcher<ResponseT> implements AsyncPageFetcher<ResponseT>, SdkAutoCloseable {
+    private final AsyncPageFetcher<ResponseT> delegate;
+    private final int prefetchPages;
+
+    /**
+     * The pages requested ahead of the caller, in order. Guarded by {@code this}.
+     */
+    private final Deque<Page<ResponseT>> prefetched = new ArrayDeque<>();
+
+    /**
+     * The page last returned by {@link #nextPage(Object)}. Guarded by {@code this}.
+     */
+    private Page<ResponseT> current;
+
+    /**
+     * The last page that was received, when its next page wasn't requested because {@link #prefetched} was full. Guarded by
+     * {@code this}.
+     */
+    private Page<ResponseT> stalled;
+
+    private boolean closed;
+
+    public PrefetchingAsyncPageFetcher(AsyncPageFetcher<ResponseT> delegate, int prefetchPages) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+        this.prefetchPages = Validate.isPositive(prefetchPages, "prefetchPages");
+    }
+
+    @Override
+    public boolean hasNextPage(ResponseT oldPage) {
+        synchronized (this) {
+            Page<ResponseT> page = find(oldPage);
+            if (page != null) {
+                return page.hasNextPage(delegate);
+            }
+        }
+        return delegate.hasNextPage(oldPage);
+    }
+
+    @Override
+    public CompletableFuture<ResponseT> nextPage(ResponseT oldPage) {
+        Page<ResponseT> next;
+        Page<ResponseT> toRequest;
+        List<Page<ResponseT>> toCancel = null;
+
+        synchronized (this) {
+            Page<ResponseT> head = prefetched.peekFirst();
+            if (head != null && head.previousPage == oldPage) {
+                prefetched.removeFirst();
+                next = head;
+                toRequest = stalled != null && !closed ? prefetchAfter(stalled) : null;
+            } else {
+                toCancel = new ArrayList<>(prefetched);
+                prefetched.clear();
+                stalled = null;
+                next = new Page<>(oldPage);
+                toRequest = next;
+            }
+            current = next;
+        }
+
+        if (toCancel != null) {
+            toCancel.forEach(Page::cancel);
+        }
+        request(toRequest);
+        return next.future;
+    }
+
+    /**
+     * Cancel the pages that were requested ahead of the caller, and stop requesting pages ahead.
+     */
+    @Override
+    public void close() {
+        List<Page<ResponseT>> toCancel;
+        synchronized (this) {
+            closed = true;
+            stalled = null;
+            toCancel = new ArrayList<>(prefetched);
+            prefetched.clear();
+        }
+        toCancel.forEach(Page::cancel);
+    }
+
+    private void request(Page<ResponseT> page) {
+        if (page == null) {
+            return;
+        }
+
+        CompletableFuture<ResponseT> response;
+        try {
+            response = delegate.nextPage(page.previousPage);
+        } catch (Throwable t) {
+            page.future.completeExceptionally(t);
+            return;
+        }
+
+        // Cancelling the page, e.g. when the subscription is cancelled, cancels the request.
+        CompletableFutureUtils.forwardExceptionTo(page.future, response);
+        response.whenComplete((r, e) -> {
+            if (e != null) {
+                page.future.completeExceptionally(e);
+                return;
+            }
+            Page<ResponseT> nextPage = received(page, r);
+            page.future.complete(r);
+            request(nextPage);
+        });
+    }
+
+    /**
+     * Record the response of the provided page, and return the page that should be requested next, if any.
+     */
+    private synchronized Page<ResponseT> received(Page<ResponseT> page, ResponseT response) {
+        page.response = response;
+        if (closed || page != lastPage() || !page.hasNextPage(delegate)) {
+            return null;
+        }
+        if (prefetched.size() >= prefetchPages) {
+            stalled = page;
+            return null;
+        }
+        return prefetchAfter(page);
+    }
+
+    private Page<ResponseT> prefetchAfter(Page<ResponseT> page) {
+        Page<ResponseT> next = new Page<>(page.response);
+        prefetched.addLast(next);
+        stalled = null;
+        return next;
+    }
+
+    private Page<ResponseT> lastPage() {
+        return prefetched.isEmpty() ? current : prefetched.peekLast();
+    }
+
+    private Page<ResponseT> find(ResponseT response) {
+        if (response == null) {
+            return null;
+        }
+        if (current != null && current.response == response) {
+            return current;
+        }
+        for (Page<ResponseT> page : prefetched) {
+            if (page.response == response) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    private static final class Page<ResponseT> {
+        private final ResponseT previousPage;
+        private final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        private ResponseT response;
+        private Boolean hasNextPage;
+
+        private Page(ResponseT previousPage) {
+            this.previousPage = previousPage;
+        }
+
+        private boolean hasNextPage(AsyncPageFetcher<ResponseT> fetcher) {
+            if (hasNextPage == null) {
+                hasNextPage = fetcher.hasNextPage(response);
+            }
+            return hasNextPage;
+        }
+
+        private void cancel() {
+            future.cancel(false);
+        }
+    }
+}
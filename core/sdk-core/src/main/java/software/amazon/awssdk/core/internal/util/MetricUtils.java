@@ -27,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -37,6 +39,7 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.internal.ConcurrentMetricCollector;
 import software.amazon.awssdk.utils.Pair;
 
 /**
@@ -132,6 +135,17 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the root metric collector for an API call, using the collector implementation selected by
+     * {@link SdkAdvancedClientOption#USE_CONCURRENT_METRIC_COLLECTOR}.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfig) {
+        if (Boolean.TRUE.equals(clientConfig.option(SdkAdvancedClientOption.USE_CONCURRENT_METRIC_COLLECTOR))) {
+            return ConcurrentMetricCollector.create("ApiCall");
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
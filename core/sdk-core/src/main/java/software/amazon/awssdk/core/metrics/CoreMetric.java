@@ -53,6 +53,13 @@ public final class CoreMetric {
     public static final SdkMetric<Integer> RETRY_COUNT =
         metric("RetryCount", Integer.class, MetricLevel.ERROR);
 
+    /**
+     * The number of concurrent requests the retry strategy allowed when the API call started. Only reported when the
+     * concurrency limit of the retry strategy is enabled.
+     */
+    public static final SdkMetric<Integer> CONCURRENCY_LIMIT =
+        metric("ConcurrencyLimit", Integer.class, MetricLevel.INFO);
+
     /**
      * The endpoint for the service.
      */
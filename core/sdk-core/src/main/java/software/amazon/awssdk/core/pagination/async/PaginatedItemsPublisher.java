@@ -21,6 +21,7 @@ import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.pagination.async.ItemsSubscription;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A publisher to request for a stream of paginated items. The class can be used to request data for paginated items
@@ -38,10 +39,13 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
     private final boolean isLastPage;
 
+    private final int prefetchPages;
+
     private PaginatedItemsPublisher(BuilderImpl builder) {
         this.nextPageFetcher = builder.nextPageFetcher;
         this.getIteratorFunction = builder.iteratorFunction;
         this.isLastPage = builder.isLastPage;
+        this.prefetchPages = builder.prefetchPages;
     }
 
     public static Builder builder() {
@@ -55,6 +59,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
                                                              .subscriber(subscriber)
                                                              .nextPageFetcher(nextPageFetcher)
                                                              .iteratorFunction(getIteratorFunction)
+                                                             .prefetchPages(prefetchPages)
                                                              .build());
     }
 
@@ -65,6 +70,14 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
         Builder isLastPage(boolean isLastPage);
 
+        /**
+         * The number of pages to request ahead of the subscriber. Defaults to 0, which only requests a page when the
+         * subscriber needs items from it.
+         *
+         * @see PaginationSubscription.Builder#prefetchPages(int)
+         */
+        Builder prefetchPages(int prefetchPages);
+
         PaginatedItemsPublisher build();
     }
 
@@ -72,6 +85,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
         private AsyncPageFetcher nextPageFetcher;
         private Function iteratorFunction;
         private boolean isLastPage;
+        private int prefetchPages;
 
         @Override
         public Builder nextPageFetcher(AsyncPageFetcher nextPageFetcher) {
@@ -91,6 +105,12 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
             return this;
         }
 
+        @Override
+        public Builder prefetchPages(int prefetchPages) {
+            this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+            return this;
+        }
+
         @Override
         public PaginatedItemsPublisher build() {
             return new PaginatedItemsPublisher(this);
@@ -20,6 +20,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.pagination.async.PrefetchingAsyncPageFetcher;
+import software.amazon.awssdk.utils.Validate;
 
 @SdkProtectedApi
 public abstract class PaginationSubscription<ResponseT> implements Subscription {
@@ -35,9 +37,18 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     // boolean indicating whether task to handle requests is running
     private AtomicBoolean isTaskRunning = new AtomicBoolean(false);
 
+    // fetcher that requests pages ahead of the subscriber, when prefetching is enabled
+    private final PrefetchingAsyncPageFetcher<ResponseT> prefetchingPageFetcher;
+
     protected PaginationSubscription(BuilderImpl builder) {
         this.subscriber = builder.subscriber;
-        this.nextPageFetcher = builder.nextPageFetcher;
+        if (builder.prefetchPages > 0) {
+            this.prefetchingPageFetcher = new PrefetchingAsyncPageFetcher<>(builder.nextPageFetcher, builder.prefetchPages);
+            this.nextPageFetcher = prefetchingPageFetcher;
+        } else {
+            this.prefetchingPageFetcher = null;
+            this.nextPageFetcher = builder.nextPageFetcher;
+        }
     }
 
     @Override
@@ -102,6 +113,9 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected synchronized void cleanup() {
         terminate();
         stopTask();
+        if (prefetchingPageFetcher != null) {
+            prefetchingPageFetcher.close();
+        }
     }
 
     public interface Builder<TypeToBuildT extends PaginationSubscription, BuilderT extends Builder> {
@@ -109,6 +123,13 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
 
         BuilderT nextPageFetcher(AsyncPageFetcher nextPageFetcher);
 
+        /**
+         * The number of pages to request ahead of the subscriber. Pages are requested one after the other, as soon as the
+         * previous page is received, until this many pages are waiting to be delivered. Defaults to 0, which only requests a
+         * page when the subscriber needs it.
+         */
+        BuilderT prefetchPages(int prefetchPages);
+
         TypeToBuildT build();
     }
 
@@ -116,6 +137,7 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
         implements Builder<TypeToBuildT, BuilderT> {
         private Subscriber subscriber;
         private AsyncPageFetcher nextPageFetcher;
+        private int prefetchPages;
 
         @Override
         public BuilderT subscriber(Subscriber subscriber) {
@@ -128,6 +150,12 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
             this.nextPageFetcher = nextPageFetcher;
             return (BuilderT) this;
         }
+
+        @Override
+        public BuilderT prefetchPages(int prefetchPages) {
+            this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+            return (BuilderT) this;
+        }
     }
 
 }
@@ -17,13 +17,20 @@ package software.amazon.awssdk.core.pagination.sync;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.pagination.async.PrefetchingAsyncPageFetcher;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Iterator for all response pages in a paginated operation.
  *
  * This class is used to iterate through all the pages of an operation.
- * SDK makes service calls to retrieve the next page when next() method is called.
+ * SDK makes service calls to retrieve the next page when next() method is called, or ahead of time on the
+ * {@link Builder#prefetchExecutor(Executor)} when {@link Builder#prefetchPages(int)} is configured.
  *
  * @param <ResponseT> The type of a single response page
  */
@@ -32,12 +39,22 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
 
     private final SyncPageFetcher<ResponseT> nextPageFetcher;
 
+    // Fetcher that requests pages ahead of the caller on the prefetch executor, when prefetching is enabled.
+    private final PrefetchingAsyncPageFetcher<ResponseT> prefetchingPageFetcher;
+
     // This is null when the object is created. It gets initialized in next() method
     // where SDK make service calls.
     private ResponseT oldResponse;
 
     private PaginatedResponsesIterator(BuilderImpl builder) {
         this.nextPageFetcher = builder.nextPageFetcher;
+        if (builder.prefetchPages > 0) {
+            Validate.paramNotNull(builder.prefetchExecutor, "prefetchExecutor");
+            this.prefetchingPageFetcher = new PrefetchingAsyncPageFetcher<>(
+                new ExecutorPageFetcher<>(builder.nextPageFetcher, builder.prefetchExecutor), builder.prefetchPages);
+        } else {
+            this.prefetchingPageFetcher = null;
+        }
     }
 
     public static Builder builder() {
@@ -46,7 +63,11 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
 
     @Override
     public boolean hasNext() {
-        return oldResponse == null || nextPageFetcher.hasNextPage(oldResponse);
+        if (oldResponse == null) {
+            return true;
+        }
+        return prefetchingPageFetcher != null ? prefetchingPageFetcher.hasNextPage(oldResponse)
+                                              : nextPageFetcher.hasNextPage(oldResponse);
     }
 
     @Override
@@ -55,7 +76,11 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
             throw new NoSuchElementException("No more pages left");
         }
 
-        oldResponse = nextPageFetcher.nextPage(oldResponse);
+        if (prefetchingPageFetcher != null) {
+            oldResponse = CompletableFutureUtils.joinLikeSync(prefetchingPageFetcher.nextPage(oldResponse));
+        } else {
+            oldResponse = nextPageFetcher.nextPage(oldResponse);
+        }
 
         return oldResponse;
     }
@@ -63,11 +88,52 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
     public interface Builder {
         Builder nextPageFetcher(SyncPageFetcher nextPageFetcher);
 
+        /**
+         * The number of pages to request ahead of the caller of {@link #next()}. Pages are requested one after the other on
+         * the {@link #prefetchExecutor(Executor)}, as soon as the previous page is received, until this many pages are
+         * waiting to be returned. Defaults to 0, which only requests a page when {@code next()} is called.
+         *
+         * <p>Pages that were requested ahead are not cancelled when the iteration stops early, so at most this many
+         * unnecessary requests can be made.
+         */
+        Builder prefetchPages(int prefetchPages);
+
+        /**
+         * The executor that pages are requested on ahead of the caller. Required when {@link #prefetchPages(int)} is
+         * configured.
+         */
+        Builder prefetchExecutor(Executor prefetchExecutor);
+
         PaginatedResponsesIterator build();
     }
 
+    /**
+     * Adapts a {@link SyncPageFetcher} to an {@link AsyncPageFetcher} by requesting pages on an executor.
+     */
+    private static final class ExecutorPageFetcher<ResponseT> implements AsyncPageFetcher<ResponseT> {
+        private final SyncPageFetcher<ResponseT> delegate;
+        private final Executor executor;
+
+        private ExecutorPageFetcher(SyncPageFetcher<ResponseT> delegate, Executor executor) {
+            this.delegate = delegate;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean hasNextPage(ResponseT oldPage) {
+            return delegate.hasNextPage(oldPage);
+        }
+
+        @Override
+        public CompletableFuture<ResponseT> nextPage(ResponseT oldPage) {
+            return CompletableFuture.supplyAsync(() -> delegate.nextPage(oldPage), executor);
+        }
+    }
+
     private static final class BuilderImpl implements Builder {
         private SyncPageFetcher nextPageFetcher;
+        private int prefetchPages;
+        private Executor prefetchExecutor;
 
         protected BuilderImpl() {
         }
@@ -78,6 +144,18 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
             return this;
         }
 
+        @Override
+        public Builder prefetchPages(int prefetchPages) {
+            this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+            return this;
+        }
+
+        @Override
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
         @Override
         public PaginatedResponsesIterator build() {
             return new PaginatedResponsesIterator(this);
@@ -65,6 +65,7 @@ public class FileRequestBodyConfigurationTest {
                                                                           .path(Paths.get(".")).numBytesToRead(100L)
                                                                           .position(1L)
                                                                           .chunkSizeInBytes(1024)
+                                                                          .memoryMappingEnabled(true)
                                                                           .build();
 
         assertThat(config.toBuilder().build()).isEqualTo(config);
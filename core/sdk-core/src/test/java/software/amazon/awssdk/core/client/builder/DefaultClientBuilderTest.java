@@ -56,6 +56,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -294,6 +296,19 @@ public class DefaultClientBuilderTest {
         Mockito.verify(scheduledExecutorService, never()).shutdownNow();
     }
 
+    @Test
+    public void defaultScheduledExecutor_removesCancelledTasks() {
+        SdkClientConfiguration config = testClientBuilder().build().clientConfiguration;
+        ScheduledThreadPoolExecutor executor = (ScheduledThreadPoolExecutor) config.option(SCHEDULED_EXECUTOR_SERVICE);
+
+        try {
+            executor.schedule(() -> { }, 1, TimeUnit.HOURS).cancel(false);
+            assertThat(executor.getQueue()).isEmpty();
+        } finally {
+            config.close();
+        }
+    }
+
     @Test
     public void buildIncludesServiceDefaults() {
         TestClient client = testClientBuilder().build();
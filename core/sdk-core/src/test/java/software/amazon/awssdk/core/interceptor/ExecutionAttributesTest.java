@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.interceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +81,77 @@ public class ExecutionAttributesTest {
 
         assertThat(executionAttributes1.hashCode()).isEqualTo(executionAttributes2.hashCode());
     }
+
+    @Test
+    public void copy_modifyingCopy_doesNotModifyOriginal() {
+        ExecutionAttributes original = ExecutionAttributes.builder()
+                .put(ATTR_1, "hello")
+                .build();
+
+        ExecutionAttributes copy = original.copy();
+        copy.putAttribute(ATTR_1, "goodbye");
+        copy.putAttribute(ATTR_2, "world");
+
+        assertThat(original.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(original.getAttribute(ATTR_2)).isNull();
+        assertThat(copy.getAttribute(ATTR_1)).isEqualTo("goodbye");
+        assertThat(copy.getAttribute(ATTR_2)).isEqualTo("world");
+    }
+
+    @Test
+    public void copy_modifyingOriginal_doesNotModifyCopy() {
+        ExecutionAttributes original = ExecutionAttributes.builder()
+                .put(ATTR_1, "hello")
+                .build();
+
+        ExecutionAttributes copy = original.copy();
+        original.putAttribute(ATTR_1, "goodbye");
+
+        assertThat(copy.getAttribute(ATTR_1)).isEqualTo("hello");
+    }
+
+    @Test
+    public void putAbsentAttributes_onlyAddsAbsentAttributes() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes lowerPrecedence = ExecutionAttributes.builder()
+                .put(ATTR_1, "HELLO")
+                .put(ATTR_2, "WORLD")
+                .build();
+
+        executionAttributes.putAbsentAttributes(lowerPrecedence);
+
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(executionAttributes.getAttribute(ATTR_2)).isEqualTo("WORLD");
+    }
+
+    @Test
+    public void putAttribute_nullValue_isIncludedInAttributes() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes().putAttribute(ATTR_1, null);
+
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isNull();
+        assertThat(executionAttributes.getAttributes()).containsEntry(ATTR_1, null).hasSize(1);
+        assertThat(executionAttributes).isNotEqualTo(new ExecutionAttributes());
+    }
+
+    @Test
+    public void putAttribute_attributeCreatedAfterFirstWrite_isStored() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttribute<String> newAttribute = new ExecutionAttribute<>("ExecutionAttributesTest.newAttribute");
+
+        assertThat(executionAttributes.getAttribute(newAttribute)).isNull();
+        executionAttributes.putAttribute(newAttribute, "world");
+
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(executionAttributes.getAttribute(newAttribute)).isEqualTo("world");
+    }
+
+    @Test
+    public void unmodifiableExecutionAttributes_putAttribute_throws() {
+        ExecutionAttributes original = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes unmodifiable = ExecutionAttributes.unmodifiableExecutionAttributes(original);
+        original.putAttribute(ATTR_1, "goodbye");
+
+        assertThatThrownBy(() -> unmodifiable.putAttribute(ATTR_2, "world")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(unmodifiable.getAttribute(ATTR_1)).isEqualTo("hello");
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorChainResolver;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class ExecutionInterceptorChainTest {
+    private final ExecutionAttributes attributes = new ExecutionAttributes();
+
+    @Test
+    public void hooksNotOverridden_interceptorIsNotInvoked() {
+        List<String> calls = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("a", calls),
+                                                                                      new NoOpInterceptor()));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, attributes);
+        chain.afterExecution(context, attributes);
+        assertThat(chain.modifyRequest(context, attributes)).isSameAs(context);
+        assertThat(chain.modifyHttpRequestAndHttpContent(context, attributes)).isSameAs(context);
+
+        assertThat(calls).containsExactly("a.beforeExecution");
+    }
+
+    @Test
+    public void overriddenHooks_invokedInForwardThenReverseOrder() {
+        List<String> calls = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("a", calls),
+                                                                                      new NoOpInterceptor(),
+                                                                                      new BeforeExecutionInterceptor("b", calls)));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, attributes);
+        chain.afterExecution(context, attributes);
+
+        assertThat(calls).containsExactly("a.beforeExecution", "b.beforeExecution", "b.afterExecution", "a.afterExecution");
+    }
+
+    @Test
+    public void hooksOverriddenBySuperclass_interceptorIsInvoked() {
+        List<String> calls = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new InheritingInterceptor("a", calls)));
+
+        chain.beforeExecution(context(), attributes);
+
+        assertThat(calls).containsExactly("a.beforeExecution");
+    }
+
+    @Test
+    public void oneMethodOfGroupedHookOverridden_allMethodsOfHookAreInvoked() {
+        SdkHttpRequest modified = httpRequest().toBuilder().putHeader("x", "y").build();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new ExecutionInterceptor() {
+            @Override
+            public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+                return modified;
+            }
+        }));
+
+        InterceptorContext result = chain.modifyHttpRequestAndHttpContent(context(), attributes);
+
+        assertThat(result.httpRequest()).isSameAs(modified);
+    }
+
+    @Test
+    public void mockedInterceptor_isInvoked() {
+        ExecutionInterceptor interceptor = mock(ExecutionInterceptor.class);
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(interceptor));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, attributes);
+
+        verify(interceptor).beforeExecution(context, attributes);
+    }
+
+    @Test
+    public void resolve_interceptorsUnchanged_reusesClientChain() {
+        List<ExecutionInterceptor> interceptors = new ArrayList<>(Arrays.asList(new NoOpInterceptor()));
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(interceptors);
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.EXECUTION_INTERCEPTORS, interceptors)
+                                  .option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN, chain)
+                                  .build();
+
+        assertThat(ExecutionInterceptorChainResolver.resolve(configuration)).isSameAs(chain);
+    }
+
+    @Test
+    public void resolve_interceptorsModifiedInPlace_createsNewChain() {
+        List<String> calls = new ArrayList<>();
+        List<ExecutionInterceptor> interceptors = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(interceptors);
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.EXECUTION_INTERCEPTORS, interceptors)
+                                  .option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN, chain)
+                                  .build();
+        interceptors.add(new BeforeExecutionInterceptor("a", calls));
+
+        ExecutionInterceptorChain resolved = ExecutionInterceptorChainResolver.resolve(configuration);
+        resolved.beforeExecution(context(), attributes);
+
+        assertThat(resolved).isNotSameAs(chain);
+        assertThat(calls).containsExactly("a.beforeExecution");
+    }
+
+    private static InterceptorContext context() {
+        return InterceptorContext.builder()
+                                 .request(mock(SdkRequest.class))
+                                 .httpRequest(httpRequest())
+                                 .build();
+    }
+
+    private static SdkHttpFullRequest httpRequest() {
+        return SdkHttpFullRequest.builder()
+                                 .protocol("https")
+                                 .host("localhost")
+                                 .method(SdkHttpMethod.GET)
+                                 .build();
+    }
+
+    private static class NoOpInterceptor implements ExecutionInterceptor {
+    }
+
+    private static class InheritingInterceptor extends BeforeExecutionInterceptor {
+        private InheritingInterceptor(String name, List<String> calls) {
+            super(name, calls);
+        }
+    }
+
+    private static class BeforeExecutionInterceptor implements ExecutionInterceptor {
+        private final String name;
+        private final List<String> calls;
+
+        private BeforeExecutionInterceptor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".beforeExecution");
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".afterExecution");
+        }
+    }
+}
@@ -23,8 +23,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
@@ -39,6 +41,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.http.async.SimpleSubscriber;
@@ -163,6 +166,52 @@ public class ChecksumCalculatingAsyncRequestBodyTest {
         assertThat(sb).hasToString(tc.expectedBody);
     }
 
+    @Test
+    public void publish_largeFile_trailerHasChecksumOfSentContent() throws Exception {
+        byte[] content = new byte[20 * 1024 * 1024 + 17];
+        new Random(0).nextBytes(content);
+        Path largeFile = Jimfs.newFileSystem(Configuration.unix()).getPath("./large");
+        Files.write(largeFile, content);
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32C);
+        checksum.update(content);
+
+        AtomicReference<ByteBuffer> lastBuffer = new AtomicReference<>();
+        AsyncRequestBody provider = ChecksumCalculatingAsyncRequestBody.builder()
+                                                                       .asyncRequestBody(AsyncRequestBody.fromFile(largeFile))
+                                                                       .algorithm(DefaultChecksumAlgorithm.CRC32C)
+                                                                       .trailerHeader("x-amz-checksum-crc32c")
+                                                                       .build();
+        Flowable.fromPublisher(provider).doOnNext(lastBuffer::set).blockingSubscribe();
+
+        assertThat(StandardCharsets.UTF_8.decode(lastBuffer.get()).toString())
+            .endsWith("0\r\nx-amz-checksum-crc32c:" + BinaryUtils.toBase64(checksum.getChecksumBytes()) + "\r\n\r\n");
+    }
+
+    @Test
+    public void publish_largeBuffers_trailerHasChecksumOfSentContent() {
+        byte[] content = new byte[20 * 1024 * 1024 + 17];
+        new Random(0).nextBytes(content);
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32);
+        checksum.update(content);
+
+        AtomicReference<ByteBuffer> lastBuffer = new AtomicReference<>();
+        int split = 5 * 1024 * 1024 + 3;
+        AsyncRequestBody source = AsyncRequestBody.fromPublisher(Flowable.just(ByteBuffer.wrap(content, 0, split),
+                                                                               ByteBuffer.wrap(content, split, 10),
+                                                                               ByteBuffer.wrap(content, split + 10,
+                                                                                               content.length - split - 10)));
+        AsyncRequestBody provider = ChecksumCalculatingAsyncRequestBody.builder()
+                                                                       .asyncRequestBody(source)
+                                                                       .algorithm(DefaultChecksumAlgorithm.CRC32)
+                                                                       .trailerHeader("x-amz-checksum-crc32")
+                                                                       .contentLengthHeader((long) content.length)
+                                                                       .build();
+        Flowable.fromPublisher(provider).doOnNext(lastBuffer::set).blockingSubscribe();
+
+        assertThat(StandardCharsets.UTF_8.decode(lastBuffer.get()).toString())
+            .endsWith("0\r\nx-amz-checksum-crc32:" + BinaryUtils.toBase64(checksum.getChecksumBytes()) + "\r\n\r\n");
+    }
+
     @Test
     public void constructor_asyncRequestBodyFromString_hasCorrectContentType() {
         AsyncRequestBody requestBody = ChecksumCalculatingAsyncRequestBody.builder()
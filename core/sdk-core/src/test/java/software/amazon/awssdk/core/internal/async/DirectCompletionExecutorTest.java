@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DirectCompletionExecutorTest {
+    private List<Runnable> fallbackTasks;
+    private DirectCompletionExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        fallbackTasks = new ArrayList<>();
+        executor = new DirectCompletionExecutor(fallbackTasks::add, Duration.ofMillis(50));
+    }
+
+    @Test
+    void execute_runsOnCallingThread() {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        assertThat(fallbackTasks).isEmpty();
+    }
+
+    @Test
+    void execute_blockingTask_laterTasksUseFallbackExecutor() {
+        executor.execute(() -> sleep(100));
+        assertThat(executor.blockingDetected()).isTrue();
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isNull();
+        assertThat(fallbackTasks).hasSize(1);
+    }
+
+    @Test
+    void execute_deeplyNestedTasks_nestedTasksUseFallbackExecutor() {
+        nest(100);
+
+        assertThat(fallbackTasks).hasSize(1);
+        assertThat(executor.blockingDetected()).isFalse();
+    }
+
+    private void nest(int remaining) {
+        if (remaining > 0) {
+            executor.execute(() -> nest(remaining - 1));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
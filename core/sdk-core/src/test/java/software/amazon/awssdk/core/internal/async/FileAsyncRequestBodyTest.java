@@ -312,11 +312,88 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void memoryMappingEnabled_shouldReadFileFromMappedBuffers() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(1000 * 1000)
+                                                                .memoryMappingEnabled(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        assertThat(subscriber.directBuffers).isTrue();
+    }
+
+    @Test
+    public void memoryMappingEnabled_requestOneAtATime_receivesComplete() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMappingEnabled(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                super.onNext(byteBuffer);
+                sub.request(1);
+            }
+        };
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMappingEnabled_bothPositionAndNumBytesToReadConfigured_shouldHonor() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .position(20L)
+                                                                .numBytesToRead(25L)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMappingEnabled(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        byte[] expected = new byte[25];
+        System.arraycopy(Files.readAllBytes(smallFile), 20, expected, 0, 25);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(expected);
+        assertThat(subscriber.onNextSemaphore.availablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    public void memoryMappingEnabled_fileGetsShorterBeforeReading_failsBecauseTooShort() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMappingEnabled(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+
+        Files.write(testFile, "Hello".getBytes(StandardCharsets.UTF_8));
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
         private final Semaphore onNextSemaphore = new Semaphore(0);
-        private Subscription sub;
+        private volatile boolean directBuffers = true;
+        protected Subscription sub;
 
         @Override
         public void onSubscribe(Subscription subscription) {
@@ -325,6 +402,7 @@ public class FileAsyncRequestBodyTest {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            directBuffers &= byteBuffer.isDirect();
             invokeSafely(() -> output.write(BinaryUtils.copyBytesFrom(byteBuffer)));
             onNextSemaphore.release();
         }
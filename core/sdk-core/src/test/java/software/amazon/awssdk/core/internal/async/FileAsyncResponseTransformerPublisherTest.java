@@ -0,0 +1,196 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Tests for {@link FileAsyncResponseTransformerPublisher}.
+ */
+class FileAsyncResponseTransformerPublisherTest {
+    private FileSystem testFs;
+    private Path path;
+
+    @BeforeEach
+    public void setup() {
+        testFs = Jimfs.newFileSystem();
+        path = testFs.getPath("test_file.txt");
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        testFs.close();
+    }
+
+    @Test
+    void split_isParallel() {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split = split(new FileAsyncResponseTransformer<>(path));
+
+        assertThat(split.parallelSplitSupported()).isTrue();
+    }
+
+    @Test
+    void partsReceivedOutOfOrder_shouldWriteEachPartAtItsPosition() throws Exception {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split = split(new FileAsyncResponseTransformer<>(path));
+        PartSubscriber parts = subscribe(split, 3);
+        SdkResponse firstResponse = response("bytes 0-3/12");
+
+        writePart(parts.part(0), firstResponse, "aaaa").get(5, TimeUnit.SECONDS);
+        CompletableFuture<SdkResponse> third = writePart(parts.part(2), response("bytes 8-11/12"), "cccc");
+        CompletableFuture<SdkResponse> second = writePart(parts.part(1), response("bytes 4-7/12"), "bbbb");
+        CompletableFuture.allOf(second, third).get(5, TimeUnit.SECONDS);
+        parts.subscription.cancel();
+
+        assertThat(split.resultFuture().get(5, TimeUnit.SECONDS)).isSameAs(firstResponse);
+        assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).isEqualTo("aaaabbbbcccc");
+    }
+
+    @Test
+    void writeToPosition_shouldWritePartsRelativeToFirstPart() throws Exception {
+        Files.write(path, "0123456789".getBytes(StandardCharsets.UTF_8));
+        FileTransformerConfiguration configuration = FileTransformerConfiguration.builder()
+                                                                                 .fileWriteOption(FileWriteOption.WRITE_TO_POSITION)
+                                                                                 .position(2L)
+                                                                                 .failureBehavior(FailureBehavior.LEAVE)
+                                                                                 .build();
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            split(new FileAsyncResponseTransformer<>(path, configuration));
+        PartSubscriber parts = subscribe(split, 2);
+
+        writePart(parts.part(0), response("bytes 4-5/8"), "ab").get(5, TimeUnit.SECONDS);
+        writePart(parts.part(1), response("bytes 6-7/8"), "cd").get(5, TimeUnit.SECONDS);
+        parts.subscription.cancel();
+        split.resultFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).isEqualTo("01abcd6789");
+    }
+
+    @Test
+    void partWithoutContentRange_shouldFailResultFuture() throws Exception {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split = split(new FileAsyncResponseTransformer<>(path));
+        PartSubscriber parts = subscribe(split, 2);
+
+        writePart(parts.part(0), response("bytes 0-3/8"), "aaaa").get(5, TimeUnit.SECONDS);
+        writePart(parts.part(1), response(null), "bbbb");
+
+        assertThatThrownBy(() -> split.resultFuture().get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Content-Range");
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    void partFails_shouldFailResultFutureAndDeleteFile() throws Exception {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split = split(new FileAsyncResponseTransformer<>(path));
+        PartSubscriber parts = subscribe(split, 2);
+        writePart(parts.part(0), response("bytes 0-3/8"), "aaaa").get(5, TimeUnit.SECONDS);
+
+        RuntimeException error = new RuntimeException("part failed");
+        parts.part(1).prepare();
+        parts.part(1).exceptionOccurred(error);
+
+        assertThatThrownBy(() -> split.resultFuture().get(5, TimeUnit.SECONDS)).hasCause(error);
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    private static AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split(
+        FileAsyncResponseTransformer<SdkResponse> transformer) {
+        return transformer.split(SplittingTransformerConfiguration.builder().bufferSizeInBytes(1024L).build());
+    }
+
+    private static SdkResponse response(String contentRange) {
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(206);
+        if (contentRange != null) {
+            httpResponse.putHeader("Content-Range", contentRange);
+        }
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(httpResponse.build());
+        return response;
+    }
+
+    private static CompletableFuture<SdkResponse> writePart(AsyncResponseTransformer<SdkResponse, SdkResponse> part,
+                                                            SdkResponse response, String content) {
+        CompletableFuture<SdkResponse> future = part.prepare();
+        part.onResponse(response);
+        part.onStream(SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)))));
+        return future;
+    }
+
+    private static PartSubscriber subscribe(AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split, int count) {
+        PartSubscriber subscriber = new PartSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(count);
+        assertThat(subscriber.parts).hasSize(count);
+        return subscriber;
+    }
+
+    private static final class PartSubscriber implements Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>> {
+        private final List<AsyncResponseTransformer<SdkResponse, SdkResponse>> parts = new ArrayList<>();
+        private Subscription subscription;
+
+        AsyncResponseTransformer<SdkResponse, SdkResponse> part(int index) {
+            return parts.get(index);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> part) {
+            parts.add(part);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
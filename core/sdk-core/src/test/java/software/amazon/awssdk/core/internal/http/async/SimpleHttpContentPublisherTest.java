@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class SimpleHttpContentPublisherTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 4096})
+    void streamUnderReportsAvailable_readsAllContent(int reportedAvailable) {
+        byte[] content = new byte[10_000];
+        new Random(42).nextBytes(content);
+
+        SimpleHttpContentPublisher publisher =
+            new SimpleHttpContentPublisher(request(content, in -> new FilterInputStream(in) {
+                @Override
+                public int available() {
+                    return reportedAvailable;
+                }
+            }));
+
+        assertThat(publisher.contentLength()).hasValue((long) content.length);
+        assertThat(firstBuffer(publisher)).isEqualTo(content);
+    }
+
+    @Test
+    void streamOverReportsAvailable_readsAllContent() {
+        byte[] content = new byte[100];
+        new Random(42).nextBytes(content);
+
+        SimpleHttpContentPublisher publisher =
+            new SimpleHttpContentPublisher(request(content, in -> new FilterInputStream(in) {
+                @Override
+                public int available() {
+                    return 1000;
+                }
+            }));
+
+        assertThat(publisher.contentLength()).hasValue(100L);
+        assertThat(firstBuffer(publisher)).isEqualTo(content);
+    }
+
+    @Test
+    void noContent_publishesEmptyBuffer() {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://aws.amazon.com"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        SimpleHttpContentPublisher publisher = new SimpleHttpContentPublisher(request);
+        assertThat(publisher.contentLength()).hasValue(0L);
+    }
+
+    private static byte[] firstBuffer(SimpleHttpContentPublisher publisher) {
+        ByteBuffer[] received = new ByteBuffer[1];
+        publisher.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                received[0] = byteBuffer;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return BinaryUtils.copyAllBytesFrom(received[0]);
+    }
+
+    private static SdkHttpFullRequest request(byte[] content, Function<InputStream, InputStream> wrapper) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("https://aws.amazon.com"))
+                                 .method(SdkHttpMethod.PUT)
+                                 .contentStreamProvider(() -> wrapper.apply(new ByteArrayInputStream(content)))
+                                 .build();
+    }
+}
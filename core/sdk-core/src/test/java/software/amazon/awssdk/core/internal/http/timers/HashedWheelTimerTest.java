@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimerTest {
+    private ExecutorService taskExecutor;
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    public void setup() {
+        taskExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("timer-task-test")
+                                                                               .daemonThreads(true)
+                                                                               .build());
+        timer = new HashedWheelTimer(Duration.ofMillis(5), 8,
+                                     new ThreadFactoryBuilder().threadNamePrefix("timer-test").daemonThreads(true).build(),
+                                     taskExecutor);
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.stop();
+        taskExecutor.shutdownNow();
+    }
+
+    @Test
+    public void newTimeout_runsTaskAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void newTimeout_delayLongerThanWheel_runsTaskAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // 8 ticks of 5 ms per wheel, so this takes several rounds.
+        timer.newTimeout(latch::countDown, 120, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(120));
+    }
+
+    @Test
+    public void cancel_taskDoesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+        timer.newTimeout(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertThat(later.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void manyTimeouts_onlyUncancelledTimeoutsRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(500);
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(timer.newTimeout(() -> {
+                runs.incrementAndGet();
+                latch.countDown();
+            }, 200 + i % 100, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            assertThat(timeouts.get(i).cancel()).isTrue();
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(runs.get()).isEqualTo(500);
+    }
+
+    @Test
+    public void taskThrows_timerKeepsRunning() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("boom");
+        }, 0, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void taskBlocks_laterTimeoutsStillRun() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.newTimeout(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void taskRunsOnTaskExecutor() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        timer.newTimeout(() -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("timer-task-test");
+    }
+
+    @Test
+    public void newTimeout_interruptedCaller_keepsInterruptAndSchedules() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Thread.currentThread().interrupt();
+        try {
+            timer.newTimeout(latch::countDown, 10, TimeUnit.MILLISECONDS);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void stop_newTimeoutFails() {
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.newTimeout(() -> { }, 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void timeAsyncTaskIfNeeded_withTimer_completesFutureExceptionally() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        TimeoutTracker tracker = TimerUtils.timeAsyncTaskIfNeeded(future, timer, null,
+                                                                  () -> ApiCallTimeoutException.create(10), 10);
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(ApiCallTimeoutException.class);
+        assertThat(tracker.hasExecuted()).isTrue();
+    }
+
+    @Test
+    public void timeSyncTaskIfNeeded_withTimer_cancelPreventsInterrupt() throws InterruptedException {
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(timer, null, 20, Thread.currentThread());
+        tracker.cancel();
+
+        Thread.sleep(60);
+        assertThat(Thread.interrupted()).isFalse();
+        assertThat(tracker.hasExecuted()).isFalse();
+    }
+}
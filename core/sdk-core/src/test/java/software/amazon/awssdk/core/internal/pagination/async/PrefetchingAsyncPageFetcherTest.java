@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.core.pagination.async.ResponsesSubscription;
+
+public class PrefetchingAsyncPageFetcherTest {
+    private static final int LAST_PAGE = 10;
+
+    @Test
+    public void nextPage_requestsUpToPrefetchPagesAhead() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+
+        CompletableFuture<Integer> first = fetcher.nextPage(null);
+        assertThat(delegate.requestedPages()).containsExactly(1);
+
+        delegate.complete(1);
+        assertThat(first).isCompletedWithValue(1);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2);
+
+        delegate.complete(2);
+        delegate.complete(3);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2, 3);
+
+        assertThat(fetcher.nextPage(1)).isCompletedWithValue(2);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2, 3, 4);
+
+        CompletableFuture<Integer> third = fetcher.nextPage(2);
+        assertThat(third).isCompletedWithValue(3);
+        CompletableFuture<Integer> fourth = fetcher.nextPage(3);
+        assertThat(fourth).isNotDone();
+        delegate.complete(4);
+        assertThat(fourth).isCompletedWithValue(4);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void nextPage_stopsAtLastPage() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 100);
+
+        fetcher.nextPage(null);
+        for (int i = 1; i <= LAST_PAGE; i++) {
+            delegate.complete(i);
+        }
+
+        assertThat(delegate.requestedPages()).hasSize(LAST_PAGE);
+        for (int i = 1; i < LAST_PAGE; i++) {
+            assertThat(fetcher.hasNextPage(i)).isTrue();
+            assertThat(fetcher.nextPage(i)).isCompletedWithValue(i + 1);
+        }
+        assertThat(fetcher.hasNextPage(LAST_PAGE)).isFalse();
+    }
+
+    @Test
+    public void hasNextPage_evaluatedBeforeNextPageIsRequested() {
+        // Like the fetchers of operations that indicate the last page by returning the token of the request, this fetcher
+        // evaluates hasNextPage differently after the next page was requested.
+        ManualPageFetcher delegate = new ManualPageFetcher() {
+            private Integer lastRequested;
+
+            @Override
+            public boolean hasNextPage(Integer oldPage) {
+                return !oldPage.equals(lastRequested) && super.hasNextPage(oldPage);
+            }
+
+            @Override
+            public CompletableFuture<Integer> nextPage(Integer oldPage) {
+                lastRequested = oldPage;
+                return super.nextPage(oldPage);
+            }
+        };
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 1);
+
+        fetcher.nextPage(null);
+        delegate.complete(1);
+        delegate.complete(2);
+
+        assertThat(delegate.requestedPages()).containsExactly(1, 2);
+        assertThat(fetcher.hasNextPage(1)).isTrue();
+        assertThat(fetcher.nextPage(1)).isCompletedWithValue(2);
+        assertThat(fetcher.hasNextPage(2)).isTrue();
+    }
+
+    @Test
+    public void nextPage_unexpectedPreviousPage_cancelsPrefetchedPages() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 1);
+
+        fetcher.nextPage(null);
+        delegate.complete(1);
+        CompletableFuture<Integer> prefetched = delegate.request(2);
+
+        CompletableFuture<Integer> restarted = fetcher.nextPage(null);
+
+        assertThat(prefetched).isCompletedExceptionally();
+        assertThat(delegate.requestedPages()).containsExactly(1, 2, 1);
+        assertThat(restarted).isNotDone();
+    }
+
+    @Test
+    public void close_cancelsPrefetchedPages() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 1);
+
+        fetcher.nextPage(null);
+        delegate.complete(1);
+        fetcher.close();
+
+        assertThat(delegate.request(2)).isCompletedExceptionally();
+        delegate.request(2).complete(2);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void nextPage_prefetchedPageFails_failsWhenReached() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+        RuntimeException failure = new RuntimeException("boom");
+
+        fetcher.nextPage(null);
+        delegate.complete(1);
+        delegate.request(2).completeExceptionally(failure);
+
+        assertThat(delegate.requestedPages()).containsExactly(1, 2);
+        assertThatThrownBy(() -> fetcher.nextPage(1).join()).hasCause(failure);
+    }
+
+    @Test
+    public void nextPage_delegateThrows_failsFuture() {
+        RuntimeException failure = new RuntimeException("boom");
+        AsyncPageFetcher<Integer> delegate = new ManualPageFetcher() {
+            @Override
+            public CompletableFuture<Integer> nextPage(Integer oldPage) {
+                throw failure;
+            }
+        };
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 1);
+
+        assertThatThrownBy(() -> fetcher.nextPage(null).join()).isInstanceOf(CompletionException.class).hasCause(failure);
+    }
+
+    @Test
+    public void responsesSubscription_withPrefetch_deliversAllPagesInOrder() throws Exception {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        OneAtATimeSubscriber subscriber = new OneAtATimeSubscriber();
+
+        subscriber.onSubscribe(ResponsesSubscription.builder()
+                                                    .subscriber(subscriber)
+                                                    .nextPageFetcher(delegate)
+                                                    .prefetchPages(3)
+                                                    .build());
+        for (int i = 1; i <= LAST_PAGE; i++) {
+            delegate.complete(i);
+        }
+
+        assertThat(subscriber.completion.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(subscriber.received).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(delegate.requestedPages()).hasSize(LAST_PAGE);
+    }
+
+    @Test
+    public void responsesSubscription_withPrefetch_waitsForDemand() {
+        ManualPageFetcher delegate = new ManualPageFetcher();
+        List<Integer> received = new ArrayList<>();
+        Subscriber<Integer> subscriber = new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Integer page) {
+                received.add(page);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        subscriber.onSubscribe(ResponsesSubscription.builder()
+                                                    .subscriber(subscriber)
+                                                    .nextPageFetcher(delegate)
+                                                    .prefetchPages(2)
+                                                    .build());
+        for (int i = 1; i <= 3; i++) {
+            delegate.complete(i);
+        }
+
+        assertThat(received).containsExactly(1);
+        assertThat(delegate.requestedPages()).containsExactly(1, 2, 3);
+    }
+
+    /**
+     * A fetcher of pages numbered from 1 to {@link #LAST_PAGE}, completed by the test.
+     */
+    private static class ManualPageFetcher implements AsyncPageFetcher<Integer> {
+        private final List<Integer> requestedPages = new ArrayList<>();
+        private final List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        @Override
+        public boolean hasNextPage(Integer oldPage) {
+            return oldPage < LAST_PAGE;
+        }
+
+        @Override
+        public synchronized CompletableFuture<Integer> nextPage(Integer oldPage) {
+            CompletableFuture<Integer> request = new CompletableFuture<>();
+            requestedPages.add(oldPage == null ? 1 : oldPage + 1);
+            requests.add(request);
+            return request;
+        }
+
+        synchronized List<Integer> requestedPages() {
+            return new ArrayList<>(requestedPages);
+        }
+
+        /**
+         * The last request made for the provided page.
+         */
+        synchronized CompletableFuture<Integer> request(int page) {
+            return requests.get(requestedPages.lastIndexOf(page));
+        }
+
+        void complete(int page) {
+            request(page).complete(page);
+        }
+    }
+
+    private static class OneAtATimeSubscriber implements Subscriber<Integer> {
+        private final List<Integer> received = new ArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(Integer page) {
+            received.add(page);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completion.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
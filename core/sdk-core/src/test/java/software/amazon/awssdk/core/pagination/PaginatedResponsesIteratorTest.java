@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
+import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
+
+public class PaginatedResponsesIteratorTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void next_withoutPrefetch_returnsAllPages() {
+        Iterator<Integer> iterator = PaginatedResponsesIterator.builder().nextPageFetcher(new PageFetcher(5)).build();
+
+        assertThat(toList(iterator)).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void next_withPrefetch_returnsAllPages() {
+        Iterator<Integer> iterator = PaginatedResponsesIterator.builder()
+                                                               .nextPageFetcher(new PageFetcher(100))
+                                                               .prefetchPages(3)
+                                                               .prefetchExecutor(executor)
+                                                               .build();
+
+        List<Integer> pages = toList(iterator);
+        assertThat(pages).hasSize(100);
+        for (int i = 0; i < pages.size(); i++) {
+            assertThat(pages.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    public void next_withPrefetch_pageFails_throwsOriginalException() {
+        SdkClientException failure = SdkClientException.create("boom");
+        SyncPageFetcher<Integer> fetcher = new PageFetcher(5) {
+            @Override
+            public Integer nextPage(Integer oldPage) {
+                if (oldPage != null && oldPage == 2) {
+                    throw failure;
+                }
+                return super.nextPage(oldPage);
+            }
+        };
+        Iterator<Integer> iterator = PaginatedResponsesIterator.builder()
+                                                               .nextPageFetcher(fetcher)
+                                                               .prefetchPages(2)
+                                                               .prefetchExecutor(executor)
+                                                               .build();
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThatThrownBy(iterator::next).isSameAs(failure);
+    }
+
+    @Test
+    public void build_prefetchWithoutExecutor_throws() {
+        assertThatThrownBy(() -> PaginatedResponsesIterator.builder()
+                                                           .nextPageFetcher(new PageFetcher(1))
+                                                           .prefetchPages(1)
+                                                           .build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("prefetchExecutor");
+    }
+
+    private static List<Integer> toList(Iterator<Integer> iterator) {
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static class PageFetcher implements SyncPageFetcher<Integer> {
+        private final int lastPage;
+
+        private PageFetcher(int lastPage) {
+            this.lastPage = lastPage;
+        }
+
+        @Override
+        public boolean hasNextPage(Integer oldPage) {
+            return oldPage < lastPage;
+        }
+
+        @Override
+        public Integer nextPage(Integer oldPage) {
+            return oldPage == null ? 1 : oldPage + 1;
+        }
+    }
+}
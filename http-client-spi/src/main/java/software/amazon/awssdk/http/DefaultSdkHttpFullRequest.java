@@ -29,6 +29,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.internal.http.CompactHeaders;
 import software.amazon.awssdk.internal.http.LowCopyListMap;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.StringUtils;
@@ -48,7 +49,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
     private final Integer port;
     private final String path;
     private final LowCopyListMap.ForBuildable queryParameters;
-    private final LowCopyListMap.ForBuildable headers;
+    private final CompactHeaders headers;
     private final SdkHttpMethod httpMethod;
     private final ContentStreamProvider contentStreamProvider;
 
@@ -60,7 +61,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         this.httpMethod = Validate.paramNotNull(builder.httpMethod, "method");
         this.contentStreamProvider = builder.contentStreamProvider;
         this.queryParameters = builder.queryParameters.forBuildable();
-        this.headers = builder.headers.forBuildable();
+        this.headers = builder.headers.copy();
     }
 
     private String standardizeProtocol(String protocol) {
@@ -78,16 +79,13 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
             return "";
         }
 
-        StringBuilder standardizedPath = new StringBuilder();
-
-        // Path must always start with '/'
-        if (!path.startsWith("/")) {
-            standardizedPath.append('/');
+        // Requests are rebuilt many times during an API call, and their path is already standardized after the first time.
+        if (path.startsWith("/")) {
+            return path;
         }
 
-        standardizedPath.append(path);
-
-        return standardizedPath.toString();
+        // Path must always start with '/'
+        return "/" + path;
     }
 
     private Integer standardizePort(Integer port) {
@@ -118,17 +116,18 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public Map<String, List<String>> headers() {
-        return headers.forExternalRead();
+        return headers.asMap();
     }
 
     @Override
     public List<String> matchingHeaders(String header) {
-        return unmodifiableList(headers.forInternalRead().getOrDefault(header, emptyList()));
+        List<String> values = headers.get(header);
+        return values == null ? emptyList() : values;
     }
 
     @Override
     public Optional<String> firstMatchingHeader(String headerName) {
-        List<String> headers = this.headers.forInternalRead().get(headerName);
+        List<String> headers = this.headers.get(headerName);
         if (headers == null || headers.isEmpty()) {
             return Optional.empty();
         }
@@ -155,7 +154,23 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public void forEachHeader(BiConsumer<? super String, ? super List<String>> consumer) {
-        headers.forInternalRead().forEach((k, v) -> consumer.accept(k, Collections.unmodifiableList(v)));
+        headers.forEach(consumer);
+    }
+
+    @Override
+    public void forEachLowerCaseHeader(BiConsumer<? super String, ? super List<String>> consumer) {
+        headers.forEachLowerCase(consumer);
+    }
+
+    @Override
+    public boolean anyMatchingHeader(Predicate<String> predicate) {
+        for (int i = 0; i < headers.size(); i++) {
+            if (predicate.test(headers.nameAt(i))) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     @Override
@@ -165,7 +180,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public int numHeaders() {
-        return headers.forInternalRead().size();
+        return headers.size();
     }
 
     @Override
@@ -240,7 +255,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
                        .add("host", host)
                        .add("port", port)
                        .add("encodedPath", path)
-                       .add("headers", headers.forInternalRead().keySet())
+                       .add("headers", headers.asMap().keySet())
                        .add("queryParameters", queryParameters.forInternalRead().keySet())
                        .build();
     }
@@ -254,18 +269,18 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         private Integer port;
         private String path;
         private LowCopyListMap.ForBuilder queryParameters;
-        private LowCopyListMap.ForBuilder headers;
+        private CompactHeaders headers;
         private SdkHttpMethod httpMethod;
         private ContentStreamProvider contentStreamProvider;
 
         Builder() {
             queryParameters = LowCopyListMap.emptyQueryParameters();
-            headers = LowCopyListMap.emptyHeaders();
+            headers = new CompactHeaders();
         }
 
         Builder(DefaultSdkHttpFullRequest request) {
             queryParameters = request.queryParameters.forBuilder();
-            headers = request.headers.forBuilder();
+            headers = request.headers.copy();
             protocol = request.protocol;
             host = request.host;
             port = request.port;
@@ -366,25 +381,25 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putHeader(String headerName, List<String> headerValues) {
-            this.headers.forInternalWrite().put(headerName, new ArrayList<>(headerValues));
+            this.headers.put(headerName, headerValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendHeader(String headerName, String headerValue) {
-            this.headers.forInternalWrite().computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers.append(headerName, headerValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder headers(Map<String, List<String>> headers) {
-            this.headers.setFromExternal(headers);
+            this.headers.putAll(headers);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder removeHeader(String headerName) {
-            this.headers.forInternalWrite().remove(headerName);
+            this.headers.remove(headerName);
             return this;
         }
 
@@ -396,17 +411,18 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public Map<String, List<String>> headers() {
-            return CollectionUtils.unmodifiableMapOfLists(this.headers.forInternalRead());
+            return this.headers.asMap();
         }
 
         @Override
         public List<String> matchingHeaders(String header) {
-            return unmodifiableList(headers.forInternalRead().getOrDefault(header, emptyList()));
+            List<String> values = headers.get(header);
+            return values == null ? emptyList() : values;
         }
 
         @Override
         public Optional<String> firstMatchingHeader(String headerName) {
-            List<String> headers = this.headers.forInternalRead().get(headerName);
+            List<String> headers = this.headers.get(headerName);
             if (headers == null || headers.isEmpty()) {
                 return Optional.empty();
             }
@@ -433,7 +449,12 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public void forEachHeader(BiConsumer<? super String, ? super List<String>> consumer) {
-            headers.forInternalRead().forEach((k, v) -> consumer.accept(k, unmodifiableList(v)));
+            headers.forEach(consumer);
+        }
+
+        @Override
+        public void forEachLowerCaseHeader(BiConsumer<? super String, ? super List<String>> consumer) {
+            headers.forEachLowerCase(consumer);
         }
 
         @Override
@@ -443,8 +464,8 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public boolean anyMatchingHeader(Predicate<String> predicate) {
-            for (String headerKey : headers.forInternalRead().keySet()) {
-                if (predicate.test(headerKey)) {
+            for (int i = 0; i < headers.size(); i++) {
+                if (predicate.test(headers.nameAt(i))) {
                     return true;
                 }
             }
@@ -454,7 +475,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public int numHeaders() {
-            return headers.forInternalRead().size();
+            return headers.size();
         }
 
         @Override
@@ -42,6 +42,15 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of active streams on the HTTP/2 connection that this request was executed on, including the stream of this
+     * request.
+     *
+     * <p>Comparing this value across requests shows how evenly streams are spread over the connections to a service.
+     */
+    public static final SdkMetric<Integer> CONNECTION_ACTIVE_STREAMS =
+        metric("ConnectionActiveStreams", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
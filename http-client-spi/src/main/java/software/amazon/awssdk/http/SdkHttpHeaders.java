@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -80,6 +81,17 @@ public interface SdkHttpHeaders {
         headers().forEach(consumer);
     }
 
+    /**
+     * Perform the provided action for each header in this message, with the header name in lower case. Like
+     * {@link #forEachHeader(BiConsumer)}, headers are visited in case-insensitive order by their header name.
+     *
+     * <p>This is useful for signers and HTTP clients that need lower-case header names. The SDK's implementations compute the
+     * lower-case name of each header once, instead of every time the headers are visited.</p>
+     */
+    default void forEachLowerCaseHeader(BiConsumer<? super String, ? super List<String>> consumer) {
+        forEachHeader((name, values) -> consumer.accept(StringUtils.lowerCase(name), values));
+    }
+
     default int numHeaders() {
         return headers().size();
     }
@@ -0,0 +1,323 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * The headers of an {@link SdkHttpRequest}, stored in flat arrays sorted in case-insensitive order by header name.
+ * <p>
+ * Requests usually have a dozen headers or fewer, so headers are found by a linear scan over their case-insensitive hashes,
+ * which are computed once when a header is added. The lower-case name of each header is computed once as well, for signers
+ * and HTTP clients that need it. Header values are stored as unmodifiable lists, which are replaced rather than modified, so
+ * they can be handed out without copying or wrapping.
+ * <p>
+ * {@link #copy()} shares the arrays with the copy, and the arrays are only copied when either of them is modified. Instances
+ * that are never modified after they are copied, like the headers of a built request, can safely be read by multiple threads.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class CompactHeaders {
+    private static final String[] NO_STRINGS = new String[0];
+    private static final int[] NO_INTS = new int[0];
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * The number of headers that can be added to a copy before its arrays need to grow again. Requests are usually copied to
+     * add a few headers.
+     */
+    private static final int COPY_HEADROOM = 4;
+
+    private String[] names = NO_STRINGS;
+    private String[] lowerCaseNames = NO_STRINGS;
+    private int[] hashes = NO_INTS;
+    private List<?>[] values = new List<?>[0];
+    private int size;
+
+    /**
+     * Whether the arrays are shared with a copy of these headers, in which case they are copied before they are modified.
+     */
+    private boolean shared;
+
+    /**
+     * An unmodifiable map of these headers, created when it is first requested and discarded when the headers are modified.
+     */
+    private volatile Map<String, List<String>> map;
+
+    public CompactHeaders() {
+    }
+
+    private CompactHeaders(CompactHeaders source) {
+        this.names = source.names;
+        this.lowerCaseNames = source.lowerCaseNames;
+        this.hashes = source.hashes;
+        this.values = source.values;
+        this.size = source.size;
+        this.map = source.map;
+        this.shared = true;
+        if (!source.shared) {
+            source.shared = true;
+        }
+    }
+
+    /**
+     * Create a copy of these headers that shares their storage until either of them is modified.
+     */
+    public CompactHeaders copy() {
+        return new CompactHeaders(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieve the values of the provided header, ignoring case, or null if the header is not present.
+     */
+    public List<String> get(String name) {
+        int index = indexOf(name);
+        return index < 0 ? null : valuesAt(index);
+    }
+
+    /**
+     * Replace the values of the provided header.
+     */
+    public void put(String name, List<String> headerValues) {
+        List<String> valuesCopy = immutableCopy(headerValues);
+        int hash = caseInsensitiveHash(name);
+        int index = indexOf(name, hash);
+        prepareForWrite(index < 0 ? size + 1 : size);
+        if (index >= 0) {
+            values[index] = valuesCopy;
+        } else {
+            insert(name, hash, valuesCopy);
+        }
+    }
+
+    /**
+     * Add a value to the values of the provided header.
+     */
+    public void append(String name, String headerValue) {
+        int hash = caseInsensitiveHash(name);
+        int index = indexOf(name, hash);
+        prepareForWrite(index < 0 ? size + 1 : size);
+        if (index >= 0) {
+            List<String> current = valuesAt(index);
+            List<String> appended = new ArrayList<>(current.size() + 1);
+            appended.addAll(current);
+            appended.add(headerValue);
+            values[index] = unmodifiableList(appended);
+        } else {
+            insert(name, hash, Collections.singletonList(headerValue));
+        }
+    }
+
+    /**
+     * Replace all headers with the headers in the provided map.
+     */
+    public void putAll(Map<String, List<String>> headers) {
+        clear();
+        headers.forEach(this::put);
+    }
+
+    public void remove(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return;
+        }
+        prepareForWrite(size);
+        int moved = size - index - 1;
+        System.arraycopy(names, index + 1, names, index, moved);
+        System.arraycopy(lowerCaseNames, index + 1, lowerCaseNames, index, moved);
+        System.arraycopy(hashes, index + 1, hashes, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        names[size] = null;
+        lowerCaseNames[size] = null;
+        values[size] = null;
+    }
+
+    public void clear() {
+        names = NO_STRINGS;
+        lowerCaseNames = NO_STRINGS;
+        hashes = NO_INTS;
+        values = new List<?>[0];
+        size = 0;
+        shared = false;
+        map = null;
+    }
+
+    /**
+     * Invoke the consumer with the name and values of each header, in case-insensitive order by name.
+     */
+    public void forEach(BiConsumer<? super String, ? super List<String>> consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(names[i], valuesAt(i));
+        }
+    }
+
+    /**
+     * Invoke the consumer with the lower-case name and values of each header, in case-insensitive order by name.
+     */
+    public void forEachLowerCase(BiConsumer<? super String, ? super List<String>> consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(lowerCaseNames[i], valuesAt(i));
+        }
+    }
+
+    /**
+     * The name of the header at the provided index, in case-insensitive order by name.
+     */
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    /**
+     * Retrieve an unmodifiable map of these headers, sorted in case-insensitive order by name.
+     */
+    public Map<String, List<String>> asMap() {
+        Map<String, List<String>> result = map;
+        if (result == null) {
+            Map<String, List<String>> sortedMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            forEach(sortedMap::put);
+            result = Collections.unmodifiableMap(sortedMap);
+            map = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return asMap().equals(((CompactHeaders) o).asMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    private static List<String> immutableCopy(List<String> headerValues) {
+        switch (headerValues.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList(headerValues.get(0));
+            default:
+                return unmodifiableList(new ArrayList<>(headerValues));
+        }
+    }
+
+    @SuppressWarnings("unchecked") // Only lists of strings are stored
+    private List<String> valuesAt(int index) {
+        return (List<String>) values[index];
+    }
+
+    private int indexOf(String name) {
+        return indexOf(name, caseInsensitiveHash(name));
+    }
+
+    private int indexOf(String name, int hash) {
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash && names[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Make the arrays safe to modify, copying them if they are shared, and growing them if they can't hold the required number
+     * of headers.
+     */
+    private void prepareForWrite(int requiredCapacity) {
+        if (map != null) {
+            map = null;
+        }
+        if (!shared && requiredCapacity <= names.length) {
+            return;
+        }
+
+        int capacity;
+        if (shared) {
+            capacity = Math.max(MIN_CAPACITY, Math.max(requiredCapacity, size + COPY_HEADROOM));
+        } else {
+            capacity = Math.max(MIN_CAPACITY, Math.max(requiredCapacity, names.length * 2));
+        }
+        names = Arrays.copyOf(names, capacity);
+        lowerCaseNames = Arrays.copyOf(lowerCaseNames, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        values = Arrays.copyOf(values, capacity);
+        shared = false;
+    }
+
+    private void insert(String name, int hash, List<String> headerValues) {
+        int index = insertionPoint(name);
+        int moved = size - index;
+        System.arraycopy(names, index, names, index + 1, moved);
+        System.arraycopy(lowerCaseNames, index, lowerCaseNames, index + 1, moved);
+        System.arraycopy(hashes, index, hashes, index + 1, moved);
+        System.arraycopy(values, index, values, index + 1, moved);
+        names[index] = name;
+        lowerCaseNames[index] = StringUtils.lowerCase(name);
+        hashes[index] = hash;
+        values[index] = headerValues;
+        size++;
+    }
+
+    private int insertionPoint(String name) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(names[mid], name) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A hash that is equal for names that are equal ignoring case, consistent with {@link String#equalsIgnoreCase(String)}.
+     */
+    private static int caseInsensitiveHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash;
+    }
+}
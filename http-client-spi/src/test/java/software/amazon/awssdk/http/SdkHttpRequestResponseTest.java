@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.URI;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -331,6 +332,35 @@ public class SdkHttpRequestResponseTest {
         });
     }
 
+    @Test
+    public void requestHeadersAreCaseInsensitiveAndSorted() {
+        SdkHttpFullRequest request = validRequestBuilder().putHeader("X-Amz-Date", "date")
+                                                          .putHeader("content-type", "json")
+                                                          .appendHeader("Accept", "a")
+                                                          .appendHeader("ACCEPT", "b")
+                                                          .putHeader("Host", "localhost")
+                                                          .putHeader("HOST", "example.com")
+                                                          .build();
+
+        assertThat(request.headers().keySet()).containsExactly("Accept", "content-type", "Host", "X-Amz-Date");
+        assertThat(request.matchingHeaders("accept")).containsExactly("a", "b");
+        assertThat(request.firstMatchingHeader("host")).hasValue("example.com");
+        assertThat(request.headers().get("CONTENT-TYPE")).containsExactly("json");
+        assertThat(request.numHeaders()).isEqualTo(4);
+
+        List<String> names = new ArrayList<>();
+        request.forEachHeader((name, values) -> names.add(name));
+        assertThat(names).containsExactly("Accept", "content-type", "Host", "X-Amz-Date");
+
+        List<String> lowerCaseNames = new ArrayList<>();
+        request.forEachLowerCaseHeader((name, values) -> lowerCaseNames.add(name));
+        assertThat(lowerCaseNames).containsExactly("accept", "content-type", "host", "x-amz-date");
+
+        SdkHttpFullRequest modified = request.toBuilder().removeHeader("x-amz-date").build();
+        assertThat(modified.headers().keySet()).containsExactly("Accept", "content-type", "Host");
+        assertThat(request.headers().keySet()).containsExactly("Accept", "content-type", "Host", "X-Amz-Date");
+    }
+
     @Test
     public void responseStatusCodeNormalizationIsCorrect() {
         assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> normalizedStatusCode(-1));
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+class CompactHeadersTest {
+
+    @Test
+    void copy_modifiedAfterCopy_doesNotAffectOtherCopies() {
+        CompactHeaders headers = new CompactHeaders();
+        headers.put("A", singletonList("1"));
+        headers.put("B", singletonList("2"));
+
+        CompactHeaders first = headers.copy();
+        CompactHeaders second = headers.copy();
+        first.put("A", singletonList("changed"));
+        first.append("C", "3");
+        second.remove("B");
+        headers.append("B", "4");
+
+        assertThat(headers.asMap()).containsOnlyKeys("A", "B");
+        assertThat(headers.get("A")).containsExactly("1");
+        assertThat(headers.get("B")).containsExactly("2", "4");
+        assertThat(first.get("A")).containsExactly("changed");
+        assertThat(first.get("B")).containsExactly("2");
+        assertThat(first.get("C")).containsExactly("3");
+        assertThat(second.asMap()).containsOnlyKeys("A");
+        assertThat(second.get("A")).containsExactly("1");
+    }
+
+    @Test
+    void toBuilder_modifiedBuilders_doNotAffectBuiltRequestOrEachOther() {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://example.com"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .putHeader("Content-Type", "text/plain")
+                                                       .putHeader("X-Amz-Date", "20240101T000000Z")
+                                                       .build();
+
+        SdkHttpFullRequest appended = request.toBuilder()
+                                             .appendHeader("Content-Type", "charset=utf-8")
+                                             .putHeader("Authorization", "signature")
+                                             .build();
+        SdkHttpFullRequest removed = request.toBuilder().removeHeader("x-amz-date").build();
+
+        assertThat(request.headers()).containsOnlyKeys("Content-Type", "X-Amz-Date");
+        assertThat(request.headers().get("Content-Type")).containsExactly("text/plain");
+        assertThat(appended.headers()).containsOnlyKeys("Authorization", "Content-Type", "X-Amz-Date");
+        assertThat(appended.headers().get("Content-Type")).containsExactly("text/plain", "charset=utf-8");
+        assertThat(removed.headers()).containsOnlyKeys("Content-Type");
+    }
+
+    @Test
+    void put_manyHeaders_growsAndKeepsCaseInsensitiveOrder() {
+        CompactHeaders headers = new CompactHeaders();
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            String name = String.format("Header-%02d", i);
+            headers.put(name, singletonList(Integer.toString(i)));
+            expectedNames.add(0, name);
+        }
+
+        assertThat(headers.size()).isEqualTo(100);
+        List<String> names = new ArrayList<>();
+        headers.forEach((name, values) -> names.add(name));
+        assertThat(names).isEqualTo(expectedNames);
+        for (int i = 0; i < 100; i++) {
+            assertThat(headers.get(String.format("header-%02d", i))).containsExactly(Integer.toString(i));
+        }
+    }
+
+    @Test
+    void remove_thenReinsert_keepsCaseInsensitiveOrder() {
+        CompactHeaders headers = new CompactHeaders();
+        headers.put("c", singletonList("1"));
+        headers.put("A", singletonList("2"));
+        headers.put("B", singletonList("3"));
+
+        headers.remove("b");
+        assertThat(headers.size()).isEqualTo(2);
+        assertThat(headers.get("B")).isNull();
+
+        headers.append("b", "4");
+        List<String> names = new ArrayList<>();
+        headers.forEach((name, values) -> names.add(name));
+        List<String> lowerCaseNames = new ArrayList<>();
+        headers.forEachLowerCase((name, values) -> lowerCaseNames.add(name));
+
+        assertThat(names).containsExactly("A", "b", "c");
+        assertThat(lowerCaseNames).containsExactly("a", "b", "c");
+        assertThat(headers.nameAt(1)).isEqualTo("b");
+        assertThat(headers.get("B")).containsExactly("4");
+    }
+
+    @Test
+    void put_emptyList_keepsHeaderWithoutValues() {
+        CompactHeaders headers = new CompactHeaders();
+        headers.put("Empty", emptyList());
+
+        assertThat(headers.size()).isEqualTo(1);
+        assertThat(headers.get("empty")).isEmpty();
+        assertThat(headers.asMap()).containsEntry("Empty", emptyList());
+
+        headers.append("Empty", "value");
+        assertThat(headers.get("Empty")).containsExactly("value");
+    }
+
+    @Test
+    void putHeader_emptyList_isKeptOnRequest() {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://example.com"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .putHeader("Empty", emptyList())
+                                                       .putHeader("Other", Arrays.asList("1", "2"))
+                                                       .build();
+
+        assertThat(request.headers()).containsOnlyKeys("Empty", "Other");
+        assertThat(request.matchingHeaders("empty")).isEmpty();
+        assertThat(request.firstMatchingHeader("Empty")).isNotPresent();
+        assertThat(request.numHeaders()).isEqualTo(2);
+    }
+}
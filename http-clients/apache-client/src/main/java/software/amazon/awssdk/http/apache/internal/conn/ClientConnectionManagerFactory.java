@@ -37,10 +37,21 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics, and to lease connections through the given gate.
+     *
+     * @param orig the target instance to be wrapped
+     * @param leaseGate the gate limiting the leased connections, or null to lease directly from the pool
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig, ConnectionLeaseGate leaseGate) {
         if (orig instanceof DelegatingHttpClientConnectionManager) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedHttpClientConnectionManager(orig);
+        return new InstrumentedHttpClientConnectionManager(orig, leaseGate);
     }
 
     /**
@@ -48,15 +59,32 @@ public final class ClientConnectionManagerFactory {
      */
     private static class InstrumentedHttpClientConnectionManager extends DelegatingHttpClientConnectionManager {
 
-        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate) {
+        private final ConnectionLeaseGate leaseGate;
+
+        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate, ConnectionLeaseGate leaseGate) {
             super(delegate);
+            this.leaseGate = leaseGate;
         }
 
         @Override
         public ConnectionRequest requestConnection(HttpRoute route, Object state) {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
+            if (leaseGate != null) {
+                connectionRequest = leaseGate.gate(connectionRequest);
+            }
             return ClientConnectionRequestFactory.wrap(connectionRequest);
         }
+
+        @Override
+        public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+            try {
+                super.releaseConnection(conn, newState, validDuration, timeUnit);
+            } finally {
+                if (leaseGate != null) {
+                    leaseGate.release(conn);
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Limits the number of connections leased from the pool, so that requests wait for a connection here rather than in the pool.
+ * <p>
+ * The pool waits for a free connection while holding the monitor of the connection request, which pins the carrier thread of
+ * a virtual thread for the whole wait. When the number of concurrent requests is larger than the pool, e.g. with one virtual
+ * thread per request, those waits can block every carrier thread. Requests that get past this gate find a free connection in
+ * the pool, and requests waiting on the gate don't hold any monitor.
+ */
+@SdkInternalApi
+public final class ConnectionLeaseGate {
+    private final Semaphore leases;
+    private final Set<HttpClientConnection> leasedConnections = ConcurrentHashMap.newKeySet();
+
+    public ConnectionLeaseGate(int maxLeases) {
+        this.leases = new Semaphore(maxLeases);
+    }
+
+    /**
+     * @return The number of requests currently waiting for a connection.
+     */
+    public int pendingAcquires() {
+        return leases.getQueueLength();
+    }
+
+    /**
+     * Returns a {@link ConnectionRequest} that only leases a connection from the given request once the number of leased
+     * connections is below the limit of this gate.
+     */
+    ConnectionRequest gate(ConnectionRequest request) {
+        return new GatedConnectionRequest(request);
+    }
+
+    /**
+     * Records that a connection was released to the pool, allowing another one to be leased. Connections that weren't leased
+     * through this gate, or that were already released, are ignored.
+     */
+    void release(HttpClientConnection connection) {
+        if (leasedConnections.remove(connection)) {
+            leases.release();
+        }
+    }
+
+    private final class GatedConnectionRequest implements ConnectionRequest {
+        private final ConnectionRequest delegate;
+
+        private GatedConnectionRequest(ConnectionRequest delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+            // Same as the pool, a timeout of zero or less means waiting indefinitely.
+            long timeoutNanos = timeout > 0 ? timeUnit.toNanos(timeout) : 0;
+            long startTime = System.nanoTime();
+            if (timeoutNanos > 0) {
+                if (!leases.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+                }
+            } else {
+                leases.acquire();
+            }
+
+            boolean leased = false;
+            try {
+                long remainingNanos = timeoutNanos > 0 ? Math.max(1, timeoutNanos - (System.nanoTime() - startTime)) : 0;
+                HttpClientConnection connection = delegate.get(remainingNanos, TimeUnit.NANOSECONDS);
+                leasedConnections.add(connection);
+                leased = true;
+                return connection;
+            } finally {
+                if (!leased) {
+                    leases.release();
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            return delegate.cancel();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.junit.Test;
+
+public class ConnectionLeaseGateTest {
+
+    @Test
+    public void get_belowLimit_leasesFromPool() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+
+        assertThat(gate.gate(request(connection)).get(1, TimeUnit.SECONDS)).isSameAs(connection);
+    }
+
+    @Test
+    public void get_atLimit_timesOutWithoutCallingPool() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        gate.gate(request(mock(HttpClientConnection.class))).get(1, TimeUnit.SECONDS);
+
+        ConnectionRequest pooled = mock(ConnectionRequest.class);
+        assertThatThrownBy(() -> gate.gate(pooled).get(10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(ConnectionPoolTimeoutException.class);
+        verifyNoInteractions(pooled);
+    }
+
+    @Test
+    public void release_allowsAnotherLease() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        HttpClientConnection first = mock(HttpClientConnection.class);
+        gate.gate(request(first)).get(1, TimeUnit.SECONDS);
+
+        gate.release(first);
+
+        HttpClientConnection second = mock(HttpClientConnection.class);
+        assertThat(gate.gate(request(second)).get(1, TimeUnit.SECONDS)).isSameAs(second);
+    }
+
+    @Test
+    public void release_calledTwice_onlyReleasesOneLease() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        HttpClientConnection first = mock(HttpClientConnection.class);
+        gate.gate(request(first)).get(1, TimeUnit.SECONDS);
+
+        gate.release(first);
+        gate.release(first);
+        gate.release(mock(HttpClientConnection.class));
+
+        gate.gate(request(mock(HttpClientConnection.class))).get(1, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> gate.gate(request(mock(HttpClientConnection.class))).get(10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(ConnectionPoolTimeoutException.class);
+    }
+
+    @Test
+    public void get_poolFails_releasesLease() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        ConnectionRequest failing = mock(ConnectionRequest.class);
+        when(failing.get(anyLong(), eq(TimeUnit.NANOSECONDS))).thenThrow(new ExecutionException(new RuntimeException()));
+
+        assertThatThrownBy(() -> gate.gate(failing).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        HttpClientConnection connection = mock(HttpClientConnection.class);
+        assertThat(gate.gate(request(connection)).get(1, TimeUnit.SECONDS)).isSameAs(connection);
+    }
+
+    @Test
+    public void pendingAcquires_countsWaitingRequests() throws Exception {
+        ConnectionLeaseGate gate = new ConnectionLeaseGate(1);
+        HttpClientConnection first = mock(HttpClientConnection.class);
+        gate.gate(request(first)).get(1, TimeUnit.SECONDS);
+
+        Thread waiting = new Thread(() -> {
+            try {
+                gate.gate(request(mock(HttpClientConnection.class))).get(0, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                // Interrupted by the test
+            }
+        });
+        waiting.start();
+        while (gate.pendingAcquires() == 0) {
+            Thread.sleep(10);
+        }
+
+        assertThat(gate.pendingAcquires()).isEqualTo(1);
+        waiting.interrupt();
+        waiting.join();
+        assertThat(gate.pendingAcquires()).isZero();
+    }
+
+    private static ConnectionRequest request(HttpClientConnection connection) throws Exception {
+        ConnectionRequest request = mock(ConnectionRequest.class);
+        when(request.get(anyLong(), eq(TimeUnit.NANOSECONDS))).thenReturn(connection);
+        return request;
+    }
+}
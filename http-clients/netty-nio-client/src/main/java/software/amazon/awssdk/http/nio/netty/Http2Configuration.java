@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Integer prewarmedConnections;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.prewarmedConnections = builder.prewarmedConnections;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The number of HTTP/2 connections to open to an endpoint as soon as the first request is made to it.
+     */
+    public Integer prewarmedConnections() {
+        return prewarmedConnections;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,14 +87,19 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
 
+        return prewarmedConnections != null ? prewarmedConnections.equals(that.prewarmedConnections)
+                                            : that.prewarmedConnections == null;
     }
 
     @Override
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (prewarmedConnections != null ? prewarmedConnections.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,28 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the number of HTTP/2 connections to open to an endpoint as soon as the first request is made to it, instead of
+         * opening them one by one as the existing connections run out of streams. This avoids paying the connection setup
+         * latency on the requests of a burst.
+         *
+         * <p>When one of these connections stops accepting new streams, e.g. because the service sent a {@code GOAWAY}
+         * frame, a replacement connection is opened in the background so that this many connections remain available.
+         * Connections that are idle for longer than the configured max idle time are still closed. By default, connections
+         * are only opened when they are needed.</p>
+         *
+         * @param prewarmedConnections The number of connections to open ahead of time to each endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder prewarmedConnections(Integer prewarmedConnections);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Integer prewarmedConnections;
 
         private DefaultBuilder() {
         }
@@ -141,6 +171,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.prewarmedConnections = http2Configuration.prewarmedConnections;
         }
 
         @Override
@@ -173,6 +204,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder prewarmedConnections(Integer prewarmedConnections) {
+            this.prewarmedConnections = Validate.isPositiveOrNull(prewarmedConnections, "prewarmedConnections");
+            return this;
+        }
+
+        public void setPrewarmedConnections(Integer prewarmedConnections) {
+            prewarmedConnections(prewarmedConnections);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
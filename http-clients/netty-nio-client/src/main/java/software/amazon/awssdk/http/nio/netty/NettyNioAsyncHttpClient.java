@@ -109,6 +109,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .prewarmedConnections(resolvePrewarmedConnections(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(sslProvider)
                                              .proxyConfiguration(builder.proxyConfiguration)
@@ -238,6 +239,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private int resolvePrewarmedConnections(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.prewarmedConnections() == null) {
+            return 0;
+        }
+        return http2Configuration.prewarmedConnections();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
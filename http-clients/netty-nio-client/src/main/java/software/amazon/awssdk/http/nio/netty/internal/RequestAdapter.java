@@ -37,6 +37,7 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 public final class RequestAdapter {
 
     private static final String HOST = "Host";
+    private static final String LOWER_CASE_HOST = "host";
     private static final List<String> IGNORE_HEADERS = Collections.singletonList(HOST);
 
     private final Protocol protocol;
@@ -85,6 +86,17 @@ public final class RequestAdapter {
             httpRequest.headers().add(ExtensionHeaderNames.SCHEME.text(), scheme);
         }
 
+        if (Protocol.HTTP2 == protocol) {
+            // HTTP/2 header names are lower case, so the lower-case names the request already has are copied, which the
+            // conversion to HTTP/2 headers then doesn't need to lower-case again.
+            request.forEachLowerCaseHeader((name, value) -> {
+                if (!LOWER_CASE_HOST.equals(name)) {
+                    value.forEach(h -> httpRequest.headers().add(name, h));
+                }
+            });
+            return;
+        }
+
         // Copy over any other headers already in our request
         request.forEachHeader((name, value) -> {
             // Skip the Host header to avoid sending it twice, which will interfere with some signing schemes.
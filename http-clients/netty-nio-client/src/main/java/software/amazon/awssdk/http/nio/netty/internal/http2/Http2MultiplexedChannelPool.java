@@ -49,6 +49,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
@@ -64,8 +65,17 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections, by opening each
+ * stream on the connection with the most available streams. When the max concurrency of all connections is reached, a new
+ * connection will be opened.
+ *
+ * <p>
+ * If a number of prewarmed connections is configured, that many connections are opened as soon as the first stream is
+ * acquired, and a replacement connection is opened in the background whenever one of them stops accepting new streams
+ * (e.g. after a GOAWAY), so that bursts of requests don't wait for connections to be established. Like any other
+ * connection, a prewarmed connection is closed once it has been idle for the idle connection timeout, even if it never
+ * served a stream.
+ * </p>
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -92,6 +102,13 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final int prewarmedConnections;
+
+    /**
+     * Number of connections being opened in the background, that aren't in {@link #connections} yet.
+     */
+    private final AtomicInteger pendingPrewarmedConnections = new AtomicInteger();
+    private final AtomicBoolean prewarmed = new AtomicBoolean(false);
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +118,23 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, 0);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param prewarmedConnections Number of connections to open when the first stream is acquired, and to keep open to new
+     * streams when connections are shut down by the service.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                int prewarmedConnections) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.prewarmedConnections = prewarmedConnections;
     }
 
     @SdkTestInternalApi
@@ -127,6 +157,17 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
+        if (prewarmedConnections > 0 && prewarmed.compareAndSet(false, true)) {
+            // This acquire opens a connection of its own below, unless one was opened in the meantime.
+            openPrewarmedConnections(prewarmedConnections - 1);
+        }
+
+        MultiplexedChannelRecord leastLoaded = leastLoadedConnection();
+        if (leastLoaded != null && acquireStreamOnInitializedConnection(leastLoaded, promise)) {
+            return promise;
+        }
+
+        // The least loaded connection may have been claimed concurrently, fall back to any connection with a free stream.
         for (MultiplexedChannelRecord multiplexedChannel : connections) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
@@ -138,6 +179,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    /**
+     * @return The connection with the most available streams, or null if no connection has an available stream.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        MultiplexedChannelRecord leastLoaded = null;
+        long mostAvailableStreams = 0;
+        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+            long availableStreams = multiplexedChannel.availableStreams();
+            if (availableStreams > mostAvailableStreams) {
+                leastLoaded = multiplexedChannel;
+                mostAvailableStreams = availableStreams;
+            }
+        }
+        return leastLoaded;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -163,19 +220,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
         try {
-            Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
-
-            Validate.isTrue(protocol == Protocol.HTTP2,
-                            "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
-                            + "was %s.", parentChannel, Protocol.HTTP1_1);
-            Validate.isTrue(maxStreams != null,
-                            "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
-                            + "streams was not initialized.", parentChannel);
-            Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
-
-            MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
-                                                                                       idleConnectionTimeout);
-            parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+            MultiplexedChannelRecord multiplexedChannel = createChannelRecord(parentChannel, protocol);
 
             Promise<Channel> streamPromise = parentChannel.eventLoop().newPromise();
 
@@ -199,6 +244,98 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         }
     }
 
+    private MultiplexedChannelRecord createChannelRecord(Channel parentChannel, Protocol protocol) {
+        Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
+
+        Validate.isTrue(protocol == Protocol.HTTP2,
+                        "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
+                        + "was %s.", parentChannel, Protocol.HTTP1_1);
+        Validate.isTrue(maxStreams != null,
+                        "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
+                        + "streams was not initialized.", parentChannel);
+        Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
+
+        MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
+                                                                                   idleConnectionTimeout);
+        parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+        return multiplexedChannel;
+    }
+
+    /**
+     * Open connections in the background and cache them for future streams, without acquiring a stream on them.
+     */
+    private void openPrewarmedConnections(int count) {
+        for (int i = 0; i < count; i++) {
+            pendingPrewarmedConnections.incrementAndGet();
+            Future<Channel> newConnectionAcquire = connectionPool.acquire();
+            newConnectionAcquire.addListener(f -> {
+                if (!newConnectionAcquire.isSuccess()) {
+                    pendingPrewarmedConnections.decrementAndGet();
+                    log.debug(null, () -> "Failed to open prewarmed connection", newConnectionAcquire.cause());
+                    return;
+                }
+
+                Channel parentChannel = newConnectionAcquire.getNow();
+                try {
+                    parentChannel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(this);
+                    parentChannel.attr(PROTOCOL_FUTURE).get()
+                                 .thenAccept(protocol -> cachePrewarmedConnection(parentChannel, protocol))
+                                 .whenComplete((r, t) -> pendingPrewarmedConnections.decrementAndGet())
+                                 .exceptionally(throwable -> closePrewarmedConnection(parentChannel, throwable));
+                } catch (Throwable e) {
+                    pendingPrewarmedConnections.decrementAndGet();
+                    closePrewarmedConnection(parentChannel, e);
+                }
+            });
+        }
+    }
+
+    private void cachePrewarmedConnection(Channel parentChannel, Protocol protocol) {
+        MultiplexedChannelRecord multiplexedChannel = createChannelRecord(parentChannel, protocol);
+
+        // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
+        parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
+        connections.add(multiplexedChannel);
+
+        // No stream may ever be acquired on this connection, so start the idle timer now.
+        multiplexedChannel.enableIdleTimeout();
+
+        if (closed.get()) {
+            // We were closed while we were setting up. Make sure everything here is cleaned up properly.
+            closeAndReleaseParent(parentChannel);
+        }
+    }
+
+    private Void closePrewarmedConnection(Channel parentChannel, Throwable exception) {
+        log.debug(parentChannel, () -> "Failed to initialize prewarmed connection, closing connection " + parentChannel,
+                  exception);
+        closeAndReleaseParent(parentChannel);
+        return null;
+    }
+
+    /**
+     * Open connections in the background to replace a connection that stopped accepting new streams, if fewer than the
+     * prewarmed number of connections are left to accept them.
+     */
+    private void replacePrewarmedConnection(MultiplexedChannelRecord closingChannel) {
+        if (prewarmedConnections == 0 || closed.get()) {
+            return;
+        }
+
+        int availableConnections = pendingPrewarmedConnections.get();
+        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+            if (multiplexedChannel != closingChannel && multiplexedChannel.acceptsNewStreams()) {
+                availableConnections++;
+            }
+        }
+
+        if (availableConnections < prewarmedConnections) {
+            log.debug(closingChannel.getConnection(), () -> "Opening connection to replace " + closingChannel.getConnection()
+                                                            + ", which no longer accepts new streams");
+            openPrewarmedConnections(prewarmedConnections - availableConnections);
+        }
+    }
+
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
                                                  Promise<Channel> promise) {
@@ -370,6 +507,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
             if (multiplexedChannel != null) {
                 multiplexedChannel.handleGoAway(lastStreamId, exception);
+                replacePrewarmedConnection(multiplexedChannel);
             } else {
                 // If we don't have a multiplexed channel, the parent channel hasn't been fully initialized. Close it now.
                 closeAndReleaseParent(parentChannel, exception);
@@ -499,6 +637,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             MultiplexedChannelRecord multiplexedChannel = ctx.channel().attr(MULTIPLEXED_CHANNEL).get();
             if (multiplexedChannel != null) {
                 multiplexedChannel.closeToNewStreams();
+                ctx.channel().attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).get().replacePrewarmedConnection(multiplexedChannel);
             } else {
                 closeAndReleaseParent(ctx, cause);
             }
@@ -45,6 +45,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final ChannelPool delegatePool;
     private final int maxConcurrency;
+    private final int prewarmedConnections;
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
@@ -58,8 +59,21 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                   EventLoopGroup group,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
+        this(delegatePool, group, maxConcurrency, 0, configuration);
+    }
+
+    /**
+     * @param prewarmedConnections The number of connections to open ahead of time if HTTP/2 is negotiated, see
+     * {@link Http2MultiplexedChannelPool}.
+     */
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  int prewarmedConnections,
+                                  NettyConfiguration configuration) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
+        this.prewarmedConnections = prewarmedConnections;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
@@ -170,7 +184,8 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    prewarmedConnections);
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
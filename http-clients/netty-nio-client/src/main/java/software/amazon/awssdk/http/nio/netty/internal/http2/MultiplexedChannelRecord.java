@@ -123,6 +123,23 @@ public class MultiplexedChannelRecord {
         }, promise);
     }
 
+    /**
+     * Close this connection once it has been idle for the allowed idle connection time, even if no stream is ever acquired on
+     * it. Connections opened ahead of demand use this, because the idle timer is otherwise only started by the first stream.
+     */
+    void enableIdleTimeout() {
+        if (allowedIdleConnectionTimeMillis == null) {
+            return;
+        }
+
+        lastReserveAttemptTimeMillis = System.currentTimeMillis();
+        doInEventLoop(connection.eventLoop(), () -> {
+            if (closeIfIdleTask == null) {
+                enableCloseIfIdleTask();
+            }
+        });
+    }
+
     private void enableCloseIfIdleTask() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -300,6 +317,20 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return The number of streams that can currently be acquired on this connection, or 0 if it doesn't accept new streams.
+     */
+    long availableStreams() {
+        return acceptsNewStreams() ? availableChildChannels.get() : 0;
+    }
+
+    /**
+     * @return True if new streams may be acquired on this connection, if they are available.
+     */
+    boolean acceptsNewStreams() {
+        return state == RecordState.OPEN;
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
@@ -73,6 +73,21 @@ public class RequestAdapterTest {
         assertThat(adapted.headers().getAll(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text())).containsExactly("http");
     }
 
+    @Test
+    public void adapt_h2Request_copiesLowerCaseHeaderNames() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                .uri(URI.create("http://localhost:12345/foo"))
+                .putHeader("X-Amz-Date", "20240101T000000Z")
+                .putHeader("HOST", "virtual.host:123")
+                .method(SdkHttpMethod.GET)
+                .build();
+
+        HttpRequest adapted = h2Adapter.adapt(request);
+
+        assertThat(adapted.headers().names()).contains("x-amz-date").doesNotContain("X-Amz-Date");
+        assertThat(adapted.headers().getAll(HttpHeaderNames.HOST)).containsExactly("virtual.host:123");
+    }
+
     @Test
     public void adapt_noPathContainsQueryParams() {
         SdkHttpRequest request = SdkHttpRequest.builder()
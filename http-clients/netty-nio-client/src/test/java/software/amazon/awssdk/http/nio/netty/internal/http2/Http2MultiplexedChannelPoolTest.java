@@ -38,6 +38,7 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
@@ -330,6 +331,137 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_shouldUseConnectionWithMostAvailableStreams() {
+        int maxConcurrentStream = 3;
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set((long) maxConcurrentStream);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set((long) maxConcurrentStream);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.emptySet(), null);
+
+            // Fill the first connection, so the next stream opens the second connection
+            Channel firstStream = doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isEqualTo(channel2);
+
+            // The first connection now has 1 available stream, and the second one 2
+            firstStream.close();
+            h2Pool.release(firstStream).awaitUninterruptibly();
+            runPendingTasks(channel1, channel2);
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isEqualTo(channel2);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isIn(channel1, channel2);
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void acquire_withPrewarmedConnections_shouldOpenConnectionsOnFirstAcquire() throws InterruptedException {
+        int maxConcurrentStream = 3;
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set((long) maxConcurrentStream);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set((long) maxConcurrentStream);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, null, 2);
+
+            doAcquire(channel1, channel2, h2Pool);
+
+            // One stream is in use, and all the streams of the other connection are available
+            MetricCollection metrics = getMetrics(h2Pool);
+            for (int i = 0; i < 50 && !metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).contains(5); i++) {
+                Thread.sleep(100);
+                runPendingTasks(channel1, channel2);
+                metrics = getMetrics(h2Pool);
+            }
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(5);
+
+            // Later acquires use the prewarmed connections without opening any more
+            doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void prewarmedConnectionWithoutStreams_shouldBeClosedAfterIdleTimeout() throws InterruptedException {
+        int idleTimeoutMillis = 1000;
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(3L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(3L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, Duration.ofMillis(idleTimeoutMillis), 2);
+
+            // The stream keeps the first connection busy, while the prewarmed second connection never gets a stream
+            Channel stream = doAcquire(channel1, channel2, h2Pool);
+            assertThat(stream.parent()).isEqualTo(channel1);
+            MetricCollection metrics = getMetrics(h2Pool);
+            for (int i = 0; i < 50 && !metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).contains(5); i++) {
+                Thread.sleep(100);
+                runPendingTasks(channel1, channel2);
+                metrics = getMetrics(h2Pool);
+            }
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(5);
+
+            Thread.sleep(idleTimeoutMillis * 2);
+            runPendingTasks(channel1, channel2);
+
+            assertThat(channel1.isOpen()).isTrue();
+            assertThat(channel2.isOpen()).isFalse();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
@@ -171,6 +171,23 @@ public class MultiplexedChannelRecordTest {
         assertThat(channel.isOpen()).isTrue();
     }
 
+    @Test
+    public void recordsWithIdleTimeoutEnabledAreClosedAfterTimeoutWithoutAnyStream() throws InterruptedException {
+        int idleTimeoutMillis = 1000;
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 2, Duration.ofMillis(idleTimeoutMillis));
+
+        record.enableIdleTimeout();
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+
+        Thread.sleep(idleTimeoutMillis * 2);
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
     @Test
     public void availableStream0_reusableShouldBeFalse() {
         loopGroup.register(channel).awaitUninterruptibly();
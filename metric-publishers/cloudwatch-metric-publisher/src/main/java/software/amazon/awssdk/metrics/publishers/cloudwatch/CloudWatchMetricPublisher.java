@@ -436,12 +436,13 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * {@code detailedMetrics} are enabled), (2) increase the time it takes for metric data to appear in
          * CloudWatch, (3) reduce the number of CloudWatch calls (and therefore decrease CloudWatch usage cost).
          *
-         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
-         * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
-         * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, metric values are stored in a histogram in memory until
+         * they can be published to CloudWatch. Values within 0.4% of each other may be combined into a single value (their
+         * average), which bounds the memory used by each metric, but a histogram is still much larger than a summary. A high
+         * {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can quickly consume heap memory while the values
+         * wait to be published to CloudWatch. In memory constrained environments, it is recommended to minimize the number of
+         * {@code detailedMetrics} configured on the publisher, or to upload metric data more frequently. As with all performance
+         * and resource concerns, profiling in a production-like environment is encouraged.
          */
         public Builder uploadFrequency(Duration uploadFrequency) {
             this.uploadFrequency = uploadFrequency;
@@ -556,12 +557,13 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * {@link MetricDatum#values()} and {@link MetricDatum#counts()}, which enables other metrics like p90 and p99 to be
          * queried in CloudWatch.
          *
-         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
-         * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
-         * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, metric values are stored in a histogram in memory until
+         * they can be published to CloudWatch. Values within 0.4% of each other may be combined into a single value (their
+         * average), which bounds the memory used by each metric, but a histogram is still much larger than a summary. A high
+         * {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can quickly consume heap memory while the values
+         * wait to be published to CloudWatch. In memory constrained environments, it is recommended to minimize the number of
+         * {@code detailedMetrics} configured on the publisher, or to upload metric data more frequently. As with all performance
+         * and resource concerns, profiling in a production-like environment is encouraged.
          *
          * <p>In addition to additional heap memory usage, detailed metrics can result in more requests being sent to CloudWatch,
          * which can also introduce additional usage cost. The {@link #maximumCallsPerUpload(Integer)} acts as a safeguard against
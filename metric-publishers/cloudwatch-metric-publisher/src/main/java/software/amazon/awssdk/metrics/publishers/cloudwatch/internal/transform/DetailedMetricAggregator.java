@@ -15,11 +15,8 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
@@ -27,8 +24,10 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 
 /**
- * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
- * until they can be added to a {@link MetricDatum}.
+ * An implementation of {@link MetricAggregator} that stores a histogram of the values for a given metric/dimension pair until
+ * its values and counts can be added to a {@link MetricDatum}.
+ *
+ * @see LogLinearHistogram
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
@@ -36,7 +35,7 @@ class DetailedMetricAggregator implements MetricAggregator {
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
         this.metric = key.metric();
@@ -56,7 +55,7 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        histogram.record(value);
     }
 
     @Override
@@ -64,23 +63,30 @@ class DetailedMetricAggregator implements MetricAggregator {
         return unit;
     }
 
-    public Collection<DetailedMetrics> detailedMetrics() {
-        return Collections.unmodifiableCollection(metricDetails.values());
+    /**
+     * The distinct values recorded by this aggregator and their counts, in ascending order of values. Values within 0.4% of
+     * each other may be combined into one, see {@link LogLinearHistogram}.
+     */
+    public List<DetailedMetrics> detailedMetrics() {
+        List<DetailedMetrics> result = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> result.add(new DetailedMetrics(value, count)));
+        return result;
     }
 
     public static class DetailedMetrics {
         private final double metricValue;
-        private int metricCount = 0;
+        private final long metricCount;
 
-        private DetailedMetrics(double metricValue) {
+        private DetailedMetrics(double metricValue, long metricCount) {
             this.metricValue = metricValue;
+            this.metricCount = metricCount;
         }
 
         public double metricValue() {
             return metricValue;
         }
 
-        public int metricCount() {
+        public long metricCount() {
             return metricCount;
         }
     }
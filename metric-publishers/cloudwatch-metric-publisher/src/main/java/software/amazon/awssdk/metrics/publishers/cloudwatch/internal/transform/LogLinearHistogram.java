@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongBinaryOperator;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A fixed-precision histogram of {@code double} values, with buckets that grow exponentially with the magnitude of the
+ * value, like an HDR histogram.
+ *
+ * <p>Each power of two is split into {@value #SUB_BUCKET_COUNT} equally sized buckets, so all values in a bucket are within
+ * 1/{@value #SUB_BUCKET_COUNT} (less than 0.4%) of each other. Each bucket tracks the number and the sum of the values recorded
+ * in it, and reports their average. A bucket that only saw a single distinct value reports that value (up to rounding), and
+ * the sum of all recorded values is preserved. Integers with an absolute value below 512 always get a bucket of their own.
+ *
+ * <p>The buckets of a power of two are allocated the first time a value in that range is recorded. Only the powers of two from
+ * 2<sup>{@value #MIN_EXPONENT}</sup> to 2<sup>{@value #MAX_EXPONENT}</sup> get buckets, and magnitudes outside of that range
+ * share the buckets of the closest one, so the memory used by a histogram is bounded no matter how many values are recorded.
+ *
+ * <p>Recording values is lock-free. Reading the buckets while values are being recorded may see some values in the counts
+ * but not yet in the sums, so readers should make sure all recording is complete first.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class LogLinearHistogram {
+    static final int SUB_BUCKET_COUNT = 256;
+
+    /**
+     * The smallest power of two that gets buckets of its own. This is below the threshold under which
+     * {@link software.amazon.awssdk.utils.MetricValueNormalizer} floors values to zero.
+     */
+    static final int MIN_EXPONENT = -16;
+
+    /**
+     * The largest power of two that gets buckets of its own.
+     */
+    static final int MAX_EXPONENT = 63;
+
+    private static final int SUB_BUCKET_SHIFT = 52 - Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int EXPONENT_COUNT = MAX_EXPONENT - MIN_EXPONENT + 1;
+    private static final LongBinaryOperator ADD_DOUBLE_BITS =
+        (left, right) -> Double.doubleToRawLongBits(Double.longBitsToDouble(left) + Double.longBitsToDouble(right));
+
+    private final AtomicReferenceArray<Buckets> positiveBuckets = new AtomicReferenceArray<>(EXPONENT_COUNT);
+    private final AtomicReferenceArray<Buckets> negativeBuckets = new AtomicReferenceArray<>(EXPONENT_COUNT);
+    private final AtomicLong zeroCount = new AtomicLong();
+
+    /**
+     * Record the provided value in this histogram.
+     */
+    public void record(double value) {
+        if (value == 0) {
+            zeroCount.incrementAndGet();
+            return;
+        }
+
+        double magnitude = Math.abs(value);
+        int exponent = Math.max(MIN_EXPONENT, Math.min(MAX_EXPONENT, Math.getExponent(magnitude)));
+        int subBucket = (int) (Double.doubleToRawLongBits(magnitude) >>> SUB_BUCKET_SHIFT) & (SUB_BUCKET_COUNT - 1);
+
+        AtomicReferenceArray<Buckets> buckets = value > 0 ? positiveBuckets : negativeBuckets;
+        bucketsFor(buckets, exponent - MIN_EXPONENT).record(subBucket, value);
+    }
+
+    /**
+     * Invoke the provided consumer with the average value and the count of each non-empty bucket, in ascending order of
+     * values.
+     */
+    public void forEachBucket(BucketConsumer consumer) {
+        for (int i = EXPONENT_COUNT - 1; i >= 0; i--) {
+            Buckets buckets = negativeBuckets.get(i);
+            if (buckets != null) {
+                for (int subBucket = SUB_BUCKET_COUNT - 1; subBucket >= 0; subBucket--) {
+                    buckets.accept(subBucket, consumer);
+                }
+            }
+        }
+
+        long zeros = zeroCount.get();
+        if (zeros > 0) {
+            consumer.accept(0.0, zeros);
+        }
+
+        for (int i = 0; i < EXPONENT_COUNT; i++) {
+            Buckets buckets = positiveBuckets.get(i);
+            if (buckets != null) {
+                for (int subBucket = 0; subBucket < SUB_BUCKET_COUNT; subBucket++) {
+                    buckets.accept(subBucket, consumer);
+                }
+            }
+        }
+    }
+
+    private static Buckets bucketsFor(AtomicReferenceArray<Buckets> buckets, int index) {
+        Buckets result = buckets.get(index);
+        if (result == null) {
+            buckets.compareAndSet(index, null, new Buckets());
+            result = buckets.get(index);
+        }
+        return result;
+    }
+
+    /**
+     * Receives the buckets of a {@link LogLinearHistogram}.
+     */
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double value, long count);
+    }
+
+    /**
+     * The buckets of a single power of two.
+     */
+    private static final class Buckets {
+        private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKET_COUNT);
+        private final AtomicLongArray sums = new AtomicLongArray(SUB_BUCKET_COUNT);
+
+        private void record(int subBucket, double value) {
+            sums.accumulateAndGet(subBucket, Double.doubleToRawLongBits(value), ADD_DOUBLE_BITS);
+            counts.incrementAndGet(subBucket);
+        }
+
+        private void accept(int subBucket, BucketConsumer consumer) {
+            long count = counts.get(subBucket);
+            if (count > 0) {
+                consumer.accept(Double.longBitsToDouble(sums.get(subBucket)) / count, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class LogLinearHistogramTest {
+    @Test
+    public void smallIntegers_areRecordedExactly() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = -511; i < 512; i++) {
+            histogram.record(i);
+            histogram.record(i);
+        }
+
+        List<double[]> buckets = buckets(histogram);
+        assertThat(buckets).hasSize(1023);
+        for (int i = 0; i < buckets.size(); i++) {
+            assertThat(buckets.get(i)[0]).isEqualTo(i - 511.0);
+            assertThat(buckets.get(i)[1]).isEqualTo(2.0);
+        }
+    }
+
+    @Test
+    public void singleValuePerBucket_isRecordedExactly() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(1000.5);
+        histogram.record(-10_000);
+        histogram.record(123_456_789.123);
+
+        assertThat(buckets(histogram)).extracting(b -> b[0]).containsExactly(-10_000.0, 1000.5, 123_456_789.123);
+    }
+
+    @Test
+    public void manyDistinctValues_boundedBucketsWithBoundedError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        Random random = new Random(0);
+        double sum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            double value = Math.exp(random.nextGaussian() * 3 + 5);
+            sum += value;
+            histogram.record(value);
+        }
+
+        List<double[]> buckets = buckets(histogram);
+        double log2Range = Math.log(buckets.get(buckets.size() - 1)[0] / buckets.get(0)[0]) / Math.log(2);
+        assertThat(buckets.size()).isLessThanOrEqualTo((int) Math.ceil(log2Range + 1) * LogLinearHistogram.SUB_BUCKET_COUNT);
+
+        double recordedSum = 0;
+        long recordedCount = 0;
+        for (int i = 0; i < buckets.size(); i++) {
+            recordedSum += buckets.get(i)[0] * buckets.get(i)[1];
+            recordedCount += (long) buckets.get(i)[1];
+            if (i > 0) {
+                assertThat(buckets.get(i)[0]).isGreaterThan(buckets.get(i - 1)[0]);
+            }
+        }
+        assertThat(recordedCount).isEqualTo(1_000_000);
+        assertThat(recordedSum).isCloseTo(sum, within(sum * 1e-9));
+    }
+
+    @Test
+    public void valuesInSameBucket_reportedWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(10_000);
+        histogram.record(10_010);
+
+        List<double[]> buckets = buckets(histogram);
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0)[0]).isEqualTo(10_005.0);
+        assertThat(buckets.get(0)[1]).isEqualTo(2.0);
+    }
+
+    @Test
+    public void valuesOutsideOfRange_sharedEdgeBuckets() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(Math.scalb(1.0, LogLinearHistogram.MIN_EXPONENT - 10));
+        histogram.record(Math.scalb(1.0, LogLinearHistogram.MAX_EXPONENT + 10));
+        histogram.record(Math.scalb(1.0, LogLinearHistogram.MAX_EXPONENT + 20));
+
+        assertThat(buckets(histogram)).extracting(b -> b[1]).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    public void zero_isRecordedExactly() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(0.0);
+        histogram.record(-0.0);
+        histogram.record(-1);
+        histogram.record(1);
+
+        assertThat(buckets(histogram)).extracting(b -> b[0]).containsExactly(-1.0, 0.0, 1.0);
+        assertThat(buckets(histogram)).extracting(b -> b[1]).containsExactly(1.0, 2.0, 1.0);
+    }
+
+    @Test
+    public void concurrentRecording_countsAllValues() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture<?>[] futures =
+                IntStream.range(0, 8)
+                         .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                             for (int i = 0; i < 100_000; i++) {
+                                 histogram.record(i % 1000);
+                             }
+                         }, executor))
+                         .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = buckets(histogram).stream().mapToLong(b -> (long) b[1]).sum();
+        assertThat(total).isEqualTo(800_000);
+    }
+
+    private static List<double[]> buckets(LogLinearHistogram histogram) {
+        List<double[]> result = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> result.add(new double[] {value, count}));
+        return result;
+    }
+}
@@ -336,6 +336,18 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithManyUniqueValuesAreBounded() {
+        List<PutMetricDataRequest> requests = aggregatorWithUniqueValuesAdded(HttpMetric.MAX_CONCURRENCY, 10_000).getRequests();
+
+        List<Double> values = requests.stream().flatMap(r -> r.metricData().stream()).flatMap(m -> m.values().stream())
+                                      .collect(Collectors.toList());
+        double totalCount = requests.stream().flatMap(r -> r.metricData().stream()).flatMap(m -> m.counts().stream())
+                                    .mapToDouble(Double::doubleValue).sum();
+        assertThat(values).hasSizeLessThan(2_000).doesNotHaveDuplicates();
+        assertThat(totalCount).isEqualTo(10_000.0);
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -0,0 +1,197 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemModel;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.PropertyModel;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaGenerator;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.UnsupportedItemException;
+
+/**
+ * An annotation processor that generates the table schemas of classes annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at build time.
+ * <p>
+ * {@code TableSchema.fromClass} uses the generated table schema of a class when there is one. Unlike
+ * {@code BeanTableSchema} and {@code ImmutableTableSchema}, generated table schemas don't scan the class with reflection,
+ * which makes them much cheaper to create. This matters most for applications that need to start quickly, e.g. on AWS
+ * Lambda, and for applications compiled to a native image.
+ * <p>
+ * To use it, add {@code software.amazon.awssdk:dynamodb-enhanced-annotation-processor} to the annotation processor path of
+ * the compiler. For example with Maven:
+ * <pre>
+ * {@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessorPaths>
+ *             <path>
+ *                 <groupId>software.amazon.awssdk</groupId>
+ *                 <artifactId>dynamodb-enhanced-annotation-processor</artifactId>
+ *                 <version>${awsjavasdk.version}</version>
+ *             </path>
+ *         </annotationProcessorPaths>
+ *     </configuration>
+ * </plugin>
+ * }
+ * </pre>
+ * The table schema of a class isn't generated when the class uses a feature that generated table schemas don't support, such
+ * as custom attribute tag annotations, or when the class refers to itself through its attributes. The processor reports
+ * these classes with a note, and {@code TableSchema.fromClass} scans them at runtime as before.
+ */
+@SdkPublicApi
+@SupportedAnnotationTypes({EnhancedClientApi.DYNAMO_DB_BEAN, EnhancedClientApi.DYNAMO_DB_IMMUTABLE})
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private final Map<TypeElement, ItemModel> items = new HashMap<>();
+    private final Set<TypeElement> processedItems = new HashSet<>();
+
+    private ItemIntrospector introspector;
+    private TableSchemaGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new ItemIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        this.generator = new TableSchemaGenerator(processingEnv.getTypeUtils(), TableSchemaProcessor.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if ((element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE)
+                    && processedItems.add((TypeElement) element)) {
+                    generateTableSchema((TypeElement) element);
+                }
+            }
+        }
+
+        // Other processors may also be interested in these annotations
+        return false;
+    }
+
+    private void generateTableSchema(TypeElement itemClass) {
+        try {
+            ItemModel item = introspect(itemClass);
+            if (isRecursive(item)) {
+                throw new UnsupportedItemException("It refers to itself through the types of its attributes.");
+            }
+            generator.generate(item).writeTo(processingEnv.getFiler());
+        } catch (UnsupportedItemException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                     "Not generating a table schema for " + itemClass + ". " + e.getMessage()
+                                                     + " TableSchema.fromClass will scan the class at runtime instead.",
+                                                     itemClass);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Failed to write the table schema of " + itemClass + ": " + e,
+                                                     itemClass);
+        }
+    }
+
+    private ItemModel introspect(TypeElement itemClass) {
+        ItemModel item = items.get(itemClass);
+        if (item == null) {
+            item = introspector.introspect(itemClass);
+            items.put(itemClass, item);
+        }
+        return item;
+    }
+
+    /**
+     * Generated table schemas get the table schemas of nested and flattened classes when they are created, so a class that
+     * refers to itself would create its table schema forever. The runtime table schemas handle these classes instead.
+     */
+    private boolean isRecursive(ItemModel item) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>(referencedItems(item));
+        while (!toVisit.isEmpty()) {
+            TypeElement referenced = toVisit.pop();
+            if (referenced.equals(item.itemClass())) {
+                return true;
+            }
+            if (!visited.add(referenced)) {
+                continue;
+            }
+
+            try {
+                toVisit.addAll(referencedItems(introspect(referenced)));
+            } catch (UnsupportedItemException e) {
+                // Table schemas that are created at runtime don't use the generated table schemas of the classes they
+                // refer to, so there can't be a cycle through this class.
+            }
+        }
+        return false;
+    }
+
+    private Set<TypeElement> referencedItems(ItemModel item) {
+        Set<TypeElement> referencedItems = new LinkedHashSet<>();
+        for (PropertyModel property : item.properties()) {
+            addReferencedItems(property.type(), referencedItems);
+        }
+        return referencedItems;
+    }
+
+    private void addReferencedItems(TypeMirror type, Set<TypeElement> referencedItems) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement typeElement = (TypeElement) declaredType.asElement();
+        if (ItemIntrospector.isAnnotatedItem(typeElement)) {
+            referencedItems.add(typeElement);
+            return;
+        }
+
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        String typeName = typeElement.getQualifiedName().toString();
+        if (typeName.equals("java.util.List") && typeArguments.size() == 1) {
+            addReferencedItems(typeArguments.get(0), referencedItems);
+        } else if (typeName.equals("java.util.Map") && typeArguments.size() == 2) {
+            addReferencedItems(typeArguments.get(1), referencedItems);
+        }
+    }
+}
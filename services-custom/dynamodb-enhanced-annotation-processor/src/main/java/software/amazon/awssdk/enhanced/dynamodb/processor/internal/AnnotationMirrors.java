@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Utilities to read annotations by name, without loading the annotation classes.
+ */
+@SdkInternalApi
+public final class AnnotationMirrors {
+    private AnnotationMirrors() {
+    }
+
+    public static Optional<AnnotationMirror> find(Element element, String annotationName) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> isOfType(a, annotationName))
+                      .map(a -> (AnnotationMirror) a)
+                      .findFirst();
+    }
+
+    public static boolean isPresent(Element element, String annotationName) {
+        return find(element, annotationName).isPresent();
+    }
+
+    public static String typeName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the value of the given element of the annotation, or its default value if it isn't set.
+     */
+    public static AnnotationValue value(AnnotationMirror annotation, String elementName) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals(elementName)) {
+                return value.getValue();
+            }
+        }
+
+        return annotation.getAnnotationType()
+                         .asElement()
+                         .getEnclosedElements()
+                         .stream()
+                         .filter(e -> e instanceof ExecutableElement && e.getSimpleName().contentEquals(elementName))
+                         .map(e -> ((ExecutableElement) e).getDefaultValue())
+                         .filter(v -> v != null)
+                         .findFirst()
+                         .orElseThrow(() -> new IllegalArgumentException("@" + typeName(annotation) + " has no value for "
+                                                                         + elementName));
+    }
+
+    private static boolean isOfType(AnnotationMirror annotation, String annotationName) {
+        return typeName(annotation).equals(annotationName);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.ClassName;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Names of the DynamoDb enhanced client types used by the processor. The processor doesn't depend on the enhanced client,
+ * because it runs on the annotation processor path rather than the class path of the code it processes.
+ */
+@SdkInternalApi
+public final class EnhancedClientApi {
+    public static final String DYNAMO_DB_BEAN = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean";
+    public static final String DYNAMO_DB_IMMUTABLE =
+        "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable";
+
+    static final String MAPPER_ANNOTATIONS = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    static final String EXTENSION_ANNOTATIONS = "software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.";
+
+    static final String DYNAMO_DB_ATTRIBUTE = MAPPER_ANNOTATIONS + "DynamoDbAttribute";
+    static final String DYNAMO_DB_CONVERTED_BY = MAPPER_ANNOTATIONS + "DynamoDbConvertedBy";
+    static final String DYNAMO_DB_FLATTEN = MAPPER_ANNOTATIONS + "DynamoDbFlatten";
+    static final String DYNAMO_DB_IGNORE = MAPPER_ANNOTATIONS + "DynamoDbIgnore";
+    static final String DYNAMO_DB_IGNORE_NULLS = MAPPER_ANNOTATIONS + "DynamoDbIgnoreNulls";
+    static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = MAPPER_ANNOTATIONS + "DynamoDbPreserveEmptyObject";
+    static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = MAPPER_ANNOTATIONS + "BeanTableSchemaAttributeTag";
+    static final String TRANSIENT = "java.beans.Transient";
+
+    static final String DYNAMO_DB_PARTITION_KEY = MAPPER_ANNOTATIONS + "DynamoDbPartitionKey";
+    static final String DYNAMO_DB_SORT_KEY = MAPPER_ANNOTATIONS + "DynamoDbSortKey";
+    static final String DYNAMO_DB_SECONDARY_PARTITION_KEY = MAPPER_ANNOTATIONS + "DynamoDbSecondaryPartitionKey";
+    static final String DYNAMO_DB_SECONDARY_SORT_KEY = MAPPER_ANNOTATIONS + "DynamoDbSecondarySortKey";
+    static final String DYNAMO_DB_UPDATE_BEHAVIOR = MAPPER_ANNOTATIONS + "DynamoDbUpdateBehavior";
+    static final String DYNAMO_DB_ATOMIC_COUNTER = EXTENSION_ANNOTATIONS + "DynamoDbAtomicCounter";
+    static final String DYNAMO_DB_VERSION_ATTRIBUTE = EXTENSION_ANNOTATIONS + "DynamoDbVersionAttribute";
+    static final String DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE =
+        EXTENSION_ANNOTATIONS + "DynamoDbAutoGeneratedTimestampAttribute";
+    static final String DYNAMO_DB_AUTO_GENERATED_UUID = EXTENSION_ANNOTATIONS + "DynamoDbAutoGeneratedUuid";
+
+    static final ClassName TABLE_SCHEMA = ClassName.get("software.amazon.awssdk.enhanced.dynamodb", "TableSchema");
+    static final ClassName ENHANCED_TYPE = ClassName.get("software.amazon.awssdk.enhanced.dynamodb", "EnhancedType");
+    static final ClassName ATTRIBUTE_CONVERTER = ClassName.get("software.amazon.awssdk.enhanced.dynamodb",
+                                                                "AttributeConverter");
+    static final ClassName WRAPPED_TABLE_SCHEMA = ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper",
+                                                                 "WrappedTableSchema");
+    static final ClassName STATIC_TABLE_SCHEMA = ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper",
+                                                                "StaticTableSchema");
+    static final ClassName STATIC_IMMUTABLE_TABLE_SCHEMA = ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper",
+                                                                          "StaticImmutableTableSchema");
+    static final ClassName STATIC_ATTRIBUTE_TAGS = ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper",
+                                                                  "StaticAttributeTags");
+    static final ClassName UPDATE_BEHAVIOR = ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper",
+                                                            "UpdateBehavior");
+    static final ClassName VERSIONED_RECORD_EXTENSION_TAGS =
+        ClassName.get("software.amazon.awssdk.enhanced.dynamodb.extensions", "VersionedRecordExtension", "AttributeTags");
+    static final ClassName AUTO_GENERATED_TIMESTAMP_EXTENSION_TAGS =
+        ClassName.get("software.amazon.awssdk.enhanced.dynamodb.extensions", "AutoGeneratedTimestampRecordExtension",
+                      "AttributeTags");
+    static final ClassName AUTO_GENERATED_UUID_EXTENSION_TAGS =
+        ClassName.get("software.amazon.awssdk.enhanced.dynamodb.extensions", "AutoGeneratedUuidExtension", "AttributeTags");
+    static final ClassName GENERATED = ClassName.get("software.amazon.awssdk.annotations", "Generated");
+
+    /**
+     * Must match the naming in {@code software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoader}, which
+     * finds the generated table schemas at runtime.
+     */
+    static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    private EnhancedClientApi() {
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_IGNORE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.TRANSIENT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the properties of {@code @DynamoDbBean} and {@code @DynamoDbImmutable} classes at build time, following the same
+ * rules as {@code BeanTableSchema} and {@code ImmutableTableSchema} do at runtime. Classes that those table schemas would
+ * reject, or that the generated code can't access, are reported with an {@link UnsupportedItemException}.
+ */
+@SdkInternalApi
+public final class ItemIntrospector {
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    // Same as the immutable table schema, which ignores any method with the name of a public method of Object.
+    private static final Set<String> IMMUTABLE_NAMES_TO_EXCLUDE = new HashSet<>(
+        Arrays.asList("equals", "getClass", "hashCode", "notify", "notifyAll", "toString", "wait", TO_BUILDER_METHOD));
+
+    private final Elements elements;
+    private final Types types;
+
+    public ItemIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Whether the class is annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}.
+     */
+    public static boolean isAnnotatedItem(Element element) {
+        return AnnotationMirrors.isPresent(element, DYNAMO_DB_BEAN) || AnnotationMirrors.isPresent(element, DYNAMO_DB_IMMUTABLE);
+    }
+
+    public ItemModel introspect(TypeElement itemClass) {
+        if (AnnotationMirrors.isPresent(itemClass, DYNAMO_DB_IMMUTABLE)) {
+            return introspectImmutable(itemClass);
+        }
+        if (AnnotationMirrors.isPresent(itemClass, DYNAMO_DB_BEAN)) {
+            return introspectBean(itemClass);
+        }
+        throw new UnsupportedItemException("It isn't annotated with @DynamoDbBean or @DynamoDbImmutable.");
+    }
+
+    /**
+     * Returns whether the type is accessible from code in the given package.
+     */
+    public static boolean isAccessibleFrom(TypeElement type, PackageElement fromPackage) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(element).equals(fromPackage)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    public static PackageElement packageOf(Element element) {
+        Element current = element;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    /**
+     * Returns whether the class can be created with {@code new}, using a public constructor without parameters, from code
+     * in the given package.
+     */
+    public static boolean isInstantiableFrom(TypeElement type, PackageElement fromPackage) {
+        if (type.getKind() != ElementKind.CLASS
+            || type.getModifiers().contains(Modifier.ABSTRACT)
+            || !type.getTypeParameters().isEmpty()
+            || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+            || type.getNestingKind() == NestingKind.LOCAL
+            || type.getNestingKind() == NestingKind.ANONYMOUS
+            || !isAccessibleFrom(type, fromPackage)) {
+            return false;
+        }
+
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty());
+    }
+
+    private ItemModel introspectBean(TypeElement beanClass) {
+        validateItemClass(beanClass);
+        if (!isInstantiableFrom(beanClass, packageOf(beanClass))) {
+            throw new UnsupportedItemException("It doesn't have a public constructor without parameters.");
+        }
+
+        DeclaredType beanType = (DeclaredType) beanClass.asType();
+        List<ExecutableElement> methods = publicInstanceMethods(beanClass, false);
+
+        // Properties are sorted by name, like the property descriptors of java.beans.Introspector
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        methods.stream()
+               .filter(m -> m.getParameters().isEmpty())
+               .forEach(m -> {
+                   String name = m.getSimpleName().toString();
+                   if (name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX)
+                       && m.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                       getters.put(decapitalize(name.substring(IS_PREFIX.length())), m);
+                   } else if (name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX)
+                              && m.getReturnType().getKind() != TypeKind.VOID) {
+                       getters.putIfAbsent(decapitalize(name.substring(GET_PREFIX.length())), m);
+                   }
+               });
+
+        List<PropertyModel> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            TypeMirror propertyType = resolvedType(beanType, getter).getReturnType();
+            Optional<ExecutableElement> setter = findBeanSetter(beanClass, beanType, methods, name, propertyType);
+            if (!setter.isPresent()) {
+                return;
+            }
+
+            PropertyModel property = PropertyModel.create(name, propertyType, getter, setter.get());
+            if (property.hasAnnotation(DYNAMO_DB_IGNORE) || property.hasAnnotation(TRANSIENT)) {
+                return;
+            }
+            properties.add(property);
+        });
+
+        return ItemModel.builder(beanClass)
+                        .converterProviders(converterProviders(beanClass, DYNAMO_DB_BEAN))
+                        .properties(properties)
+                        .build();
+    }
+
+    private Optional<ExecutableElement> findBeanSetter(TypeElement beanClass, DeclaredType beanType,
+                                                       List<ExecutableElement> methods, String propertyName,
+                                                       TypeMirror propertyType) {
+        String setterName = SET_PREFIX + capitalize(propertyName);
+
+        Optional<ExecutableElement> setter =
+            methods.stream()
+                   .filter(m -> m.getParameters().size() == 1
+                                && m.getReturnType().getKind() == TypeKind.VOID
+                                && decapitalizedSetterName(m).equals(propertyName)
+                                && isSameErasure(resolvedType(beanType, m).getParameterTypes().get(0), propertyType))
+                   .findFirst();
+        if (setter.isPresent()) {
+            return setter;
+        }
+
+        // Fluent setters, which return the bean itself, are only used when there is no standard setter
+        return methods.stream()
+                      .filter(m -> m.getSimpleName().contentEquals(setterName)
+                                   && m.getParameters().size() == 1
+                                   && isSameErasure(m.getReturnType(), beanClass.asType())
+                                   && isSameErasure(resolvedType(beanType, m).getParameterTypes().get(0), propertyType))
+                      .findFirst();
+    }
+
+    private String decapitalizedSetterName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (name.length() > SET_PREFIX.length() && name.startsWith(SET_PREFIX)) {
+            return decapitalize(name.substring(SET_PREFIX.length()));
+        }
+        return "";
+    }
+
+    private ItemModel introspectImmutable(TypeElement immutableClass) {
+        validateItemClass(immutableClass);
+        PackageElement itemPackage = packageOf(immutableClass);
+
+        AnnotationMirror dynamoDbImmutable = AnnotationMirrors.find(immutableClass, DYNAMO_DB_IMMUTABLE).get();
+        TypeMirror builderType = (TypeMirror) AnnotationMirrors.value(dynamoDbImmutable, "builder").getValue();
+        if (builderType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("Its builder isn't a class.");
+        }
+        TypeElement builderClass = (TypeElement) types.asElement(builderType);
+        if (!builderClass.getTypeParameters().isEmpty() || !isAccessibleFrom(builderClass, itemPackage)) {
+            throw new UnsupportedItemException("Its builder " + builderClass + " is generic or isn't accessible.");
+        }
+
+        ExecutableElement staticBuilderMethod = findStaticBuilderMethod(immutableClass, builderClass).orElse(null);
+        if (staticBuilderMethod == null && !isInstantiableFrom(builderClass, itemPackage)) {
+            throw new UnsupportedItemException("Its builder " + builderClass + " doesn't have a public constructor without "
+                                               + "parameters, and there is no static builder() method.");
+        }
+
+        DeclaredType immutableType = (DeclaredType) immutableClass.asType();
+        DeclaredType declaredBuilderType = (DeclaredType) builderClass.asType();
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(builderClass, true)) {
+            if (!isMappableImmutableMethod(method)) {
+                continue;
+            }
+            String name = normalizeImmutableSetterName(method);
+            if (builderMethods.put(name, method) != null) {
+                throw new UnsupportedItemException("Its builder has more than one method for " + name + ".");
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !isSameErasure(buildMethod.getReturnType(), immutableClass.asType())) {
+            throw new UnsupportedItemException("Its builder doesn't have a build() method that returns " + immutableClass
+                                               + ".");
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        for (ExecutableElement getter : publicInstanceMethods(immutableClass, true)) {
+            if (!isMappableImmutableMethod(getter)) {
+                continue;
+            }
+            if (getter.getReturnType().getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                throw new UnsupportedItemException("The method " + getter + " isn't a valid getter.");
+            }
+
+            String name = normalizeImmutableGetterName(getter);
+            TypeMirror propertyType = resolvedType(immutableType, getter).getReturnType();
+            ExecutableElement setter = builderMethods.remove(name);
+            if (setter == null
+                || setter.getParameters().size() != 1
+                || !isSameErasure(resolvedType(declaredBuilderType, setter).getParameterTypes().get(0), propertyType)
+                || !isValidBuilderSetterReturnType(setter, builderClass)) {
+                throw new UnsupportedItemException("The method " + getter + " doesn't have a matching setter on the builder.");
+            }
+
+            properties.add(PropertyModel.create(name, propertyType, getter, setter));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedItemException("The builder method " + builderMethods.values().iterator().next()
+                                               + " doesn't have a matching getter.");
+        }
+
+        return ItemModel.builder(immutableClass)
+                        .builderClass(builderClass)
+                        .staticBuilderMethod(staticBuilderMethod)
+                        .converterProviders(converterProviders(immutableClass, DYNAMO_DB_IMMUTABLE))
+                        .properties(properties)
+                        .build();
+    }
+
+    private boolean isMappableImmutableMethod(ExecutableElement method) {
+        return !AnnotationMirrors.isPresent(method, DYNAMO_DB_IGNORE)
+               && !AnnotationMirrors.isPresent(method, TRANSIENT)
+               && !IMMUTABLE_NAMES_TO_EXCLUDE.contains(method.getSimpleName().toString());
+    }
+
+    private boolean isValidBuilderSetterReturnType(ExecutableElement setter, TypeElement builderClass) {
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || types.isAssignable(types.erasure(builderClass.asType()), types.erasure(returnType));
+    }
+
+    private Optional<ExecutableElement> findStaticBuilderMethod(TypeElement immutableClass, TypeElement builderClass) {
+        return ElementFilter.methodsIn(elements.getAllMembers(immutableClass))
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD)
+                                         && m.getParameters().isEmpty()
+                                         && m.getModifiers().contains(Modifier.PUBLIC)
+                                         && m.getModifiers().contains(Modifier.STATIC)
+                                         && types.isAssignable(types.erasure(builderClass.asType()),
+                                                               types.erasure(m.getReturnType())))
+                            .findFirst();
+    }
+
+    private String normalizeImmutableGetterName(ExecutableElement getter) {
+        String name = getter.getSimpleName().toString();
+
+        if (name.length() > IS_PREFIX.length()
+            && Character.isUpperCase(name.charAt(IS_PREFIX.length()))
+            && name.startsWith(IS_PREFIX)
+            && isBoolean(getter.getReturnType())) {
+            return Character.toLowerCase(name.charAt(IS_PREFIX.length())) + name.substring(IS_PREFIX.length() + 1);
+        }
+
+        if (name.length() > GET_PREFIX.length()
+            && Character.isUpperCase(name.charAt(GET_PREFIX.length()))
+            && name.startsWith(GET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(GET_PREFIX.length())) + name.substring(GET_PREFIX.length() + 1);
+        }
+
+        return name;
+    }
+
+    private String normalizeImmutableSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+
+        if (name.length() > SET_PREFIX.length()
+            && Character.isUpperCase(name.charAt(SET_PREFIX.length()))
+            && name.startsWith(SET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(SET_PREFIX.length())) + name.substring(SET_PREFIX.length() + 1);
+        }
+
+        return name;
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN
+               || (type.getKind() == TypeKind.DECLARED
+                   && ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals("java.lang.Boolean"));
+    }
+
+    private void validateItemClass(TypeElement itemClass) {
+        if (!itemClass.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("It's generic.");
+        }
+        if (!isAccessibleFrom(itemClass, packageOf(itemClass))) {
+            throw new UnsupportedItemException("It's private.");
+        }
+        if (itemClass.getNestingKind() == NestingKind.LOCAL || itemClass.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new UnsupportedItemException("It's a local class.");
+        }
+    }
+
+    private List<TypeMirror> converterProviders(TypeElement itemClass, String itemAnnotation) {
+        AnnotationMirror annotation = AnnotationMirrors.find(itemClass, itemAnnotation).get();
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) AnnotationMirrors.value(annotation, "converterProviders").getValue();
+        return providers.stream()
+                        .map(v -> (TypeMirror) v.getValue())
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the public instance methods of the type, including the inherited ones, except the methods of {@code Object}.
+     * Methods of interfaces are only included when asked for, like {@code Class#getMethods} does, because bean properties
+     * are only found on classes.
+     */
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type, boolean includeInterfaceMethods) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC)
+                                         && !m.getModifiers().contains(Modifier.STATIC))
+                            .filter(m -> {
+                                TypeElement declaringType = (TypeElement) m.getEnclosingElement();
+                                return !declaringType.getQualifiedName().contentEquals("java.lang.Object")
+                                       && (includeInterfaceMethods || declaringType.getKind() != ElementKind.INTERFACE);
+                            })
+                            .collect(Collectors.toList());
+    }
+
+    private ExecutableType resolvedType(DeclaredType containingType, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(containingType, method);
+    }
+
+    private boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    // Same as java.beans.Introspector#decapitalize
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
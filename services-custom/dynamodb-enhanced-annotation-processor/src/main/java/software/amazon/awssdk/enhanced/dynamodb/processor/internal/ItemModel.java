@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The structure of a class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}, as seen by the table schema
+ * that scans it at runtime.
+ */
+@SdkInternalApi
+public final class ItemModel {
+    private final TypeElement itemClass;
+    private final TypeElement builderClass;
+    private final ExecutableElement staticBuilderMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+
+    private ItemModel(Builder builder) {
+        this.itemClass = builder.itemClass;
+        this.builderClass = builder.builderClass;
+        this.staticBuilderMethod = builder.staticBuilderMethod;
+        this.converterProviders = Collections.unmodifiableList(builder.converterProviders);
+        this.properties = Collections.unmodifiableList(builder.properties);
+    }
+
+    public static Builder builder(TypeElement itemClass) {
+        return new Builder(itemClass);
+    }
+
+    public TypeElement itemClass() {
+        return itemClass;
+    }
+
+    /**
+     * Whether the item is a {@code @DynamoDbImmutable} class that is created with a builder, rather than a
+     * {@code @DynamoDbBean} class.
+     */
+    public boolean isImmutable() {
+        return builderClass != null;
+    }
+
+    public TypeElement builderClass() {
+        return builderClass;
+    }
+
+    /**
+     * The static method of an immutable class that creates its builder, if it has one.
+     */
+    public Optional<ExecutableElement> staticBuilderMethod() {
+        return Optional.ofNullable(staticBuilderMethod);
+    }
+
+    public List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    /**
+     * The mapped properties, in the order they are added to the table schema.
+     */
+    public List<PropertyModel> properties() {
+        return properties;
+    }
+
+    public static final class Builder {
+        private final TypeElement itemClass;
+        private TypeElement builderClass;
+        private ExecutableElement staticBuilderMethod;
+        private List<TypeMirror> converterProviders = Collections.emptyList();
+        private List<PropertyModel> properties = Collections.emptyList();
+
+        private Builder(TypeElement itemClass) {
+            this.itemClass = itemClass;
+        }
+
+        public Builder builderClass(TypeElement builderClass) {
+            this.builderClass = builderClass;
+            return this;
+        }
+
+        public Builder staticBuilderMethod(ExecutableElement staticBuilderMethod) {
+            this.staticBuilderMethod = staticBuilderMethod;
+            return this;
+        }
+
+        public Builder converterProviders(List<TypeMirror> converterProviders) {
+            this.converterProviders = converterProviders;
+            return this;
+        }
+
+        public Builder properties(List<PropertyModel> properties) {
+            this.properties = properties;
+            return this;
+        }
+
+        public ItemModel build() {
+            return new ItemModel(this);
+        }
+    }
+}
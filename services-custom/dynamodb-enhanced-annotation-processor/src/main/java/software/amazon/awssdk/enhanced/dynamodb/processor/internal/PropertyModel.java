@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A property of an annotated class, with the getter of the item and the setter of the item or its builder.
+ */
+@SdkInternalApi
+public final class PropertyModel {
+    private final String name;
+    private final TypeMirror type;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+
+    private PropertyModel(String name, TypeMirror type, ExecutableElement getter, ExecutableElement setter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public static PropertyModel create(String name, TypeMirror type, ExecutableElement getter, ExecutableElement setter) {
+        return new PropertyModel(name, type, getter, setter);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The type of the property, as seen from the annotated class.
+     */
+    public TypeMirror type() {
+        return type;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    /**
+     * The name of the attribute this property is mapped to.
+     */
+    public String attributeName() {
+        return annotation(EnhancedClientApi.DYNAMO_DB_ATTRIBUTE)
+            .map(a -> (String) AnnotationMirrors.value(a, "value").getValue())
+            .orElse(name);
+    }
+
+    /**
+     * Returns the given annotation from the getter or, if the getter isn't annotated with it, from the setter.
+     */
+    public Optional<AnnotationMirror> annotation(String annotationName) {
+        Optional<AnnotationMirror> getterAnnotation = AnnotationMirrors.find(getter, annotationName);
+        if (getterAnnotation.isPresent()) {
+            return getterAnnotation;
+        }
+        return AnnotationMirrors.find(setter, annotationName);
+    }
+
+    public boolean hasAnnotation(String annotationName) {
+        return annotation(annotationName).isPresent();
+    }
+
+    /**
+     * All the annotations of the getter followed by all the annotations of the setter.
+     */
+    public List<AnnotationMirror> annotations() {
+        List<AnnotationMirror> annotations = new ArrayList<>(getter.getAnnotationMirrors());
+        annotations.addAll(setter.getAnnotationMirrors());
+        return Collections.unmodifiableList(annotations);
+    }
+}
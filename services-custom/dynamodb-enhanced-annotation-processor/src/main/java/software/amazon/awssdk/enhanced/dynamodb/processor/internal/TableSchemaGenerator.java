@@ -0,0 +1,387 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.ATTRIBUTE_CONVERTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.AUTO_GENERATED_TIMESTAMP_EXTENSION_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.AUTO_GENERATED_UUID_EXTENSION_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_ATOMIC_COUNTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_AUTO_GENERATED_UUID;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_CONVERTED_BY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_IGNORE_NULLS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_PRESERVE_EMPTY_OBJECT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_SECONDARY_PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_SECONDARY_SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_UPDATE_BEHAVIOR;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.DYNAMO_DB_VERSION_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.ENHANCED_TYPE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.GENERATED;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.GENERATED_CLASS_SUFFIX;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.STATIC_ATTRIBUTE_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.STATIC_IMMUTABLE_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.STATIC_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.UPDATE_BEHAVIOR;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.EnhancedClientApi.VERSIONED_RECORD_EXTENSION_TAGS;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates the source of the table schema of an {@link ItemModel}. The generated table schema is built with
+ * {@code StaticTableSchema} or {@code StaticImmutableTableSchema}, in the same way {@code BeanTableSchema} or
+ * {@code ImmutableTableSchema} would build it at runtime, using method references instead of reflection.
+ */
+@SdkInternalApi
+public final class TableSchemaGenerator {
+    private final Types types;
+    private final String generatorName;
+
+    public TableSchemaGenerator(Types types, String generatorName) {
+        this.types = types;
+        this.generatorName = generatorName;
+    }
+
+    /**
+     * Returns the name of the table schema generated for the given class, which is in the same package as the class.
+     */
+    public static ClassName generatedClassName(TypeElement itemClass) {
+        ClassName itemClassName = ClassName.get(itemClass);
+        return ClassName.get(itemClassName.packageName(),
+                             String.join("_", itemClassName.simpleNames()) + GENERATED_CLASS_SUFFIX);
+    }
+
+    public JavaFile generate(ItemModel item) {
+        TypeElement itemClass = item.itemClass();
+        ClassName itemClassName = ClassName.get(itemClass);
+        ClassName generatedClassName = generatedClassName(itemClass);
+
+        TypeName staticTableSchema =
+            item.isImmutable()
+            ? ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, itemClassName, ClassName.get(item.builderClass()))
+            : ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, itemClassName);
+
+        MethodSpec constructor = MethodSpec.constructorBuilder()
+                                           .addModifiers(Modifier.PUBLIC)
+                                           .addStatement("super($L)", staticTableSchema(item))
+                                           .build();
+
+        TypeSpec tableSchema =
+            TypeSpec.classBuilder(generatedClassName)
+                    .addJavadoc("The table schema of {@link $T}, generated from its annotations.\n", itemClassName)
+                    .addAnnotation(AnnotationSpec.builder(GENERATED).addMember("value", "$S", generatorName).build())
+                    .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                                 .addMember("value", "{$S, $S}", "rawtypes", "unchecked")
+                                                 .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .superclass(ParameterizedTypeName.get(EnhancedClientApi.WRAPPED_TABLE_SCHEMA,
+                                                          itemClassName, staticTableSchema))
+                    .addMethod(constructor)
+                    .addOriginatingElement(itemClass)
+                    .build();
+
+        return JavaFile.builder(generatedClassName.packageName(), tableSchema)
+                       .skipJavaLangImports(true)
+                       .build();
+    }
+
+    private CodeBlock staticTableSchema(ItemModel item) {
+        TypeElement itemClass = item.itemClass();
+        PackageElement itemPackage = ItemIntrospector.packageOf(itemClass);
+        ClassName itemClassName = ClassName.get(itemClass);
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (item.isImmutable()) {
+            ClassName builderClassName = ClassName.get(item.builderClass());
+            code.add("$T.builder($T.class, $T.class)", STATIC_IMMUTABLE_TABLE_SCHEMA, itemClassName, builderClassName)
+                .add("$>$>");
+            code.add("\n.newItemBuilder($L, $T::build)", newBuilder(item), builderClassName);
+        } else {
+            code.add("$T.builder($T.class)", STATIC_TABLE_SCHEMA, itemClassName)
+                .add("$>$>");
+            code.add("\n.newItemSupplier($T::new)", itemClassName);
+        }
+
+        List<CodeBlock> converterProviders = new ArrayList<>();
+        for (TypeMirror converterProvider : item.converterProviders()) {
+            converterProviders.add(newInstance(converterProvider, itemPackage, "converter provider"));
+        }
+        code.add("\n.attributeConverterProviders($L)", CodeBlock.join(converterProviders, ", "));
+
+        for (PropertyModel property : item.properties()) {
+            if (property.hasAnnotation(DYNAMO_DB_FLATTEN)) {
+                code.add("\n.flatten($L, $L, $L)", flattenedTableSchema(property, itemPackage), getter(item, property),
+                         setter(item, property));
+            }
+        }
+
+        for (PropertyModel property : item.properties()) {
+            if (!property.hasAnnotation(DYNAMO_DB_FLATTEN)) {
+                code.add("\n.addAttribute($L, $L)", enhancedType(property.type(), property, itemPackage),
+                         attribute(item, property, itemPackage));
+            }
+        }
+
+        return code.add("\n.build()")
+                   .add("$<$<")
+                   .build();
+    }
+
+    private CodeBlock newBuilder(ItemModel item) {
+        ClassName builderClassName = ClassName.get(item.builderClass());
+        if (!item.staticBuilderMethod().isPresent()) {
+            return CodeBlock.of("$T::new", builderClassName);
+        }
+
+        TypeMirror builderMethodType = item.staticBuilderMethod().get().getReturnType();
+        if (types.isSameType(types.erasure(builderMethodType), types.erasure(item.builderClass().asType()))) {
+            return CodeBlock.of("$T::builder", ClassName.get(item.itemClass()));
+        }
+        return CodeBlock.of("() -> ($T) $T.builder()", builderClassName, ClassName.get(item.itemClass()));
+    }
+
+    private CodeBlock attribute(ItemModel item, PropertyModel property, PackageElement itemPackage) {
+        CodeBlock.Builder code = CodeBlock.builder()
+                                          .add("a -> a.name($S)", property.attributeName())
+                                          .add("$>$>")
+                                          .add("\n.getter($L)", getter(item, property))
+                                          .add("\n.setter($L)", setter(item, property));
+
+        Optional<AnnotationMirror> convertedBy = property.annotation(DYNAMO_DB_CONVERTED_BY);
+        if (convertedBy.isPresent()) {
+            TypeMirror converter = (TypeMirror) AnnotationMirrors.value(convertedBy.get(), "value").getValue();
+            code.add("\n.attributeConverter(($T) $L)", ATTRIBUTE_CONVERTER,
+                     newInstance(converter, itemPackage, "attribute converter"));
+        }
+
+        List<CodeBlock> tags = new ArrayList<>();
+        for (AnnotationMirror annotation : property.annotations()) {
+            attributeTag(annotation).ifPresent(tags::add);
+        }
+        if (!tags.isEmpty()) {
+            code.add("\n.tags($L)", CodeBlock.join(tags, ", "));
+        }
+
+        return code.add("$<$<").build();
+    }
+
+    private CodeBlock getter(ItemModel item, PropertyModel property) {
+        return CodeBlock.of("$T::$N", ClassName.get(item.itemClass()), property.getter().getSimpleName().toString());
+    }
+
+    private CodeBlock setter(ItemModel item, PropertyModel property) {
+        TypeElement setterClass = item.isImmutable() ? item.builderClass() : item.itemClass();
+        return CodeBlock.of("$T::$N", ClassName.get(setterClass), property.setter().getSimpleName().toString());
+    }
+
+    private CodeBlock flattenedTableSchema(PropertyModel property, PackageElement itemPackage) {
+        TypeMirror type = property.type();
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new UnsupportedItemException("The flattened property " + property.name() + " isn't a class.");
+        }
+        requireAccessible(type, itemPackage);
+        return CodeBlock.of("$T.fromClass($T.class)", TABLE_SCHEMA, TypeName.get(type));
+    }
+
+    /**
+     * Returns the {@code EnhancedType} of a property type. Like the runtime table schemas, this detects lists and maps of
+     * annotated classes, so that they are mapped as documents with their own table schema.
+     */
+    private CodeBlock enhancedType(TypeMirror type, PropertyModel property, PackageElement itemPackage) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(type));
+            case ARRAY:
+                return plainEnhancedType(type, property, itemPackage);
+            case DECLARED:
+                break;
+            default:
+                throw new UnsupportedItemException("The type of the property " + property.name() + " isn't supported: "
+                                                   + type);
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        TypeElement typeElement = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        String typeName = typeElement.getQualifiedName().toString();
+
+        if (typeName.equals("java.util.List") && typeArguments.size() == 1) {
+            return CodeBlock.of("$T.listOf($L)", ENHANCED_TYPE, enhancedType(typeArguments.get(0), property, itemPackage));
+        }
+
+        if (typeName.equals("java.util.Map") && typeArguments.size() == 2) {
+            return CodeBlock.of("$T.mapOf($L, $L)", ENHANCED_TYPE,
+                                plainEnhancedType(typeArguments.get(0), property, itemPackage),
+                                enhancedType(typeArguments.get(1), property, itemPackage));
+        }
+
+        if (AnnotationMirrors.isPresent(typeElement, DYNAMO_DB_BEAN)
+            || AnnotationMirrors.isPresent(typeElement, DYNAMO_DB_IMMUTABLE)) {
+            if (!typeArguments.isEmpty()) {
+                throw new UnsupportedItemException("The property " + property.name() + " is a generic document.");
+            }
+            requireAccessible(type, itemPackage);
+            CodeBlock documentConfiguration = CodeBlock.of("b -> b.preserveEmptyObject($L).ignoreNulls($L)",
+                                                           property.hasAnnotation(DYNAMO_DB_PRESERVE_EMPTY_OBJECT),
+                                                           property.hasAnnotation(DYNAMO_DB_IGNORE_NULLS));
+            return CodeBlock.of("$T.documentOf($T.class, $T.fromClass($T.class), $L)", ENHANCED_TYPE, TypeName.get(type),
+                                TABLE_SCHEMA, TypeName.get(type), documentConfiguration);
+        }
+
+        return plainEnhancedType(type, property, itemPackage);
+    }
+
+    /**
+     * Returns the {@code EnhancedType} of a type, without looking for nested documents, like {@code EnhancedType.of(Type)}.
+     */
+    private CodeBlock plainEnhancedType(TypeMirror type, PropertyModel property, PackageElement itemPackage) {
+        requireConcrete(type, property);
+        requireAccessible(type, itemPackage);
+
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return CodeBlock.of("new $T<$T>() { }", ENHANCED_TYPE, TypeName.get(type));
+        }
+        return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(type));
+    }
+
+    private void requireConcrete(TypeMirror type, PropertyModel property) {
+        switch (type.getKind()) {
+            case ARRAY:
+                requireConcrete(((ArrayType) type).getComponentType(), property);
+                return;
+            case DECLARED:
+                for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                    requireConcrete(typeArgument, property);
+                }
+                return;
+            default:
+                if (!type.getKind().isPrimitive()) {
+                    throw new UnsupportedItemException("The type of the property " + property.name() + " isn't supported: "
+                                                       + type);
+                }
+        }
+    }
+
+    private void requireAccessible(TypeMirror type, PackageElement itemPackage) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            requireAccessible(((ArrayType) type).getComponentType(), itemPackage);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            if (!ItemIntrospector.isAccessibleFrom(typeElement, itemPackage)) {
+                throw new UnsupportedItemException(typeElement + " isn't accessible from the generated table schema.");
+            }
+            for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                requireAccessible(typeArgument, itemPackage);
+            }
+        }
+    }
+
+    private CodeBlock newInstance(TypeMirror type, PackageElement itemPackage, String description) {
+        TypeElement typeElement = (TypeElement) types.asElement(type);
+        if (typeElement == null || !ItemIntrospector.isInstantiableFrom(typeElement, itemPackage)) {
+            throw new UnsupportedItemException("The " + description + " " + type + " doesn't have an accessible public "
+                                               + "constructor without parameters.");
+        }
+        return CodeBlock.of("new $T()", ClassName.get(typeElement));
+    }
+
+    /**
+     * Returns the tag of a built-in attribute tag annotation. Other annotations that create attribute tags at runtime are
+     * not supported, because the generated code would have to create an instance of the annotation.
+     */
+    private Optional<CodeBlock> attributeTag(AnnotationMirror annotation) {
+        String annotationName = AnnotationMirrors.typeName(annotation);
+        switch (annotationName) {
+            case DYNAMO_DB_PARTITION_KEY:
+                return Optional.of(CodeBlock.of("$T.primaryPartitionKey()", STATIC_ATTRIBUTE_TAGS));
+            case DYNAMO_DB_SORT_KEY:
+                return Optional.of(CodeBlock.of("$T.primarySortKey()", STATIC_ATTRIBUTE_TAGS));
+            case DYNAMO_DB_SECONDARY_PARTITION_KEY:
+                return Optional.of(CodeBlock.of("$T.secondaryPartitionKey($T.asList($L))", STATIC_ATTRIBUTE_TAGS, Arrays.class,
+                                                indexNames(annotation)));
+            case DYNAMO_DB_SECONDARY_SORT_KEY:
+                return Optional.of(CodeBlock.of("$T.secondarySortKey($T.asList($L))", STATIC_ATTRIBUTE_TAGS, Arrays.class,
+                                                indexNames(annotation)));
+            case DYNAMO_DB_UPDATE_BEHAVIOR:
+                VariableElement updateBehavior = (VariableElement) AnnotationMirrors.value(annotation, "value").getValue();
+                return Optional.of(CodeBlock.of("$T.updateBehavior($T.$N)", STATIC_ATTRIBUTE_TAGS, UPDATE_BEHAVIOR,
+                                                updateBehavior.getSimpleName().toString()));
+            case DYNAMO_DB_ATOMIC_COUNTER:
+                return Optional.of(CodeBlock.of("$T.atomicCounter($LL, $LL)", STATIC_ATTRIBUTE_TAGS,
+                                                AnnotationMirrors.value(annotation, "delta").getValue(),
+                                                AnnotationMirrors.value(annotation, "startValue").getValue()));
+            case DYNAMO_DB_VERSION_ATTRIBUTE:
+                return Optional.of(CodeBlock.of("$T.versionAttribute()", VERSIONED_RECORD_EXTENSION_TAGS));
+            case DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE:
+                return Optional.of(CodeBlock.of("$T.autoGeneratedTimestampAttribute()", AUTO_GENERATED_TIMESTAMP_EXTENSION_TAGS));
+            case DYNAMO_DB_AUTO_GENERATED_UUID:
+                return Optional.of(CodeBlock.of("$T.autoGeneratedUuidAttribute()", AUTO_GENERATED_UUID_EXTENSION_TAGS));
+            default:
+                if (AnnotationMirrors.isPresent(annotation.getAnnotationType().asElement(), BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG)) {
+                    throw new UnsupportedItemException("The attribute tag annotation @" + annotationName + " isn't "
+                                                       + "supported.");
+                }
+                return Optional.empty();
+        }
+    }
+
+    private CodeBlock indexNames(AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> indexNames =
+            (List<? extends AnnotationValue>) AnnotationMirrors.value(annotation, "indexNames").getValue();
+        return CodeBlock.join(indexNames.stream()
+                                        .map(v -> CodeBlock.of("$S", v.getValue()))
+                                        .collect(Collectors.toList()),
+                              ", ");
+    }
+}
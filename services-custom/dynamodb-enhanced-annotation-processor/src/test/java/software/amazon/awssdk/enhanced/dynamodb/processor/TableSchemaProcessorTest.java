@@ -0,0 +1,268 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaParams;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchemaParams;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class TableSchemaProcessorTest {
+    private static final List<String> SAMPLE_SOURCES = Arrays.asList("SampleBaseBean.java",
+                                                                     "SampleBean.java",
+                                                                     "SampleImmutable.java");
+
+    @TempDir
+    Path tempDir;
+
+    private Path classesDir;
+    private Path sourcesDir;
+    private Path generatedSourcesDir;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        classesDir = Files.createDirectory(tempDir.resolve("classes"));
+        sourcesDir = Files.createDirectory(tempDir.resolve("sources"));
+        generatedSourcesDir = Files.createDirectory(tempDir.resolve("generated-sources"));
+        diagnostics = new DiagnosticCollector<>();
+    }
+
+    @Test
+    public void beanTableSchema_mapsItemsLikeRuntimeTableSchema() throws Exception {
+        try (URLClassLoader classLoader = compileSamples()) {
+            Class<?> beanClass = classLoader.loadClass("sample.SampleBean");
+            TableSchema<?> generated = generatedTableSchema(classLoader, "sample.SampleBean_TableSchema");
+
+            assertMapsLike(generated, beanTableSchema(beanClass), sample(beanClass));
+        }
+    }
+
+    @Test
+    public void nestedBeanTableSchema_mapsItemsLikeRuntimeTableSchema() throws Exception {
+        try (URLClassLoader classLoader = compileSamples()) {
+            Class<?> nestedClass = classLoader.loadClass("sample.SampleBean$Nested");
+            TableSchema<?> generated = generatedTableSchema(classLoader, "sample.SampleBean_Nested_TableSchema");
+            Object nested = nestedClass.getMethod("of", String.class).invoke(null, "value");
+
+            assertMapsLike(generated, beanTableSchema(nestedClass), nested);
+        }
+    }
+
+    @Test
+    public void immutableTableSchema_mapsItemsLikeRuntimeTableSchema() throws Exception {
+        try (URLClassLoader classLoader = compileSamples()) {
+            Class<?> immutableClass = classLoader.loadClass("sample.SampleImmutable");
+            TableSchema<?> generated = generatedTableSchema(classLoader, "sample.SampleImmutable_TableSchema");
+
+            assertMapsLike(generated, immutableTableSchema(immutableClass), sample(immutableClass));
+        }
+    }
+
+    @Test
+    public void fromClass_usesGeneratedTableSchema() throws Exception {
+        try (URLClassLoader classLoader = compileSamples()) {
+            Class<?> beanClass = classLoader.loadClass("sample.SampleBean");
+            Class<?> immutableClass = classLoader.loadClass("sample.SampleImmutable");
+
+            assertThat(TableSchema.fromClass(beanClass).getClass().getName()).isEqualTo("sample.SampleBean_TableSchema");
+            assertThat(TableSchema.fromClass(immutableClass).getClass().getName())
+                .isEqualTo("sample.SampleImmutable_TableSchema");
+        }
+    }
+
+    @Test
+    public void generatedSources_areAnnotatedAsGenerated() throws Exception {
+        compileSamples().close();
+
+        String source = new String(Files.readAllBytes(generatedSourcesDir.resolve("sample/SampleBean_TableSchema.java")), UTF_8);
+        assertThat(source).contains("@Generated(\"software.amazon.awssdk.enhanced.dynamodb.processor.TableSchemaProcessor\")");
+    }
+
+    @Test
+    public void recursiveBean_isNotGenerated() throws Exception {
+        writeSource("sample/RecursiveBean.java",
+                    "package sample;",
+                    "import java.util.List;",
+                    "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;",
+                    "@DynamoDbBean",
+                    "public class RecursiveBean {",
+                    "    private List<RecursiveBean> children;",
+                    "    public List<RecursiveBean> getChildren() { return children; }",
+                    "    public void setChildren(List<RecursiveBean> children) { this.children = children; }",
+                    "}");
+
+        compile().close();
+
+        assertThat(generatedSourcesDir.resolve("sample/RecursiveBean_TableSchema.java")).doesNotExist();
+        assertThat(notes()).anySatisfy(note -> assertThat(note).contains("sample.RecursiveBean",
+                                                                         "refers to itself"));
+    }
+
+    @Test
+    public void customAttributeTag_isNotGenerated() throws Exception {
+        writeSource("sample/CustomTag.java",
+                    "package sample;",
+                    "import java.lang.annotation.ElementType;",
+                    "import java.lang.annotation.Retention;",
+                    "import java.lang.annotation.RetentionPolicy;",
+                    "import java.lang.annotation.Target;",
+                    "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;",
+                    "@Target(ElementType.METHOD)",
+                    "@Retention(RetentionPolicy.RUNTIME)",
+                    "@BeanTableSchemaAttributeTag(CustomTag.class)",
+                    "public @interface CustomTag {",
+                    "}");
+        writeSource("sample/CustomTagBean.java",
+                    "package sample;",
+                    "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;",
+                    "@DynamoDbBean",
+                    "public class CustomTagBean {",
+                    "    private String id;",
+                    "    @CustomTag",
+                    "    public String getId() { return id; }",
+                    "    public void setId(String id) { this.id = id; }",
+                    "}");
+
+        compile().close();
+
+        assertThat(generatedSourcesDir.resolve("sample/CustomTagBean_TableSchema.java")).doesNotExist();
+        assertThat(notes()).anySatisfy(note -> assertThat(note).contains("sample.CustomTagBean"));
+    }
+
+    private static void assertMapsLike(TableSchema<?> generated, TableSchema<?> runtime, Object item) {
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(runtime.attributeNames());
+        assertThat(generated.tableMetadata()).isEqualTo(runtime.tableMetadata());
+        assertThat(generated.isAbstract()).isEqualTo(runtime.isAbstract());
+
+        Map<String, AttributeValue> expected = itemToMap(runtime, item);
+        assertThat(itemToMap(generated, item)).isEqualTo(expected);
+        assertThat(itemToMap(runtime, generated.mapToItem(expected))).isEqualTo(expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, AttributeValue> itemToMap(TableSchema<?> tableSchema, Object item) {
+        return ((TableSchema<Object>) tableSchema).itemToMap(item, false);
+    }
+
+    private static <T> TableSchema<T> beanTableSchema(Class<T> beanClass) throws ReflectiveOperationException {
+        return TableSchema.fromBean(BeanTableSchemaParams.builder(beanClass).lookup(lookup(beanClass)).build());
+    }
+
+    private static <T> TableSchema<T> immutableTableSchema(Class<T> immutableClass) throws ReflectiveOperationException {
+        return TableSchema.fromImmutableClass(ImmutableTableSchemaParams.builder(immutableClass)
+                                                                        .lookup(lookup(immutableClass))
+                                                                        .build());
+    }
+
+    /**
+     * The runtime table schemas can only see the compiled samples through a lookup from their class loader.
+     */
+    private static MethodHandles.Lookup lookup(Class<?> itemClass) throws ReflectiveOperationException {
+        Class<?> sampleClass = itemClass.getClassLoader().loadClass("sample.SampleBean");
+        return (MethodHandles.Lookup) sampleClass.getMethod("lookup").invoke(null);
+    }
+
+    private static Object sample(Class<?> itemClass) throws ReflectiveOperationException {
+        return itemClass.getMethod("sample").invoke(null);
+    }
+
+    private static TableSchema<?> generatedTableSchema(ClassLoader classLoader, String className)
+            throws ReflectiveOperationException {
+        return (TableSchema<?>) classLoader.loadClass(className).getConstructor().newInstance();
+    }
+
+    private URLClassLoader compileSamples() throws IOException, URISyntaxException {
+        Path samplePackage = Files.createDirectories(sourcesDir.resolve("sample"));
+        for (String sampleSource : SAMPLE_SOURCES) {
+            URL resource = getClass().getResource("sources/" + sampleSource);
+            Files.copy(Paths.get(resource.toURI()), samplePackage.resolve(sampleSource), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return compile();
+    }
+
+    private void writeSource(String path, String... lines) throws IOException {
+        Path source = sourcesDir.resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.write(source, Arrays.asList(lines), UTF_8);
+    }
+
+    private URLClassLoader compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            List<String> options = Arrays.asList("-classpath", testClassPath(),
+                                                 "-d", classesDir.toString(),
+                                                 "-s", generatedSourcesDir.toString());
+            Iterable<? extends JavaFileObject> sources = fileManager.getJavaFileObjectsFromFiles(sourceFiles());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+
+            assertThat(task.call()).as("Compilation failed: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        return new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private List<File> sourceFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(sourcesDir)) {
+            return files.filter(f -> f.toString().endsWith(".java")).map(Path::toFile).collect(Collectors.toList());
+        }
+    }
+
+    private List<String> notes() {
+        List<String> notes = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.NOTE) {
+                notes.add(diagnostic.getMessage(null));
+            }
+        }
+        return notes;
+    }
+
+    private static String testClassPath() {
+        // Surefire may run the tests with a manifest-only jar on the class path
+        String testClassPath = System.getProperty("surefire.test.class.path");
+        return testClassPath != null ? testClassPath : System.getProperty("java.class.path");
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package sample;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAtomicCounter;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnoreNulls;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbUpdateBehavior;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@DynamoDbBean
+public class SampleBean extends SampleBaseBean {
+    private String id;
+    private int sort;
+    private String name;
+    private Instant createdDate;
+    private boolean active;
+    private Long version;
+    private Long counter;
+    private String ignored;
+    private String upperCased;
+    private Status status;
+    private byte[] bytes;
+    private List<String> tags;
+    private Set<String> labels;
+    private Map<String, Integer> scores;
+    private List<Nested> nestedList;
+    private Map<String, Nested> nestedMap;
+    private Nested nested;
+    private Flattened flattened;
+    private String fluent;
+
+    /**
+     * The runtime table schemas need a lookup from the class loader of the test classes.
+     */
+    public static MethodHandles.Lookup lookup() {
+        return MethodHandles.lookup();
+    }
+
+    public static SampleBean sample() {
+        SampleBean bean = new SampleBean();
+        bean.setId("id-1");
+        bean.setSort(7);
+        bean.setName("name");
+        bean.setCreatedDate(Instant.ofEpochSecond(1_000_000));
+        bean.setActive(true);
+        bean.setVersion(3L);
+        bean.setCounter(10L);
+        bean.setIgnored("ignored");
+        bean.setUpperCased("value");
+        bean.setStatus(Status.ACTIVE);
+        bean.setBytes(new byte[] {1, 2, 3});
+        bean.setTags(Arrays.asList("a", "b"));
+        bean.setLabels(new HashSet<>(Arrays.asList("x", "y")));
+        bean.setScores(Collections.singletonMap("score", 5));
+        bean.setNestedList(Arrays.asList(Nested.of("first"), Nested.of("second")));
+        bean.setNestedMap(Collections.singletonMap("key", Nested.of("value")));
+        bean.setNested(new Nested());
+        Flattened flattened = new Flattened();
+        flattened.setFlatValue("flat");
+        bean.setFlattened(flattened);
+        bean.fluent("fluent");
+        bean.setInherited("inherited");
+        return bean;
+    }
+
+    @DynamoDbPartitionKey
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @DynamoDbSortKey
+    public int getSort() {
+        return sort;
+    }
+
+    public void setSort(int sort) {
+        this.sort = sort;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = "by_name")
+    @DynamoDbAttribute("customer_name")
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = {"by_name", "by_date"})
+    @DynamoDbUpdateBehavior(UpdateBehavior.WRITE_IF_NOT_EXISTS)
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @DynamoDbVersionAttribute
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @DynamoDbAtomicCounter(delta = 5, startValue = 10)
+    public Long getCounter() {
+        return counter;
+    }
+
+    public void setCounter(Long counter) {
+        this.counter = counter;
+    }
+
+    @DynamoDbIgnore
+    public String getIgnored() {
+        return ignored;
+    }
+
+    public void setIgnored(String ignored) {
+        this.ignored = ignored;
+    }
+
+    @DynamoDbConvertedBy(UpperCaseConverter.class)
+    public String getUpperCased() {
+        return upperCased;
+    }
+
+    public void setUpperCased(String upperCased) {
+        this.upperCased = upperCased;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+
+    public Map<String, Integer> getScores() {
+        return scores;
+    }
+
+    public void setScores(Map<String, Integer> scores) {
+        this.scores = scores;
+    }
+
+    public List<Nested> getNestedList() {
+        return nestedList;
+    }
+
+    public void setNestedList(List<Nested> nestedList) {
+        this.nestedList = nestedList;
+    }
+
+    public Map<String, Nested> getNestedMap() {
+        return nestedMap;
+    }
+
+    public void setNestedMap(Map<String, Nested> nestedMap) {
+        this.nestedMap = nestedMap;
+    }
+
+    @DynamoDbPreserveEmptyObject
+    @DynamoDbIgnoreNulls
+    public Nested getNested() {
+        return nested;
+    }
+
+    public void setNested(Nested nested) {
+        this.nested = nested;
+    }
+
+    @DynamoDbFlatten
+    public Flattened getFlattened() {
+        return flattened;
+    }
+
+    public void setFlattened(Flattened flattened) {
+        this.flattened = flattened;
+    }
+
+    public String getFluent() {
+        return fluent;
+    }
+
+    public SampleBean setFluent(String fluent) {
+        this.fluent = fluent;
+        return this;
+    }
+
+    public SampleBean fluent(String fluent) {
+        return setFluent(fluent);
+    }
+
+    public String getReadOnly() {
+        return "read-only";
+    }
+
+    public enum Status {
+        ACTIVE, INACTIVE
+    }
+
+    @DynamoDbBean
+    public static class Nested {
+        private String value;
+
+        public static Nested of(String value) {
+            Nested nested = new Nested();
+            nested.setValue(value);
+            return nested;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    @DynamoDbBean
+    public static class Flattened {
+        private String flatValue;
+
+        public String getFlatValue() {
+            return flatValue;
+        }
+
+        public void setFlatValue(String flatValue) {
+            this.flatValue = flatValue;
+        }
+    }
+
+    public static class UpperCaseConverter implements AttributeConverter<String> {
+        @Override
+        public AttributeValue transformFrom(String input) {
+            return AttributeValue.builder().s(input.toUpperCase()).build();
+        }
+
+        @Override
+        public String transformTo(AttributeValue input) {
+            return input.s().toLowerCase();
+        }
+
+        @Override
+        public EnhancedType<String> type() {
+            return EnhancedType.of(String.class);
+        }
+
+        @Override
+        public AttributeValueType attributeValueType() {
+            return AttributeValueType.S;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package sample;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+
+@DynamoDbImmutable(builder = SampleImmutable.Builder.class)
+public final class SampleImmutable {
+    private final String id;
+    private final String name;
+    private final boolean active;
+    private final List<SampleBean.Nested> nested;
+
+    private SampleImmutable(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.active = builder.active;
+        this.nested = builder.nested;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The runtime table schemas need a lookup from the class loader of the test classes.
+     */
+    public static MethodHandles.Lookup lookup() {
+        return MethodHandles.lookup();
+    }
+
+    public static SampleImmutable sample() {
+        return builder().id("id-1")
+                        .setName("name")
+                        .active(true)
+                        .nested(java.util.Collections.singletonList(SampleBean.Nested.of("value")))
+                        .build();
+    }
+
+    @DynamoDbPartitionKey
+    public String id() {
+        return id;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = "by_name")
+    public String getName() {
+        return name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public List<SampleBean.Nested> nested() {
+        return nested;
+    }
+
+    @DynamoDbIgnore
+    public String description() {
+        return id + ":" + name;
+    }
+
+    public Builder toBuilder() {
+        return builder().id(id).setName(name).active(active).nested(nested);
+    }
+
+    public static final class Builder {
+        private String id;
+        private String name;
+        private boolean active;
+        private List<SampleBean.Nested> nested;
+
+        private Builder() {
+        }
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder active(boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        public Builder nested(List<SampleBean.Nested> nested) {
+            this.nested = nested;
+            return this;
+        }
+
+        public SampleImmutable build() {
+            return new SampleImmutable(this);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbBatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
@@ -537,6 +539,43 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers put and delete requests to any number of tables and writes them using
+     * BatchWriteItem requests of up to 25 items, sending items returned as unprocessed again with a backoff. The writer uses the
+     * low-level client of this enhanced client, and must be closed when it is no longer needed.
+     * <p>
+     * Unlike {@link #batchWriteItem(BatchWriteItemEnhancedRequest)}, the caller doesn't need to split the writes into batches
+     * or to retry unprocessed items.
+     * <p>
+     * Example:
+     * {@snippet :
+     * try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter()) {
+     *     customers.forEach(customer -> batchWriter.putItem(customerTable, customer));
+     * }
+     * }
+     *
+     * @return a batch writer using the default {@link BatchWriterConfiguration}.
+     */
+    default DynamoDbBatchWriter batchWriter() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers put and delete requests to any number of tables and writes them using
+     * BatchWriteItem requests, sending items returned as unprocessed again with a backoff. The writer uses the low-level client
+     * of this enhanced client, and must be closed when it is no longer needed.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link BatchWriterConfiguration} builder, avoiding the need
+     * to create one manually via {@link BatchWriterConfiguration#builder()}.
+     *
+     * @param configuration a {@link Consumer} of {@link BatchWriterConfiguration.Builder} overriding the default
+     *                      configuration.
+     * @return a batch writer using the given configuration.
+     */
+    default DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Creates a default builder for {@link DynamoDbEnhancedClient}.
      */
@@ -19,10 +19,12 @@ import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoader;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaParams;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
@@ -192,6 +194,11 @@ public interface TableSchema<T> {
      * because it's a moderately expensive operation.
      *
      * <p>
+     * If the class was compiled with the {@code dynamodb-enhanced-annotation-processor} annotation processor, the table
+     * schema generated for it at build time is returned instead. Generated table schemas don't scan the class at runtime,
+     * which makes them much cheaper to create.
+     *
+     * <p>
      * If this table schema is not behaving as you expect, enable debug logging for
      * {@code software.amazon.awssdk.enhanced.dynamodb.beans}.
      *
@@ -200,6 +207,11 @@ public interface TableSchema<T> {
      * @return An initialized {@link TableSchema}
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
+        Optional<TableSchema<T>> generatedTableSchema = GeneratedTableSchemaLoader.find(annotatedClass);
+        if (generatedTableSchema.isPresent()) {
+            return generatedTableSchema.get();
+        }
+
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
             return fromImmutableClass(annotatedClass);
         }
@@ -0,0 +1,255 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchwriter;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the {@link DynamoDbBatchWriter} and {@link DynamoDbAsyncBatchWriter}. All values are optional, and
+ * default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class BatchWriterConfiguration implements ToCopyableBuilder<BatchWriterConfiguration.Builder,
+    BatchWriterConfiguration> {
+
+    private final Integer maxBatchSize;
+    private final Integer maxConcurrentBatches;
+    private final Duration sendRequestFrequency;
+    private final Integer maxPendingItems;
+    private final Integer maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+
+    private BatchWriterConfiguration(Builder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(this.maxBatchSize == null || this.maxBatchSize <= 25,
+                        "The maxBatchSize must be less than or equal to 25. A batch can contain up to 25 items.");
+        this.maxConcurrentBatches = Validate.isPositiveOrNull(builder.maxConcurrentBatches, "maxConcurrentBatches");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.maxPendingItems = Validate.isPositiveOrNull(builder.maxPendingItems, "maxPendingItems");
+        this.maxAttempts = Validate.isPositiveOrNull(builder.maxAttempts, "maxAttempts");
+        this.backoffStrategy = builder.backoffStrategy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of items sent in a single BatchWriteItem request. A batch can contain up to a maximum of 25
+     *         items. The default value is 25.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum number of BatchWriteItem requests in flight at the same time. The default value is 8.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * @return the maximum duration a write waits for additional writes before being sent in a batch that isn't full. If
+     *         {@link #maxBatchSize()} items are available before this duration, the batch is sent immediately. The default
+     *         value is 100 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return the maximum number of writes a {@link DynamoDbBatchWriter} holds before adding another write blocks until one
+     *         completes. The default value is 1000.
+     */
+    public Integer maxPendingItems() {
+        return maxPendingItems;
+    }
+
+    /**
+     * @return the maximum number of times a write is sent before it fails because DynamoDB kept returning it as an unprocessed
+     *         item, including the first time. The default value is 10.
+     */
+    public Integer maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the backoff strategy used to compute how long to wait before sending unprocessed items again. The default is an
+     *         exponential backoff with full jitter, starting at 25 milliseconds and up to 5 seconds.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .maxBatchSize(maxBatchSize)
+            .maxConcurrentBatches(maxConcurrentBatches)
+            .sendRequestFrequency(sendRequestFrequency)
+            .maxPendingItems(maxPendingItems)
+            .maxAttempts(maxAttempts)
+            .backoffStrategy(backoffStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchWriterConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("maxConcurrentBatches", maxConcurrentBatches)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("maxPendingItems", maxPendingItems)
+                       .add("maxAttempts", maxAttempts)
+                       .add("backoffStrategy", backoffStrategy)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchWriterConfiguration that = (BatchWriterConfiguration) o;
+
+        if (!Objects.equals(maxBatchSize, that.maxBatchSize)) {
+            return false;
+        }
+        if (!Objects.equals(maxConcurrentBatches, that.maxConcurrentBatches)) {
+            return false;
+        }
+        if (!Objects.equals(sendRequestFrequency, that.sendRequestFrequency)) {
+            return false;
+        }
+        if (!Objects.equals(maxPendingItems, that.maxPendingItems)) {
+            return false;
+        }
+        if (!Objects.equals(maxAttempts, that.maxAttempts)) {
+            return false;
+        }
+        return Objects.equals(backoffStrategy, that.backoffStrategy);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
+        result = 31 * result + (maxConcurrentBatches != null ? maxConcurrentBatches.hashCode() : 0);
+        result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (maxPendingItems != null ? maxPendingItems.hashCode() : 0);
+        result = 31 * result + (maxAttempts != null ? maxAttempts.hashCode() : 0);
+        result = 31 * result + (backoffStrategy != null ? backoffStrategy.hashCode() : 0);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchWriterConfiguration> {
+        private Integer maxBatchSize;
+        private Integer maxConcurrentBatches;
+        private Duration sendRequestFrequency;
+        private Integer maxPendingItems;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of items sent in a single BatchWriteItem request. A batch can contain up to a maximum
+         * of 25 items. The default value is 25.
+         *
+         * @param maxBatchSize The maximum number of items sent in a batch.
+         * @return This builder for method chaining.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of BatchWriteItem requests in flight at the same time. The default value is 8.
+         *
+         * @param maxConcurrentBatches The maximum number of batches in flight.
+         * @return This builder for method chaining.
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum duration a write waits for additional writes before being sent in a batch that isn't full.
+         * The default value is 100 milliseconds.
+         *
+         * @param sendRequestFrequency The maximum duration a write waits to be batched.
+         * @return This builder for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of writes a {@link DynamoDbBatchWriter} holds before adding another write blocks until
+         * one completes. The default value is 1000.
+         *
+         * @param maxPendingItems The maximum number of pending writes.
+         * @return This builder for method chaining.
+         */
+        public Builder maxPendingItems(Integer maxPendingItems) {
+            this.maxPendingItems = maxPendingItems;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of times a write is sent before it fails because DynamoDB kept returning it as an
+         * unprocessed item, including the first time. The default value is 10.
+         *
+         * @param maxAttempts The maximum number of attempts of a write.
+         * @return This builder for method chaining.
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Specifies the backoff strategy used to compute how long to wait before sending unprocessed items again. The default
+         * is an exponential backoff with full jitter, starting at 25 milliseconds and up to 5 seconds.
+         *
+         * @param backoffStrategy The backoff strategy for unprocessed items.
+         * @return This builder for method chaining.
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        @Override
+        public BatchWriterConfiguration build() {
+            return new BatchWriterConfiguration(this);
+        }
+    }
+}
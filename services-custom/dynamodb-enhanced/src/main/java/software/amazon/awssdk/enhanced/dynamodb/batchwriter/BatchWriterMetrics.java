@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchwriter;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A snapshot of the activity of a {@link DynamoDbBatchWriter} or {@link DynamoDbAsyncBatchWriter} since it was created.
+ *
+ * @see DynamoDbBatchWriter#metrics()
+ * @see DynamoDbAsyncBatchWriter#metrics()
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchWriterMetrics {
+    private final long itemsWritten;
+    private final long itemsFailed;
+    private final long itemsRetried;
+    private final long batchesSent;
+    private final long bytesWritten;
+    private final Duration elapsedTime;
+
+    private BatchWriterMetrics(Builder builder) {
+        this.itemsWritten = builder.itemsWritten;
+        this.itemsFailed = builder.itemsFailed;
+        this.itemsRetried = builder.itemsRetried;
+        this.batchesSent = builder.batchesSent;
+        this.bytesWritten = builder.bytesWritten;
+        this.elapsedTime = Validate.paramNotNull(builder.elapsedTime, "elapsedTime");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of writes that completed successfully.
+     */
+    public long itemsWritten() {
+        return itemsWritten;
+    }
+
+    /**
+     * @return the number of writes that failed, because their batch failed or because they were still unprocessed after the
+     *         maximum number of attempts.
+     */
+    public long itemsFailed() {
+        return itemsFailed;
+    }
+
+    /**
+     * @return the number of times a write was sent again because DynamoDB returned it as an unprocessed item.
+     */
+    public long itemsRetried() {
+        return itemsRetried;
+    }
+
+    /**
+     * @return the number of BatchWriteItem requests sent.
+     */
+    public long batchesSent() {
+        return batchesSent;
+    }
+
+    /**
+     * @return the estimated size, in bytes, of the items written successfully, computed the way DynamoDB computes item sizes.
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @return the time elapsed since the writer was created.
+     */
+    public Duration elapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * @return the average number of writes that completed successfully per second since the writer was created.
+     */
+    public double itemsPerSecond() {
+        long elapsedNanos = elapsedTime.toNanos();
+        return elapsedNanos == 0 ? 0 : itemsWritten * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * @return the average estimated number of bytes written successfully per second since the writer was created.
+     */
+    public double bytesPerSecond() {
+        long elapsedNanos = elapsedTime.toNanos();
+        return elapsedNanos == 0 ? 0 : bytesWritten * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchWriterMetrics")
+                       .add("itemsWritten", itemsWritten)
+                       .add("itemsFailed", itemsFailed)
+                       .add("itemsRetried", itemsRetried)
+                       .add("batchesSent", batchesSent)
+                       .add("bytesWritten", bytesWritten)
+                       .add("elapsedTime", elapsedTime)
+                       .build();
+    }
+
+    public static final class Builder {
+        private long itemsWritten;
+        private long itemsFailed;
+        private long itemsRetried;
+        private long batchesSent;
+        private long bytesWritten;
+        private Duration elapsedTime;
+
+        private Builder() {
+        }
+
+        public Builder itemsWritten(long itemsWritten) {
+            this.itemsWritten = itemsWritten;
+            return this;
+        }
+
+        public Builder itemsFailed(long itemsFailed) {
+            this.itemsFailed = itemsFailed;
+            return this;
+        }
+
+        public Builder itemsRetried(long itemsRetried) {
+            this.itemsRetried = itemsRetried;
+            return this;
+        }
+
+        public Builder batchesSent(long batchesSent) {
+            this.batchesSent = batchesSent;
+            return this;
+        }
+
+        public Builder bytesWritten(long bytesWritten) {
+            this.bytesWritten = bytesWritten;
+            return this;
+        }
+
+        public Builder elapsedTime(Duration elapsedTime) {
+            this.elapsedTime = elapsedTime;
+            return this;
+        }
+
+        public BatchWriterMetrics build() {
+            return new BatchWriterMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchwriter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter.DefaultDynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes items to DynamoDB using BatchWriteItem requests, without the caller having to build the batches.
+ * <p>
+ * Writes are buffered and sent in batches of up to {@link BatchWriterConfiguration#maxBatchSize()} items, across any number of
+ * tables. A batch that isn't full is sent once its oldest write has waited for
+ * {@link BatchWriterConfiguration#sendRequestFrequency()}, or when {@link #flush()} is called. Items that DynamoDB returns as
+ * unprocessed are sent again after a backoff computed by {@link BatchWriterConfiguration#backoffStrategy()}, up to
+ * {@link BatchWriterConfiguration#maxAttempts()} times.
+ * <p>
+ * Writes to the same item are sent in the order they were made: a write is never sent while an earlier write to the same
+ * primary key is in flight or waiting to be retried. There is no ordering between writes to different items.
+ * <p>
+ * Example:
+ * {@snippet :
+ * try (DynamoDbAsyncBatchWriter batchWriter = enhancedAsyncClient.batchWriter()) {
+ *     for (Customer customer : customers) {
+ *         batchWriter.putItem(customerTable, customer);
+ *     }
+ *     batchWriter.flush().join();
+ * }
+ * }
+ *
+ * @see software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient#batchWriter()
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbAsyncBatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Buffers a request to put an item in a table.
+     *
+     * @param mappedTableResource the table to put the item in.
+     * @param item the item to put.
+     * @param <T> the type of the item.
+     * @return a {@link CompletableFuture} that completes when the item has been written, or completes exceptionally if the
+     *         write failed.
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTableResource, T item);
+
+    /**
+     * Buffers a request to delete an item from a table.
+     *
+     * @param mappedTableResource the table to delete the item from.
+     * @param key the primary key of the item to delete.
+     * @param <T> the type of the items of the table.
+     * @return a {@link CompletableFuture} that completes when the item has been deleted, or completes exceptionally if the
+     *         delete failed.
+     */
+    <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, Key key);
+
+    /**
+     * Buffers a request to delete an item from a table.
+     *
+     * @param mappedTableResource the table to delete the item from.
+     * @param keyItem an item with the primary key of the item to delete. Only the key attributes are used.
+     * @param <T> the type of the items of the table.
+     * @return a {@link CompletableFuture} that completes when the item has been deleted, or completes exceptionally if the
+     *         delete failed.
+     */
+    default <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, T keyItem) {
+        return deleteItem(mappedTableResource, mappedTableResource.keyFrom(keyItem));
+    }
+
+    /**
+     * Sends all buffered writes without waiting for their batches to fill up.
+     *
+     * @return a {@link CompletableFuture} that completes when every write made before this call has completed, successfully
+     *         or not. The outcome of each write is reported by the future returned when it was made.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * @return a snapshot of the activity of this writer since it was created.
+     */
+    BatchWriterMetrics metrics();
+
+    /**
+     * Sends all buffered writes and waits for them to complete. No more writes can be made after this method is called. The
+     * client used by this writer isn't closed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Create a builder that can be used to create a {@link DynamoDbAsyncBatchWriter}.
+     *
+     * @return Builder instance.
+     */
+    static Builder builder() {
+        return DefaultDynamoDbAsyncBatchWriter.builder();
+    }
+
+    interface Builder {
+
+        /**
+         * Specifies the client used to send the BatchWriteItem requests. This is a required value.
+         *
+         * @param client The {@link DynamoDbAsyncClient} used to write the items.
+         * @return This builder for method chaining.
+         */
+        Builder client(DynamoDbAsyncClient client);
+
+        /**
+         * Defines overrides to the default batch writer configuration.
+         *
+         * @param overrideConfiguration The configuration to override.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchWriterConfiguration overrideConfiguration);
+
+        /**
+         * Defines overrides to the default batch writer configuration using a {@link Consumer} of a
+         * {@link BatchWriterConfiguration.Builder}.
+         *
+         * @param overrideConfiguration A consumer that updates the configuration to override.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchWriterConfiguration.Builder> overrideConfiguration) {
+            BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+            overrideConfiguration.accept(builder);
+            return overrideConfiguration(builder.build());
+        }
+
+        /**
+         * Specifies the executor used to send batches that aren't full and to send unprocessed items again. If not provided,
+         * the writer creates a single-threaded executor that it shuts down when it is closed. An executor provided here is not
+         * shut down when the writer is closed.
+         *
+         * @param scheduledExecutor The executor used to schedule sends.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link DynamoDbAsyncBatchWriter} based on the configurations supplied to this builder.
+         *
+         * @return An initialized {@link DynamoDbAsyncBatchWriter}.
+         */
+        DynamoDbAsyncBatchWriter build();
+    }
+}
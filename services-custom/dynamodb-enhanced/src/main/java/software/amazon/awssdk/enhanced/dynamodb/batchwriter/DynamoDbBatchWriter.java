@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchwriter;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter.DefaultDynamoDbBatchWriter;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes items to DynamoDB using BatchWriteItem requests, without the caller having to build the batches.
+ * <p>
+ * Writes are buffered and sent in the background in batches of up to {@link BatchWriterConfiguration#maxBatchSize()} items,
+ * across any number of tables, with up to {@link BatchWriterConfiguration#maxConcurrentBatches()} batches in flight. A batch
+ * that isn't full is sent once its oldest write has waited for {@link BatchWriterConfiguration#sendRequestFrequency()}, or when
+ * {@link #flush()} is called. Items that DynamoDB returns as unprocessed are sent again after a backoff computed by
+ * {@link BatchWriterConfiguration#backoffStrategy()}, up to {@link BatchWriterConfiguration#maxAttempts()} times. Once
+ * {@link BatchWriterConfiguration#maxPendingItems()} writes are buffered, adding a write blocks until one completes.
+ * <p>
+ * Writes to the same item are sent in the order they were made: a write is never sent while an earlier write to the same
+ * primary key is in flight or waiting to be retried. There is no ordering between writes to different items.
+ * <p>
+ * Writes that fail are reported by the next call to {@link #flush()} or {@link #close()}.
+ * <p>
+ * Example:
+ * {@snippet :
+ * try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter()) {
+ *     for (Customer customer : customers) {
+ *         batchWriter.putItem(customerTable, customer);
+ *     }
+ * }
+ * }
+ *
+ * @see software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient#batchWriter()
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbBatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Buffers a request to put an item in a table, blocking if {@link BatchWriterConfiguration#maxPendingItems()} writes are
+     * already buffered.
+     *
+     * @param mappedTableResource the table to put the item in.
+     * @param item the item to put.
+     * @param <T> the type of the item.
+     */
+    <T> void putItem(MappedTableResource<T> mappedTableResource, T item);
+
+    /**
+     * Buffers a request to delete an item from a table, blocking if {@link BatchWriterConfiguration#maxPendingItems()} writes
+     * are already buffered.
+     *
+     * @param mappedTableResource the table to delete the item from.
+     * @param key the primary key of the item to delete.
+     * @param <T> the type of the items of the table.
+     */
+    <T> void deleteItem(MappedTableResource<T> mappedTableResource, Key key);
+
+    /**
+     * Buffers a request to delete an item from a table, blocking if {@link BatchWriterConfiguration#maxPendingItems()} writes
+     * are already buffered.
+     *
+     * @param mappedTableResource the table to delete the item from.
+     * @param keyItem an item with the primary key of the item to delete. Only the key attributes are used.
+     * @param <T> the type of the items of the table.
+     */
+    default <T> void deleteItem(MappedTableResource<T> mappedTableResource, T keyItem) {
+        deleteItem(mappedTableResource, mappedTableResource.keyFrom(keyItem));
+    }
+
+    /**
+     * Sends all buffered writes and waits for them to complete.
+     *
+     * @throws SdkClientException if any write failed since the previous call to this method. The exception of the first write
+     *         that failed is the cause of the thrown exception.
+     */
+    void flush();
+
+    /**
+     * @return a snapshot of the activity of this writer since it was created.
+     */
+    BatchWriterMetrics metrics();
+
+    /**
+     * Sends all buffered writes and waits for them to complete. No more writes can be made after this method is called. The
+     * client used by this writer isn't closed.
+     *
+     * @throws SdkClientException if any write failed since the previous call to {@link #flush()}.
+     */
+    @Override
+    void close();
+
+    /**
+     * Create a builder that can be used to create a {@link DynamoDbBatchWriter}.
+     *
+     * @return Builder instance.
+     */
+    static Builder builder() {
+        return DefaultDynamoDbBatchWriter.builder();
+    }
+
+    interface Builder {
+
+        /**
+         * Specifies the client used to send the BatchWriteItem requests. This is a required value. Requests are sent from
+         * threads owned by the writer, one per {@link BatchWriterConfiguration#maxConcurrentBatches()}.
+         *
+         * @param client The {@link DynamoDbClient} used to write the items.
+         * @return This builder for method chaining.
+         */
+        Builder client(DynamoDbClient client);
+
+        /**
+         * Defines overrides to the default batch writer configuration.
+         *
+         * @param overrideConfiguration The configuration to override.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchWriterConfiguration overrideConfiguration);
+
+        /**
+         * Defines overrides to the default batch writer configuration using a {@link Consumer} of a
+         * {@link BatchWriterConfiguration.Builder}.
+         *
+         * @param overrideConfiguration A consumer that updates the configuration to override.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchWriterConfiguration.Builder> overrideConfiguration) {
+            BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+            overrideConfiguration.accept(builder);
+            return overrideConfiguration(builder.build());
+        }
+
+        /**
+         * Specifies the executor used to send batches that aren't full and to send unprocessed items again. If not provided,
+         * the writer creates a single-threaded executor that it shuts down when it is closed. An executor provided here is not
+         * shut down when the writer is closed.
+         *
+         * @param scheduledExecutor The executor used to schedule sends.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link DynamoDbBatchWriter} based on the configurations supplied to this builder.
+         *
+         * @return An initialized {@link DynamoDbBatchWriter}.
+         */
+        DynamoDbBatchWriter build();
+    }
+}
@@ -0,0 +1,506 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Buffers writes in a FIFO queue and sends them in BatchWriteItem requests.
+ * <p>
+ * A batch is taken from the head of the queue once it can be filled, or once the write at the head of the queue is older than
+ * the send request frequency, or while a flush is pending. Writes whose primary key is already in flight are skipped, and so
+ * are later writes to the same key, so that writes to the same item are applied in order. The key of a write stays in flight
+ * until the write completes, including while it waits to be retried as an unprocessed item; retried writes go back to the
+ * head of the queue.
+ */
+@SdkInternalApi
+public final class DefaultDynamoDbAsyncBatchWriter implements DynamoDbAsyncBatchWriter {
+    static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+
+    private static final Logger log = Logger.loggerFor(DefaultDynamoDbAsyncBatchWriter.class);
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 25;
+    private static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(100);
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(25), Duration.ofSeconds(5));
+
+    /**
+     * The maximum total size of the items in a BatchWriteItem request.
+     */
+    private static final long MAX_BATCH_SIZE_IN_BYTES = 16L * 1024 * 1024;
+
+    private final Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean ownsScheduledExecutor;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final long sendRequestFrequencyNanos;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final Consumer<Throwable> failureListener;
+
+    private final Object lock = new Object();
+    private final Deque<PendingWrite> queue = new ArrayDeque<>();
+    private final Set<PendingWrite.ItemKey> keysInFlight = new HashSet<>();
+    private final Set<CompletableFuture<Void>> outstandingWrites = ConcurrentHashMap.newKeySet();
+    private int batchesInFlight;
+    private int pendingFlushes;
+    private boolean sendScheduled;
+    private volatile boolean closed;
+
+    private final long startTimeNanos = System.nanoTime();
+    private final LongAdder itemsWritten = new LongAdder();
+    private final LongAdder itemsFailed = new LongAdder();
+    private final LongAdder itemsRetried = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    private DefaultDynamoDbAsyncBatchWriter(DefaultBuilder builder) {
+        this(Validate.paramNotNull(builder.client, "client")::batchWriteItem,
+             builder.overrideConfiguration,
+             builder.scheduledExecutor,
+             null);
+    }
+
+    /**
+     * @param failureListener notified of the failure of a write before its future is completed, so that the failure is seen by
+     *                        anything waiting for the future. Can be null.
+     */
+    DefaultDynamoDbAsyncBatchWriter(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+                                    BatchWriterConfiguration overrideConfiguration,
+                                    ScheduledExecutorService scheduledExecutor,
+                                    Consumer<Throwable> failureListener) {
+        BatchWriterConfiguration configuration = overrideConfiguration == null ? BatchWriterConfiguration.builder().build()
+                                                                               : overrideConfiguration;
+        this.batchWriteItem = batchWriteItem;
+        this.failureListener = failureListener;
+        this.maxBatchSize = resolve(configuration.maxBatchSize(), DEFAULT_MAX_BATCH_SIZE);
+        this.maxConcurrentBatches = resolve(configuration.maxConcurrentBatches(), DEFAULT_MAX_CONCURRENT_BATCHES);
+        this.sendRequestFrequencyNanos = resolve(configuration.sendRequestFrequency(), DEFAULT_SEND_REQUEST_FREQUENCY).toNanos();
+        this.maxAttempts = resolve(configuration.maxAttempts(), DEFAULT_MAX_ATTEMPTS);
+        this.backoffStrategy = resolve(configuration.backoffStrategy(), DEFAULT_BACKOFF_STRATEGY);
+        if (scheduledExecutor == null) {
+            this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-batch-writer").daemonThreads(true).build());
+            this.ownsScheduledExecutor = true;
+        } else {
+            this.scheduledExecutor = scheduledExecutor;
+            this.ownsScheduledExecutor = false;
+        }
+    }
+
+    public static DynamoDbAsyncBatchWriter.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTableResource, T item) {
+        try {
+            return write(newPutItem(mappedTableResource, item));
+        } catch (Throwable t) {
+            return CompletableFutureUtils.failedFuture(t);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, Key key) {
+        try {
+            return write(newDeleteItem(mappedTableResource, key));
+        } catch (Throwable t) {
+            return CompletableFutureUtils.failedFuture(t);
+        }
+    }
+
+    <T> PendingWrite newPutItem(MappedTableResource<T> mappedTableResource, T item) {
+        Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+        Validate.paramNotNull(item, "item");
+        PutItemEnhancedRequest<T> request =
+            PutItemEnhancedRequest.builder(mappedTableResource.tableSchema().itemType().rawClass()).item(item).build();
+        WriteRequest writeRequest = PutItemOperation.create(request)
+                                                    .generateWriteRequest(mappedTableResource.tableSchema(),
+                                                                          DefaultOperationContext.create(
+                                                                              mappedTableResource.tableName()),
+                                                                          mappedTableResource.mapperExtension());
+        return newPendingWrite(mappedTableResource, writeRequest);
+    }
+
+    <T> PendingWrite newDeleteItem(MappedTableResource<T> mappedTableResource, Key key) {
+        Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+        Validate.paramNotNull(key, "key");
+        WriteRequest writeRequest = DeleteItemOperation.<T>create(DeleteItemEnhancedRequest.builder().key(key).build())
+                                                       .generateWriteRequest(mappedTableResource.tableSchema(),
+                                                                             DefaultOperationContext.create(
+                                                                                 mappedTableResource.tableName()),
+                                                                             mappedTableResource.mapperExtension());
+        return newPendingWrite(mappedTableResource, writeRequest);
+    }
+
+    private PendingWrite newPendingWrite(MappedTableResource<?> mappedTableResource, WriteRequest writeRequest) {
+        return new PendingWrite(mappedTableResource.tableName(),
+                                mappedTableResource.tableSchema().tableMetadata().primaryKeys(),
+                                writeRequest,
+                                System.nanoTime());
+    }
+
+    CompletableFuture<Void> write(PendingWrite write) {
+        if (closed) {
+            throw new IllegalStateException("The batch writer is closed.");
+        }
+        CompletableFuture<Void> future = write.future();
+        outstandingWrites.add(future);
+        future.whenComplete((r, t) -> outstandingWrites.remove(future));
+        synchronized (lock) {
+            queue.addLast(write);
+        }
+        sendBatches();
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> allWrites = CompletableFuture.allOf(outstandingWrites.toArray(new CompletableFuture[0]));
+        if (allWrites.isDone()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        synchronized (lock) {
+            pendingFlushes++;
+        }
+        sendBatches();
+        return allWrites.handle((r, t) -> {
+            synchronized (lock) {
+                pendingFlushes--;
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public BatchWriterMetrics metrics() {
+        return BatchWriterMetrics.builder()
+                                 .itemsWritten(itemsWritten.sum())
+                                 .itemsFailed(itemsFailed.sum())
+                                 .itemsRetried(itemsRetried.sum())
+                                 .batchesSent(batchesSent.sum())
+                                 .bytesWritten(bytesWritten.sum())
+                                 .elapsedTime(Duration.ofNanos(System.nanoTime() - startTimeNanos))
+                                 .build();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            flush().join();
+        } finally {
+            if (ownsScheduledExecutor) {
+                scheduledExecutor.shutdownNow();
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    int queuedWrites() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Sends as many batches as the queue and the number of batches in flight allow, and schedules another call if the write at
+     * the head of the queue has to wait for the send request frequency.
+     */
+    private void sendBatches() {
+        List<List<PendingWrite>> batches = null;
+        synchronized (lock) {
+            while (batchesInFlight < maxConcurrentBatches) {
+                List<PendingWrite> batch = nextBatch();
+                if (batch == null) {
+                    break;
+                }
+                batchesInFlight++;
+                if (batches == null) {
+                    batches = new ArrayList<>();
+                }
+                batches.add(batch);
+            }
+            scheduleSendIfNeeded();
+        }
+        if (batches != null) {
+            batches.forEach(this::send);
+        }
+    }
+
+    private List<PendingWrite> nextBatch() {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        boolean sendPartialBatch = pendingFlushes > 0
+                                   || closed
+                                   || System.nanoTime() - queue.peekFirst().enqueueTimeNanos() >= sendRequestFrequencyNanos;
+        if (!sendPartialBatch && queue.size() < maxBatchSize) {
+            return null;
+        }
+
+        List<PendingWrite> batch = null;
+        Set<PendingWrite.ItemKey> skippedKeys = null;
+        long batchSizeInBytes = 0;
+        Iterator<PendingWrite> iterator = queue.iterator();
+        while (iterator.hasNext() && (batch == null || batch.size() < maxBatchSize)) {
+            PendingWrite write = iterator.next();
+            if (keysInFlight.contains(write.key()) || skippedKeys != null && skippedKeys.contains(write.key())) {
+                continue;
+            }
+            if (batch != null && batchSizeInBytes + write.sizeInBytes() > MAX_BATCH_SIZE_IN_BYTES) {
+                // Later writes to this item must not overtake this one.
+                if (skippedKeys == null) {
+                    skippedKeys = new HashSet<>();
+                }
+                skippedKeys.add(write.key());
+                continue;
+            }
+            iterator.remove();
+            keysInFlight.add(write.key());
+            if (batch == null) {
+                batch = new ArrayList<>(maxBatchSize);
+            }
+            batch.add(write);
+            batchSizeInBytes += write.sizeInBytes();
+        }
+        return batch;
+    }
+
+    private void scheduleSendIfNeeded() {
+        if (sendScheduled || queue.isEmpty() || pendingFlushes > 0 || closed) {
+            return;
+        }
+        // Once the head of the queue is due, batches are only held back by writes or batches in flight, and their completion
+        // sends the next batches.
+        long delayNanos = queue.peekFirst().enqueueTimeNanos() + sendRequestFrequencyNanos - System.nanoTime();
+        if (delayNanos <= 0) {
+            return;
+        }
+        sendScheduled = true;
+        try {
+            scheduledExecutor.schedule(() -> {
+                synchronized (lock) {
+                    sendScheduled = false;
+                }
+                sendBatches();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            sendScheduled = false;
+            log.debug(() -> "Could not schedule a batch to be sent, it will be sent with the next write or flush.", e);
+        }
+    }
+
+    private void send(List<PendingWrite> batch) {
+        Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+        for (PendingWrite write : batch) {
+            write.incrementAttempts();
+            requestItems.computeIfAbsent(write.tableName(), t -> new ArrayList<>()).add(write.writeRequest());
+        }
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+        batchesSent.increment();
+
+        CompletableFuture<BatchWriteItemResponse> response;
+        try {
+            response = batchWriteItem.apply(request);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+        response.whenComplete((r, t) -> batchCompleted(batch, r, t));
+    }
+
+    private void batchCompleted(List<PendingWrite> batch, BatchWriteItemResponse response, Throwable error) {
+        Set<PendingWrite> unprocessedWrites = error == null ? unprocessedWrites(batch, response) : null;
+        List<PendingWrite> completed = new ArrayList<>(batch.size());
+        List<PendingWrite> retries = null;
+        int retryAttempt = 0;
+        for (PendingWrite write : batch) {
+            if (unprocessedWrites == null || !unprocessedWrites.contains(write) || write.attempts() >= maxAttempts) {
+                completed.add(write);
+            } else {
+                if (retries == null) {
+                    retries = new ArrayList<>();
+                }
+                retries.add(write);
+                retryAttempt = Math.max(retryAttempt, write.attempts());
+            }
+        }
+
+        synchronized (lock) {
+            batchesInFlight--;
+            for (PendingWrite write : completed) {
+                keysInFlight.remove(write.key());
+            }
+        }
+
+        for (PendingWrite write : completed) {
+            if (error != null) {
+                fail(write, error);
+            } else if (unprocessedWrites != null && unprocessedWrites.contains(write)) {
+                fail(write, SdkClientException.create("The item was still unprocessed after " + write.attempts()
+                                                      + " attempts."));
+            } else {
+                itemsWritten.increment();
+                bytesWritten.add(write.sizeInBytes());
+                write.future().complete(null);
+            }
+        }
+
+        if (retries != null) {
+            scheduleRetry(retries, retryAttempt);
+        }
+        sendBatches();
+    }
+
+    private void fail(PendingWrite write, Throwable error) {
+        itemsFailed.increment();
+        if (failureListener != null) {
+            failureListener.accept(error);
+        }
+        write.future().completeExceptionally(error);
+    }
+
+    private static Set<PendingWrite> unprocessedWrites(List<PendingWrite> batch, BatchWriteItemResponse response) {
+        if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+            return null;
+        }
+        Map<PendingWrite.ItemKey, PendingWrite> writesByKey = new HashMap<>();
+        Map<String, Collection<String>> keyAttributeNamesByTable = new HashMap<>();
+        for (PendingWrite write : batch) {
+            writesByKey.put(write.key(), write);
+            keyAttributeNamesByTable.putIfAbsent(write.tableName(), write.keyAttributeNames());
+        }
+
+        Set<PendingWrite> unprocessedWrites = new HashSet<>();
+        response.unprocessedItems().forEach((tableName, writeRequests) -> {
+            Collection<String> keyAttributeNames = keyAttributeNamesByTable.get(tableName);
+            if (keyAttributeNames == null) {
+                return;
+            }
+            for (WriteRequest writeRequest : writeRequests) {
+                PendingWrite.ItemKey key = PendingWrite.ItemKey.create(tableName, keyAttributeNames,
+                                                                       PendingWrite.item(writeRequest));
+                PendingWrite write = writesByKey.get(key);
+                if (write != null) {
+                    unprocessedWrites.add(write);
+                }
+            }
+        });
+        return unprocessedWrites;
+    }
+
+    private void scheduleRetry(List<PendingWrite> retries, int attempt) {
+        itemsRetried.add(retries.size());
+        Duration delay = backoffStrategy.computeDelay(attempt);
+        try {
+            scheduledExecutor.schedule(() -> requeue(retries), delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "Could not schedule unprocessed items to be sent again, sending them now.", e);
+            requeue(retries);
+        }
+    }
+
+    private void requeue(List<PendingWrite> retries) {
+        synchronized (lock) {
+            for (int i = retries.size() - 1; i >= 0; i--) {
+                PendingWrite write = retries.get(i);
+                keysInFlight.remove(write.key());
+                queue.addFirst(write);
+            }
+        }
+        sendBatches();
+    }
+
+    private static <T> T resolve(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static final class DefaultBuilder implements DynamoDbAsyncBatchWriter.Builder {
+        private DynamoDbAsyncClient client;
+        private BatchWriterConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public DynamoDbAsyncBatchWriter.Builder client(DynamoDbAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchWriter.Builder overrideConfiguration(BatchWriterConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchWriter.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchWriter build() {
+            return new DefaultDynamoDbAsyncBatchWriter(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbBatchWriter;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Blocking facade over a {@link DefaultDynamoDbAsyncBatchWriter}, that sends the batches with a {@link DynamoDbClient} from
+ * threads owned by the writer and limits the number of pending writes.
+ */
+@SdkInternalApi
+public final class DefaultDynamoDbBatchWriter implements DynamoDbBatchWriter {
+    private static final int DEFAULT_MAX_PENDING_ITEMS = 1000;
+
+    private final DefaultDynamoDbAsyncBatchWriter delegate;
+    private final ExecutorService executor;
+    private final Semaphore pendingItems;
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final AtomicLong failures = new AtomicLong();
+
+    private DefaultDynamoDbBatchWriter(DefaultBuilder builder) {
+        DynamoDbClient client = Validate.paramNotNull(builder.client, "client");
+        BatchWriterConfiguration configuration = builder.overrideConfiguration == null
+                                                 ? BatchWriterConfiguration.builder().build()
+                                                 : builder.overrideConfiguration;
+        int maxConcurrentBatches = configuration.maxConcurrentBatches() != null
+                                   ? configuration.maxConcurrentBatches()
+                                   : DefaultDynamoDbAsyncBatchWriter.DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.executor = Executors.newFixedThreadPool(
+            maxConcurrentBatches,
+            new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-batch-writer-request").daemonThreads(true).build());
+        this.delegate = new DefaultDynamoDbAsyncBatchWriter(
+            request -> CompletableFuture.supplyAsync(() -> client.batchWriteItem(request), executor),
+            configuration,
+            builder.scheduledExecutor,
+            this::writeFailed);
+        this.pendingItems = new Semaphore(configuration.maxPendingItems() != null ? configuration.maxPendingItems()
+                                                                                  : DEFAULT_MAX_PENDING_ITEMS);
+    }
+
+    public static DynamoDbBatchWriter.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public <T> void putItem(MappedTableResource<T> mappedTableResource, T item) {
+        write(delegate.newPutItem(mappedTableResource, item));
+    }
+
+    @Override
+    public <T> void deleteItem(MappedTableResource<T> mappedTableResource, Key key) {
+        write(delegate.newDeleteItem(mappedTableResource, key));
+    }
+
+    private void write(PendingWrite write) {
+        try {
+            pendingItems.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message("Interrupted while waiting for a pending write to complete.")
+                                  .cause(e)
+                                  .build();
+        }
+
+        CompletableFuture<Void> future;
+        try {
+            future = delegate.write(write);
+        } catch (Throwable t) {
+            pendingItems.release();
+            throw t;
+        }
+        future.whenComplete((r, t) -> pendingItems.release());
+    }
+
+    private void writeFailed(Throwable failure) {
+        failures.incrementAndGet();
+        firstFailure.compareAndSet(null, failure);
+    }
+
+    @Override
+    public void flush() {
+        CompletableFutureUtils.joinLikeSync(delegate.flush());
+        throwIfWritesFailed();
+    }
+
+    @Override
+    public BatchWriterMetrics metrics() {
+        return delegate.metrics();
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } finally {
+            executor.shutdownNow();
+        }
+        throwIfWritesFailed();
+    }
+
+    private void throwIfWritesFailed() {
+        Throwable failure = firstFailure.getAndSet(null);
+        if (failure != null) {
+            long failedWrites = failures.getAndSet(0);
+            throw SdkClientException.create(failedWrites + " write(s) failed. The cause is the failure of the first one.",
+                                            failure);
+        }
+    }
+
+    private static final class DefaultBuilder implements DynamoDbBatchWriter.Builder {
+        private DynamoDbClient client;
+        private BatchWriterConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public DynamoDbBatchWriter.Builder client(DynamoDbClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public DynamoDbBatchWriter.Builder overrideConfiguration(BatchWriterConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public DynamoDbBatchWriter.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public DynamoDbBatchWriter build() {
+            return new DefaultDynamoDbBatchWriter(this);
+        }
+    }
+}
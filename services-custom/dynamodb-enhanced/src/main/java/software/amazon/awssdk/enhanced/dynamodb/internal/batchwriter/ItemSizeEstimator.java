@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Estimates the size of items the way DynamoDB computes it: the UTF-8 length of each attribute name plus the size of its value.
+ * Numbers are estimated from their number of digits, since DynamoDB stores them in a variable length format.
+ */
+@SdkInternalApi
+final class ItemSizeEstimator {
+    private static final int OVERHEAD_SIZE = 1;
+    private static final int COLLECTION_OVERHEAD_SIZE = 3;
+
+    private ItemSizeEstimator() {
+    }
+
+    static long itemSize(Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += utf8Length(attribute.getKey()) + valueSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long valueSize(AttributeValue value) {
+        switch (value.type()) {
+            case S:
+                return utf8Length(value.s());
+            case N:
+                return numberSize(value.n());
+            case B:
+                return value.b().asByteBuffer().remaining();
+            case SS:
+                return value.ss().stream().mapToLong(ItemSizeEstimator::utf8Length).sum();
+            case NS:
+                return value.ns().stream().mapToLong(ItemSizeEstimator::numberSize).sum();
+            case BS:
+                return value.bs().stream().mapToLong(b -> b.asByteBuffer().remaining()).sum();
+            case M:
+                return COLLECTION_OVERHEAD_SIZE + mapSize(value.m());
+            case L:
+                return COLLECTION_OVERHEAD_SIZE + listSize(value.l());
+            case BOOL:
+            case NUL:
+            default:
+                return OVERHEAD_SIZE;
+        }
+    }
+
+    private static long mapSize(Map<String, AttributeValue> map) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> entry : map.entrySet()) {
+            size += utf8Length(entry.getKey()) + valueSize(entry.getValue()) + OVERHEAD_SIZE;
+        }
+        return size;
+    }
+
+    private static long listSize(List<AttributeValue> list) {
+        long size = 0;
+        for (AttributeValue element : list) {
+            size += valueSize(element) + OVERHEAD_SIZE;
+        }
+        return size;
+    }
+
+    private static long numberSize(String number) {
+        int digits = 0;
+        for (int i = 0; i < number.length(); i++) {
+            if (Character.isDigit(number.charAt(i))) {
+                digits++;
+            }
+        }
+        return (digits + 1) / 2 + OVERHEAD_SIZE;
+    }
+
+    private static long utf8Length(String s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * A write buffered by a {@link DefaultDynamoDbAsyncBatchWriter}, until it completes.
+ */
+@SdkInternalApi
+final class PendingWrite {
+    private final String tableName;
+    private final Collection<String> keyAttributeNames;
+    private final WriteRequest writeRequest;
+    private final ItemKey key;
+    private final long sizeInBytes;
+    private final long enqueueTimeNanos;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private int attempts;
+
+    PendingWrite(String tableName, Collection<String> keyAttributeNames, WriteRequest writeRequest, long enqueueTimeNanos) {
+        this.tableName = tableName;
+        this.keyAttributeNames = keyAttributeNames;
+        this.writeRequest = writeRequest;
+        Map<String, AttributeValue> item = item(writeRequest);
+        this.key = ItemKey.create(tableName, keyAttributeNames, item);
+        this.sizeInBytes = ItemSizeEstimator.itemSize(item);
+        this.enqueueTimeNanos = enqueueTimeNanos;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    Collection<String> keyAttributeNames() {
+        return keyAttributeNames;
+    }
+
+    WriteRequest writeRequest() {
+        return writeRequest;
+    }
+
+    ItemKey key() {
+        return key;
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    long enqueueTimeNanos() {
+        return enqueueTimeNanos;
+    }
+
+    CompletableFuture<Void> future() {
+        return future;
+    }
+
+    int attempts() {
+        return attempts;
+    }
+
+    /**
+     * Records that this write was sent. Only called by the thread that sends or completes the batch of this write.
+     */
+    int incrementAttempts() {
+        return ++attempts;
+    }
+
+    static Map<String, AttributeValue> item(WriteRequest writeRequest) {
+        return writeRequest.putRequest() != null ? writeRequest.putRequest().item() : writeRequest.deleteRequest().key();
+    }
+
+    /**
+     * The table and primary key of the item a write applies to.
+     */
+    static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        static ItemKey create(String tableName, Collection<String> keyAttributeNames, Map<String, AttributeValue> item) {
+            Map<String, AttributeValue> key = new HashMap<>(keyAttributeNames.size() * 2);
+            for (String keyAttributeName : keyAttributeNames) {
+                key.put(keyAttributeName, item.get(keyAttributeName));
+            }
+            return new ItemKey(tableName, key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey itemKey = (ItemKey) o;
+            return tableName.equals(itemKey.tableName) && key.equals(itemKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+}
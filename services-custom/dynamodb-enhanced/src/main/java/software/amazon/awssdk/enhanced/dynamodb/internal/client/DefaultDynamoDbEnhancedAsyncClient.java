@@ -26,6 +26,8 @@ import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbAsyncBatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
@@ -132,6 +134,16 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return transactWriteItemsWithResponse(builder.build());
     }
 
+    @Override
+    public DynamoDbAsyncBatchWriter batchWriter() {
+        return DynamoDbAsyncBatchWriter.builder().client(dynamoDbClient).build();
+    }
+
+    @Override
+    public DynamoDbAsyncBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        return DynamoDbAsyncBatchWriter.builder().client(dynamoDbClient).overrideConfiguration(configuration).build();
+    }
+
     public DynamoDbAsyncClient dynamoDbAsyncClient() {
         return dynamoDbClient;
     }
@@ -25,6 +25,8 @@ import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbBatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
@@ -126,6 +128,16 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return transactWriteItemsWithResponse(builder.build());
     }
 
+    @Override
+    public DynamoDbBatchWriter batchWriter() {
+        return DynamoDbBatchWriter.builder().client(dynamoDbClient).build();
+    }
+
+    @Override
+    public DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        return DynamoDbBatchWriter.builder().client(dynamoDbClient).overrideConfiguration(configuration).build();
+    }
+
     public DynamoDbClient dynamoDbClient() {
         return dynamoDbClient;
     }
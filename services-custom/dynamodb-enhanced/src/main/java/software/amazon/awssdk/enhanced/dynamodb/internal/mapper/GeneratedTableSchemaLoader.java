@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Finds the table schemas generated at build time by the DynamoDb enhanced client annotation processor.
+ * <p>
+ * The schema generated for an annotated class is named after the class, with the enclosing class names separated by an
+ * underscore, followed by {@value #GENERATED_CLASS_SUFFIX}. It's in the same package as the annotated class, and has a public
+ * no-argument constructor. For example, the schema of {@code com.example.Outer.Customer} is
+ * {@code com.example.Outer_Customer_TableSchema}.
+ * <p>
+ * The result of the lookup is cached with a {@link ClassValue}, so that it doesn't prevent the annotated class from being
+ * unloaded, and the lookup of a class doesn't block the lookup of other classes.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemaLoader {
+    public static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    private static volatile ClassValue<Optional<TableSchema<?>>> generatedTableSchemaCache = newCache();
+
+    private GeneratedTableSchemaLoader() {
+    }
+
+    /**
+     * Returns the table schema generated for the given annotated class, or an empty optional if there is none, e.g. because
+     * the annotation processor wasn't run when the class was compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> find(Class<T> annotatedClass) {
+        Optional<TableSchema<?>> tableSchema = generatedTableSchemaCache.get(annotatedClass);
+        return tableSchema.map(t -> (TableSchema<T>) t);
+    }
+
+    /**
+     * Returns the name of the class generated for the given annotated class.
+     */
+    public static String generatedClassName(Class<?> annotatedClass) {
+        String className = annotatedClass.getName();
+        int packageEnd = className.lastIndexOf('.');
+        return className.substring(0, packageEnd + 1)
+               + className.substring(packageEnd + 1).replace('$', '_')
+               + GENERATED_CLASS_SUFFIX;
+    }
+
+    private static ClassValue<Optional<TableSchema<?>>> newCache() {
+        return new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> type) {
+                return load(type);
+            }
+        };
+    }
+
+    private static Optional<TableSchema<?>> load(Class<?> annotatedClass) {
+        String generatedClassName = generatedClassName(annotatedClass);
+
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName, true, annotatedClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        if (!TableSchema.class.isAssignableFrom(generatedClass)) {
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Ignoring " + generatedClassName + " because it's not a "
+                                    + "TableSchema.");
+            return Optional.empty();
+        }
+
+        TableSchema<?> tableSchema;
+        try {
+            tableSchema = (TableSchema<?>) generatedClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create the table schema generated for " + annotatedClass.getTypeName()
+                                            + ". [class = \"" + generatedClassName + "\"]", e);
+        }
+
+        if (!annotatedClass.equals(tableSchema.itemType().rawClass())) {
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Ignoring " + generatedClassName + " because it maps "
+                                    + tableSchema.itemType() + " instead.");
+            return Optional.empty();
+        }
+
+        BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Using generated table schema " + generatedClassName);
+        return Optional.of(tableSchema);
+    }
+
+    @SdkTestInternalApi
+    static void clearSchemaCache() {
+        generatedTableSchemaCache = newCache();
+    }
+}
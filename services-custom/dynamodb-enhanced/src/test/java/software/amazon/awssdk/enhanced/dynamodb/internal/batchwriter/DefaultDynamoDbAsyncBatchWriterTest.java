@@ -0,0 +1,319 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.BatchWriterMetrics;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class DefaultDynamoDbAsyncBatchWriterTest {
+    private static final String TABLE_NAME = "table";
+
+    private final BlockingQueue<BatchWriteCall> calls = new LinkedBlockingQueue<>();
+    private DynamoDbAsyncClient client;
+    private DynamoDbAsyncTable<FakeItemWithSort> table;
+    private DynamoDbAsyncBatchWriter batchWriter;
+
+    @BeforeEach
+    public void setup() {
+        client = mock(DynamoDbAsyncClient.class);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteCall call = new BatchWriteCall(invocation.getArgument(0));
+            calls.add(call);
+            return call.response;
+        });
+        table = DynamoDbEnhancedAsyncClient.builder()
+                                           .dynamoDbClient(client)
+                                           .build()
+                                           .table(TABLE_NAME, FakeItemWithSort.getTableSchema());
+    }
+
+    @AfterEach
+    public void teardown() {
+        calls.forEach(call -> call.response.complete(BatchWriteItemResponse.builder().build()));
+    }
+
+    @Test
+    public void putItem_fullBatch_sentWithoutWaiting() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 25)
+                                                         .mapToObj(i -> batchWriter.putItem(table, item("id" + i)))
+                                                         .collect(Collectors.toList());
+
+        BatchWriteCall call = nextCall();
+        assertThat(ids(call.request)).hasSize(25);
+        assertThat(futures).noneMatch(CompletableFuture::isDone);
+
+        call.succeed();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+        BatchWriterMetrics metrics = batchWriter.metrics();
+        assertThat(metrics.itemsWritten()).isEqualTo(25);
+        assertThat(metrics.batchesSent()).isEqualTo(1);
+        assertThat(metrics.bytesWritten()).isPositive();
+    }
+
+    @Test
+    public void putItem_partialBatch_sentAfterSendRequestFrequency() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofMillis(50)));
+        batchWriter.putItem(table, item("id1"));
+        batchWriter.putItem(table, item("id2"));
+
+        assertThat(ids(nextCall().request)).containsExactly("id1", "id2");
+    }
+
+    @Test
+    public void putItem_moreItemsThanMaxBatchSize_splitIntoBatches() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)).maxBatchSize(10));
+        IntStream.range(0, 25).forEach(i -> batchWriter.putItem(table, item("id" + i)));
+
+        assertThat(ids(nextCall().request)).hasSize(10);
+        assertThat(ids(nextCall().request)).hasSize(10);
+        assertThat(calls.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        batchWriter.flush();
+        assertThat(ids(nextCall().request)).hasSize(5);
+    }
+
+    @Test
+    public void flush_sendsPartialBatchAndCompletesWhenWritesComplete() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        batchWriter.putItem(table, item("id1"));
+        batchWriter.deleteItem(table, Key.builder().partitionValue("id2").sortValue("sort").build());
+
+        CompletableFuture<Void> flush = batchWriter.flush();
+        BatchWriteCall call = nextCall();
+        List<WriteRequest> writeRequests = call.request.requestItems().get(TABLE_NAME);
+        assertThat(writeRequests).hasSize(2);
+        assertThat(writeRequests.get(0).putRequest()).isNotNull();
+        assertThat(writeRequests.get(1).deleteRequest().key().get("id").s()).isEqualTo("id2");
+        assertThat(flush).isNotDone();
+
+        call.succeed();
+        flush.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void unprocessedItems_sentAgain() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        CompletableFuture<Void> first = batchWriter.putItem(table, item("id1"));
+        CompletableFuture<Void> second = batchWriter.putItem(table, item("id2"));
+        batchWriter.flush();
+
+        BatchWriteCall call = nextCall();
+        call.succeedWithUnprocessed(call.request.requestItems().get(TABLE_NAME).get(1));
+        first.get(1, TimeUnit.SECONDS);
+        assertThat(second).isNotDone();
+
+        BatchWriteCall retry = nextCall();
+        assertThat(ids(retry.request)).containsExactly("id2");
+        retry.succeed();
+        second.get(1, TimeUnit.SECONDS);
+        assertThat(batchWriter.metrics().itemsRetried()).isEqualTo(1);
+        assertThat(batchWriter.metrics().itemsWritten()).isEqualTo(2);
+    }
+
+    @Test
+    public void unprocessedItems_maxAttemptsExceeded_writeFails() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)).maxAttempts(2));
+        CompletableFuture<Void> write = batchWriter.putItem(table, item("id1"));
+        batchWriter.flush();
+
+        for (int i = 0; i < 2; i++) {
+            BatchWriteCall call = nextCall();
+            call.succeedWithUnprocessed(call.request.requestItems().get(TABLE_NAME).get(0));
+        }
+
+        assertThatThrownBy(() -> write.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(SdkClientException.class)
+                                                                 .hasMessageContaining("2 attempts");
+        assertThat(batchWriter.metrics().itemsFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void batchFails_writesOfBatchFail() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        CompletableFuture<Void> write = batchWriter.putItem(table, item("id1"));
+        batchWriter.flush();
+
+        RuntimeException failure = new RuntimeException("boom");
+        nextCall().response.completeExceptionally(failure);
+
+        assertThatThrownBy(() -> write.get(1, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    public void sameKey_notSentWhileEarlierWriteInFlight() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        batchWriter.putItem(table, item("id1", "first"));
+        batchWriter.flush();
+        BatchWriteCall first = nextCall();
+
+        batchWriter.putItem(table, item("id1", "second"));
+        batchWriter.putItem(table, item("id2"));
+        batchWriter.flush();
+        BatchWriteCall second = nextCall();
+        assertThat(ids(second.request)).containsExactly("id2");
+        assertThat(calls.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        first.succeed();
+        BatchWriteCall third = nextCall();
+        List<WriteRequest> writeRequests = third.request.requestItems().get(TABLE_NAME);
+        assertThat(writeRequests).hasSize(1);
+        assertThat(writeRequests.get(0).putRequest().item().get("other_attribute_1").s()).isEqualTo("second");
+    }
+
+    @Test
+    public void sameKey_retriedWriteSentBeforeLaterWrite() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        batchWriter.putItem(table, item("id1", "first"));
+        batchWriter.flush();
+        BatchWriteCall first = nextCall();
+        batchWriter.putItem(table, item("id1", "second"));
+        batchWriter.flush();
+
+        first.succeedWithUnprocessed(first.request.requestItems().get(TABLE_NAME).get(0));
+        BatchWriteCall retry = nextCall();
+        assertThat(retry.request.requestItems().get(TABLE_NAME).get(0).putRequest().item().get("other_attribute_1").s())
+            .isEqualTo("first");
+        assertThat(calls.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        retry.succeed();
+        BatchWriteCall last = nextCall();
+        assertThat(last.request.requestItems().get(TABLE_NAME).get(0).putRequest().item().get("other_attribute_1").s())
+            .isEqualTo("second");
+    }
+
+    @Test
+    public void maxConcurrentBatches_limitsBatchesInFlight() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)).maxConcurrentBatches(1));
+        IntStream.range(0, 50).forEach(i -> batchWriter.putItem(table, item("id" + i)));
+
+        BatchWriteCall first = nextCall();
+        assertThat(calls.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        first.succeed();
+        assertThat(ids(nextCall().request)).hasSize(25);
+    }
+
+    @Test
+    public void close_flushesAndRejectsLaterWrites() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        CompletableFuture<Void> write = batchWriter.putItem(table, item("id1"));
+
+        CompletableFuture<Void> close = CompletableFuture.runAsync(batchWriter::close);
+        nextCall().succeed();
+        close.get(1, TimeUnit.SECONDS);
+        assertThat(write).isCompleted();
+
+        assertThatThrownBy(() -> batchWriter.putItem(table, item("id2")).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void putItem_invalidItem_failsWithoutSending() throws Exception {
+        batchWriter = batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        CompletableFuture<Void> write = batchWriter.putItem(table, null);
+
+        assertThat(write).isCompletedExceptionally();
+        assertThat(batchWriter.flush()).isCompleted();
+        assertThat(calls).isEmpty();
+    }
+
+    private DynamoDbAsyncBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        return DynamoDbAsyncBatchWriter.builder()
+                                       .client(client)
+                                       .overrideConfiguration(c -> configuration.accept(
+                                           c.backoffStrategy(BackoffStrategy.retryImmediately())))
+                                       .build();
+    }
+
+    private BatchWriteCall nextCall() throws InterruptedException {
+        BatchWriteCall call = calls.poll(5, TimeUnit.SECONDS);
+        assertThat(call).as("BatchWriteItem call").isNotNull();
+        return call;
+    }
+
+    private static FakeItemWithSort item(String id) {
+        return item(id, "value");
+    }
+
+    private static FakeItemWithSort item(String id, String value) {
+        return FakeItemWithSort.builder().id(id).sort("sort").otherAttribute1(value).build();
+    }
+
+    private static List<String> ids(BatchWriteItemRequest request) {
+        List<String> ids = new ArrayList<>();
+        for (WriteRequest writeRequest : request.requestItems().get(TABLE_NAME)) {
+            Map<String, AttributeValue> item = writeRequest.putRequest() != null ? writeRequest.putRequest().item()
+                                                                                 : writeRequest.deleteRequest().key();
+            ids.add(item.get("id").s());
+        }
+        return ids;
+    }
+
+    private static final class BatchWriteCall {
+        private final BatchWriteItemRequest request;
+        private final CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+
+        private BatchWriteCall(BatchWriteItemRequest request) {
+            this.request = request;
+        }
+
+        private void succeed() {
+            response.complete(BatchWriteItemResponse.builder().build());
+        }
+
+        private void succeedWithUnprocessed(WriteRequest unprocessed) {
+            response.complete(BatchWriteItemResponse.builder()
+                                                    .unprocessedItems(Collections.singletonMap(
+                                                        TABLE_NAME, Collections.singletonList(unprocessed)))
+                                                    .build());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+
+public class DefaultDynamoDbBatchWriterTest {
+    private final List<BatchWriteItemRequest> requests = new CopyOnWriteArrayList<>();
+    private DynamoDbClient client;
+    private DynamoDbEnhancedClient enhancedClient;
+    private DynamoDbTable<FakeItemWithSort> table;
+
+    @BeforeEach
+    public void setup() {
+        client = mock(DynamoDbClient.class);
+        enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(client).build();
+        table = enhancedClient.table("table", FakeItemWithSort.getTableSchema());
+    }
+
+    @Test
+    public void close_writesAllItems() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter(c -> c.sendRequestFrequency(Duration.ofHours(1)))) {
+            IntStream.range(0, 60).forEach(i -> batchWriter.putItem(table, item("id" + i)));
+        }
+
+        assertThat(requests.stream().mapToInt(r -> r.requestItems().get("table").size()).sum()).isEqualTo(60);
+        assertThat(requests).allSatisfy(r -> assertThat(r.requestItems().get("table")).hasSizeLessThanOrEqualTo(25));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsOnceWithFirstFailure() {
+        RuntimeException failure = new RuntimeException("boom");
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(failure);
+
+        DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter();
+        batchWriter.putItem(table, item("id1"));
+        batchWriter.putItem(table, item("id2"));
+
+        assertThatThrownBy(batchWriter::flush).isInstanceOf(SdkClientException.class)
+                                              .hasMessageContaining("2 write(s) failed")
+                                              .hasRootCause(failure);
+        batchWriter.flush();
+        batchWriter.close();
+    }
+
+    @Test
+    public void putItem_maxPendingItemsReached_blocksUntilWriteCompletes() throws Exception {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter(c -> c.maxPendingItems(1)
+                                                                                .sendRequestFrequency(Duration.ofMillis(10)))) {
+            batchWriter.putItem(table, item("id1"));
+            batchWriter.putItem(table, item("id2"));
+            assertThat(requests).isNotEmpty();
+        }
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    public void putItem_invalidItem_throws() {
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter()) {
+            assertThatThrownBy(() -> batchWriter.putItem(table, null)).isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    private static FakeItemWithSort item(String id) {
+        return FakeItemWithSort.builder().id(id).sort("sort").build();
+    }
+}
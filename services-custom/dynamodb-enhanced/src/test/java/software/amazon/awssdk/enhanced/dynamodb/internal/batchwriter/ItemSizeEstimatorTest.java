@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchwriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ItemSizeEstimatorTest {
+
+    @Test
+    public void itemSize_scalars_sumOfNamesAndValues() {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.fromS("abc"));
+        item.put("n", AttributeValue.fromN("-12.345"));
+        item.put("b", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[10])));
+        item.put("bool", AttributeValue.fromBool(true));
+        item.put("null", AttributeValue.fromNul(true));
+
+        // 2 + 3, 1 + (5 digits / 2 rounded up + 1), 1 + 10, 4 + 1, 4 + 1
+        assertThat(ItemSizeEstimator.itemSize(item)).isEqualTo(5 + 5 + 11 + 5 + 5);
+    }
+
+    @Test
+    public void itemSize_multiByteCharacters_countsUtf8Bytes() {
+        Map<String, AttributeValue> item = Collections.singletonMap("é", AttributeValue.fromS("€😀"));
+
+        assertThat(ItemSizeEstimator.itemSize(item)).isEqualTo(2 + 3 + 4);
+    }
+
+    @Test
+    public void itemSize_documents_includeOverhead() {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("l", AttributeValue.fromL(Arrays.asList(AttributeValue.fromS("a"), AttributeValue.fromS("bc"))));
+        item.put("m", AttributeValue.fromM(Collections.singletonMap("k", AttributeValue.fromS("v"))));
+        item.put("ss", AttributeValue.fromSs(Arrays.asList("a", "bc")));
+
+        // 1 + 3 + (1 + 1) + (2 + 1), 1 + 3 + (1 + 1 + 1), 2 + 1 + 2
+        assertThat(ItemSizeEstimator.itemSize(item)).isEqualTo(9 + 7 + 5);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+
+public class GeneratedTableSchemaLoaderTest {
+    @AfterEach
+    public void clearCache() {
+        GeneratedTableSchemaLoader.clearSchemaCache();
+    }
+
+    @Test
+    public void fromClass_generatedTableSchemaExists_returnsGeneratedTableSchema() {
+        TableSchema<GeneratedSchemaBean> tableSchema = TableSchema.fromClass(GeneratedSchemaBean.class);
+
+        assertThat(tableSchema).isInstanceOf(GeneratedSchemaBean_TableSchema.class);
+        assertThat(TableSchema.fromClass(GeneratedSchemaBean.class)).isSameAs(tableSchema);
+    }
+
+    @Test
+    public void fromClass_generatedTableSchemaExists_mapsSameAsBeanTableSchema() {
+        GeneratedSchemaBean item = new GeneratedSchemaBean();
+        item.setId("id-value");
+
+        TableSchema<GeneratedSchemaBean> generated = TableSchema.fromClass(GeneratedSchemaBean.class);
+        BeanTableSchema<GeneratedSchemaBean> reflective = TableSchema.fromBean(GeneratedSchemaBean.class);
+
+        Map<String, ?> itemMap = generated.itemToMap(item, true);
+        assertThat(itemMap).isEqualTo(reflective.itemToMap(item, true));
+        assertThat(generated.tableMetadata().primaryPartitionKey())
+            .isEqualTo(reflective.tableMetadata().primaryPartitionKey());
+    }
+
+    @Test
+    public void find_noGeneratedTableSchema_returnsEmpty() {
+        assertThat(GeneratedTableSchemaLoader.find(SimpleBean.class)).isEmpty();
+        assertThat(TableSchema.fromClass(SimpleBean.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @Test
+    public void generatedClassName_nestedClass_joinsEnclosingClassNames() {
+        assertThat(GeneratedTableSchemaLoader.generatedClassName(Map.Entry.class)).isEqualTo("java.util.Map_Entry_TableSchema");
+        assertThat(GeneratedTableSchemaLoader.generatedClassName(GeneratedSchemaBean.class))
+            .isEqualTo(GeneratedSchemaBean_TableSchema.class.getName());
+    }
+
+    @Test
+    public void find_classLoaderDiscarded_classCanBeUnloaded() throws Exception {
+        URL testClasses = SimpleBean.class.getProtectionDomain().getCodeSource().getLocation();
+        WeakReference<Class<?>> loadedClass = findInDiscardedClassLoader(testClasses);
+
+        for (int i = 0; i < 50 && loadedClass.get() != null; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertThat(loadedClass.get()).isNull();
+    }
+
+    private static WeakReference<Class<?>> findInDiscardedClassLoader(URL testClasses) throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {testClasses}, null)) {
+            Class<?> beanClass = classLoader.loadClass(SimpleBean.class.getName());
+            assertThat(GeneratedTableSchemaLoader.find(beanClass)).isEmpty();
+            return new WeakReference<>(beanClass);
+        }
+    }
+}
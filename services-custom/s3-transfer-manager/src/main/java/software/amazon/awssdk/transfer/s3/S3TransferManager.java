@@ -780,6 +780,40 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Specifies the maximum number of directories listed at the same time when traversing the file tree in
+         * {@link S3TransferManager#uploadDirectory} operation. Directories are listed on the {@link #executor(Executor)}.
+         *
+         * <p>
+         * Listing directories in parallel speeds up uploading directory trees with a large number of small files, where
+         * traversing the file tree can take longer than uploading the files. Files are uploaded in no particular order when
+         * this is greater than 1.
+         *
+         * <p>
+         * Default to 1, which traverses the file tree on a single thread.
+         *
+         * @param uploadDirectoryTraversalParallelism the maximum number of directories listed at the same time
+         * @return This builder for method chaining.
+         */
+        Builder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism);
+
+        /**
+         * Specifies the maximum number of files transferred at the same time by each
+         * {@link S3TransferManager#uploadDirectory} and {@link S3TransferManager#downloadDirectory} operation.
+         *
+         * <p>
+         * Files smaller than the multipart threshold of the S3 client are sent in a single request, so for directories of
+         * small files this is the number of requests in flight, which should be set according to the maximum number of
+         * connections of the S3 client.
+         *
+         * <p>
+         * Default to 100
+         *
+         * @param transferDirectoryMaxConcurrency the maximum number of files transferred at the same time
+         * @return This builder for method chaining.
+         */
+        Builder transferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
@@ -0,0 +1,392 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link SdkPublisher} of the regular files within a directory tree, which lists up to {@code parallelism} directories at the
+ * same time on the given executor.
+ * <p>
+ * It visits the same files as {@link Files#walk}, in no particular order. Large directories are read in batches, and directories
+ * are only read while fewer than {@link #MAX_BUFFERED_FILES} files are waiting to be requested by the subscriber, so the number
+ * of buffered files is bounded. The subdirectories that have been found but not listed yet are queued without a bound, so
+ * memory use grows with the number of directories in the widest parts of the tree. Only the directories being listed are open.
+ * Tasks never block waiting for each other or for the subscriber, so any executor can be used, including the one the subscriber
+ * runs on.
+ */
+@SdkInternalApi
+public final class ParallelFileTreePublisher implements SdkPublisher<Path> {
+    private static final Logger log = Logger.loggerFor(ParallelFileTreePublisher.class);
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_BUFFERED_FILES = 10_000;
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final int parallelism;
+    private final Executor executor;
+
+    private ParallelFileTreePublisher(Builder builder) {
+        this.root = Validate.paramNotNull(builder.root, "root");
+        this.maxDepth = Validate.isNotNegative(builder.maxDepth, "maxDepth");
+        this.followSymbolicLinks = builder.followSymbolicLinks;
+        this.parallelism = Validate.isPositive(builder.parallelism, "parallelism");
+        this.executor = Validate.paramNotNull(builder.executor, "executor");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Path> subscriber) {
+        Validate.paramNotNull(subscriber, "subscriber");
+        FileTreeSubscription subscription = new FileTreeSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class FileTreeSubscription implements Subscription {
+        private final Subscriber<? super Path> subscriber;
+        private final Deque<DirectoryCursor> pendingDirectories = new ConcurrentLinkedDeque<>();
+        private final Queue<Path> files = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger bufferedFiles = new AtomicInteger();
+        private final AtomicInteger activeWalkers = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+
+        /**
+         * Only accessed by the thread draining this subscription.
+         */
+        private boolean done;
+
+        private FileTreeSubscription(Subscriber<? super Path> subscriber) {
+            this.subscriber = subscriber;
+            if (maxDepth > 0) {
+                try {
+                    pendingDirectories.add(new DirectoryCursor(root, 0, readAttributes(root).fileKey(), null));
+                } catch (IOException e) {
+                    this.error = listingFailure(e);
+                }
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("A reactive streams subscriber must request a positive number of "
+                                                  + "elements (rule 3.9), but requested " + n));
+                return;
+            }
+            addDemand(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void addDemand(long n) {
+            long current;
+            long updated;
+            do {
+                current = demand.get();
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, updated));
+        }
+
+        private void fail(Throwable t) {
+            if (error == null) {
+                error = t;
+            }
+            drain();
+        }
+
+        /**
+         * Delivers buffered files to the subscriber, completes the subscription when the whole tree is listed and starts
+         * walkers for the pending directories. Only one thread drains at a time, other threads calling this method make it
+         * run again.
+         */
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (done || cancelled) {
+                    done = true;
+                    closePendingDirectories();
+                } else {
+                    deliverFiles();
+                    Throwable t = error;
+                    if (t != null) {
+                        done = true;
+                        closePendingDirectories();
+                        subscriber.onError(t);
+                    } else if (isExhausted()) {
+                        done = true;
+                        subscriber.onComplete();
+                    } else {
+                        startWalkers();
+                    }
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliverFiles() {
+            long requested = demand.get();
+            long delivered = 0;
+            while (delivered < requested && !cancelled) {
+                Path file = files.poll();
+                if (file == null) {
+                    break;
+                }
+                bufferedFiles.decrementAndGet();
+                subscriber.onNext(file);
+                delivered++;
+            }
+            if (requested != Long.MAX_VALUE && delivered > 0) {
+                demand.addAndGet(-delivered);
+            }
+        }
+
+        /**
+         * Walkers add the files and directories they find before they finish, so the tree has been fully listed when no
+         * walker is running and nothing is pending.
+         */
+        private boolean isExhausted() {
+            return activeWalkers.get() == 0 && pendingDirectories.isEmpty() && files.isEmpty();
+        }
+
+        private void startWalkers() {
+            while (bufferedFiles.get() < MAX_BUFFERED_FILES && activeWalkers.get() < parallelism) {
+                DirectoryCursor directory = pendingDirectories.poll();
+                if (directory == null) {
+                    return;
+                }
+
+                activeWalkers.incrementAndGet();
+                try {
+                    executor.execute(() -> walk(directory));
+                } catch (RuntimeException e) {
+                    activeWalkers.decrementAndGet();
+                    directory.close();
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        private void walk(DirectoryCursor directory) {
+            try {
+                if (!cancelled && error == null && directory.readBatch()) {
+                    // Finish this directory before starting the ones found in it, so that it can be closed sooner
+                    pendingDirectories.addFirst(directory);
+                } else {
+                    directory.close();
+                }
+            } catch (IOException e) {
+                directory.close();
+                error = error == null ? listingFailure(e) : error;
+            } catch (RuntimeException e) {
+                directory.close();
+                error = error == null ? e : error;
+            } finally {
+                activeWalkers.decrementAndGet();
+                drain();
+            }
+        }
+
+        private void closePendingDirectories() {
+            DirectoryCursor directory;
+            while ((directory = pendingDirectories.poll()) != null) {
+                directory.close();
+            }
+        }
+
+        private final class DirectoryCursor implements SdkAutoCloseable {
+            private final Path directory;
+            private final int depth;
+            private final Object fileKey;
+            private final DirectoryCursor parent;
+            private DirectoryStream<Path> stream;
+            private Iterator<Path> entries;
+
+            private DirectoryCursor(Path directory, int depth, Object fileKey, DirectoryCursor parent) {
+                this.directory = directory;
+                this.depth = depth;
+                this.fileKey = fileKey;
+                this.parent = parent;
+            }
+
+            /**
+             * Visits the next batch of entries of this directory.
+             *
+             * @return Whether there are more entries to visit.
+             */
+            private boolean readBatch() throws IOException {
+                try {
+                    if (stream == null) {
+                        stream = Files.newDirectoryStream(directory);
+                        entries = stream.iterator();
+                    }
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        if (!entries.hasNext()) {
+                            return false;
+                        }
+                        visit(entries.next());
+                    }
+                    return entries.hasNext();
+                } catch (DirectoryIteratorException e) {
+                    throw e.getCause();
+                }
+            }
+
+            private void visit(Path entry) throws IOException {
+                BasicFileAttributes attributes = readAttributes(entry);
+                if (attributes.isRegularFile()) {
+                    bufferedFiles.incrementAndGet();
+                    files.add(entry);
+                } else if (attributes.isDirectory() && depth + 1 < maxDepth) {
+                    if (followSymbolicLinks && isAncestor(entry, attributes.fileKey())) {
+                        throw new FileSystemLoopException(entry.toString());
+                    }
+                    pendingDirectories.addLast(new DirectoryCursor(entry, depth + 1, attributes.fileKey(), this));
+                }
+            }
+
+            /**
+             * Same as {@link Files#walk}, a directory that is one of its own ancestors is a loop of symbolic links.
+             */
+            private boolean isAncestor(Path entry, Object entryKey) throws IOException {
+                for (DirectoryCursor ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                    boolean sameFile = entryKey != null && ancestor.fileKey != null
+                                       ? entryKey.equals(ancestor.fileKey)
+                                       : Files.isSameFile(entry, ancestor.directory);
+                    if (sameFile) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void close() {
+                IoUtils.closeQuietlyV2(stream, log);
+            }
+        }
+    }
+
+    private BasicFileAttributes readAttributes(Path path) throws IOException {
+        if (!followSymbolicLinks) {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        }
+
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // Same as Files#walk, a broken symbolic link is visited as the link itself
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        }
+    }
+
+    private SdkClientException listingFailure(IOException e) {
+        return SdkClientException.create("Failed to list files within the provided directory: " + root, e);
+    }
+
+    public static final class Builder {
+        private Path root;
+        private int maxDepth = Integer.MAX_VALUE;
+        private boolean followSymbolicLinks;
+        private int parallelism = 1;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The directory to list the files of.
+         */
+        public Builder root(Path root) {
+            this.root = root;
+            return this;
+        }
+
+        /**
+         * The maximum number of directory levels to visit, as in {@link Files#walk(Path, int, java.nio.file.FileVisitOption...)}.
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder followSymbolicLinks(boolean followSymbolicLinks) {
+            this.followSymbolicLinks = followSymbolicLinks;
+            return this;
+        }
+
+        /**
+         * The maximum number of directories listed at the same time.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The executor directories are listed on.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelFileTreePublisher build() {
+            return new ParallelFileTreePublisher(this);
+        }
+    }
+}
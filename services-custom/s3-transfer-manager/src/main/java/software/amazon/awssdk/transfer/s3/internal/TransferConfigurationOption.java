@@ -32,6 +32,12 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Boolean> UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS =
         new TransferConfigurationOption<>("UploadDirectoryFileVisitOption", Boolean.class);
 
+    public static final TransferConfigurationOption<Integer> UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM =
+        new TransferConfigurationOption<>("UploadDirectoryTraversalParallelism", Integer.class);
+
+    public static final TransferConfigurationOption<Integer> TRANSFER_DIRECTORY_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("TransferDirectoryMaxConcurrency", Integer.class);
+
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
@@ -40,11 +46,14 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
+    private static final int DEFAULT_UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM = 1;
 
     public static final AttributeMap TRANSFER_MANAGER_DEFAULTS = AttributeMap
         .builder()
         .put(UPLOAD_DIRECTORY_MAX_DEPTH, DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH)
         .put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, false)
+        .put(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM, DEFAULT_UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM)
+        .put(TRANSFER_DIRECTORY_MAX_CONCURRENCY, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY)
         .build();
 
     private final String name;
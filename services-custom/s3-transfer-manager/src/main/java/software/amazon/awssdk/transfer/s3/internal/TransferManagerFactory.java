@@ -86,6 +86,8 @@ public final class TransferManagerFactory {
         TransferManagerConfiguration.Builder transferConfigBuilder = TransferManagerConfiguration.builder();
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
+        transferConfigBuilder.uploadDirectoryTraversalParallelism(tmBuilder.uploadDirectoryTraversalParallelism);
+        transferConfigBuilder.transferDirectoryMaxConcurrency(tmBuilder.transferDirectoryMaxConcurrency);
         transferConfigBuilder.executor(tmBuilder.executor);
         return transferConfigBuilder.build();
     }
@@ -95,6 +97,8 @@ public final class TransferManagerFactory {
         private Executor executor;
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private Integer uploadDirectoryTraversalParallelism;
+        private Integer transferDirectoryMaxConcurrency;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -136,6 +140,34 @@ public final class TransferManagerFactory {
             return uploadDirectoryMaxDepth;
         }
 
+        @Override
+        public DefaultBuilder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            this.uploadDirectoryTraversalParallelism = uploadDirectoryTraversalParallelism;
+            return this;
+        }
+
+        public void setUploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            uploadDirectoryTraversalParallelism(uploadDirectoryTraversalParallelism);
+        }
+
+        public Integer getUploadDirectoryTraversalParallelism() {
+            return uploadDirectoryTraversalParallelism;
+        }
+
+        @Override
+        public DefaultBuilder transferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency) {
+            this.transferDirectoryMaxConcurrency = transferDirectoryMaxConcurrency;
+            return this;
+        }
+
+        public void setTransferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency) {
+            transferDirectoryMaxConcurrency(transferDirectoryMaxConcurrency);
+        }
+
+        public Integer getTransferDirectoryMaxConcurrency() {
+            return transferDirectoryMaxConcurrency;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
@@ -16,8 +16,9 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
-import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_DIRECTORY_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM;
 
 import java.io.IOException;
 import java.nio.file.FileVisitOption;
@@ -85,26 +86,28 @@ public class UploadDirectoryHelper {
     private void doUploadDirectory(CompletableFuture<CompletedDirectoryUpload> returnFuture,
                                    UploadDirectoryRequest uploadDirectoryRequest) {
 
-        Path directory = uploadDirectoryRequest.source();
-
         validateDirectory(uploadDirectoryRequest);
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
-        Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
-
-        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> stream.iterator())
-                                                           .doAfterOnCancel(() -> stream.close())
-                                                           .doAfterOnError(t -> stream.close())
-                                                           .doAfterOnComplete(() -> stream.close());
+        SdkPublisher<Path> filePublisher = listFiles(uploadDirectoryRequest);
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
+        String delimiter = uploadDirectoryRequest.s3Delimiter()
+                                                 .filter(s -> !s.isEmpty())
+                                                 .orElse(DEFAULT_DELIMITER);
+        String prefix = uploadDirectoryRequest.s3Prefix()
+                                              .map(s -> normalizePrefix(s, delimiter))
+                                              .orElse(DEFAULT_PREFIX);
+
         AsyncBufferingSubscriber<Path> bufferingSubscriber =
-            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, path),
-                                           allOfFutures, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
+            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, prefix, delimiter,
+                                                                    failedFileUploads, path),
+                                           allOfFutures,
+                                           transferConfiguration.option(TRANSFER_DIRECTORY_MAX_CONCURRENCY));
 
-        iterablePublisher.subscribe(bufferingSubscriber);
+        filePublisher.subscribe(bufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
@@ -133,10 +136,13 @@ public class UploadDirectoryHelper {
     }
 
     private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
+                                                                    String prefix,
+                                                                    String delimiter,
                                                                     Collection<FailedFileUpload> failedFileUploads,
                                                                     Path path) {
         int nameCount = uploadDirectoryRequest.source().getNameCount();
-        UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
+        UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, prefix, delimiter, nameCount,
+                                                                     path);
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
         CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
@@ -151,33 +157,46 @@ public class UploadDirectoryHelper {
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
+    private SdkPublisher<Path> listFiles(UploadDirectoryRequest request) {
+        Path directory = request.source();
+        boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
+        int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+        int traversalParallelism = transferConfiguration.option(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM);
+
+        if (traversalParallelism > 1) {
+            return ParallelFileTreePublisher.builder()
+                                            .root(directory)
+                                            .maxDepth(maxDepth)
+                                            .followSymbolicLinks(followSymbolicLinks)
+                                            .parallelism(traversalParallelism)
+                                            .executor(transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                                            .build();
+        }
 
-        try {
-            boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
-            int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+        Stream<Path> stream = walkFiles(directory, maxDepth, followSymbolicLinks);
+        return SdkPublisher.fromIterable(() -> stream.iterator())
+                           .doAfterOnCancel(() -> stream.close())
+                           .doAfterOnError(t -> stream.close())
+                           .doAfterOnComplete(() -> stream.close());
+    }
 
+    /**
+     * Uses the attributes read while walking the tree to find the regular files, rather than reading them again for each file.
+     */
+    private Stream<Path> walkFiles(Path directory, int maxDepth, boolean followSymbolicLinks) {
+        try {
             if (followSymbolicLinks) {
-                return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
+                return Files.find(directory, maxDepth, (path, attributes) -> attributes.isRegularFile(),
+                                  FileVisitOption.FOLLOW_LINKS);
             }
 
-            return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
+            return Files.find(directory, maxDepth, (path, attributes) -> attributes.isRegularFile());
 
         } catch (IOException e) {
             throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
         }
     }
 
-    private boolean isRegularFile(Path path, boolean followSymlinks) {
-        if (followSymlinks) {
-            return Files.isRegularFile(path);
-        }
-
-        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS);
-    }
-
     /**
      * If the prefix already ends with the same string as delimiter, there is no need to add delimiter.
      */
@@ -204,17 +223,10 @@ public class UploadDirectoryHelper {
     }
 
     private UploadFileRequest constructUploadRequest(UploadDirectoryRequest uploadDirectoryRequest,
+                                                     String prefix,
+                                                     String delimiter,
                                                      int directoryNameCount,
                                                      Path path) {
-        String delimiter =
-            uploadDirectoryRequest.s3Delimiter()
-                                  .filter(s -> !s.isEmpty())
-                                  .orElse(DEFAULT_DELIMITER);
-
-        String prefix = uploadDirectoryRequest.s3Prefix()
-                                              .map(s -> normalizePrefix(s, delimiter))
-                                              .orElse(DEFAULT_PREFIX);
-
         String relativePathName = getRelativePathName(uploadDirectoryRequest.source(),
                                                       directoryNameCount,
                                                       path,
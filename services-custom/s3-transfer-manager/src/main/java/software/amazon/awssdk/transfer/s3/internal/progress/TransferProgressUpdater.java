@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -169,23 +170,10 @@ public class TransferProgressUpdater {
         AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer, GetObjectRequest request) {
         return AsyncResponseTransformerListener.wrap(
             responseTransformer,
-            new BaseAsyncResponseTransformerListener() {
+            new MultipartDownloadListener(request) {
                 @Override
-                public void transformerOnResponse(GetObjectResponse response) {
-                    // if the GetObjectRequest is a range-get, the Content-Length headers of the response needs to be used
-                    // to update progress since the Content-Range would incorrectly upgrade progress with the whole object
-                    // size.
-                    if (request.range() != null) {
-                        if (response.contentLength() != null) {
-                            progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
-                        }
-                    } else {
-                        // if the GetObjectRequest is not a range-get, it might be a part-get. In that case, we need to parse
-                        // the Content-Range header to get the correct totalByte amount.
-                        ContentRangeParser
-                            .totalBytes(response.contentRange())
-                            .ifPresent(totalBytes -> progress.updateAndGet(b -> b.totalBytes(totalBytes).sdkResponse(response)));
-                    }
+                public AsyncResponseTransformerListener<GetObjectResponse> partListener() {
+                    return new PartDownloadListener(request);
                 }
             }
         );
@@ -287,4 +275,61 @@ public class TransferProgressUpdater {
         }
 
     }
+
+    private class MultipartDownloadListener extends BaseAsyncResponseTransformerListener {
+        private final GetObjectRequest request;
+
+        private MultipartDownloadListener(GetObjectRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void transformerOnResponse(GetObjectResponse response) {
+            // if the GetObjectRequest is a range-get, the Content-Length headers of the response needs to be used
+            // to update progress since the Content-Range would incorrectly upgrade progress with the whole object
+            // size.
+            if (request.range() != null) {
+                if (response.contentLength() != null) {
+                    progress.updateAndGet(b -> b.totalBytes(response.contentLength()).sdkResponse(response));
+                }
+            } else {
+                // if the GetObjectRequest is not a range-get, it might be a part-get. In that case, we need to parse
+                // the Content-Range header to get the correct totalByte amount.
+                ContentRangeParser
+                    .totalBytes(response.contentRange())
+                    .ifPresent(totalBytes -> progress.updateAndGet(b -> b.totalBytes(totalBytes).sdkResponse(response)));
+            }
+        }
+    }
+
+    /**
+     * Listener of one part of a multipart download whose parts may be downloaded concurrently. If the part is retried, only
+     * the bytes of this part are taken off the bytes transferred, and the end of the stream is only reached when all parts are
+     * done.
+     */
+    private final class PartDownloadListener extends MultipartDownloadListener {
+        private final AtomicLong partBytesTransferred = new AtomicLong();
+
+        private PartDownloadListener(GetObjectRequest request) {
+            super(request);
+        }
+
+        @Override
+        public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
+            long retransmittedBytes = partBytesTransferred.getAndSet(0);
+            if (retransmittedBytes > 0) {
+                incrementBytesTransferred(-retransmittedBytes);
+            }
+        }
+
+        @Override
+        public void subscriberOnNext(ByteBuffer byteBuffer) {
+            partBytesTransferred.addAndGet(byteBuffer.limit());
+            super.subscriberOnNext(byteBuffer);
+        }
+
+        @Override
+        public void subscriberOnComplete() {
+        }
+    }
 }
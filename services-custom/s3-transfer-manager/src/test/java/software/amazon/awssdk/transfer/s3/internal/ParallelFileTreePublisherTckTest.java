@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class ParallelFileTreePublisherTckTest extends PublisherVerification<Path> {
+    private static final ExecutorService EXECUTOR =
+        Executors.newFixedThreadPool(4, new ThreadFactoryBuilder().threadNamePrefix("file-tree-tck").daemonThreads(true).build());
+
+    public ParallelFileTreePublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Publisher<Path> createPublisher(long elements) {
+        FileSystem fileSystem = Jimfs.newFileSystem();
+        Path root = fileSystem.getPath("root");
+        try {
+            Files.createDirectory(root);
+            // Spread the files across a few directories, so they are listed in parallel
+            for (long i = 0; i < elements; i++) {
+                Path directory = Files.createDirectories(root.resolve("directory" + i % 4));
+                Files.createFile(directory.resolve("file" + i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ParallelFileTreePublisher.builder()
+                                        .root(root)
+                                        .parallelism(4)
+                                        .executor(EXECUTOR)
+                                        .build();
+    }
+
+    @Override
+    public Publisher<Path> createFailedPublisher() {
+        return null;
+    }
+
+    @Override
+    public long maxElementsFromPublisher() {
+        return 1024;
+    }
+}
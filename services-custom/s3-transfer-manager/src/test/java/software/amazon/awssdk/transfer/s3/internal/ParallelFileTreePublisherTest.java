@@ -0,0 +1,247 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.testutils.FileUtils;
+
+public class ParallelFileTreePublisherTest {
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    public static Stream<Arguments> walkSettings() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Configuration configuration : Arrays.asList(Configuration.unix(), Configuration.osX(), Configuration.windows())) {
+            for (int maxDepth : Arrays.asList(0, 1, 2, Integer.MAX_VALUE)) {
+                for (int parallelism : Arrays.asList(1, 4)) {
+                    arguments.add(Arguments.of(configuration, maxDepth, parallelism));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("walkSettings")
+    void subscribe_publishesSameFilesAsFilesWalk(Configuration configuration, int maxDepth, int parallelism) throws Exception {
+        try (FileSystem fileSystem = Jimfs.newFileSystem(configuration)) {
+            Path root = createTree(fileSystem.getPath("root"), 3, 3);
+
+            List<Path> expected;
+            try (Stream<Path> walk = Files.walk(root, maxDepth)) {
+                expected = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .maxDepth(maxDepth)
+                                                                           .parallelism(parallelism)
+                                                                           .executor(executor)
+                                                                           .build();
+
+            assertThat(collect(publisher)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void subscribe_largeDirectory_publishesAllFiles() throws Exception {
+        try (FileSystem fileSystem = Jimfs.newFileSystem()) {
+            Path root = Files.createDirectory(fileSystem.getPath("root"));
+            for (int i = 0; i < 2_500; i++) {
+                Files.createFile(root.resolve("file" + i));
+            }
+
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .parallelism(4)
+                                                                           .executor(executor)
+                                                                           .build();
+
+            assertThat(collect(publisher)).hasSize(2_500).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void subscribe_callingThreadExecutor_publishesAllFiles() throws Exception {
+        try (FileSystem fileSystem = Jimfs.newFileSystem()) {
+            Path root = createTree(fileSystem.getPath("root"), 3, 4);
+
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .parallelism(4)
+                                                                           .executor(Runnable::run)
+                                                                           .build();
+
+            assertThat(collect(publisher)).hasSize(3 + 9 + 27 + 81);
+        }
+    }
+
+    @Test
+    void subscribe_symbolicLinksNotFollowed_skipsLinks() throws Exception {
+        Path root = Files.createTempDirectory("parallel-file-tree");
+        try {
+            Path target = Files.createDirectory(root.resolve("target"));
+            Files.createFile(target.resolve("file"));
+            createSymbolicLink(root.resolve("link"), target);
+            createSymbolicLink(root.resolve("fileLink"), target.resolve("file"));
+
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .parallelism(4)
+                                                                           .executor(executor)
+                                                                           .build();
+
+            assertThat(collect(publisher)).containsExactly(target.resolve("file"));
+        } finally {
+            FileUtils.cleanUpTestDirectory(root);
+        }
+    }
+
+    @Test
+    void subscribe_symbolicLinkLoop_failsLikeFilesWalk() throws Exception {
+        Path root = Files.createTempDirectory("parallel-file-tree");
+        Path loop = root.resolve("directory").resolve("loop");
+        try {
+            Files.createDirectory(loop.getParent());
+            createSymbolicLink(loop, root);
+
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .followSymbolicLinks(true)
+                                                                           .parallelism(4)
+                                                                           .executor(executor)
+                                                                           .build();
+
+            assertThatThrownBy(() -> collect(publisher)).hasCauseInstanceOf(SdkClientException.class)
+                                                        .hasRootCauseInstanceOf(FileSystemLoopException.class);
+        } finally {
+            Files.deleteIfExists(loop);
+            FileUtils.cleanUpTestDirectory(root);
+        }
+    }
+
+    @Test
+    void cancel_stopsPublishing() throws Exception {
+        try (FileSystem fileSystem = Jimfs.newFileSystem()) {
+            Path root = createTree(fileSystem.getPath("root"), 3, 4);
+            ParallelFileTreePublisher publisher = ParallelFileTreePublisher.builder()
+                                                                           .root(root)
+                                                                           .parallelism(4)
+                                                                           .executor(executor)
+                                                                           .build();
+
+            Queue<Path> received = new ConcurrentLinkedQueue<>();
+            CountDownLatch firstFile = new CountDownLatch(1);
+            publisher.subscribe(new Subscriber<Path>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Path path) {
+                    received.add(path);
+                    subscription.cancel();
+                    firstFile.countDown();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            assertThat(firstFile.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            assertThat(received).hasSize(1);
+        }
+    }
+
+    private static List<Path> collect(ParallelFileTreePublisher publisher) throws Exception {
+        Queue<Path> files = new ConcurrentLinkedQueue<>();
+        CompletableFuture<Void> done = publisher.subscribe(files::add);
+        done.get(30, TimeUnit.SECONDS);
+        return new ArrayList<>(files);
+    }
+
+    /**
+     * Creates a tree with {@code width} files and {@code width} sub directories in each directory, {@code depth} levels deep.
+     */
+    private static Path createTree(Path directory, int width, int depth) throws IOException {
+        Files.createDirectory(directory);
+        for (int i = 0; i < width; i++) {
+            Files.createFile(directory.resolve("file" + i));
+            if (depth > 1) {
+                createTree(directory.resolve("directory" + i), width, depth - 1);
+            }
+        }
+        return directory;
+    }
+
+    private static void createSymbolicLink(Path link, Path target) throws IOException {
+        try {
+            Files.createSymbolicLink(link, target);
+        } catch (UnsupportedOperationException | IOException e) {
+            assumeThat(e).as("Symbolic links are not supported").isNull();
+        }
+    }
+}
@@ -16,11 +16,14 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_DIRECTORY_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM;
 
 import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
@@ -62,9 +65,21 @@ public class TransferManagerConfigurationTest {
         transferManagerConfiguration = TransferManagerConfiguration.builder().build();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS)).isFalse();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_MAX_DEPTH)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM)).isEqualTo(1);
+        assertThat(transferManagerConfiguration.option(TRANSFER_DIRECTORY_MAX_CONCURRENCY)).isEqualTo(100);
         assertThat(transferManagerConfiguration.option(EXECUTOR)).isNotNull();
     }
 
+    @Test
+    public void directoryTransferSettings_notPositive_shouldThrow() {
+        assertThatThrownBy(() -> TransferManagerConfiguration.builder().uploadDirectoryTraversalParallelism(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("uploadDirectoryTraversalParallelism");
+        assertThatThrownBy(() -> TransferManagerConfiguration.builder().transferDirectoryMaxConcurrency(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("transferDirectoryMaxConcurrency");
+    }
+
     @Test
     public void close_noCustomExecutor_shouldCloseDefaultOne() {
         transferManagerConfiguration = TransferManagerConfiguration.builder().build();
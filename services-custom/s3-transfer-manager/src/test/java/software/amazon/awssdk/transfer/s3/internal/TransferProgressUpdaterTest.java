@@ -18,6 +18,7 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
@@ -25,7 +26,10 @@ import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
@@ -44,6 +48,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
@@ -254,6 +259,87 @@ class TransferProgressUpdaterTest {
     }
 
 
+    @Test
+    void multipartDownload_parallelSplit_isForwardedWithProgressOfEachPart() {
+        TransferObjectRequest transferRequest = Mockito.mock(TransferObjectRequest.class);
+        TransferListener mockListener = Mockito.mock(TransferListener.class);
+        when(transferRequest.transferListeners()).thenReturn(Collections.singletonList(mockListener));
+        TransferProgressUpdater transferProgressUpdater = new TransferProgressUpdater(transferRequest, null);
+
+        List<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> parts =
+            Arrays.asList(new NoOpTransformer<>(), new NoOpTransformer<>());
+        CompletableFuture<GetObjectResponse> resultFuture = new CompletableFuture<>();
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+            transferProgressUpdater.wrapResponseTransformerForMultipartDownload(
+                new NoOpTransformer<GetObjectResponse>() {
+                    @Override
+                    public SplitResult<GetObjectResponse, GetObjectResponse> split(
+                        SplittingTransformerConfiguration splitConfig) {
+                        return SplitResult.<GetObjectResponse, GetObjectResponse>builder()
+                                          .publisher(SdkPublisher.fromIterable(parts))
+                                          .resultFuture(resultFuture)
+                                          .parallelSplitSupported(true)
+                                          .build();
+                    }
+                }, GetObjectRequest.builder().build());
+        transferProgressUpdater.registerCompletion(completedObjectResponse(0));
+
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, GetObjectResponse> split =
+            transformer.split(SplittingTransformerConfiguration.builder().bufferSizeInBytes(1024L).build());
+        assertThat(split.parallelSplitSupported()).isTrue();
+        List<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> splitParts = new ArrayList<>();
+        split.publisher().subscribe(splitParts::add).join();
+        assertThat(splitParts).hasSize(2);
+
+        // the second part receives its content first, and is retried
+        streamPart(splitParts.get(1), "bytes 8-15/16").send(ByteBuffer.wrap(new byte[8])).join();
+        assertThat(transferProgressUpdater.progress().snapshot().transferredBytes()).isEqualTo(8L);
+        assertThat(transferProgressUpdater.progress().snapshot().totalBytes()).hasValue(16L);
+        streamPart(splitParts.get(1), "bytes 8-15/16").send(ByteBuffer.wrap(new byte[8])).join();
+        assertThat(transferProgressUpdater.progress().snapshot().transferredBytes()).isEqualTo(8L);
+
+        SimplePublisher<ByteBuffer> firstPart = streamPart(splitParts.get(0), "bytes 0-7/16");
+        firstPart.send(ByteBuffer.wrap(new byte[8])).join();
+        firstPart.complete().join();
+        assertThat(transferProgressUpdater.progress().snapshot().transferredBytes()).isEqualTo(16L);
+        Mockito.verify(mockListener, never()).transferComplete(ArgumentMatchers.any(TransferListener.Context.TransferComplete.class));
+
+        resultFuture.complete(GetObjectResponse.builder().build());
+        Mockito.verify(mockListener, timeout(5000)).transferComplete(
+            ArgumentMatchers.any(TransferListener.Context.TransferComplete.class));
+    }
+
+    private static SimplePublisher<ByteBuffer> streamPart(AsyncResponseTransformer<GetObjectResponse, ?> part,
+                                                          String contentRange) {
+        part.prepare();
+        part.onResponse(GetObjectResponse.builder().contentRange(contentRange).build());
+        SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        part.onStream(SdkPublisher.adapt(publisher));
+        return publisher;
+    }
+
+    private static class NoOpTransformer<ResultT> implements AsyncResponseTransformer<GetObjectResponse, ResultT> {
+        @Override
+        public CompletableFuture<ResultT> prepare() {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            // noop, test only
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            publisher.subscribe(b -> { /* do nothing, test only */ });
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            // noop, test only
+        }
+    }
+
     private static class ExceptionThrowingByteArrayInputStream extends ByteArrayInputStream {
         private final int exceptionPosition;
 
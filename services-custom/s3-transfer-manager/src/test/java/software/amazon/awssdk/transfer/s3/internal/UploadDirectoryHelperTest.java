@@ -18,7 +18,10 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
@@ -271,6 +274,78 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("bar.txt", "foo/1.txt", "foo/2.txt");
     }
 
+    @ParameterizedTest
+    @MethodSource("fileSystems")
+    void uploadDirectory_parallelTraversal_shouldRecursivelyUpload(FileSystem fileSystem) {
+        directory = createJimFsTestDirectory(fileSystem);
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                      .uploadDirectoryTraversalParallelism(4)
+                                                                                      .build(),
+                                                          singleUploadFunction);
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture()))
+            .thenReturn(completedUpload());
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+        uploadDirectory.completionFuture().join();
+
+        List<String> keys =
+            requestArgumentCaptor.getAllValues().stream().map(u -> u.putObjectRequest().key())
+                                 .collect(Collectors.toList());
+
+        assertThat(keys).containsExactlyInAnyOrder("bar.txt", "foo/1.txt", "foo/2.txt");
+    }
+
+    @Test
+    void uploadDirectory_parallelTraversalFollowSymlinkTrue_shouldIncludeLinkedFiles() {
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                      .uploadDirectoryTraversalParallelism(4)
+                                                                                      .build(),
+                                                          singleUploadFunction);
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture())).thenReturn(completedUpload());
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(localDirectory)
+                                                                        .bucket("bucket")
+                                                                        .followSymbolicLinks(true)
+                                                                        .build());
+        uploadDirectory.completionFuture().join();
+
+        List<String> keys =
+            requestArgumentCaptor.getAllValues().stream().map(u -> u.putObjectRequest().key())
+                                 .collect(Collectors.toList());
+
+        assertThat(keys).containsExactlyInAnyOrder("bar.txt", "foo/1.txt", "foo/2.txt", "symlink/2.txt", "symlink2");
+    }
+
+    @Test
+    void uploadDirectory_withMaxConcurrency_shouldLimitUploadsInFlight() {
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                      .transferDirectoryMaxConcurrency(1)
+                                                                                      .build(),
+                                                          singleUploadFunction);
+        CompletableFuture<CompletedFileUpload> firstUpload = new CompletableFuture<>();
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(newUpload(firstUpload), completedUpload());
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        verify(singleUploadFunction, after(200).times(1)).apply(any(UploadFileRequest.class));
+
+        firstUpload.complete(CompletedFileUpload.builder().response(PutObjectResponse.builder().build()).build());
+        uploadDirectory.completionFuture().join();
+        verify(singleUploadFunction, times(2)).apply(any(UploadFileRequest.class));
+    }
+
     @Test
     void uploadDirectory_depth1FollowSymlinkTrue_shouldOnlyUploadTopLevel() {
         ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
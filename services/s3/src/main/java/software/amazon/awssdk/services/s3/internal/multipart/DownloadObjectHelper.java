@@ -31,10 +31,14 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final int fileDownloadMaxInFlightParts;
+    private final int streamingDownloadMaxInFlightParts;
 
-    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
         this.s3AsyncClient = s3AsyncClient;
-        this.bufferSizeInBytes = bufferSizeInBytes;
+        this.bufferSizeInBytes = resolver.apiCallBufferSize();
+        this.fileDownloadMaxInFlightParts = resolver.fileDownloadMaxInFlightParts();
+        this.streamingDownloadMaxInFlightParts = resolver.streamingDownloadMaxInFlightParts();
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -47,8 +51,15 @@ public class DownloadObjectHelper {
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
                                                                             .build());
-        MultipartDownloaderSubscriber subscriber = subscriber(getObjectRequest);
-        split.publisher().subscribe(subscriber);
+        if (split.parallelSplitSupported()) {
+            split.publisher().subscribe(new ParallelMultipartDownloaderSubscriber(
+                s3AsyncClient, getObjectRequest, fileDownloadMaxInFlightParts, split.resultFuture()));
+        } else if (streamingDownloadMaxInFlightParts > 1) {
+            new OrderedPartPublisher(split.publisher()).subscribe(new ParallelMultipartDownloaderSubscriber(
+                s3AsyncClient, getObjectRequest, streamingDownloadMaxInFlightParts, split.resultFuture()));
+        } else {
+            split.publisher().subscribe(subscriber(getObjectRequest));
+        }
         return split.resultFuture();
     }
 
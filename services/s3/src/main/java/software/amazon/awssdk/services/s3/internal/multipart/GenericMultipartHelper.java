@@ -83,12 +83,13 @@ public final class GenericMultipartHelper<RequestT extends S3Request, ResponseT
     }
 
     public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
-        PutObjectRequest request, String uploadId, CompletedPart[] parts, long contentLength) {
+        PutObjectRequest request, String uploadId, CompletedPart[] parts, long contentLength, long partSize) {
         log.debug(() -> String.format("Sending completeMultipartUploadRequest, uploadId: %s",
                                       uploadId));
 
         CompleteMultipartUploadRequest completeMultipartUploadRequest = toCompleteMultipartUploadRequest(request, uploadId,
-                                                                                                         parts, contentLength);
+                                                                                                         parts, contentLength,
+                                                                                                         partSize);
 
         return s3AsyncClient.completeMultipartUpload(completeMultipartUploadRequest);
     }
@@ -213,7 +213,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                 parts = mergeCompletedParts();
             }
             completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest,
-                                                                              contentLength);
+                                                                              contentLength, partSize);
         }
     }
 
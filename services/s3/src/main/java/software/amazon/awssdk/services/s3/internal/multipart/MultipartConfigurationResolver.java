@@ -26,9 +26,13 @@ import software.amazon.awssdk.utils.Validate;
 public final class MultipartConfigurationResolver {
 
     private static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_FILE_DOWNLOAD_MAX_IN_FLIGHT_PARTS = 8;
+    private static final int DEFAULT_STREAMING_DOWNLOAD_MAX_IN_FLIGHT_PARTS = 1;
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final int fileDownloadMaxInFlightParts;
+    private final int streamingDownloadMaxInFlightParts;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +41,14 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        Integer maxInFlightDownloadParts = multipartConfiguration.maxInFlightDownloadParts();
+        if (maxInFlightDownloadParts != null) {
+            Validate.isPositive(maxInFlightDownloadParts, "maxInFlightDownloadParts");
+        }
+        this.fileDownloadMaxInFlightParts = Validate.getOrDefault(maxInFlightDownloadParts,
+                                                                  () -> DEFAULT_FILE_DOWNLOAD_MAX_IN_FLIGHT_PARTS);
+        this.streamingDownloadMaxInFlightParts = Validate.getOrDefault(maxInFlightDownloadParts,
+                                                                       () -> DEFAULT_STREAMING_DOWNLOAD_MAX_IN_FLIGHT_PARTS);
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +62,19 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    /**
+     * @return the maximum number of parts requested concurrently by a download whose parts are written directly to a file.
+     */
+    public int fileDownloadMaxInFlightParts() {
+        return fileDownloadMaxInFlightParts;
+    }
+
+    /**
+     * @return the maximum number of parts requested concurrently by a download whose parts must be buffered in memory until
+     * they can be sent in order.
+     */
+    public int streamingDownloadMaxInFlightParts() {
+        return streamingDownloadMaxInFlightParts;
+    }
 }
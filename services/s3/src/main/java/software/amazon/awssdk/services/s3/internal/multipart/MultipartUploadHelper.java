@@ -81,9 +81,11 @@ public final class MultipartUploadHelper {
                                  String uploadId,
                                  CompletedPart[] completedParts,
                                  PutObjectRequest putObjectRequest,
-                                 long contentLength) {
+                                 long contentLength,
+                                 long partSize) {
         CompletableFuture<CompleteMultipartUploadResponse> future =
-            genericMultipartHelper.completeMultipartUpload(putObjectRequest, uploadId, completedParts, contentLength);
+            genericMultipartHelper.completeMultipartUpload(putObjectRequest, uploadId, completedParts, contentLength,
+                                                           partSize);
 
         future.handle(genericMultipartHelper.handleExceptionOrResponse(putObjectRequest, returnFuture, uploadId))
               .exceptionally(throwable -> {
@@ -0,0 +1,316 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Allows the {@link ParallelMultipartDownloaderSubscriber} to download parts concurrently for a split
+ * {@link AsyncResponseTransformer} whose individual transformers must receive their content one after the other, in order.
+ * <p>
+ * Each transformer published by this publisher buffers the content of its part into memory. Buffered parts are sent to the
+ * individual transformers of the split publisher in the order in which the transformers of this publisher were published, as
+ * soon as all the parts before them were sent. The future of a published transformer only completes once its part was sent, so
+ * the number of parts buffered into memory is bounded by the number of parts requested concurrently.
+ * <p>
+ * Cancelling the subscription to this publisher cancels the subscription to the split publisher, which signals that no more
+ * parts will be sent. If any part failed, the failure is sent to an individual transformer of the split publisher instead, once
+ * the part being sent, if any, was sent.
+ */
+@SdkInternalApi
+public final class OrderedPartPublisher implements SdkPublisher<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(OrderedPartPublisher.class);
+
+    /**
+     * The publisher of the split transformer, whose individual transformers must receive the parts in order.
+     */
+    private final SdkPublisher<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> orderedPublisher;
+
+    private final Object lock = new Object();
+
+    /**
+     * The parts that were fully received but can't be sent yet, by index. Guarded by {@link #lock}.
+     */
+    private final Map<Integer, BufferingTransformer> receivedParts = new HashMap<>();
+    private final AtomicLong outstandingDemand = new AtomicLong(0);
+    private final AtomicBoolean emitting = new AtomicBoolean(false);
+    private final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+    private Subscriber<? super AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber;
+    private volatile Subscription orderedSubscription;
+
+    /**
+     * The index of the next published transformer. Only accessed while emitting.
+     */
+    private int nextIndexToPublish;
+
+    /**
+     * The index of the next part to send. Guarded by {@link #lock}.
+     */
+    private int nextIndexToSend;
+
+    /**
+     * The part being sent, which waits for or has received an individual transformer of the split publisher. Guarded by
+     * {@link #lock}.
+     */
+    private BufferingTransformer partBeingSent;
+
+    /**
+     * The failure of the first part that failed, if any. Guarded by {@link #lock}.
+     */
+    private Throwable failure;
+
+    /**
+     * Whether the failure was, or is being, sent to an individual transformer of the split publisher. Guarded by {@link #lock}.
+     */
+    private boolean failureSent;
+
+    public OrderedPartPublisher(SdkPublisher<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> orderedPublisher) {
+        this.orderedPublisher = Validate.paramNotNull(orderedPublisher, "orderedPublisher");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        this.subscriber = subscriber;
+        orderedPublisher.subscribe(new OrderedTransformerSubscriber());
+        subscriber.onSubscribe(new BufferingTransformerSubscription());
+    }
+
+    private void emit() {
+        do {
+            if (!emitting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                while (outstandingDemand.get() > 0 && !isCancelled.get()) {
+                    outstandingDemand.decrementAndGet();
+                    subscriber.onNext(new BufferingTransformer(nextIndexToPublish++));
+                }
+            } finally {
+                emitting.set(false);
+            }
+        } while (outstandingDemand.get() > 0 && !isCancelled.get());
+    }
+
+    private void partReceived(BufferingTransformer part) {
+        synchronized (lock) {
+            receivedParts.put(part.index, part);
+        }
+        sendNextPart();
+    }
+
+    private void partFailed(Throwable error) {
+        synchronized (lock) {
+            if (failure != null) {
+                return;
+            }
+            failure = error;
+            receivedParts.clear();
+        }
+        sendNextPart();
+    }
+
+    private void sendNextPart() {
+        synchronized (lock) {
+            if (partBeingSent != null || failureSent) {
+                return;
+            }
+            if (failure != null) {
+                failureSent = true;
+                orderedSubscription.request(1);
+                return;
+            }
+            partBeingSent = receivedParts.remove(nextIndexToSend);
+            if (partBeingSent == null) {
+                return;
+            }
+        }
+        orderedSubscription.request(1);
+    }
+
+    private void send(BufferingTransformer part, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer) {
+        log.trace(() -> "Sending part at index " + part.index);
+        CompletableFuture<GetObjectResponse> sent = transformer.prepare();
+        transformer.onResponse(part.response);
+        transformer.onStream(AsyncRequestBody.fromByteBuffersUnsafe(part.content.toArray(new ByteBuffer[0])));
+        sent.whenComplete((r, e) -> {
+            if (e != null) {
+                part.future.completeExceptionally(e);
+                partFailed(e);
+                return;
+            }
+            synchronized (lock) {
+                partBeingSent = null;
+                nextIndexToSend++;
+            }
+            part.future.complete(part.response);
+            sendNextPart();
+        });
+    }
+
+    private final class BufferingTransformerSubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("Amount requested must be positive"));
+                return;
+            }
+            outstandingDemand.updateAndGet(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            emit();
+        }
+
+        @Override
+        public void cancel() {
+            if (!isCancelled.compareAndSet(false, true) || orderedSubscription == null) {
+                return;
+            }
+            synchronized (lock) {
+                if (failure != null) {
+                    // Cancelling would complete the split transformer successfully, the failure is sent instead.
+                    return;
+                }
+            }
+            orderedSubscription.cancel();
+        }
+    }
+
+    /**
+     * Receives the individual transformers of the split publisher, one at a time, when a part can be sent.
+     */
+    private final class OrderedTransformerSubscriber
+        implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (orderedSubscription != null) {
+                s.cancel();
+                return;
+            }
+            orderedSubscription = s;
+        }
+
+        @Override
+        public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer) {
+            if (transformer == null) {
+                throw new NullPointerException("onNext must not be called with null transformer");
+            }
+            BufferingTransformer part;
+            Throwable error;
+            synchronized (lock) {
+                part = partBeingSent;
+                error = failureSent ? failure : null;
+            }
+            if (error != null) {
+                transformer.prepare();
+                transformer.exceptionOccurred(error);
+                orderedSubscription.cancel();
+                return;
+            }
+            send(part, transformer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            subscriber.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Buffers the content of a single part into memory, until it can be sent.
+     */
+    private final class BufferingTransformer implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final int index;
+        private volatile CompletableFuture<GetObjectResponse> future;
+        private volatile GetObjectResponse response;
+        private volatile List<ByteBuffer> content;
+
+        private BufferingTransformer(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            this.future = new CompletableFuture<>();
+            this.content = new ArrayList<>();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            List<ByteBuffer> partContent = content;
+            publisher.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    partContent.add(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(byteBuffer)));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    exceptionOccurred(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    partReceived(BufferingTransformer.this);
+                }
+            });
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            partFailed(error);
+            if (future != null) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+}
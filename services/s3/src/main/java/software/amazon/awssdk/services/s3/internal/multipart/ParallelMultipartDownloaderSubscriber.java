@@ -0,0 +1,290 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Downloads the parts of a multipart object concurrently, keeping up to {@code maxInFlightParts} part requests in flight. The
+ * first part is requested alone, since its response indicates the total number of parts of the object. The individual
+ * {@link AsyncResponseTransformer} this subscriber receives must accept their content in any order, see
+ * {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported()} and {@link OrderedPartPublisher}.
+ * <p>
+ * When the {@link GetObjectRequest} has a {@link MultipartDownloadResumeContext}, the download starts after its highest
+ * sequentially completed part, and every completed part is added to it. Since parts can complete out of order, only the parts
+ * completed sequentially are added to its bytes to the last completed parts, which is where a resumed download starts writing.
+ */
+@SdkInternalApi
+public class ParallelMultipartDownloaderSubscriber
+    implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(ParallelMultipartDownloaderSubscriber.class);
+
+    /**
+     * The s3 client used to make the individual part requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual part request.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    private final int maxInFlightParts;
+
+    /**
+     * The future of the transformer that was split. It is completed exceptionally as soon as any part fails, and all the part
+     * requests in flight are cancelled if it is completed exceptionally.
+     */
+    private final CompletableFuture<?> resultFuture;
+
+    /**
+     * The resume context of the request, or null if it has none.
+     */
+    private final MultipartDownloadResumeContext resumeContext;
+
+    private final Object lock = new Object();
+
+    /**
+     * The requests in flight, by part number. Guarded by {@link #lock}.
+     */
+    private final Map<Integer, CompletableFuture<GetObjectResponse>> inFlightRequests = new HashMap<>();
+
+    /**
+     * The content length of the completed parts that are not yet accounted for in the resume context because a part before
+     * them is not complete. Guarded by {@link #lock}.
+     */
+    private final Map<Integer, Long> partsCompletedOutOfOrder = new HashMap<>();
+
+    private volatile Subscription subscription;
+
+    /**
+     * The etag of the object being downloaded.
+     */
+    private volatile String eTag;
+
+    /**
+     * The total number of parts of the object, null until the first part completes. Guarded by {@link #lock}.
+     */
+    private Integer totalParts;
+
+    /**
+     * The part number to request with the next transformer received. Guarded by {@link #lock}.
+     */
+    private int nextPartToSend;
+
+    /**
+     * The highest part number for which a transformer was requested. Guarded by {@link #lock}.
+     */
+    private int lastPartRequested;
+
+    /**
+     * The number of parts for which a transformer was requested, and whose request didn't complete yet. Guarded by
+     * {@link #lock}.
+     */
+    private int pendingParts;
+
+    /**
+     * The highest part number such that this part and all parts before it are complete. Guarded by {@link #lock}.
+     */
+    private int highestSequentialCompletedPart;
+
+    /**
+     * Set once all parts completed, or any part failed. Guarded by {@link #lock}.
+     */
+    private boolean done;
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int maxInFlightParts,
+                                                 CompletableFuture<?> resultFuture) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.maxInFlightParts = Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+        this.resultFuture = Validate.paramNotNull(resultFuture, "resultFuture");
+        this.resumeContext = MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest).orElse(null);
+        this.highestSequentialCompletedPart = resumeContext == null ? 0 : resumeContext.highestSequentialCompletedPart();
+        this.nextPartToSend = highestSequentialCompletedPart + 1;
+        this.lastPartRequested = highestSequentialCompletedPart;
+        this.resultFuture.whenComplete((r, e) -> {
+            if (e != null) {
+                fail(e);
+            }
+        });
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (this.subscription != null) {
+            s.cancel();
+            return;
+        }
+        this.subscription = s;
+        synchronized (lock) {
+            lastPartRequested++;
+            pendingParts++;
+        }
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        int partNumber;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            partNumber = nextPartToSend++;
+        }
+
+        GetObjectRequest actualRequest = nextRequest(partNumber);
+        log.debug(() -> "Sending GetObjectRequest for part with partNumber=" + partNumber);
+        CompletableFuture<GetObjectResponse> getObjectFuture = s3.getObject(actualRequest, asyncResponseTransformer);
+        synchronized (lock) {
+            inFlightRequests.put(partNumber, getObjectFuture);
+        }
+        getObjectFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                fail(error);
+                return;
+            }
+            onPartCompleted(partNumber, response);
+        });
+    }
+
+    private void onPartCompleted(int partNumber, GetObjectResponse response) {
+        int partsToRequest;
+        boolean complete;
+        synchronized (lock) {
+            inFlightRequests.remove(partNumber);
+            if (done) {
+                return;
+            }
+            pendingParts--;
+            if (totalParts == null) {
+                onFirstResponse(partNumber, response);
+            }
+            addCompletedPart(partNumber, response);
+            log.debug(() -> String.format("Completed part %d", partNumber));
+
+            complete = pendingParts == 0 && lastPartRequested >= totalParts;
+            if (complete) {
+                done = true;
+                partsToRequest = 0;
+            } else {
+                partsToRequest = Math.max(0, Math.min(maxInFlightParts - pendingParts, totalParts - lastPartRequested));
+                lastPartRequested += partsToRequest;
+                pendingParts += partsToRequest;
+            }
+        }
+
+        if (complete) {
+            log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts()));
+            subscription.cancel();
+        } else if (partsToRequest > 0) {
+            subscription.request(partsToRequest);
+        }
+    }
+
+    private void onFirstResponse(int partNumber, GetObjectResponse response) {
+        this.eTag = response.eTag();
+        log.debug(() -> String.format("Multipart object ETag: %s", this.eTag));
+        Integer partCount = response.partsCount();
+        totalParts = partCount == null ? partNumber : partCount;
+        log.debug(() -> String.format("Total amount of parts of the object to download: %d", totalParts()));
+        if (resumeContext != null) {
+            if (partCount != null) {
+                resumeContext.totalParts(partCount);
+            }
+            if (resumeContext.response() == null) {
+                resumeContext.response(response);
+            }
+        }
+    }
+
+    private void addCompletedPart(int partNumber, GetObjectResponse response) {
+        if (resumeContext == null) {
+            return;
+        }
+        resumeContext.addCompletedPart(partNumber);
+        partsCompletedOutOfOrder.put(partNumber, response.contentLength() == null ? 0L : response.contentLength());
+        Long bytes;
+        while ((bytes = partsCompletedOutOfOrder.remove(highestSequentialCompletedPart + 1)) != null) {
+            resumeContext.addToBytesToLastCompletedParts(bytes);
+            highestSequentialCompletedPart++;
+        }
+    }
+
+    private void fail(Throwable error) {
+        List<CompletableFuture<GetObjectResponse>> requestsToCancel;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            done = true;
+            requestsToCancel = new ArrayList<>(inFlightRequests.values());
+            inFlightRequests.clear();
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        resultFuture.completeExceptionally(cause);
+        requestsToCancel.forEach(request -> request.cancel(true));
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private Integer totalParts() {
+        synchronized (lock) {
+            return totalParts;
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onComplete() {
+        // Nothing to do, the download is complete once all part requests completed.
+    }
+
+    private GetObjectRequest nextRequest(int nextPartToGet) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(nextPartToGet);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+}
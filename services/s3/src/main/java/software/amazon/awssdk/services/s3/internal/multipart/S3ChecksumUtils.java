@@ -17,10 +17,14 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.ParallelCrcCalculator;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -41,6 +45,34 @@ public final class S3ChecksumUtils {
         return false;
     }
 
+    /**
+     * Combine the CRC checksums of the uploaded parts into the checksum of the whole object, without reading the data of the
+     * parts again. All parts except the last one must be {@code partSize} bytes.
+     *
+     * @return The base64 encoded checksum of the whole object, or empty if the algorithm is not a CRC or a part has no checksum.
+     */
+    public static Optional<String> combinePartChecksums(ChecksumAlgorithm algorithm, CompletedPart[] parts, long partSize,
+                                                        long contentLength) {
+        software.amazon.awssdk.checksums.spi.ChecksumAlgorithm crcAlgorithm =
+            DefaultChecksumAlgorithm.fromValue(algorithm.toString());
+        if (parts.length == 0 || !ParallelCrcCalculator.isSupported(crcAlgorithm)) {
+            return Optional.empty();
+        }
+
+        ParallelCrcCalculator calculator = ParallelCrcCalculator.create(crcAlgorithm);
+        long crc = 0;
+        for (int i = 0; i < parts.length; i++) {
+            Optional<String> partChecksum = parts[i].getValueForField("Checksum" + algorithm, String.class);
+            if (!partChecksum.isPresent()) {
+                return Optional.empty();
+            }
+            long partCrc = calculator.fromBytes(BinaryUtils.fromBase64(partChecksum.get()));
+            long partLength = Math.min(partSize, contentLength - i * partSize);
+            crc = i == 0 ? partCrc : calculator.combine(crc, partCrc, partLength);
+        }
+        return Optional.of(BinaryUtils.toBase64(calculator.toBytes(crc)));
+    }
+
     public static Optional<ChecksumAlgorithm> checksumAlgorithmFromPutObjectRequest(PutObjectRequest request) {
 
         if (request.checksumAlgorithm() != null) {
@@ -25,6 +25,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
@@ -63,9 +64,14 @@ public final class SdkPojoConversionUtils {
         return builder.uploadId(uploadId).partNumber(partNumber).build();
     }
 
+    /**
+     * Convert to a {@link CompleteMultipartUploadRequest}. If the upload uses CRC64NVME checksums, whose multipart checksums are
+     * always of the full object, the checksum of the full object is combined from the checksums of the parts of
+     * {@code partSize} bytes, so that S3 validates the object it assembles against the data that was sent.
+     */
     public static CompleteMultipartUploadRequest toCompleteMultipartUploadRequest(PutObjectRequest putObjectRequest,
                                                                                   String uploadId, CompletedPart[] parts,
-                                                                                  long contentLength) {
+                                                                                  long contentLength, long partSize) {
         CompleteMultipartUploadRequest.Builder builder = CompleteMultipartUploadRequest.builder();
         setSdkFields(builder, putObjectRequest);
 
@@ -73,6 +79,10 @@ public final class SdkPojoConversionUtils {
 
         if (S3ChecksumUtils.checksumValueSpecified(putObjectRequest)) {
             builder.checksumType(ChecksumType.FULL_OBJECT);
+        } else if (putObjectRequest.checksumAlgorithm() == ChecksumAlgorithm.CRC64_NVME) {
+            S3ChecksumUtils.combinePartChecksums(ChecksumAlgorithm.CRC64_NVME, parts, partSize, contentLength)
+                           .ifPresent(checksum -> builder.checksumCRC64NVME(checksum)
+                                                         .checksumType(ChecksumType.FULL_OBJECT));
         }
 
         return builder.uploadId(uploadId).multipartUpload(c -> c.parts(parts)).build();
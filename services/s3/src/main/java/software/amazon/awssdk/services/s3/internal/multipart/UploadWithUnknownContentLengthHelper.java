@@ -265,7 +265,7 @@ public final class UploadWithUnknownContentLengthHelper {
                                                       .sorted(Comparator.comparingInt(CompletedPart::partNumber))
                                                       .toArray(CompletedPart[]::new);
                 multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest,
-                                                              this.contentLength.get());
+                                                              this.contentLength.get(), partSizeInBytes);
             }
         }
     }
@@ -30,7 +30,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
-import software.amazon.awssdk.utils.cache.lru.LruCache;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
 
 @SdkInternalApi
 public class S3ExpressIdentityCache {
@@ -45,7 +45,7 @@ public class S3ExpressIdentityCache {
      */
     private static final Duration DEFAULT_API_CALL_TIMEOUT = Duration.ofSeconds(10);
 
-    private final LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> cache;
+    private final ConcurrentLruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> cache;
 
     private S3ExpressIdentityCache() {
         this.cache = initCache();
@@ -61,10 +61,10 @@ public class S3ExpressIdentityCache {
         return S3ExpressSessionCredentials.fromSessionResponse(cachedCredentials.get());
     }
 
-    private LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> initCache() {
-        return LruCache.builder(this::getCachedCredentials)
-                       .maxSize(DEFAULT_LRU_CACHE_SIZE)
-                       .build();
+    private ConcurrentLruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> initCache() {
+        return ConcurrentLruCache.builder(this::getCachedCredentials)
+                                 .maxSize(DEFAULT_LRU_CACHE_SIZE)
+                                 .build();
     }
 
     private CachedS3ExpressCredentials getCachedCredentials(S3ExpressIdentityKey key) {
@@ -44,11 +44,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer maxInFlightDownloadParts;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.maxInFlightDownloadParts = builder.maxInFlightDownloadParts;
     }
 
     public static Builder builder() {
@@ -60,7 +62,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .maxInFlightDownloadParts(maxInFlightDownloadParts);
     }
 
     /**
@@ -89,6 +92,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of parts that a single multipart download requests concurrently.
+     * @return the value of the configured maximum number of parts.
+     */
+    public Integer maxInFlightDownloadParts() {
+        return this.maxInFlightDownloadParts;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +174,35 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of parts that a single multipart download requests concurrently. Parts are requested
+         * as soon as the first part was received, and the content of each part is sent to the {@link AsyncResponseTransformer}
+         * in order.
+         * <p>
+         * When downloading to a file using {@link AsyncResponseTransformer#toFile(java.nio.file.Path)}, each part is written
+         * directly at its position in the file. For other {@link AsyncResponseTransformer}, parts received ahead of the ones
+         * preceding them are buffered into memory, so up to this amount of parts may be held in memory for each download.
+         * <p>
+         * Default value: 8 when downloading to a file, 1 otherwise, which downloads the parts one after the other.
+         *
+         * @param maxInFlightDownloadParts the value of the maximum number of parts to set.
+         * @return an instance of this builder.
+         */
+        Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts);
+
+        /**
+         * Indicates the value of the maximum number of parts that a single multipart download requests concurrently.
+         * @return the value of the maximum number of parts.
+         */
+        Integer maxInFlightDownloadParts();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer maxInFlightDownloadParts;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +233,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts) {
+            this.maxInFlightDownloadParts = maxInFlightDownloadParts;
+            return this;
+        }
+
+        @Override
+        public Integer maxInFlightDownloadParts() {
+            return maxInFlightDownloadParts;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
@@ -106,7 +106,7 @@ public class KnownContentLengthAsyncRequestBodySubscriberTest {
 
         when(multipartUploadHelper.completeMultipartUpload(any(CompletableFuture.class), any(String.class),
                                                            any(CompletedPart[].class), any(PutObjectRequest.class),
-                                                           any(Long.class)))
+                                                           any(Long.class), any(Long.class)))
             .thenReturn(completeMpuFuture);
         subscriber.onComplete();
         return subscriber.pause();
@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.MULTIPART_DOWNLOAD_RESUME_CONTEXT;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+class ParallelMultipartDownloaderSubscriberTest {
+    private static final long PART_SIZE = 10L;
+
+    private final Map<Integer, CompletableFuture<GetObjectResponse>> partRequests = new ConcurrentHashMap<>();
+    private final CompletableFuture<Object> resultFuture = new CompletableFuture<>();
+    private S3AsyncClient s3;
+    private TransformerPublisher publisher;
+
+    @BeforeEach
+    void setup() {
+        s3 = mock(S3AsyncClient.class);
+        when(s3.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            CompletableFuture<GetObjectResponse> future = new CompletableFuture<>();
+            partRequests.put(request.partNumber(), future);
+            return future;
+        });
+        publisher = new TransformerPublisher();
+    }
+
+    @Test
+    void firstPartCompleted_shouldRequestRemainingPartsUpToMaxInFlight() {
+        subscribe(request(null), 3);
+        assertThat(partRequests).containsOnlyKeys(1);
+
+        completePart(1, 5);
+        assertThat(partRequests).containsOnlyKeys(1, 2, 3, 4);
+
+        completePart(3, 5);
+        assertThat(partRequests).containsOnlyKeys(1, 2, 3, 4, 5);
+        assertThat(publisher.cancelled).isFalse();
+    }
+
+    @Test
+    void allPartsCompleted_shouldCancelSubscription() {
+        subscribe(request(null), 3);
+
+        completePart(1, 3);
+        completePart(3, 3);
+        assertThat(publisher.cancelled).isFalse();
+        completePart(2, 3);
+
+        assertThat(publisher.cancelled).isTrue();
+        assertThat(resultFuture).isNotDone();
+    }
+
+    @Test
+    void singlePartObject_shouldCancelSubscriptionAfterFirstPart() {
+        subscribe(request(null), 3);
+
+        completePart(1, null);
+
+        assertThat(partRequests).containsOnlyKeys(1);
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void partsCompletedOutOfOrder_resumeContextShouldOnlyCountSequentialBytes() {
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext();
+        subscribe(request(context), 3);
+
+        completePart(1, 4);
+        completePart(3, 4);
+        assertThat(context.completedParts()).containsExactly(1, 3);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(PART_SIZE);
+        assertThat(context.highestSequentialCompletedPart()).isEqualTo(1);
+
+        completePart(2, 4);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(3 * PART_SIZE);
+
+        completePart(4, 4);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(4 * PART_SIZE);
+        assertThat(context.isComplete()).isTrue();
+    }
+
+    @Test
+    void resumedDownload_shouldStartAfterHighestSequentialCompletedPart() {
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext(Arrays.asList(1, 2, 4), 2 * PART_SIZE);
+        subscribe(request(context), 3);
+        assertThat(partRequests).containsOnlyKeys(3);
+
+        completePart(3, 5);
+        assertThat(partRequests).containsOnlyKeys(3, 4, 5);
+        completePart(5, 5);
+        completePart(4, 5);
+
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(5 * PART_SIZE);
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void partFails_shouldFailResultFutureAndCancelPartsInFlight() {
+        subscribe(request(null), 3);
+        completePart(1, 4);
+
+        RuntimeException error = new RuntimeException("part failed");
+        partRequests.get(3).completeExceptionally(error);
+
+        assertThatThrownBy(resultFuture::join).hasCause(error);
+        assertThat(partRequests.get(2)).isCancelled();
+        assertThat(partRequests.get(4)).isCancelled();
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    void resultFutureCancelled_shouldCancelPartsInFlight() {
+        subscribe(request(null), 3);
+        completePart(1, 4);
+
+        resultFuture.cancel(true);
+
+        assertThat(partRequests.get(2)).isCancelled();
+        assertThat(partRequests.get(3)).isCancelled();
+        assertThat(partRequests).doesNotContainKey(5);
+    }
+
+    private void subscribe(GetObjectRequest request, int maxInFlightParts) {
+        publisher.subscribe(new ParallelMultipartDownloaderSubscriber(s3, request, maxInFlightParts, resultFuture));
+    }
+
+    private void completePart(int partNumber, Integer partsCount) {
+        partRequests.get(partNumber).complete(GetObjectResponse.builder()
+                                                               .partsCount(partsCount)
+                                                               .contentLength(PART_SIZE)
+                                                               .eTag("etag")
+                                                               .build());
+    }
+
+    private static GetObjectRequest request(MultipartDownloadResumeContext context) {
+        GetObjectRequest.Builder request = GetObjectRequest.builder().bucket("bucket").key("key");
+        if (context != null) {
+            request.overrideConfiguration(o -> o.putExecutionAttribute(MULTIPART_DOWNLOAD_RESUME_CONTEXT, context));
+        }
+        return request.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer() {
+        return mock(AsyncResponseTransformer.class);
+    }
+
+    private static final class TransformerPublisher
+        implements SdkPublisher<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n; i++) {
+                        subscriber.onNext(transformer());
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
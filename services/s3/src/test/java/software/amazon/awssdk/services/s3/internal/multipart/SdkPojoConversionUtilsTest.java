@@ -19,6 +19,7 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.PUT_OBJECT_REQUEST_TO_UPLOAD_PART_FIELDS_TO_IGNORE;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,12 +34,15 @@ import java.util.Set;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.awscore.DefaultAwsResponseMetadata;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -54,6 +58,7 @@ import software.amazon.awssdk.services.s3.model.S3ResponseMetadata;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
 class SdkPojoConversionUtilsTest {
@@ -220,7 +225,7 @@ class SdkPojoConversionUtilsTest {
         CompletedPart completedPart = CompletedPart.builder().partNumber(1).build();
         parts[0] = completedPart;
         CompleteMultipartUploadRequest convertedObject =
-            SdkPojoConversionUtils.toCompleteMultipartUploadRequest(randomObject, "uploadId", parts, 99L);
+            SdkPojoConversionUtils.toCompleteMultipartUploadRequest(randomObject, "uploadId", parts, 99L, 99L);
 
         Set<String> fieldsToIgnore = new HashSet<>();
         verifyFieldsAreCopied(randomObject, convertedObject, fieldsToIgnore,
@@ -231,6 +236,41 @@ class SdkPojoConversionUtilsTest {
         assertThat(convertedObject.mpuObjectSize()).isEqualTo(99);
     }
 
+    @Test
+    void toCompleteMultipartUploadRequest_crc64NvmeParts_shouldCombineFullObjectChecksum() {
+        byte[] data = RandomStringUtils.randomAscii(2500).getBytes(StandardCharsets.UTF_8);
+        CompletedPart[] parts = new CompletedPart[3];
+        for (int i = 0; i < parts.length; i++) {
+            SdkChecksum partChecksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC64NVME);
+            partChecksum.update(data, i * 1000, Math.min(1000, data.length - i * 1000));
+            parts[i] = CompletedPart.builder()
+                                    .partNumber(i + 1)
+                                    .checksumCRC64NVME(BinaryUtils.toBase64(partChecksum.getChecksumBytes()))
+                                    .build();
+        }
+        SdkChecksum objectChecksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC64NVME);
+        objectChecksum.update(data);
+        PutObjectRequest request = PutObjectRequest.builder().checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME).build();
+
+        CompleteMultipartUploadRequest convertedObject =
+            SdkPojoConversionUtils.toCompleteMultipartUploadRequest(request, "uploadId", parts, data.length, 1000);
+
+        assertThat(convertedObject.checksumCRC64NVME()).isEqualTo(BinaryUtils.toBase64(objectChecksum.getChecksumBytes()));
+        assertThat(convertedObject.checksumType()).isEqualTo(ChecksumType.FULL_OBJECT);
+    }
+
+    @Test
+    void toCompleteMultipartUploadRequest_crc32Parts_shouldNotSetFullObjectChecksum() {
+        CompletedPart[] parts = {CompletedPart.builder().partNumber(1).checksumCRC32("AAAAAA==").build()};
+        PutObjectRequest request = PutObjectRequest.builder().checksumAlgorithm(ChecksumAlgorithm.CRC32).build();
+
+        CompleteMultipartUploadRequest convertedObject =
+            SdkPojoConversionUtils.toCompleteMultipartUploadRequest(request, "uploadId", parts, 10L, 10L);
+
+        assertThat(convertedObject.checksumCRC32()).isNull();
+        assertThat(convertedObject.checksumType()).isNull();
+    }
+
     @Test
     void toListPartsRequest_putObject_shouldCopyProperties() {
         PutObjectRequest randomObject = randomPutObjectRequest();
@@ -33,8 +33,8 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
-import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.RefreshScheduler;
 
 
 /**
@@ -80,7 +80,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             CachedSupplier.builder(this::updateSessionCredentials)
                           .cachedValueName(toString());
         if (builder.asyncCredentialUpdateEnabled) {
-            cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+            cacheBuilder.prefetchStrategy(RefreshScheduler.shared().prefetchStrategy(asyncThreadName));
         }
         this.sessionCache = cacheBuilder.build();
     }
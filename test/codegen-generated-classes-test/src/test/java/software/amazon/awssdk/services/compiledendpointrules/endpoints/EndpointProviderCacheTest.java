@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.compiledendpointrules.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.regions.Region;
+
+public class EndpointProviderCacheTest {
+    private static final String INVALID_ENDPOINT = "https://invalid host";
+
+    @Test
+    public void resolveEndpoint_sameParams_returnsCachedEndpoint() {
+        CompiledEndpointRulesEndpointProvider provider = CompiledEndpointRulesEndpointProvider.defaultProvider();
+
+        Endpoint first = provider.resolveEndpoint(r -> r.region(Region.US_WEST_2)).join();
+        Endpoint second = provider.resolveEndpoint(r -> r.region(Region.US_WEST_2)).join();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.url().toString()).isEqualTo("https://compiledendpointrules.us-west-2.amazonaws.com");
+    }
+
+    @Test
+    public void resolveEndpoint_differentParams_returnsDifferentEndpoints() {
+        CompiledEndpointRulesEndpointProvider provider = CompiledEndpointRulesEndpointProvider.defaultProvider();
+
+        Endpoint usWest2 = provider.resolveEndpoint(r -> r.region(Region.US_WEST_2)).join();
+        Endpoint usEast1 = provider.resolveEndpoint(r -> r.region(Region.US_EAST_1)).join();
+        Endpoint overridden = provider.resolveEndpoint(r -> r.region(Region.US_WEST_2)
+                                                              .endpoint("http://localhost:1234")).join();
+
+        assertThat(usWest2.url().toString()).isEqualTo("https://compiledendpointrules.us-west-2.amazonaws.com");
+        assertThat(usEast1.url().toString()).isEqualTo("https://compiledendpointrules.us-east-1.amazonaws.com");
+        assertThat(overridden.url().toString()).isEqualTo("http://localhost:1234");
+    }
+
+    @Test
+    public void resolveEndpoint_resolutionFails_errorIsNotCached() {
+        CompiledEndpointRulesEndpointProvider provider = CompiledEndpointRulesEndpointProvider.defaultProvider();
+
+        Throwable first = resolveInvalidEndpointFailure(provider);
+        Throwable second = resolveInvalidEndpointFailure(provider);
+
+        assertThat(first).isInstanceOf(IllegalArgumentException.class);
+        assertThat(second).isInstanceOf(IllegalArgumentException.class);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void resolveEndpoint_requiredParamNotPresent_failsEveryTime() {
+        CompiledEndpointRulesEndpointProvider provider = CompiledEndpointRulesEndpointProvider.defaultProvider();
+
+        assertThatThrownBy(() -> provider.resolveEndpoint(r -> {})).hasMessageContaining("must not be null");
+        assertThatThrownBy(() -> provider.resolveEndpoint(r -> {})).hasMessageContaining("must not be null");
+    }
+
+    private static Throwable resolveInvalidEndpointFailure(CompiledEndpointRulesEndpointProvider provider) {
+        Throwable thrown = null;
+        try {
+            provider.resolveEndpoint(r -> r.region(Region.US_WEST_2).endpoint(INVALID_ENDPOINT)).join();
+        } catch (CompletionException e) {
+            thrown = e.getCause();
+        }
+        assertThat(thrown).isNotNull();
+        return thrown;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.retry;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.StandardRetryStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Tests that the concurrency limit of the retry strategy caps the number of in-flight requests of a client, against a server
+ * that responds slowly enough for every request to be in-flight at the same time.
+ */
+public class ConcurrencyLimitTest {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int CONCURRENT_CALLS = 2 * INITIAL_LIMIT;
+    private static final int SERVER_LATENCY_MILLIS = 1_000;
+
+    private WireMockServer wireMock;
+    private ExecutorService executor;
+    private RetryStrategy retryStrategy;
+
+    @BeforeEach
+    public void setup() {
+        wireMock = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(CONCURRENT_CALLS + 10));
+        wireMock.start();
+        wireMock.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                              .withBody("{}")
+                                                              .withFixedDelay(SERVER_LATENCY_MILLIS)));
+        executor = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+        retryStrategy = StandardRetryStrategy.builder().concurrencyLimitEnabled(true).build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+        wireMock.stop();
+    }
+
+    @Test
+    public void syncClient_concurrentCallsAboveLimit_excessCallsRejected() {
+        try (ProtocolRestJsonClient client = ProtocolRestJsonClient.builder()
+                                                                   .credentialsProvider(credentials())
+                                                                   .region(Region.US_EAST_1)
+                                                                   .endpointOverride(endpoint())
+                                                                   .overrideConfiguration(o -> o.retryStrategy(retryStrategy))
+                                                                   .build()) {
+            assertExcessCallsRejected(() -> CompletableFuture.runAsync(() -> client.allTypes(r -> { }), executor));
+
+            // The permits of the completed calls are released.
+            client.allTypes(r -> { });
+        }
+    }
+
+    @Test
+    public void asyncClient_concurrentCallsAboveLimit_excessCallsRejected() {
+        try (ProtocolRestJsonAsyncClient client =
+                 ProtocolRestJsonAsyncClient.builder()
+                                            .credentialsProvider(credentials())
+                                            .region(Region.US_EAST_1)
+                                            .endpointOverride(endpoint())
+                                            .overrideConfiguration(o -> o.retryStrategy(retryStrategy))
+                                            .build()) {
+            assertExcessCallsRejected(() -> client.allTypes(r -> { }));
+
+            client.allTypes(r -> { }).join();
+        }
+    }
+
+    @Test
+    public void concurrencyLimitEnabled_reportsLimitMetric() {
+        MetricPublisher publisher = mock(MetricPublisher.class);
+        try (ProtocolRestJsonClient client =
+                 ProtocolRestJsonClient.builder()
+                                       .credentialsProvider(credentials())
+                                       .region(Region.US_EAST_1)
+                                       .endpointOverride(endpoint())
+                                       .overrideConfiguration(o -> o.retryStrategy(retryStrategy)
+                                                                    .addMetricPublisher(publisher))
+                                       .build()) {
+            client.allTypes(r -> { });
+        }
+
+        ArgumentCaptor<MetricCollection> collection = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(publisher).publish(collection.capture());
+        assertThat(collection.getValue().metricValues(CoreMetric.CONCURRENCY_LIMIT)).containsExactly(INITIAL_LIMIT);
+    }
+
+    @Test
+    public void concurrencyLimitDisabled_doesNotReportLimitMetric() {
+        MetricPublisher publisher = mock(MetricPublisher.class);
+        try (ProtocolRestJsonClient client =
+                 ProtocolRestJsonClient.builder()
+                                       .credentialsProvider(credentials())
+                                       .region(Region.US_EAST_1)
+                                       .endpointOverride(endpoint())
+                                       .overrideConfiguration(o -> o.retryStrategy(StandardRetryStrategy.builder().build())
+                                                                    .addMetricPublisher(publisher))
+                                       .build()) {
+            client.allTypes(r -> { });
+        }
+
+        ArgumentCaptor<MetricCollection> collection = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(publisher).publish(collection.capture());
+        assertThat(collection.getValue().metricValues(CoreMetric.CONCURRENCY_LIMIT)).isEmpty();
+    }
+
+    private void assertExcessCallsRejected(Supplier<CompletableFuture<?>> call) {
+        List<CompletableFuture<?>> calls = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            calls.add(call.get());
+        }
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (CompletableFuture<?> future : calls) {
+            try {
+                future.join();
+                succeeded++;
+            } catch (CompletionException e) {
+                assertThat(e.getCause()).isInstanceOf(SdkClientException.class)
+                                        .hasMessageContaining("concurrency limit");
+                rejected++;
+            }
+        }
+
+        assertThat(succeeded).isEqualTo(INITIAL_LIMIT);
+        assertThat(rejected).isEqualTo(CONCURRENT_CALLS - INITIAL_LIMIT);
+        wireMock.verify(INITIAL_LIMIT, anyRequestedFor(anyUrl()));
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + wireMock.port());
+    }
+
+    private static StaticCredentialsProvider credentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+    }
+}
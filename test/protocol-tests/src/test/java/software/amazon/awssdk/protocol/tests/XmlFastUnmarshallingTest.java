@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocol.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.xml.AwsS3ProtocolFactory;
+import software.amazon.awssdk.protocols.xml.XmlOperationMetadata;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlProtocolUnmarshaller;
+import software.amazon.awssdk.services.protocolrestxml.model.AllTypesResponse;
+import software.amazon.awssdk.services.protocolrestxml.model.ProtocolRestXmlException;
+import software.amazon.awssdk.services.protocolrestxml.model.RestXmlTypesResponse;
+
+/**
+ * Verifies that unmarshalling straight from the response stream produces the same result as unmarshalling from the parsed
+ * XML document.
+ */
+public class XmlFastUnmarshallingTest {
+    private static final XmlProtocolUnmarshaller DOM_UNMARSHALLER = XmlProtocolUnmarshaller.create();
+    private static final XmlProtocolUnmarshaller FAST_UNMARSHALLER =
+        XmlProtocolUnmarshaller.builder().enableFastUnmarshalling(true).build();
+
+    @Test
+    public void allTypes_unmarshallsSameAsParsedDocument() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                     + "<AllTypesResponse xmlns=\"https://restxml/\">\n"
+                     + "  <stringMember>foo &amp; bar</stringMember>\n"
+                     + "  <integerMember>42</integerMember>\n"
+                     + "  <booleanMember>true</booleanMember>\n"
+                     + "  <floatMember>1.5</floatMember>\n"
+                     + "  <doubleMember>2.25</doubleMember>\n"
+                     + "  <longMember>9007199254740993</longMember>\n"
+                     + "  <shortMember>7</shortMember>\n"
+                     + "  <unknownMember><nested>ignored</nested></unknownMember>\n"
+                     + "  <simpleStructMember><StringMember><![CDATA[<cdata>]]></StringMember></simpleStructMember>\n"
+                     + "  <simpleList><member>a</member><member>b</member></simpleList>\n"
+                     + "  <listOfStructs>\n"
+                     + "    <member><StringMember>first</StringMember></member>\n"
+                     + "    <member><StringMember>second</StringMember></member>\n"
+                     + "  </listOfStructs>\n"
+                     + "  <mapOfStringToString>\n"
+                     + "    <entry><key>k1</key><value>v1</value></entry>\n"
+                     + "    <entry><key>k2</key><value></value></entry>\n"
+                     + "  </mapOfStringToString>\n"
+                     + "  <timestampMember>2020-01-02T03:04:05.678Z</timestampMember>\n"
+                     + "  <structWithNestedTimestampMember>\n"
+                     + "    <NestedTimestamp>2020-01-02T03:04:05Z</NestedTimestamp>\n"
+                     + "  </structWithNestedTimestampMember>\n"
+                     + "  <blobArg>aGVsbG8=</blobArg>\n"
+                     + "</AllTypesResponse>";
+
+        AllTypesResponse fast = unmarshall(FAST_UNMARSHALLER, AllTypesResponse::builder, xml);
+
+        AllTypesResponse dom = unmarshall(DOM_UNMARSHALLER, AllTypesResponse::builder, xml);
+        assertThat(fast).isEqualTo(dom);
+        assertThat(fast.stringMember()).isEqualTo("foo & bar");
+        assertThat(fast.simpleStructMember().stringMember()).isEqualTo("<cdata>");
+        assertThat(fast.simpleList()).containsExactly("a", "b");
+        assertThat(fast.mapOfStringToString()).containsEntry("k2", "");
+        assertThat(fast.timestampMember()).isEqualTo(Instant.parse("2020-01-02T03:04:05.678Z"));
+        assertThat(fast.blobArg().asUtf8String()).isEqualTo("hello");
+    }
+
+    @Test
+    public void flattenedMembers_unmarshallSameAsParsedDocument() {
+        String xml = "<RestXmlTypesResponse>"
+                     + "<FlattenedListOfStrings>a</FlattenedListOfStrings>"
+                     + "<FlattenedListOfStructs><StringMember>s1</StringMember></FlattenedListOfStructs>"
+                     + "<FlattenedListOfStrings>b</FlattenedListOfStrings>"
+                     + "<FlattenedListOfStructs><StringMember>s2</StringMember></FlattenedListOfStructs>"
+                     + "<item>i1</item><item>i2</item>"
+                     + "<NonFlattenedListWithLocation><item>n1</item><item>n2</item></NonFlattenedListWithLocation>"
+                     + "<FlattenedMap><key>fk1</key><value>fv1</value></FlattenedMap>"
+                     + "<FlattenedMap><key>fk2</key><value>fv2</value></FlattenedMap>"
+                     + "<flatmap><thekey>k</thekey><thevalue>v</thevalue></flatmap>"
+                     + "<themap><entry><thekey>mk</thekey><thevalue>mv</thevalue></entry></themap>"
+                     + "</RestXmlTypesResponse>";
+
+        RestXmlTypesResponse fast = unmarshall(FAST_UNMARSHALLER, RestXmlTypesResponse::builder, xml);
+
+        RestXmlTypesResponse dom = unmarshall(DOM_UNMARSHALLER, RestXmlTypesResponse::builder, xml);
+        assertThat(fast).isEqualTo(dom);
+        assertThat(fast.flattenedListOfStrings()).containsExactly("a", "b");
+        assertThat(fast.flattenedListOfStructs()).hasSize(2);
+        assertThat(fast.flattenedMap()).hasSize(2);
+    }
+
+    @Test
+    public void repeatedMembers_keepFirstValueSameAsParsedDocument() {
+        String xml = "<AllTypesResponse>"
+                     + "<stringMember>first</stringMember>"
+                     + "<integerMember>1</integerMember>"
+                     + "<stringMember>second</stringMember>"
+                     + "<simpleStructMember><StringMember>s1</StringMember></simpleStructMember>"
+                     + "<simpleList><member>a</member></simpleList>"
+                     + "<integerMember>2</integerMember>"
+                     + "<simpleStructMember><StringMember>s2</StringMember></simpleStructMember>"
+                     + "<simpleList><member>b</member></simpleList>"
+                     + "</AllTypesResponse>";
+
+        AllTypesResponse fast = unmarshall(FAST_UNMARSHALLER, AllTypesResponse::builder, xml);
+
+        AllTypesResponse dom = unmarshall(DOM_UNMARSHALLER, AllTypesResponse::builder, xml);
+        assertThat(fast).isEqualTo(dom);
+        assertThat(fast.stringMember()).isEqualTo("first");
+        assertThat(fast.integerMember()).isEqualTo(1);
+        assertThat(fast.simpleStructMember().stringMember()).isEqualTo("s1");
+        assertThat(fast.simpleList()).containsExactly("a");
+    }
+
+    @Test
+    public void emptyBody_unmarshallsSameAsParsedDocument() {
+        AllTypesResponse fast = unmarshall(FAST_UNMARSHALLER, AllTypesResponse::builder, "");
+        AllTypesResponse dom = unmarshall(DOM_UNMARSHALLER, AllTypesResponse::builder, "");
+        assertThat(fast).isEqualTo(dom);
+    }
+
+    @Test
+    public void malformedDocument_throwsSdkClientException() {
+        assertThatThrownBy(() -> unmarshall(FAST_UNMARSHALLER, AllTypesResponse::builder, "<AllTypesResponse><stringMember>"))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void errorInSuccessfulResponse_isUnmarshalledAsError() throws Exception {
+        AwsS3ProtocolFactory protocolFactory =
+            AwsS3ProtocolFactory.builder()
+                                .defaultServiceExceptionSupplier(ProtocolRestXmlException::builder)
+                                .build();
+        XmlOperationMetadata metadata = XmlOperationMetadata.builder().hasStreamingSuccessResponse(false).build();
+        String xml = "<Error><Code>InternalError</Code><Message>We encountered an internal error.</Message></Error>";
+
+        Response<AllTypesResponse> response =
+            protocolFactory.<AllTypesResponse>createCombinedResponseHandler(AllTypesResponse::builder, metadata)
+                           .handle(response(xml), new ExecutionAttributes());
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.exception()).isInstanceOf(ProtocolRestXmlException.class);
+        assertThat(((AwsServiceException) response.exception()).awsErrorDetails().errorCode()).isEqualTo("InternalError");
+    }
+
+    @Test
+    public void successfulResponse_throughS3ProtocolFactory_isUnmarshalled() throws Exception {
+        AwsS3ProtocolFactory protocolFactory =
+            AwsS3ProtocolFactory.builder()
+                                .defaultServiceExceptionSupplier(ProtocolRestXmlException::builder)
+                                .build();
+        XmlOperationMetadata metadata = XmlOperationMetadata.builder().hasStreamingSuccessResponse(false).build();
+        String xml = "<AllTypesResponse><stringMember>foo</stringMember></AllTypesResponse>";
+
+        Response<AllTypesResponse> response =
+            protocolFactory.<AllTypesResponse>createCombinedResponseHandler(AllTypesResponse::builder, metadata)
+                           .handle(response(xml), new ExecutionAttributes());
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.response().stringMember()).isEqualTo("foo");
+        assertThat(response.response().responseMetadata().requestId()).isEqualTo("request-id");
+    }
+
+    private static <T extends SdkPojo> T unmarshall(XmlProtocolUnmarshaller unmarshaller,
+                                                    Supplier<? extends SdkPojo> builder,
+                                                    String xml) {
+        return unmarshaller.unmarshall(builder.get(), response(xml));
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        byte[] content = xml.getBytes(StandardCharsets.UTF_8);
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amzn-RequestId", "request-id")
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                  .build();
+    }
+}
@@ -55,7 +55,8 @@ public abstract class BaseJavaS3ClientBenchmark implements TransferManagerBenchm
                                           .multipartEnabled(true)
                                           .multipartConfiguration(c -> c.minimumPartSizeInBytes(partSizeInMb * MB)
                                                                         .thresholdInBytes(partSizeInMb * 2 * MB)
-                                                                        .apiCallBufferSizeInBytes(readBufferInMb * MB))
+                                                                        .apiCallBufferSizeInBytes(readBufferInMb * MB)
+                                                                        .maxInFlightDownloadParts(config.maxInFlightParts()))
                                           .httpClientBuilder(TransferManagerBenchmark.httpClient(config))
                                           .build();
     }
@@ -183,7 +183,8 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
                 return S3AsyncClient.builder()
                                     .multipartEnabled(true)
                                     .multipartConfiguration(c -> c.minimumPartSizeInBytes(partSizeInMb)
-                                                                  .apiCallBufferSizeInBytes(readBufferSizeInMb))
+                                                                  .apiCallBufferSizeInBytes(readBufferSizeInMb)
+                                                                  .maxInFlightDownloadParts(config.maxInFlightParts()))
                                     .httpClientBuilder(TransferManagerBenchmark.httpClient(config))
                                     .build();
             }
@@ -51,6 +51,8 @@ public final class BenchmarkRunner {
 
     private static final String FORCE_CRT_HTTP_CLIENT = "crtHttp";
     private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String MAX_IN_FLIGHT_PARTS = "maxInFlightParts";
+    private static final String MEMORY_MAPPED_UPLOAD = "memoryMappedUpload";
 
     private static final Map<TransferManagerOperation, Function<TransferManagerBenchmarkConfig, TransferManagerBenchmark>>
         OPERATION_TO_BENCHMARK_V1 = new EnumMap<>(TransferManagerOperation.class);
@@ -110,6 +112,10 @@ public final class BenchmarkRunner {
                           "Force the CRT http client to be used in JavaBased benchmarks");
         options.addOption(null, MAX_CONCURRENCY, true,
                           "The Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections.");
+        options.addOption(null, MAX_IN_FLIGHT_PARTS, true,
+                          "The maximum number of parts downloaded concurrently by the Java based S3 Async Client.");
+        options.addOption(null, MEMORY_MAPPED_UPLOAD, true,
+                          "Read the uploaded file through memory-mapped regions in the Java based S3 Async Client benchmarks.");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -204,6 +210,12 @@ public final class BenchmarkRunner {
         Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
                                  Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
 
+        Integer maxInFlightParts = cmd.getOptionValue(MAX_IN_FLIGHT_PARTS) == null ? null :
+                                   Integer.parseInt(cmd.getOptionValue(MAX_IN_FLIGHT_PARTS));
+
+        Boolean memoryMappedUpload = cmd.getOptionValue(MEMORY_MAPPED_UPLOAD) != null
+                                     && Boolean.parseBoolean(cmd.getOptionValue(MEMORY_MAPPED_UPLOAD));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
@@ -220,6 +232,8 @@ public final class BenchmarkRunner {
                                              .connectionAcquisitionTimeoutInSec(connAcqTimeoutInSec)
                                              .forceCrtHttpClient(forceCrtHttpClient)
                                              .maxConcurrency(maxConcurrency)
+                                             .maxInFlightParts(maxInFlightParts)
+                                             .memoryMappedUpload(memoryMappedUpload)
                                              .s3Client(s3Client)
                                              .build();
     }
@@ -35,6 +35,7 @@ public class JavaS3ClientUploadBenchmark extends BaseJavaS3ClientBenchmark {
     private final Long contentLengthInMb;
     private final Long partSizeInMb;
     private final ChecksumAlgorithm checksumAlgorithm;
+    private final boolean memoryMappedUpload;
 
     public JavaS3ClientUploadBenchmark(TransferManagerBenchmarkConfig config) {
         super(config);
@@ -42,6 +43,7 @@ public class JavaS3ClientUploadBenchmark extends BaseJavaS3ClientBenchmark {
         this.contentLengthInMb = config.contentLengthInMb();
         this.partSizeInMb = config.partSizeInMb();
         this.checksumAlgorithm = config.checksumAlgorithm();
+        this.memoryMappedUpload = config.memoryMappedUpload();
     }
 
     @Override
@@ -51,9 +53,11 @@ public class JavaS3ClientUploadBenchmark extends BaseJavaS3ClientBenchmark {
             latencies.add(latency);
             return;
         }
+        AsyncRequestBody requestBody = AsyncRequestBody.fromFile(c -> c.path(Paths.get(filePath))
+                                                                       .memoryMappingEnabled(memoryMappedUpload));
         Double latency = runWithTime(
             s3AsyncClient.putObject(req -> req.key(key).bucket(bucket).checksumAlgorithm(checksumAlgorithm),
-                                    Paths.get(filePath))::join).latency();
+                                    requestBody)::join).latency();
         latencies.add(latency);
     }
 
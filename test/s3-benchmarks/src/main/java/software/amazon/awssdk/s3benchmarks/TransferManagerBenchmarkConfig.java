@@ -33,6 +33,8 @@ public final class TransferManagerBenchmarkConfig {
     private final Long connectionAcquisitionTimeoutInSec;
     private final Boolean forceCrtHttpClient;
     private final Integer maxConcurrency;
+    private final Integer maxInFlightParts;
+    private final Boolean memoryMappedUpload;
     private final BenchmarkRunner.TransferManagerBaseS3Client s3Client;
 
     private final Long readBufferSizeInMb;
@@ -56,6 +58,8 @@ public final class TransferManagerBenchmarkConfig {
         this.connectionAcquisitionTimeoutInSec = builder.connectionAcquisitionTimeoutInSec;
         this.forceCrtHttpClient = builder.forceCrtHttpClient;
         this.maxConcurrency = builder.maxConcurrency;
+        this.maxInFlightParts = builder.maxInFlightParts;
+        this.memoryMappedUpload = builder.memoryMappedUpload;
         this.s3Client = builder.s3Client;
     }
 
@@ -123,6 +127,14 @@ public final class TransferManagerBenchmarkConfig {
         return this.maxConcurrency;
     }
 
+    public Integer maxInFlightParts() {
+        return this.maxInFlightParts;
+    }
+
+    public boolean memoryMappedUpload() {
+        return Boolean.TRUE.equals(this.memoryMappedUpload);
+    }
+
     public BenchmarkRunner.TransferManagerBaseS3Client s3Client() {
         return this.s3Client;
     }
@@ -147,6 +159,8 @@ public final class TransferManagerBenchmarkConfig {
                        .add("connectionAcquisitionTimeoutInSec", connectionAcquisitionTimeoutInSec)
                        .add("forceCrtHttpClient", forceCrtHttpClient)
                        .add("maxConcurrency", maxConcurrency)
+                       .add("maxInFlightParts", maxInFlightParts)
+                       .add("memoryMappedUpload", memoryMappedUpload)
                        .add("readBufferSizeInMb", readBufferSizeInMb)
                        .add("operation", operation)
                        .add("prefix", prefix)
@@ -166,6 +180,8 @@ public final class TransferManagerBenchmarkConfig {
         private Long connectionAcquisitionTimeoutInSec;
         private Boolean forceCrtHttpClient;
         private Integer maxConcurrency;
+        private Integer maxInFlightParts;
+        private Boolean memoryMappedUpload;
         private BenchmarkRunner.TransferManagerBaseS3Client s3Client;
 
         private Integer iteration;
@@ -254,6 +270,16 @@ public final class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder maxInFlightParts(Integer maxInFlightParts) {
+            this.maxInFlightParts = maxInFlightParts;
+            return this;
+        }
+
+        public Builder memoryMappedUpload(Boolean memoryMappedUpload) {
+            this.memoryMappedUpload = memoryMappedUpload;
+            return this;
+        }
+
         public Builder s3Client(BenchmarkRunner.TransferManagerBaseS3Client s3Client) {
             this.s3Client = s3Client;
             return this;
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_JSON_BODY;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_BODY;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.AwsExecutionAttribute;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Measures the cost of the {@link ExecutionAttributes} of an API call: a full request execution against
+ * {@link MockHttpClient}, and the copy, merge and lookup operations the SDK performs on the execution attributes of every call.
+ * <p>
+ * Run with the {@link GCProfiler} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionAttributesBenchmark {
+
+    private ProtocolRestJsonClient client;
+    private ExecutionAttributes clientAttributes;
+    private ExecutionAttributes requestAttributes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = ProtocolRestJsonClient.builder()
+                                       .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
+                                       .build();
+
+        clientAttributes = ExecutionAttributes.builder()
+                                              .put(SdkExecutionAttribute.SERVICE_NAME, "ProtocolRestJson")
+                                              .put(SdkExecutionAttribute.OPERATION_NAME, "AllTypes")
+                                              .put(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, false)
+                                              .put(SdkInternalExecutionAttribute.IS_FULL_DUPLEX, false)
+                                              .put(AwsExecutionAttribute.AWS_REGION, Region.US_WEST_2)
+                                              .put(AwsExecutionAttribute.DUALSTACK_ENDPOINT_ENABLED, false)
+                                              .put(AwsExecutionAttribute.FIPS_ENDPOINT_ENABLED, false)
+                                              .build();
+        requestAttributes = ExecutionAttributes.builder()
+                                               .put(SdkExecutionAttribute.SERVICE_NAME, "ProtocolRestJson")
+                                               .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void apiCall(Blackhole blackhole) {
+        blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    @Benchmark
+    public void copyAndModify(Blackhole blackhole) {
+        ExecutionAttributes copy = clientAttributes.copy();
+        copy.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "Other");
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void putAbsentAttributes(Blackhole blackhole) {
+        ExecutionAttributes attributes = requestAttributes.copy();
+        attributes.putAbsentAttributes(clientAttributes);
+        blackhole.consume(attributes);
+    }
+
+    @Benchmark
+    public void getAttribute(Blackhole blackhole) {
+        blackhole.consume(clientAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME));
+        blackhole.consume(clientAttributes.getAttribute(AwsExecutionAttribute.AWS_REGION));
+        blackhole.consume(clientAttributes.getAttribute(SdkExecutionAttribute.CLIENT_ENDPOINT));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionAttributesBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
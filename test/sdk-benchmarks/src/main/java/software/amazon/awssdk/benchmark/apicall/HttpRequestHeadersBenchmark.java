@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+/**
+ * Measures the header handling of an {@link SdkHttpFullRequest} over the lifetime of an API call: the marshaller builds the
+ * request, interceptors and pipeline stages modify it with {@code toBuilder()}, the signer reads the lower-case header names,
+ * and the HTTP client adapter iterates the headers.
+ * <p>
+ * Run with the {@link GCProfiler} to report the bytes allocated per request ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HttpRequestHeadersBenchmark {
+
+    @Benchmark
+    public void requestLifecycle(Blackhole blackhole) {
+        // Marshaller
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .protocol("https")
+                                                       .host("dynamodb.us-west-2.amazonaws.com")
+                                                       .method(SdkHttpMethod.POST)
+                                                       .encodedPath("/")
+                                                       .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                       .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                       .build();
+
+        // Interceptors and pipeline stages
+        request = request.toBuilder()
+                         .putHeader("amz-sdk-invocation-id", "0a4cd3ae-9d8f-4c63-a6cb-1e3b4e5f0c3e")
+                         .putHeader("amz-sdk-request", "attempt=1; max=3")
+                         .build();
+        request = request.toBuilder()
+                         .putHeader("User-Agent", "aws-sdk-java/2.0.0 md/io#sync md/http#Apache ua/2.1 api/DynamoDB#2.0")
+                         .putHeader("Content-Length", "52")
+                         .build();
+        blackhole.consume(request.firstMatchingHeader("Content-Type"));
+
+        // Signer
+        request = request.toBuilder()
+                         .putHeader("Host", "dynamodb.us-west-2.amazonaws.com")
+                         .putHeader("X-Amz-Date", "20240101T000000Z")
+                         .build();
+        request.forEachLowerCaseHeader((name, values) -> blackhole.consume(name));
+        request = request.toBuilder()
+                         .putHeader("Authorization", "AWS4-HMAC-SHA256 Credential=AKIDEXAMPLE/20240101/us-west-2/dynamodb/"
+                                                     + "aws4_request, SignedHeaders=content-type;host;x-amz-date, "
+                                                     + "Signature=0123456789abcdef")
+                         .build();
+
+        // HTTP client adapter
+        request.forEachHeader((name, values) -> {
+            for (int i = 0; i < values.size(); i++) {
+                blackhole.consume(values.get(i));
+            }
+        });
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(HttpRequestHeadersBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
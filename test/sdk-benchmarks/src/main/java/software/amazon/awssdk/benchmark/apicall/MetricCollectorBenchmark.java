@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.internal.ConcurrentMetricCollector;
+import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
+
+/**
+ * Compares the default synchronized {@link DefaultMetricCollector} with the lock-free {@link ConcurrentMetricCollector}.
+ * <p>
+ * Each invocation reports the metrics of a single-attempt API call into a fresh collector tree, the same way the request
+ * pipeline and HTTP client do. Run with {@link GCProfiler} to compare allocation rates. Complements
+ * {@link MetricsEnabledBenchmark}, which measures the end-to-end cost of enabling metrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@Threads(8)
+public class MetricCollectorBenchmark {
+    private static final Duration DURATION = Duration.ofMillis(10);
+
+    @Param({"default", "concurrent"})
+    private String collectorType;
+
+    @Benchmark
+    public void apiCallCollectorTree(Blackhole blackhole) {
+        MetricCollector apiCall = newCollector();
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+        apiCall.reportMetric(CoreMetric.MARSHALLING_DURATION, DURATION);
+
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(CoreMetric.SIGNING_DURATION, DURATION);
+        attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, DURATION);
+        attempt.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-id");
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+
+        MetricCollector http = attempt.createChild("HttpClient");
+        http.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0);
+        http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, DURATION);
+
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, DURATION);
+        blackhole.consume(apiCall.collect());
+    }
+
+    private MetricCollector newCollector() {
+        return "concurrent".equals(collectorType) ? ConcurrentMetricCollector.create("ApiCall")
+                                                  : DefaultMetricCollector.create("ApiCall");
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(MetricCollectorBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
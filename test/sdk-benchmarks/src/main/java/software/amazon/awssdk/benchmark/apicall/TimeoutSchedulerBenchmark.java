@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Compares scheduling API call timeouts on the client's default 5-thread {@link ScheduledThreadPoolExecutor} with the
+ * shared {@link HashedWheelTimer}.
+ * <p>
+ * Each invocation starts the timeout of one API call and cancels the timeout of the oldest call in flight, the same way
+ * {@link TimerUtils} does when calls complete. With the default {@code inFlightCalls}, a rate of 50k timeouts/s corresponds
+ * to calls that take 100 ms, each with a 10 second timeout that never expires. Throughput well above 50k ops/s means the
+ * scheduler is not a bottleneck at that rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@Threads(8)
+public class TimeoutSchedulerBenchmark {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Param({"executor", "wheel"})
+    private String scheduler;
+
+    private ScheduledThreadPoolExecutor executor;
+    private HashedWheelTimer timer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = new ScheduledThreadPoolExecutor(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor")
+                                                                                .daemonThreads(true)
+                                                                                .build());
+        executor.setRemoveOnCancelPolicy(true);
+        timer = "wheel".equals(scheduler) ? HashedWheelTimer.shared() : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @State(Scope.Thread)
+    public static class InFlightCalls {
+        /**
+         * The number of calls in flight per benchmark thread. 8 threads with 625 calls each hold 5000 timeouts, i.e. 100 ms
+         * worth of timeouts at 50k timeouts/s.
+         */
+        @Param({"625"})
+        private int inFlightCalls;
+
+        private TimeoutTracker[] trackers;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            trackers = new TimeoutTracker[inFlightCalls];
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            for (TimeoutTracker tracker : trackers) {
+                if (tracker != null) {
+                    tracker.cancel();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void startAndCancelTimeout(InFlightCalls calls) {
+        int slot = calls.next;
+        calls.next = (slot + 1) % calls.trackers.length;
+
+        TimeoutTracker oldest = calls.trackers[slot];
+        if (oldest != null) {
+            oldest.cancel();
+        }
+        calls.trackers[slot] = TimerUtils.timeAsyncTaskIfNeeded(new CompletableFuture<>(),
+                                                                timer,
+                                                                executor,
+                                                                () -> ApiCallTimeoutException.create(TIMEOUT_MILLIS),
+                                                                TIMEOUT_MILLIS);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TimeoutSchedulerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
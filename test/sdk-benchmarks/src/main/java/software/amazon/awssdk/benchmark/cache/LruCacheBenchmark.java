@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.utils.cache.lru.ConcurrentLruCache;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Compares the read throughput of {@link LruCache} and {@link ConcurrentLruCache} at 1, 8 and 64 threads.
+ * <p>
+ * The key space is twice the cache size in the "mixed" workload, so roughly half of the reads miss and evict, and equal to
+ * the cache size in the "hits" workload, which models the S3 Express identity cache in a steady multi-bucket workload.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LruCacheBenchmark {
+    private static final int CACHE_SIZE = 25;
+
+    @Param({"LruCache", "ConcurrentLruCache"})
+    private String cacheType;
+
+    @Param({"hits", "mixed"})
+    private String workload;
+
+    private Function<Integer, String> cache;
+    private int keySpace;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Function<Integer, String> supplier = key -> Integer.toString(key);
+        switch (cacheType) {
+            case "LruCache":
+                cache = LruCache.builder(supplier).maxSize(CACHE_SIZE).build()::get;
+                break;
+            case "ConcurrentLruCache":
+                cache = ConcurrentLruCache.builder(supplier).maxSize(CACHE_SIZE).build()::get;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid cacheType: " + cacheType);
+        }
+        keySpace = "hits".equals(workload) ? CACHE_SIZE : CACHE_SIZE * 2;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cache.apply(i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String get1Thread() {
+        return get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String get8Threads() {
+        return get();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String get64Threads() {
+        return get();
+    }
+
+    private String get() {
+        return cache.apply(ThreadLocalRandom.current().nextInt(keySpace));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(LruCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
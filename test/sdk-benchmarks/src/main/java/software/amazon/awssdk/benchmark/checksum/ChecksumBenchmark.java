@@ -15,8 +15,11 @@
 
 package software.amazon.awssdk.benchmark.checksum;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -33,6 +36,7 @@ import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.ParallelCrcCalculator;
 import software.amazon.awssdk.checksums.SdkChecksum;
 
 @State(Scope.Benchmark)
@@ -100,6 +104,50 @@ public class ChecksumBenchmark {
         }
     }
 
+    /**
+     * Measures the throughput of {@link ParallelCrcCalculator} on 1 GB inputs across core counts. A core count of 1 calculates
+     * the segments one after another, as a baseline for the combine overhead.
+     */
+    @State(Scope.Benchmark)
+    public static class ParallelChecksumState {
+
+        private static final int PAYLOAD_SIZE_IN_BYTES = 1024 * 1024 * 1024;
+
+        @Param({"1", "2", "4", "8", "16"})
+        public int cores;
+
+        @Param({"CRC32", "CRC32C", "CRC64NVME"})
+        public String checksumProvider;
+
+        private ByteBuffer payload;
+        private ForkJoinPool forkJoinPool;
+        private ParallelCrcCalculator calculator;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            byte[] bytes = new byte[PAYLOAD_SIZE_IN_BYTES];
+            new Random(0).nextBytes(bytes);
+            payload = ByteBuffer.wrap(bytes);
+            forkJoinPool = new ForkJoinPool(cores);
+            calculator = ParallelCrcCalculator.builder()
+                                              .algorithm(DefaultChecksumAlgorithm.fromValue(checksumProvider))
+                                              .forkJoinPool(forkJoinPool)
+                                              .build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void parallelChecksumOf1GbBuffer(ParallelChecksumState state, Blackhole blackhole) {
+        blackhole.consume(state.calculator.checksum(state.payload));
+    }
+
     @Benchmark
     public void updateEntireByteArrayChecksum(ChecksumState state, Blackhole blackhole) {
         state.sdkChecksum.update(state.payload);
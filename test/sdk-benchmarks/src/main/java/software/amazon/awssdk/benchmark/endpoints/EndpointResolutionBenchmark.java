@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.endpoints;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Benchmarks the endpoint resolution of S3 and DynamoDB.
+ * <p>
+ * The {@code warm} benchmarks reuse the same endpoint provider, like a client does, and cycle through {@link #bucketCount}
+ * buckets and one object key per call, so they measure the cached resolution as long as the number of buckets fits in the
+ * endpoint cache. The {@code cold} benchmarks use a new provider for each call, so they measure the evaluation of the rules.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointResolutionBenchmark {
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"1", "100", "1000"})
+    public int bucketCount;
+
+    private S3EndpointProvider s3Provider;
+    private DynamoDbEndpointProvider dynamoDbProvider;
+    private S3EndpointParams[] s3Params;
+    private DynamoDbEndpointParams dynamoDbParams;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        s3Provider = S3EndpointProvider.defaultProvider();
+        dynamoDbProvider = DynamoDbEndpointProvider.defaultProvider();
+        s3Params = new S3EndpointParams[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            s3Params[i] = S3EndpointParams.builder()
+                                          .region(Region.US_WEST_2)
+                                          .bucket("benchmark-bucket-" + i % bucketCount)
+                                          .key("prefix/object-" + i)
+                                          .build();
+        }
+        dynamoDbParams = DynamoDbEndpointParams.builder()
+                                               .region(Region.US_WEST_2)
+                                               .build();
+    }
+
+    @Benchmark
+    public void s3Warm(Blackhole blackhole) {
+        blackhole.consume(s3Provider.resolveEndpoint(nextS3Params()).join());
+    }
+
+    @Benchmark
+    public void s3Cold(Blackhole blackhole) {
+        blackhole.consume(S3EndpointProvider.defaultProvider().resolveEndpoint(nextS3Params()).join());
+    }
+
+    @Benchmark
+    public void dynamoDbWarm(Blackhole blackhole) {
+        blackhole.consume(dynamoDbProvider.resolveEndpoint(dynamoDbParams).join());
+    }
+
+    @Benchmark
+    public void dynamoDbCold(Blackhole blackhole) {
+        blackhole.consume(DynamoDbEndpointProvider.defaultProvider().resolveEndpoint(dynamoDbParams).join());
+    }
+
+    private S3EndpointParams nextS3Params() {
+        S3EndpointParams params = s3Params[next];
+        next = (next + 1) % KEY_COUNT;
+        return params;
+    }
+}
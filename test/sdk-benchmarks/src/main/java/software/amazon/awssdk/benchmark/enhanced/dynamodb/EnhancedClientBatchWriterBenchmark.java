@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.batchwriter.DynamoDbAsyncBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Compares writing items with a hand-written loop of BatchWriteItem calls, the way callers of
+ * {@link DynamoDbEnhancedAsyncClient#batchWriteItem} typically do it, with writing them through a
+ * {@link DynamoDbAsyncBatchWriter}. The client completes each BatchWriteItem call after a fixed latency and returns one write
+ * in ten as unprocessed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientBatchWriterBenchmark {
+    private static final int ITEM_COUNT = 1000;
+    private static final int MAX_BATCH_SIZE = 25;
+    private static final long LATENCY_MILLIS = 5;
+    private static final long UNPROCESSED_BACKOFF_MILLIS = 25;
+
+    private LatencyDynamoDbAsyncClient ddb;
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<ItemFactory.SmallBean> table;
+    private List<ItemFactory.SmallBean> items;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ddb = new LatencyDynamoDbAsyncClient();
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(ddb).build();
+        table = enhancedClient.table("table", V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA);
+
+        V2ItemFactory factory = new V2ItemFactory();
+        items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            ItemFactory.SmallBean item = factory.smallBean();
+            item.setStringAttr("item-" + i);
+            items.add(item);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ddb.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void manualBatchWriteItem() throws InterruptedException {
+        for (int start = 0; start < items.size(); start += MAX_BATCH_SIZE) {
+            List<ItemFactory.SmallBean> batch = items.subList(start, Math.min(start + MAX_BATCH_SIZE, items.size()));
+            while (!batch.isEmpty()) {
+                WriteBatch.Builder<ItemFactory.SmallBean> writeBatch = WriteBatch.builder(ItemFactory.SmallBean.class)
+                                                                                 .mappedTableResource(table);
+                batch.forEach(writeBatch::addPutItem);
+                BatchWriteResult result = enhancedClient.batchWriteItem(r -> r.addWriteBatch(writeBatch.build())).join();
+                batch = result.unprocessedPutItemsForTable(table);
+                if (!batch.isEmpty()) {
+                    Thread.sleep(UNPROCESSED_BACKOFF_MILLIS);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void batchWriter() {
+        try (DynamoDbAsyncBatchWriter batchWriter = enhancedClient.batchWriter()) {
+            for (ItemFactory.SmallBean item : items) {
+                batchWriter.putItem(table, item);
+            }
+        }
+    }
+
+    /**
+     * Completes BatchWriteItem calls after {@link #LATENCY_MILLIS}, returning one write in ten as unprocessed.
+     */
+    private static final class LatencyDynamoDbAsyncClient implements DynamoDbAsyncClient {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong writes = new AtomicLong();
+
+        @Override
+        public CompletableFuture<BatchWriteItemResponse> batchWriteItem(BatchWriteItemRequest request) {
+            Map<String, List<WriteRequest>> unprocessedItems = Collections.emptyMap();
+            for (Map.Entry<String, List<WriteRequest>> table : request.requestItems().entrySet()) {
+                List<WriteRequest> unprocessed = new ArrayList<>();
+                for (WriteRequest writeRequest : table.getValue()) {
+                    if (writes.incrementAndGet() % 10 == 0) {
+                        unprocessed.add(writeRequest);
+                    }
+                }
+                if (!unprocessed.isEmpty()) {
+                    unprocessedItems = Collections.singletonMap(table.getKey(), unprocessed);
+                }
+            }
+            BatchWriteItemResponse response = BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build();
+
+            CompletableFuture<BatchWriteItemResponse> future = new CompletableFuture<>();
+            scheduler.schedule(() -> future.complete(response), LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public String serviceName() {
+            return "DynamoDB";
+        }
+
+        @Override
+        public void close() {
+            scheduler.shutdownNow();
+        }
+    }
+}
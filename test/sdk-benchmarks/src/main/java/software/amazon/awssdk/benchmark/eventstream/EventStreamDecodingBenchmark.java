@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.eventstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.eventstream.EventStreamAsyncResponseTransformer;
+import software.amazon.awssdk.awscore.eventstream.EventStreamResponseHandler;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+import software.amazon.eventstream.MessageDecoder;
+
+/**
+ * Benchmark for decoding an event stream of records similar to the events of Kinesis SubscribeToShard, received in chunks of
+ * the given size. The events are decoded and adapted to the responses given to the event unmarshallers, the unmarshalling
+ * itself isn't measured. {@link #messageDecoder(Blackhole)} does the same with the copying {@link MessageDecoder} as a
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class EventStreamDecodingBenchmark {
+    private static final int EVENTS = 1_000;
+    private static final int RECORD_SIZE = 1024;
+
+    @Param({"1024", "16384", "65536"})
+    private int chunkSize;
+
+    private List<ByteBuffer> chunks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < EVENTS; i++) {
+            byte[] data = new byte[RECORD_SIZE];
+            random.nextBytes(data);
+            String payload = "{\"ContinuationSequenceNumber\":\"" + i + "\",\"MillisBehindLatest\":0,\"Records\":[{"
+                             + "\"ApproximateArrivalTimestamp\":1.6E9,\"Data\":\"" + Base64.getEncoder().encodeToString(data)
+                             + "\",\"PartitionKey\":\"key\",\"SequenceNumber\":\"" + i + "\"}]}";
+
+            Map<String, HeaderValue> headers = new LinkedHashMap<>();
+            headers.put(":message-type", HeaderValue.fromString("event"));
+            headers.put(":event-type", HeaderValue.fromString("SubscribeToShardEvent"));
+            headers.put(":content-type", HeaderValue.fromString("application/json"));
+            new Message(headers, payload.getBytes(UTF_8)).encode(stream);
+        }
+
+        byte[] encoded = stream.toByteArray();
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < encoded.length; offset += chunkSize) {
+            chunks.add(ByteBuffer.wrap(encoded, offset, Math.min(chunkSize, encoded.length - offset)).slice());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void eventStreamAsyncResponseTransformer(Blackhole blackhole) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        AsyncResponseTransformer<SdkResponse, Void> transformer =
+            EventStreamAsyncResponseTransformer.builder()
+                                               .eventStreamResponseHandler(new ConsumingResponseHandler(blackhole))
+                                               .eventResponseHandler((response, executionAttributes) -> response)
+                                               .future(future)
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(SdkPublisher.fromIterable(chunks));
+        future.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void messageDecoder(Blackhole blackhole) {
+        MessageDecoder decoder = new MessageDecoder();
+        for (ByteBuffer chunk : chunks) {
+            decoder.feed(chunk.duplicate());
+            for (Message message : decoder.getDecodedMessages()) {
+                Map<String, List<String>> headers = new HashMap<>();
+                message.getHeaders().forEach((name, value) -> headers.put(name, singletonList(value.getString())));
+                blackhole.consume(SdkHttpFullResponse.builder()
+                                                     .content(AbortableInputStream.create(
+                                                         new ByteArrayInputStream(message.getPayload())))
+                                                     .headers(headers)
+                                                     .statusCode(200)
+                                                     .build());
+            }
+        }
+    }
+
+    private static final class ConsumingResponseHandler implements EventStreamResponseHandler<Object, Object> {
+        private final Blackhole blackhole;
+
+        private ConsumingResponseHandler(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void responseReceived(Object response) {
+        }
+
+        @Override
+        public void onEventStream(SdkPublisher<Object> publisher) {
+            publisher.subscribe(blackhole::consume);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable throwable) {
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(EventStreamDecodingBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.dynamodb;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.dynamodb.transform.BatchWriteItemRequestMarshaller;
+
+/**
+ * Measures marshalling a full {@code BatchWriteItem} request (25 items) into a request body, and handing that body to an
+ * async HTTP client the way {@code MakeAsyncHttpRequestStage} does for non-streaming requests.
+ * <p>
+ * Run with {@link GCProfiler} to report the bytes allocated per request ({@code gc.alloc.rate.norm}). Before generators
+ * reused their output buffer, this included the intermediate arrays of every buffer growth on top of the body itself.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class V2DynamoDbBatchWriteItemMarshallingBenchmark {
+    private static final int MAX_BATCH_SIZE = 25;
+
+    private static final AwsJsonProtocolFactory JSON_PROTOCOL_FACTORY = AwsJsonProtocolFactory
+        .builder()
+        .clientConfiguration(SdkClientConfiguration.builder()
+                                                   .option(SdkClientOption.ENDPOINT, URI.create("https://localhost"))
+                                                   .build())
+        .defaultServiceExceptionSupplier(DynamoDbException::builder)
+        .protocol(AwsJsonProtocol.AWS_JSON)
+        .protocolVersion("1.0")
+        .build();
+
+    private static final BatchWriteItemRequestMarshaller MARSHALLER =
+        new BatchWriteItemRequestMarshaller(JSON_PROTOCOL_FACTORY);
+
+    @Param({"TINY", "SMALL", "HUGE"})
+    private String itemSize;
+
+    private BatchWriteItemRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        V2ItemFactory itemFactory = new V2ItemFactory();
+        List<WriteRequest> writeRequests = new ArrayList<>(MAX_BATCH_SIZE);
+        for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+            Map<String, AttributeValue> item;
+            switch (itemSize) {
+                case "TINY":
+                    item = itemFactory.tiny();
+                    break;
+                case "SMALL":
+                    item = itemFactory.small();
+                    break;
+                case "HUGE":
+                    item = itemFactory.huge();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown item size: " + itemSize);
+            }
+            writeRequests.add(WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build());
+        }
+        request = BatchWriteItemRequest.builder()
+                                       .requestItems(Collections.singletonMap("benchmark-table", writeRequests))
+                                       .build();
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest marshall() {
+        return MARSHALLER.marshall(request);
+    }
+
+    @Benchmark
+    public SimpleHttpContentPublisher marshallAndPublish() {
+        return new SimpleHttpContentPublisher(MARSHALLER.marshall(request));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V2DynamoDbBatchWriteItemMarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.dynamodb;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.apicall.protocol.JsonCodec;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Compares the streaming unmarshaller ({@code ENABLE_FAST_UNMARSHALLER}), which fills the model builders directly from the
+ * JSON token stream, with the default unmarshaller, which first parses the response into a {@code JsonNode} tree.
+ * <p>
+ * The payload is a DynamoDB {@code Query} page. Run with {@link GCProfiler} to report the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class V2DynamoDbQueryUnmarshallingBenchmark {
+    private static final AbstractItemFactory<AttributeValue> FACTORY = new V2ItemFactory();
+
+    @Param({"streaming", "tree"})
+    private String unmarshaller;
+
+    @Param({"SMALL", "HUGE"})
+    private String itemSize;
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private JsonProtocolUnmarshaller protocolUnmarshaller;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        protocolUnmarshaller = JsonProtocolUnmarshaller
+            .builder()
+            .enableFastUnmarshalling("streaming".equals(unmarshaller))
+            .protocolUnmarshallDependencies(JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies())
+            .build();
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add("HUGE".equals(itemSize) ? FACTORY.huge() : FACTORY.small());
+        }
+        QueryResponse page = QueryResponse.builder()
+                                          .items(items)
+                                          .count(itemCount)
+                                          .scannedCount(itemCount)
+                                          .lastEvaluatedKey(FACTORY.tiny())
+                                          .build();
+        payload = new JsonCodec().marshall(AwsJsonProtocol.AWS_JSON, page);
+    }
+
+    @Benchmark
+    public Object unmarshallQueryPage() throws Exception {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(
+                                                              new ByteArrayInputStream(payload)))
+                                                          .build();
+        return protocolUnmarshaller.unmarshall(QueryResponse.builder(), response);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V2DynamoDbQueryUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.ec2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlProtocolUnmarshaller;
+import software.amazon.awssdk.services.protocolrestxml.model.RestXmlTypesResponse;
+
+/**
+ * Compares the fast XML unmarshaller, which fills the model builders straight from a pull parser, with the default
+ * unmarshaller, which first parses the response into an {@code XmlElement} tree with {@link XmlDomParser}, the same parser
+ * used by the EC2 and Query protocols.
+ * <p>
+ * The payload models a page of an S3 list operation (e.g. {@code ListObjectsV2}): a flattened list of structures, one per
+ * object. Run with {@link GCProfiler} to report the bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XmlListUnmarshallingBenchmark {
+
+    @Param({"fast", "dom"})
+    private String unmarshaller;
+
+    @Param({"100", "1000"})
+    private int itemCount;
+
+    private XmlProtocolUnmarshaller protocolUnmarshaller;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        protocolUnmarshaller = XmlProtocolUnmarshaller.builder()
+                                                      .enableFastUnmarshalling("fast".equals(unmarshaller))
+                                                      .build();
+
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<RestXmlTypesResponse xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+        for (int i = 0; i < itemCount; i++) {
+            xml.append("<FlattenedListOfStructs><StringMember>photos/2024/01/IMG_").append(i).append(".jpg</StringMember>");
+            xml.append("</FlattenedListOfStructs>");
+            xml.append("<FlattenedListOfStrings>\"9b2cf535f27731c974343645a3985328\"</FlattenedListOfStrings>");
+        }
+        xml.append("<FlattenedMap><key>IsTruncated</key><value>true</value></FlattenedMap>");
+        xml.append("</RestXmlTypesResponse>");
+        payload = xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object unmarshallListPage() {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(
+                                                              new ByteArrayInputStream(payload)))
+                                                          .build();
+        return protocolUnmarshaller.unmarshall(RestXmlTypesResponse.builder(), response);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(XmlListUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metricpublisher.cloudwatch;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
+
+/**
+ * Benchmark for aggregating one upload period worth of metric collections, at 100,000 API calls per second, with and without
+ * detailed metrics. Each invocation adds a second of API calls to the aggregator and creates the CloudWatch requests for them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class CloudWatchMetricAggregationBenchmark {
+    private static final int RECORDS_PER_SECOND = 100_000;
+    private static final Set<SdkMetric<String>> DIMENSIONS = Stream.of(CoreMetric.SERVICE_ID, CoreMetric.OPERATION_NAME)
+                                                                   .collect(Collectors.toSet());
+
+    @Param({"true", "false"})
+    private boolean detailedMetrics;
+
+    private MetricCollection[] collections;
+    private MetricCollectionAggregator aggregator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Log-normally distributed latencies with a median of about 50ms and a long tail, so that most values are distinct.
+        Random random = new Random(0);
+        collections = new MetricCollection[RECORDS_PER_SECOND];
+        for (int i = 0; i < collections.length; i++) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+            collector.reportMetric(CoreMetric.API_CALL_DURATION,
+                                   Duration.ofNanos((long) (Math.exp(random.nextGaussian() + Math.log(50)) * 1_000_000)));
+            collector.reportMetric(CoreMetric.RETRY_COUNT, random.nextInt(100) == 0 ? 1 : 0);
+            collections[i] = collector.collect();
+        }
+
+        Set<SdkMetric<?>> detailed = detailedMetrics
+                                     ? Collections.singleton(CoreMetric.API_CALL_DURATION)
+                                     : Collections.emptySet();
+        aggregator = new MetricCollectionAggregator("CloudWatchMetricAggregationBenchmark", DIMENSIONS,
+                                                    Collections.singleton(MetricCategory.ALL), MetricLevel.INFO, detailed);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_SECOND)
+    public void aggregateAndFlush(Blackhole blackhole) {
+        for (MetricCollection collection : collections) {
+            aggregator.addCollection(collection);
+        }
+        blackhole.consume(aggregator.getRequests());
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(CloudWatchMetricAggregationBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.s3;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Measures a small S3 PutObject call against {@link MockHttpClient}. The S3 client has more interceptors than any other client,
+ * and most of them only override a few {@link ExecutionInterceptor} methods, so this shows the cost of the
+ * {@link ExecutionInterceptorChain}.
+ * <p>
+ * {@code additionalInterceptors} adds interceptors that don't override any method, which the chain should not invoke. Run with
+ * the {@link GCProfiler} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3PutObjectBenchmark {
+    private static final byte[] CONTENT = new byte[1024];
+
+    @Param({"0", "16"})
+    private int additionalInterceptors;
+
+    private S3Client client;
+    private PutObjectRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = S3Client.builder()
+                         .region(Region.US_WEST_2)
+                         .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                         .httpClient(new MockHttpClient("", ""))
+                         .overrideConfiguration(o -> {
+                             for (int i = 0; i < additionalInterceptors; i++) {
+                                 o.addExecutionInterceptor(new NoOpInterceptor());
+                             }
+                         })
+                         .build();
+        request = PutObjectRequest.builder()
+                                  .bucket("benchmark-bucket")
+                                  .key("benchmark-key")
+                                  .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void putObject(Blackhole blackhole) {
+        blackhole.consume(client.putObject(request, RequestBody.fromBytes(CONTENT)));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3PutObjectBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+
+    private static final class NoOpInterceptor implements ExecutionInterceptor {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.s3;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
+
+/**
+ * Benchmark for uploading a directory tree of many tiny files with {@link S3TransferManager} to a local mock server, with and
+ * without parallel traversal of the tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TransferManagerUploadDirectoryBenchmark {
+    private static final int FILES_PER_DIRECTORY = 1_000;
+    private static final int MAX_CONCURRENCY = 200;
+    private static final byte[] CONTENT = "tiny".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"1000000"})
+    private int fileCount;
+
+    @Param({"1", "8"})
+    private int traversalParallelism;
+
+    private MockServer mockServer;
+    private Path directory;
+    private S3AsyncClient s3;
+    private S3TransferManager transferManager;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+
+        directory = Files.createTempDirectory("upload-directory-benchmark");
+        for (int i = 0; i < fileCount; i++) {
+            Path subDirectory = directory.resolve("directory" + i / FILES_PER_DIRECTORY);
+            if (i % FILES_PER_DIRECTORY == 0) {
+                Files.createDirectory(subDirectory);
+            }
+            Files.write(subDirectory.resolve("file" + i), CONTENT);
+        }
+
+        s3 = S3AsyncClient.builder()
+                          .region(Region.US_WEST_2)
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                          .endpointOverride(mockServer.getHttpUri())
+                          .forcePathStyle(true)
+                          .multipartEnabled(true)
+                          .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(MAX_CONCURRENCY))
+                          .build();
+        transferManager = S3TransferManager.builder()
+                                           .s3Client(s3)
+                                           .uploadDirectoryTraversalParallelism(traversalParallelism)
+                                           .transferDirectoryMaxConcurrency(MAX_CONCURRENCY)
+                                           .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        transferManager.close();
+        s3.close();
+        mockServer.stop();
+        deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public void uploadDirectory(Blackhole blackhole) {
+        CompletedDirectoryUpload upload = transferManager.uploadDirectory(r -> r.source(directory).bucket("bucket"))
+                                                         .completionFuture()
+                                                         .join();
+        if (!upload.failedTransfers().isEmpty()) {
+            throw new IllegalStateException("Failed to upload " + upload.failedTransfers().size() + " files, e.g. "
+                                            + upload.failedTransfers().iterator().next());
+        }
+        blackhole.consume(upload);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(TransferManagerUploadDirectoryBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.AwsSessionCredentialsIdentity;
+
+/**
+ * Benchmarks the SigV4 signing of a small DynamoDB GetItem request, with the headers added by the SDK, where signing is a
+ * noticeable share of the client CPU time.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class V4SignerBenchmark {
+    private static final String PAYLOAD = "{\"TableName\":\"benchmark-table\",\"Key\":{\"id\":{\"S\":\"benchmark-id\"}}}";
+
+    private final AwsV4HttpSigner signer = AwsV4HttpSigner.create();
+    private SignRequest<AwsCredentialsIdentity> signRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AwsCredentialsIdentity credentials =
+            AwsSessionCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "session-token");
+        SdkHttpRequest request =
+            SdkHttpRequest.builder()
+                          .method(SdkHttpMethod.POST)
+                          .uri("https://dynamodb.us-west-2.amazonaws.com/")
+                          .putHeader("Content-Type", "application/x-amz-json-1.0")
+                          .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                          .putHeader("Content-Length", Integer.toString(PAYLOAD.length()))
+                          .putHeader("amz-sdk-invocation-id", "b54e3c53-7ea7-b2bd-d5f8-5fbd5a06a1c7")
+                          .putHeader("amz-sdk-request", "attempt=1; max=4")
+                          .putHeader("User-Agent", "aws-sdk-java/2.31.55 md/io#sync md/http#Apache ua/2.1 "
+                                                   + "os/Linux#6.1 lang/java#17.0.12 md/OpenJDK_64-Bit_Server_VM#17.0.12 "
+                                                   + "md/vendor#Amazon.com_Inc. md/en_US m/D")
+                          .build();
+        signRequest = SignRequest.builder(credentials)
+                                 .request(request)
+                                 .payload(ContentStreamProvider.fromUtf8String(PAYLOAD))
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-west-2")
+                                 .build();
+    }
+
+    @Benchmark
+    public void signGetItem(Blackhole blackhole) {
+        blackhole.consume(signer.sign(signRequest));
+    }
+}
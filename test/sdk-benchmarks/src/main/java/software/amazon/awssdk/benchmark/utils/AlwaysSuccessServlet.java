@@ -23,6 +23,7 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.eclipse.jetty.http.HttpStatus;
+import software.amazon.awssdk.utils.IoUtils;
 
 /**
  * Always succeeds with with a 200 response.
@@ -36,4 +37,11 @@ public class AlwaysSuccessServlet extends HttpServlet {
         response.setContentLength(JSON_BODY.getBytes(StandardCharsets.UTF_8).length);
         response.getOutputStream().print(JSON_BODY);
     }
+
+    @Override
+    public void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        IoUtils.drainInputStream(request.getInputStream());
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentLength(0);
+    }
 }
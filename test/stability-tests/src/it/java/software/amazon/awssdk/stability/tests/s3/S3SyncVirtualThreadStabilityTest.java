@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.stability.tests.s3;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.stability.tests.utils.StabilityTestRunner;
+
+/**
+ * Runs blocking {@link S3Client} calls from virtual threads, one thread per call, against a local mock server. Virtual threads
+ * are only available on Java 21 and later, so these tests are skipped on older runtimes.
+ */
+public class S3SyncVirtualThreadStabilityTest {
+    private static final int CONCURRENT_CALLS = 10_000;
+    private static final int MAX_CONNECTIONS = 500;
+    private static final int SERVER_THREADS = MAX_CONNECTIONS + 50;
+    private static final byte[] CONTENT = RandomStringUtils.randomAlphanumeric(1_000).getBytes();
+
+    private static WireMockServer mockServer;
+
+    private ExecutorService virtualThreads;
+    private S3Client s3;
+
+    @BeforeAll
+    public static void setupServer() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(SERVER_THREADS));
+        mockServer.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        mockServer.stop();
+    }
+
+    @BeforeEach
+    public void setup() {
+        virtualThreads = newVirtualThreadPerTaskExecutor();
+        assumeTrue(virtualThreads != null, "Virtual threads require Java 21 or later");
+        mockServer.resetAll();
+    }
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        if (s3 != null) {
+            s3.close();
+        }
+        if (virtualThreads != null) {
+            virtualThreads.shutdownNow();
+            virtualThreads.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    public void putObject_concurrentCallsOnVirtualThreads_allSucceed() {
+        mockServer.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(50)));
+        s3 = s3Client(Duration.ofMinutes(2));
+
+        IntFunction<CompletableFuture<?>> future =
+            i -> CompletableFuture.runAsync(() -> s3.putObject(r -> r.bucket("virtual-threads").key("key_" + i),
+                                                               RequestBody.fromBytes(CONTENT)),
+                                            virtualThreads);
+
+        // Carrier and mock server threads are platform threads, the calls themselves shouldn't add any.
+        StabilityTestRunner.newRunner(StabilityTestRunner.ALLOWED_MAX_PEAK_THREAD_COUNT + SERVER_THREADS)
+                           .testName("S3SyncVirtualThreadStabilityTest.putObject")
+                           .futureFactory(future)
+                           .requestCountPerRun(CONCURRENT_CALLS)
+                           .totalRuns(1)
+                           .run();
+    }
+
+    @Test
+    public void putObject_concurrentCallsOnVirtualThreads_timeOut() throws Exception {
+        mockServer.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withFixedDelay(30_000)));
+        s3 = s3Client(Duration.ofSeconds(1));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            String key = "key_" + i;
+            futures.add(CompletableFuture.runAsync(() -> putObjectExpectingTimeout(key), virtualThreads));
+        }
+
+        // Every call is either waiting for the mock server or for a connection, and both must be interrupted by the timeout.
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+    }
+
+    private void putObjectExpectingTimeout(String key) {
+        try {
+            s3.putObject(r -> r.bucket("virtual-threads").key(key), RequestBody.fromBytes(CONTENT));
+        } catch (ApiCallTimeoutException e) {
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+            return;
+        }
+        throw new CompletionException(new AssertionError("Expected the call to time out"));
+    }
+
+    private static S3Client s3Client(Duration apiCallTimeout) {
+        return S3Client.builder()
+                       .region(Region.US_WEST_2)
+                       .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                       .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                       .forcePathStyle(true)
+                       .httpClientBuilder(ApacheHttpClient.builder()
+                                                          .maxConnections(MAX_CONNECTIONS)
+                                                          .connectionAcquisitionTimeout(Duration.ofMinutes(2)))
+                       .overrideConfiguration(o -> o.apiCallTimeout(apiCallTimeout)
+                                                    .apiCallAttemptTimeout(apiCallTimeout))
+                       .build();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
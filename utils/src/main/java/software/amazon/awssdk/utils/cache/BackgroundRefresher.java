@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The background refresh state of a single {@link CachedSupplier}, shared by the prefetch strategies that refresh the value
+ * on other threads: {@link NonBlocking} and the strategies created by a {@link RefreshScheduler}.
+ * <p>
+ * This runs at most one prefetch at a time, and keeps at most one refresh scheduled for the prefetch time of the current value.
+ */
+@SdkInternalApi
+final class BackgroundRefresher {
+    private static final Logger log = Logger.loggerFor(BackgroundRefresher.class);
+
+    /**
+     * Name of the thread refreshing the cache for this strategy.
+     */
+    private final String asyncThreadName;
+
+    /**
+     * Thread used to kick off refreshes during the prefetch window. This does not do the actual refreshing. That's left for
+     * the {@link #refreshSubmitter}.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Submits the actual work of refreshing the value to another thread.
+     */
+    private final RefreshSubmitter refreshSubmitter;
+
+    /**
+     * Whether we are currently refreshing the supplier. This is used to make sure only one prefetch runs at a time.
+     */
+    private final AtomicBoolean currentlyPrefetching = new AtomicBoolean(false);
+
+    /**
+     * The refresh task currently scheduled. We ensure that no more than one task is scheduled per instance.
+     */
+    private final AtomicReference<ScheduledFuture<?>> refreshTask = new AtomicReference<>();
+
+    /**
+     * Whether this refresher has been shutdown (and should stop doing background refreshes)
+     */
+    private volatile boolean shutdown = false;
+
+    /**
+     * The cached supplier being refreshed.
+     */
+    private volatile CachedSupplier<?> cachedSupplier;
+
+    BackgroundRefresher(String asyncThreadName, ScheduledExecutorService scheduler, RefreshSubmitter refreshSubmitter) {
+        this.asyncThreadName = asyncThreadName;
+        this.scheduler = scheduler;
+        this.refreshSubmitter = refreshSubmitter;
+    }
+
+    void initializeCachedSupplier(CachedSupplier<?> cachedSupplier) {
+        this.cachedSupplier = cachedSupplier;
+    }
+
+    /**
+     * The clock of the cached supplier, which must be used for any comparison with the times of its values.
+     */
+    Clock clock() {
+        CachedSupplier<?> supplier = cachedSupplier;
+        return supplier != null ? supplier.clock() : Clock.systemUTC();
+    }
+
+    void prefetch(Runnable valueUpdater) {
+        // Only run one async prefetch at a time.
+        if (currentlyPrefetching.compareAndSet(false, true)) {
+            refreshSubmitter.submit(valueUpdater, () -> currentlyPrefetching.set(false));
+        }
+    }
+
+    /**
+     * Schedule a background refresh of the cached supplier for the given delay after the prefetch time of the result,
+     * replacing any refresh scheduled for a previous result.
+     */
+    void scheduleRefresh(RefreshResult<?> result, Duration delayAfterPrefetch) {
+        if (shutdown || result.prefetchTime() == null) {
+            return;
+        }
+
+        Duration timeUntilPrefetch = Duration.between(clock().instant(), result.prefetchTime());
+        if (timeUntilPrefetch.isNegative() || timeUntilPrefetch.toDays() > 7) {
+            log.debug(() -> "Skipping background refresh because the prefetch time is in the past or too far in the future: " +
+                            result.prefetchTime());
+            return;
+        }
+
+        Instant backgroundRefreshTime = result.prefetchTime().plus(delayAfterPrefetch);
+        Duration timeUntilBackgroundRefresh = timeUntilPrefetch.plus(delayAfterPrefetch);
+
+        log.debug(() -> "Scheduling refresh attempt for " + backgroundRefreshTime + " (in " +
+                        timeUntilBackgroundRefresh.toMillis() + " ms)");
+
+        ScheduledFuture<?> scheduledTask = scheduler.schedule(() -> {
+            runWithThreadName(() -> {
+                log.debug(() -> "Executing refresh attempt scheduled for " + backgroundRefreshTime);
+
+                // If the supplier has already been prefetched, this will just be a cache hit.
+                refreshSubmitter.submit(cachedSupplier::get, () -> {
+                });
+            });
+        }, timeUntilBackgroundRefresh.toMillis(), TimeUnit.MILLISECONDS);
+
+        updateTask(scheduledTask);
+
+        if (shutdown) {
+            updateTask(null);
+        }
+    }
+
+    boolean isTaskScheduled() {
+        ScheduledFuture<?> refreshTask = this.refreshTask.get();
+        if (refreshTask == null) {
+            return true;
+        }
+
+        return !refreshTask.isDone();
+    }
+
+    void updateTask(ScheduledFuture<?> newTask) {
+        ScheduledFuture<?> currentTask;
+        do {
+            currentTask = refreshTask.get();
+            if (currentTask != null && !currentTask.isDone()) {
+                currentTask.cancel(false);
+            }
+        } while (!refreshTask.compareAndSet(currentTask, newTask));
+    }
+
+    /**
+     * Stop the background refreshes.
+     *
+     * @return False if the refresher was already closed.
+     */
+    boolean close() {
+        boolean wasShutdown = shutdown;
+        shutdown = true;
+        updateTask(null);
+        return !wasShutdown;
+    }
+
+    /**
+     * Run the refresh on the executor, naming the thread after this refresher and logging any failure. The completion
+     * callback is invoked whether or not the refresh could be submitted.
+     */
+    void execute(Executor executor, Runnable runnable, Runnable runOnCompletion) {
+        try {
+            executor.execute(() -> {
+                runWithThreadName(() -> {
+                    try {
+                        runnable.run();
+                    } catch (Throwable t) {
+                        log.warn(() -> "Exception occurred in AWS SDK background task.", t);
+                    } finally {
+                        runOnCompletion.run();
+                    }
+                });
+            });
+        } catch (Throwable t) {
+            log.warn(() -> "Exception occurred when submitting AWS SDK background task.", t);
+            runOnCompletion.run();
+        }
+    }
+
+    void runWithThreadName(Runnable runnable) {
+        String baseThreadName = Thread.currentThread().getName();
+        try {
+            Thread.currentThread().setName(baseThreadName + "-" + asyncThreadName);
+            runnable.run();
+        } finally {
+            Thread.currentThread().setName(baseThreadName);
+        }
+    }
+
+    /**
+     * Submits a refresh to run on another thread, invoking the completion callback once it is done or could not be submitted.
+     */
+    @FunctionalInterface
+    interface RefreshSubmitter {
+        void submit(Runnable refresh, Runnable runOnCompletion);
+    }
+}
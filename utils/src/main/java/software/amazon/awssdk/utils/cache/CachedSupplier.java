@@ -40,7 +40,8 @@ import software.amazon.awssdk.utils.Validate;
  * value.
  *
  * For example, the {@link OneCallerBlocks} strategy will have a single caller block to update the value, and the
- * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background.
+ * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background. Many cached
+ * suppliers can share the threads, jitter and deduplication of a {@link RefreshScheduler}.
  *
  * This should be created using {@link #builder(Supplier)}.
  */
@@ -344,6 +345,13 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         return time.plus(jitterStart).plusMillis(jitterAmount);
     }
 
+    /**
+     * The clock used by this supplier, so that prefetch strategies compare the times of its values against the same time.
+     */
+    Clock clock() {
+        return clock;
+    }
+
     /**
      * Free any resources consumed by the prefetch strategy this supplier is using.
      */
@@ -432,6 +440,7 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      *
      * @see OneCallerBlocks
      * @see NonBlocking
+     * @see RefreshScheduler#prefetchStrategy(String)
      */
     @FunctionalInterface
     public interface PrefetchStrategy extends SdkAutoCloseable {
@@ -16,16 +16,13 @@
 package software.amazon.awssdk.utils.cache;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -75,35 +72,14 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
                                                          .build());
 
     /**
-     * An incrementing number, used to uniquely identify an instance of NonBlocking in the {@link #asyncThreadName}.
+     * An incrementing number, used to uniquely identify an instance of NonBlocking in the name of its background thread.
      */
     private static final AtomicLong INSTANCE_NUMBER = new AtomicLong(0);
 
     /**
-     * Whether we are currently refreshing the supplier. This is used to make sure only one caller is blocking at a time.
+     * The background refresh state of the cached supplier using this non-blocking instance.
      */
-    private final AtomicBoolean currentlyPrefetching = new AtomicBoolean(false);
-
-    /**
-     * Name of the thread refreshing the cache for this strategy.
-     */
-    private final String asyncThreadName;
-
-    /**
-     * The refresh task currently scheduled for this non-blocking instance. We ensure that no more than one task is scheduled
-     * per instance.
-     */
-    private final AtomicReference<ScheduledFuture<?>> refreshTask = new AtomicReference<>();
-
-    /**
-     * Whether this strategy has been shutdown (and should stop doing background refreshes)
-     */
-    private volatile boolean shutdown = false;
-
-    /**
-     * The cached supplier using this non-blocking instance.
-     */
-    private volatile CachedSupplier<?> cachedSupplier;
+    private final BackgroundRefresher refresher;
 
     static {
         // Ensure that cancelling a task actually removes it from the queue.
@@ -115,7 +91,8 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
      * performing the update.
      */
     public NonBlocking(String asyncThreadName) {
-        this.asyncThreadName = asyncThreadName + "-" + INSTANCE_NUMBER.getAndIncrement();
+        this.refresher = new BackgroundRefresher(asyncThreadName + "-" + INSTANCE_NUMBER.getAndIncrement(), SCHEDULER,
+                                                 this::tryRunBackgroundTask);
     }
 
     @SdkTestInternalApi
@@ -125,82 +102,35 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
 
     @SdkTestInternalApi
     public boolean isTaskScheduled() {
-        ScheduledFuture<?> refreshTask = this.refreshTask.get();
-        if (refreshTask == null) {
-            return true;
-        }
-
-        return !refreshTask.isDone();
+        return refresher.isTaskScheduled();
     }
 
     @Override
     public void initializeCachedSupplier(CachedSupplier<?> cachedSupplier) {
-        this.cachedSupplier = cachedSupplier;
+        refresher.initializeCachedSupplier(cachedSupplier);
     }
 
     @Override
     public void prefetch(Runnable valueUpdater) {
-        // Only run one async prefetch at a time.
-        if (currentlyPrefetching.compareAndSet(false, true)) {
-            tryRunBackgroundTask(valueUpdater, () -> currentlyPrefetching.set(false));
-        }
+        refresher.prefetch(valueUpdater);
     }
 
     @Override
     public <T> RefreshResult<T> fetch(Supplier<RefreshResult<T>> supplier) {
         RefreshResult<T> result = supplier.get();
-        schedulePrefetch(result);
-        return result;
-    }
-
-    private void schedulePrefetch(RefreshResult<?> result) {
-        if (shutdown || result.staleTime() == null || result.prefetchTime() == null) {
-            return;
-        }
-
-        Duration timeUntilPrefetch = Duration.between(Instant.now(), result.prefetchTime());
-        if (timeUntilPrefetch.isNegative() || timeUntilPrefetch.toDays() > 7) {
-            log.debug(() -> "Skipping background refresh because the prefetch time is in the past or too far in the future: " +
-                            result.prefetchTime());
-            return;
-        }
-
-        Instant backgroundRefreshTime = result.prefetchTime().plusSeconds(1);
-        Duration timeUntilBackgroundRefresh = timeUntilPrefetch.plusSeconds(1);
-
-        log.debug(() -> "Scheduling refresh attempt for " + backgroundRefreshTime + " (in " +
-                        timeUntilBackgroundRefresh.toMillis() + " ms)");
-
-        ScheduledFuture<?> scheduledTask = SCHEDULER.schedule(() -> {
-            runWithInstanceThreadName(() -> {
-                log.debug(() -> "Executing refresh attempt scheduled for " + backgroundRefreshTime);
-
-                // If the supplier has already been prefetched, this will just be a cache hit.
-                tryRunBackgroundTask(cachedSupplier::get);
-            });
-        }, timeUntilBackgroundRefresh.toMillis(), TimeUnit.MILLISECONDS);
-
-        updateTask(scheduledTask);
-
-        if (shutdown) {
-            updateTask(null);
+        if (result.staleTime() != null) {
+            refresher.scheduleRefresh(result, Duration.ofSeconds(1));
         }
+        return result;
     }
 
     @Override
     public void close() {
-        shutdown = true;
-        updateTask(null);
+        refresher.close();
     }
 
     public void updateTask(ScheduledFuture<?> newTask) {
-        ScheduledFuture<?> currentTask;
-        do {
-            currentTask = refreshTask.get();
-            if (currentTask != null && !currentTask.isDone()) {
-                currentTask.cancel(false);
-            }
-        } while (!refreshTask.compareAndSet(currentTask, newTask));
+        refresher.updateTask(newTask);
     }
 
     public void tryRunBackgroundTask(Runnable runnable) {
@@ -215,33 +145,13 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
             return;
         }
 
-        try {
-            EXECUTOR.submit(() -> {
-                runWithInstanceThreadName(() -> {
-                    try {
-                        runnable.run();
-                    } catch (Throwable t) {
-                        log.warn(() -> "Exception occurred in AWS SDK background task.", t);
-                    } finally {
-                        CONCURRENT_REFRESH_LEASES.release();
-                        runOnCompletion.run();
-                    }
-                });
-            });
-        } catch (Throwable t) {
-            log.warn(() -> "Exception occurred when submitting AWS SDK background task.", t);
+        refresher.execute(EXECUTOR, runnable, () -> {
             CONCURRENT_REFRESH_LEASES.release();
             runOnCompletion.run();
-        }
+        });
     }
 
     public void runWithInstanceThreadName(Runnable runnable) {
-        String baseThreadName = Thread.currentThread().getName();
-        try {
-            Thread.currentThread().setName(baseThreadName + "-" + asyncThreadName);
-            runnable.run();
-        } finally {
-            Thread.currentThread().setName(baseThreadName);
-        }
+        refresher.runWithThreadName(runnable);
     }
 }
@@ -0,0 +1,442 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Schedules the background refreshes of many {@link CachedSupplier}s on a fixed set of threads. A cached supplier registers
+ * with the scheduler by using one of its {@link #prefetchStrategy(String) prefetch strategies}.
+ * <p>
+ * Compared to {@link NonBlocking}, this scheduler:
+ * <ul>
+ *     <li>Jitters the time of each background refresh by up to {@link Builder#maxRefreshJitter(Duration)}, so that values
+ *     that were fetched together are not refreshed together.</li>
+ *     <li>Runs at most {@link Builder#maxConcurrentRefreshes(Integer)} refreshes at a time. Further refreshes are queued
+ *     instead of skipped.</li>
+ *     <li>Deduplicates the refreshes of cached suppliers registered with the same deduplication key, so that identical
+ *     suppliers call the underlying service once per refresh instead of once each.</li>
+ *     <li>Records the latency of each refresh, see {@link #metrics()}.</li>
+ * </ul>
+ * <p>
+ * Most callers should use the process-wide {@link #shared()} scheduler.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class RefreshScheduler implements SdkAutoCloseable {
+    private static final int DEFAULT_MAX_CONCURRENT_REFRESHES = 8;
+
+    private static final Duration DEFAULT_MAX_REFRESH_JITTER = Duration.ofSeconds(30);
+
+    private static final Lazy<RefreshScheduler> SHARED =
+        new Lazy<>(() -> new RefreshScheduler(builder().threadNamePrefix("sdk-refresh"), true));
+
+    /**
+     * Thread used to kick off refreshes when they are due. This does not do the actual refreshing. That's left for the
+     * {@link #refreshExecutor}.
+     */
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Threads used to do the actual work of refreshing the values. Refreshes beyond the maximum number of threads wait in the
+     * queue of this executor.
+     */
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private final Duration maxRefreshJitter;
+
+    /**
+     * The refreshes shared by the cached suppliers registered with the same deduplication key.
+     */
+    private final ConcurrentMap<Object, SharedRefresh> sharedRefreshes = new ConcurrentHashMap<>();
+
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder failedRefreshCount = new LongAdder();
+    private final LongAdder deduplicatedRefreshCount = new LongAdder();
+    private final LongAdder totalRefreshLatencyNanos = new LongAdder();
+    private final AtomicLong maxRefreshLatencyNanos = new AtomicLong();
+
+    /**
+     * Whether this is the {@link #shared()} scheduler, which must never be closed.
+     */
+    private final boolean shared;
+
+    private RefreshScheduler(Builder builder, boolean shared) {
+        this.shared = shared;
+        int maxConcurrentRefreshes = builder.maxConcurrentRefreshes != null
+                                     ? Validate.isPositive(builder.maxConcurrentRefreshes, "maxConcurrentRefreshes")
+                                     : DEFAULT_MAX_CONCURRENT_REFRESHES;
+        this.maxRefreshJitter = builder.maxRefreshJitter != null
+                                ? Validate.isNotNegative(builder.maxRefreshJitter, "maxRefreshJitter")
+                                : DEFAULT_MAX_REFRESH_JITTER;
+        String threadNamePrefix = builder.threadNamePrefix != null ? builder.threadNamePrefix : "sdk-refresh-scheduler";
+
+        this.scheduler =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix + "-timer")
+                                                                         .daemonThreads(true)
+                                                                         .build());
+        // Ensure that cancelling a task actually removes it from the queue.
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        this.refreshExecutor =
+            new ThreadPoolExecutor(maxConcurrentRefreshes, maxConcurrentRefreshes,
+                                   60L, TimeUnit.SECONDS,
+                                   new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix(threadNamePrefix)
+                                                             .daemonThreads(true)
+                                                             .build());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * The process-wide scheduler, which should be used by default. It is created on first use and is never closed.
+     */
+    public static RefreshScheduler shared() {
+        return SHARED.getValue();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a prefetch strategy that refreshes the value of a {@link CachedSupplier} in the background using this scheduler.
+     *
+     * @param asyncThreadName The name appended to the name of the thread while it refreshes the value.
+     */
+    public CachedSupplier.PrefetchStrategy prefetchStrategy(String asyncThreadName) {
+        return prefetchStrategy(asyncThreadName, null);
+    }
+
+    /**
+     * Create a prefetch strategy that refreshes the value of a {@link CachedSupplier} in the background using this scheduler,
+     * sharing the refreshed values with the other cached suppliers registered with an equal deduplication key.
+     * <p>
+     * Cached suppliers must only share a deduplication key when their underlying suppliers are interchangeable, e.g. when they
+     * load the same credentials from the same source.
+     *
+     * @param asyncThreadName The name appended to the name of the thread while it refreshes the value.
+     * @param deduplicationKey The key identifying identical suppliers, or null if the supplier should not be deduplicated.
+     */
+    public CachedSupplier.PrefetchStrategy prefetchStrategy(String asyncThreadName, Object deduplicationKey) {
+        Validate.paramNotBlank(asyncThreadName, "asyncThreadName");
+        return new ScheduledRefresh(asyncThreadName, deduplicationKey);
+    }
+
+    /**
+     * Retrieve a snapshot of the refreshes performed by this scheduler so far.
+     */
+    public Metrics metrics() {
+        long refreshes = refreshCount.sum();
+        Duration averageLatency = refreshes == 0 ? Duration.ZERO
+                                                 : Duration.ofNanos(totalRefreshLatencyNanos.sum() / refreshes);
+        return new Metrics(refreshes,
+                           failedRefreshCount.sum(),
+                           deduplicatedRefreshCount.sum(),
+                           refreshExecutor.getActiveCount(),
+                           refreshExecutor.getQueue().size(),
+                           averageLatency,
+                           Duration.ofNanos(maxRefreshLatencyNanos.get()));
+    }
+
+    /**
+     * Stop all background refreshes.
+     *
+     * @throws IllegalStateException if this is the {@link #shared()} scheduler, which is used by other clients and is never
+     * closed.
+     */
+    @Override
+    public void close() {
+        if (shared) {
+            throw new IllegalStateException("The shared refresh scheduler cannot be closed.");
+        }
+        scheduler.shutdownNow();
+        refreshExecutor.shutdownNow();
+    }
+
+    private <T> RefreshResult<T> timedFetch(Supplier<RefreshResult<T>> supplier) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            RefreshResult<T> result = supplier.get();
+            success = true;
+            return result;
+        } finally {
+            long latency = System.nanoTime() - start;
+            refreshCount.increment();
+            totalRefreshLatencyNanos.add(latency);
+            maxRefreshLatencyNanos.accumulateAndGet(latency, Math::max);
+            if (!success) {
+                failedRefreshCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Calculate how long after the prefetch time the background refresh should happen. The jitter is limited to half of the
+     * time between the prefetch time and the stale time, so that the refresh still happens before the value is stale.
+     */
+    private Duration refreshJitter(RefreshResult<?> result) {
+        if (result.prefetchTime() == null) {
+            // The value is never refreshed in the background, so there is nothing to jitter.
+            return Duration.ZERO;
+        }
+
+        Duration maxJitter = maxRefreshJitter;
+        if (result.staleTime() != null) {
+            Duration halfPrefetchWindow = Duration.between(result.prefetchTime(), result.staleTime()).dividedBy(2);
+            if (halfPrefetchWindow.compareTo(maxJitter) < 0) {
+                maxJitter = halfPrefetchWindow;
+            }
+        }
+        if (maxJitter.isNegative() || maxJitter.isZero()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxJitter.toMillis() + 1));
+    }
+
+    private void retain(Object deduplicationKey) {
+        sharedRefreshes.compute(deduplicationKey, (k, refresh) -> {
+            SharedRefresh result = refresh != null ? refresh : new SharedRefresh();
+            result.registrations++;
+            return result;
+        });
+    }
+
+    private void release(Object deduplicationKey) {
+        sharedRefreshes.computeIfPresent(deduplicationKey, (k, refresh) -> --refresh.registrations == 0 ? null : refresh);
+    }
+
+    /**
+     * The most recent value fetched for a deduplication key. Cached suppliers registered with the key reuse this value until
+     * its prefetch time, and only one of them fetches a new value at a time.
+     */
+    private final class SharedRefresh {
+        /**
+         * The number of prefetch strategies registered with this key. Guarded by {@link #sharedRefreshes}.
+         */
+        private int registrations;
+
+        private RefreshResult<?> latest;
+
+        @SuppressWarnings("unchecked")
+        private synchronized <T> RefreshResult<T> fetch(Supplier<RefreshResult<T>> supplier, Clock clock) {
+            if (latest != null && isFresh(latest, clock.instant())) {
+                deduplicatedRefreshCount.increment();
+                return (RefreshResult<T>) latest;
+            }
+            RefreshResult<T> result = timedFetch(supplier);
+            latest = result;
+            return result;
+        }
+
+        private boolean isFresh(RefreshResult<?> result, Instant now) {
+            if (result.prefetchTime() != null) {
+                return now.isBefore(result.prefetchTime());
+            }
+            return result.staleTime() == null || now.isBefore(result.staleTime());
+        }
+    }
+
+    /**
+     * The prefetch strategy of a single {@link CachedSupplier} registered with this scheduler.
+     */
+    private final class ScheduledRefresh implements CachedSupplier.PrefetchStrategy {
+        private final BackgroundRefresher refresher;
+        private final Object deduplicationKey;
+
+        private ScheduledRefresh(String asyncThreadName, Object deduplicationKey) {
+            this.refresher = new BackgroundRefresher(asyncThreadName, scheduler, this::submitRefresh);
+            this.deduplicationKey = deduplicationKey;
+            if (deduplicationKey != null) {
+                retain(deduplicationKey);
+            }
+        }
+
+        @Override
+        public void initializeCachedSupplier(CachedSupplier<?> cachedSupplier) {
+            refresher.initializeCachedSupplier(cachedSupplier);
+        }
+
+        @Override
+        public void prefetch(Runnable valueUpdater) {
+            refresher.prefetch(valueUpdater);
+        }
+
+        @Override
+        public <T> RefreshResult<T> fetch(Supplier<RefreshResult<T>> supplier) {
+            SharedRefresh sharedRefresh = deduplicationKey != null ? sharedRefreshes.get(deduplicationKey) : null;
+            RefreshResult<T> result = sharedRefresh != null ? sharedRefresh.fetch(supplier, refresher.clock())
+                                                            : timedFetch(supplier);
+            refresher.scheduleRefresh(result, Duration.ofSeconds(1).plus(refreshJitter(result)));
+            return result;
+        }
+
+        @Override
+        public void close() {
+            if (refresher.close() && deduplicationKey != null) {
+                release(deduplicationKey);
+            }
+        }
+
+        private void submitRefresh(Runnable refresh, Runnable runOnCompletion) {
+            refresher.execute(refreshExecutor, refresh, runOnCompletion);
+        }
+    }
+
+    /**
+     * A snapshot of the refreshes performed by a {@link RefreshScheduler}, retrieved with {@link #metrics()}.
+     */
+    public static final class Metrics {
+        private final long refreshCount;
+        private final long failedRefreshCount;
+        private final long deduplicatedRefreshCount;
+        private final int activeRefreshes;
+        private final int pendingRefreshes;
+        private final Duration averageRefreshLatency;
+        private final Duration maxRefreshLatency;
+
+        private Metrics(long refreshCount, long failedRefreshCount, long deduplicatedRefreshCount, int activeRefreshes,
+                        int pendingRefreshes, Duration averageRefreshLatency, Duration maxRefreshLatency) {
+            this.refreshCount = refreshCount;
+            this.failedRefreshCount = failedRefreshCount;
+            this.deduplicatedRefreshCount = deduplicatedRefreshCount;
+            this.activeRefreshes = activeRefreshes;
+            this.pendingRefreshes = pendingRefreshes;
+            this.averageRefreshLatency = averageRefreshLatency;
+            this.maxRefreshLatency = maxRefreshLatency;
+        }
+
+        /**
+         * The number of times an underlying supplier was called, including failed calls.
+         */
+        public long refreshCount() {
+            return refreshCount;
+        }
+
+        /**
+         * The number of times an underlying supplier failed.
+         */
+        public long failedRefreshCount() {
+            return failedRefreshCount;
+        }
+
+        /**
+         * The number of times a value was reused from an identical supplier instead of calling the underlying supplier.
+         */
+        public long deduplicatedRefreshCount() {
+            return deduplicatedRefreshCount;
+        }
+
+        /**
+         * The number of background refreshes running when the snapshot was taken.
+         */
+        public int activeRefreshes() {
+            return activeRefreshes;
+        }
+
+        /**
+         * The number of background refreshes waiting for a thread when the snapshot was taken.
+         */
+        public int pendingRefreshes() {
+            return pendingRefreshes;
+        }
+
+        /**
+         * The average time it took to call an underlying supplier.
+         */
+        public Duration averageRefreshLatency() {
+            return averageRefreshLatency;
+        }
+
+        /**
+         * The longest time it took to call an underlying supplier.
+         */
+        public Duration maxRefreshLatency() {
+            return maxRefreshLatency;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("RefreshScheduler.Metrics")
+                           .add("refreshCount", refreshCount)
+                           .add("failedRefreshCount", failedRefreshCount)
+                           .add("deduplicatedRefreshCount", deduplicatedRefreshCount)
+                           .add("activeRefreshes", activeRefreshes)
+                           .add("pendingRefreshes", pendingRefreshes)
+                           .add("averageRefreshLatency", averageRefreshLatency)
+                           .add("maxRefreshLatency", maxRefreshLatency)
+                           .build();
+        }
+    }
+
+    public static final class Builder {
+        private Integer maxConcurrentRefreshes;
+        private Duration maxRefreshJitter;
+        private String threadNamePrefix;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of refreshes that run at the same time. Defaults to 8.
+         */
+        public Builder maxConcurrentRefreshes(Integer maxConcurrentRefreshes) {
+            this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+            return this;
+        }
+
+        /**
+         * The maximum random delay added to the prefetch time of a value before it is refreshed in the background. The delay
+         * never exceeds half of the time between the prefetch time and the stale time. Defaults to 30 seconds.
+         */
+        public Builder maxRefreshJitter(Duration maxRefreshJitter) {
+            this.maxRefreshJitter = maxRefreshJitter;
+            return this;
+        }
+
+        /**
+         * The prefix of the names of the threads used by the scheduler.
+         */
+        public Builder threadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+            return this;
+        }
+
+        public RefreshScheduler build() {
+            return new RefreshScheduler(this, false);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.lru;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A thread-safe, approximately-LRU cache that returns the value for a specified key, retrieving it by either getting the
+ * stored value from the cache or using a supplied function to calculate that value and add it to the cache.
+ * <p>
+ * Unlike {@link LruCache}, a cache hit does not take any lock: the entry is read from a {@link ConcurrentHashMap} and its
+ * last-access time is updated with a single volatile write. The recency order is only reconstructed when the cache grows
+ * past its maximum size, in which case the entries with the oldest access time are evicted. Eviction is serialized between
+ * writers and runs in time proportional to the maximum size, so this cache is intended for the small, read-heavy caches
+ * used by the SDK, where a miss (e.g. a service call to create credentials) dominates the cost of the eviction scan. Caches
+ * that are expected to miss often can evict a batch of entries at a time with {@link Builder#evictionBatchSize(Integer)},
+ * which amortizes the scan over that many misses.
+ * <p>
+ * Entries can optionally expire a fixed time after they were added, with {@link Builder#timeToLive(Duration)}. An expired
+ * entry is recalculated the next time it is requested.
+ * <p>
+ * Evicted and expired values are closed if they are {@link AutoCloseable}. The user can configure the maximum size of the
+ * cache, which is set to a default of 100.
+ * <p>
+ * Null values are accepted.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ConcurrentLruCache<K, V> {
+
+    private static final Logger log = Logger.loggerFor(ConcurrentLruCache.class);
+
+    private static final int DEFAULT_SIZE = 100;
+
+    private final Map<K, CacheEntry<K, V>> cache = new ConcurrentHashMap<>();
+    private final Function<K, V> valueSupplier;
+    private final Object evictionLock = new Object();
+    private final int maxCacheSize;
+    private final int evictionBatchSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    private ConcurrentLruCache(Builder<K, V> b) {
+        this.valueSupplier = b.supplier;
+        Integer customSize = Validate.isPositiveOrNull(b.maxSize, "size");
+        this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
+        this.evictionBatchSize = b.evictionBatchSize != null ? b.evictionBatchSize : 0;
+        Validate.isTrue(evictionBatchSize >= 0 && evictionBatchSize < maxCacheSize,
+                        "evictionBatchSize (%s) must not be negative and must be less than the maximum size (%s)",
+                        evictionBatchSize, maxCacheSize);
+        Duration timeToLive = Validate.isPositiveOrNull(b.timeToLive, "timeToLive");
+        this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : -1;
+        this.nanoClock = b.nanoClock != null ? b.nanoClock : System::nanoTime;
+    }
+
+    /**
+     * Get a value based on the key. If an unexpired value exists in the cache, it's returned, and its access time is updated.
+     * Otherwise, the value is calculated based on the supplied function {@link #builder(Function)}.
+     */
+    public V get(K key) {
+        while (true) {
+            CacheEntry<K, V> cachedEntry = cache.get(key);
+            if (cachedEntry == null) {
+                cachedEntry = cache.computeIfAbsent(key, this::newEntry);
+                if (cache.size() > maxCacheSize) {
+                    evict();
+                }
+            }
+
+            long now = nanoClock.getAsLong();
+            if (isExpired(cachedEntry, now)) {
+                if (cache.remove(key, cachedEntry)) {
+                    discard(cachedEntry);
+                }
+                continue;
+            }
+
+            cachedEntry.lastAccess = now;
+            if (cachedEntry.evicted) {
+                continue;
+            }
+            return cachedEntry.value;
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private CacheEntry<K, V> newEntry(K key) {
+        V value = valueSupplier.apply(key);
+        return new CacheEntry<>(key, value, nanoClock.getAsLong());
+    }
+
+    private boolean isExpired(CacheEntry<K, V> entry, long now) {
+        return timeToLiveNanos >= 0 && now - entry.createdAt >= timeToLiveNanos;
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is back within its maximum size, minus the eviction batch. The
+     * least recently used entries are found with a single scan of the cache, so a workload that uses more keys than the cache
+     * can hold only pays for the scan once per batch of misses.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            while (cache.size() > maxCacheSize) {
+                int evictions = cache.size() - maxCacheSize + evictionBatchSize;
+                PriorityQueue<EvictionCandidate<K, V>> leastRecentlyUsed =
+                    new PriorityQueue<>(evictions, EvictionCandidate.MOST_RECENTLY_USED_FIRST);
+                for (CacheEntry<K, V> entry : cache.values()) {
+                    if (leastRecentlyUsed.size() < evictions) {
+                        leastRecentlyUsed.add(new EvictionCandidate<>(entry));
+                    } else if (entry.lastAccess - leastRecentlyUsed.peek().lastAccess < 0) {
+                        leastRecentlyUsed.poll();
+                        leastRecentlyUsed.add(new EvictionCandidate<>(entry));
+                    }
+                }
+                for (EvictionCandidate<K, V> candidate : leastRecentlyUsed) {
+                    if (cache.remove(candidate.entry.key, candidate.entry)) {
+                        discard(candidate.entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private void discard(CacheEntry<K, V> entry) {
+        entry.evicted = true;
+        closeEvictedResourcesIfPossible(entry.value);
+    }
+
+    private void closeEvictedResourcesIfPossible(V value) {
+        if (value instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) value).close();
+            } catch (Exception e) {
+                log.warn(() -> "Attempted to close instance that was evicted by cache, but got exception: " + e.getMessage());
+            }
+        }
+    }
+
+    public static <K, V> ConcurrentLruCache.Builder<K, V> builder(Function<K, V> supplier) {
+        return new Builder<>(supplier);
+    }
+
+    public static <K, V> ConcurrentLruCache.Builder<K, V> builder() {
+        return new Builder<>(null);
+    }
+
+    public static final class Builder<K, V> {
+
+        private final Function<K, V> supplier;
+        private Integer maxSize;
+        private Integer evictionBatchSize;
+        private Duration timeToLive;
+        private LongSupplier nanoClock;
+
+        private Builder(Function<K, V> supplier) {
+            this.supplier = supplier;
+        }
+
+        public Builder<K, V> maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * The number of entries to evict, on top of the entries over the maximum size, when the cache grows past its maximum
+         * size. Each eviction scans the whole cache, so a batch amortizes the scan over that many misses, at the cost of
+         * evicting entries that may still be used. By default, only the entries over the maximum size are evicted.
+         */
+        public Builder<K, V> evictionBatchSize(Integer evictionBatchSize) {
+            this.evictionBatchSize = evictionBatchSize;
+            return this;
+        }
+
+        /**
+         * The amount of time after an entry is added to the cache before it expires and is recalculated. By default, entries
+         * do not expire.
+         */
+        public Builder<K, V> timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        Builder<K, V> nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public ConcurrentLruCache<K, V> build() {
+            return new ConcurrentLruCache<>(this);
+        }
+    }
+
+    /**
+     * An entry considered for eviction, with its access time at the time of the scan, since the access time of the entry
+     * itself can change while it's in the priority queue.
+     */
+    private static final class EvictionCandidate<K, V> {
+        private static final Comparator<EvictionCandidate<?, ?>> MOST_RECENTLY_USED_FIRST =
+            (a, b) -> Long.signum(b.lastAccess - a.lastAccess);
+
+        private final CacheEntry<K, V> entry;
+        private final long lastAccess;
+
+        private EvictionCandidate(CacheEntry<K, V> entry) {
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+
+    private static final class CacheEntry<K, V> {
+        private final K key;
+        private final V value;
+        private final long createdAt;
+        private volatile long lastAccess;
+        private volatile boolean evicted;
+
+        private CacheEntry(K key, V value, long createdAt) {
+            this.key = key;
+            this.value = value;
+            this.createdAt = createdAt;
+            this.lastAccess = createdAt;
+        }
+    }
+}
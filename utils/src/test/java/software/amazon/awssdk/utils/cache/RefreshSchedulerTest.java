@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RefreshSchedulerTest {
+    private RefreshScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = RefreshScheduler.builder()
+                                    .maxConcurrentRefreshes(1)
+                                    .maxRefreshJitter(Duration.ZERO)
+                                    .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.close();
+    }
+
+    @Test
+    public void suppliersWithSameDeduplicationKey_shareRefreshes() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<RefreshResult<String>> valueSupplier = () -> RefreshResult.builder("value-" + calls.incrementAndGet())
+                                                                           .prefetchTime(now().plusSeconds(60))
+                                                                           .staleTime(now().plusSeconds(120))
+                                                                           .build();
+
+        try (CachedSupplier<String> first = cachedSupplier(valueSupplier, "key");
+             CachedSupplier<String> second = cachedSupplier(valueSupplier, "key");
+             CachedSupplier<String> other = cachedSupplier(valueSupplier, "other-key")) {
+            assertThat(first.get()).isEqualTo("value-1");
+            assertThat(second.get()).isEqualTo("value-1");
+            assertThat(other.get()).isEqualTo("value-2");
+        }
+
+        RefreshScheduler.Metrics metrics = scheduler.metrics();
+        assertThat(metrics.refreshCount()).isEqualTo(2);
+        assertThat(metrics.deduplicatedRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void suppliersWithSameDeduplicationKey_useClockOfCacheToCheckFreshness() {
+        Clock clock = Clock.fixed(now().minus(Duration.ofDays(1)), ZoneOffset.UTC);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<RefreshResult<String>> valueSupplier = () -> RefreshResult.builder("value-" + calls.incrementAndGet())
+                                                                           .prefetchTime(clock.instant().plusSeconds(60))
+                                                                           .staleTime(clock.instant().plusSeconds(120))
+                                                                           .build();
+
+        try (CachedSupplier<String> first = cachedSupplier(valueSupplier, "key", clock);
+             CachedSupplier<String> second = cachedSupplier(valueSupplier, "key", clock)) {
+            assertThat(first.get()).isEqualTo("value-1");
+            assertThat(second.get()).isEqualTo("value-1");
+        }
+
+        assertThat(scheduler.metrics().deduplicatedRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void deduplicationKeyReleased_suppliersNoLongerShareRefreshes() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<RefreshResult<String>> valueSupplier = () -> RefreshResult.builder("value-" + calls.incrementAndGet())
+                                                                           .prefetchTime(now().plusSeconds(60))
+                                                                           .build();
+
+        try (CachedSupplier<String> first = cachedSupplier(valueSupplier, "key")) {
+            assertThat(first.get()).isEqualTo("value-1");
+        }
+        try (CachedSupplier<String> second = cachedSupplier(valueSupplier, "key")) {
+            assertThat(second.get()).isEqualTo("value-2");
+        }
+    }
+
+    @Test
+    public void valueWithStaleTimeButNoPrefetchTime_isFetched() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<RefreshResult<String>> valueSupplier = () -> RefreshResult.builder("value-" + calls.incrementAndGet())
+                                                                           .staleTime(now().plusSeconds(60))
+                                                                           .build();
+
+        try (CachedSupplier<String> first = cachedSupplier(valueSupplier, null);
+             CachedSupplier<String> second = cachedSupplier(valueSupplier, "key")) {
+            assertThat(first.get()).isEqualTo("value-1");
+            assertThat(first.get()).isEqualTo("value-1");
+            assertThat(second.get()).isEqualTo("value-2");
+        }
+    }
+
+    @Test
+    public void sharedScheduler_cannotBeClosed() {
+        assertThatThrownBy(() -> RefreshScheduler.shared().close()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void failedRefresh_isRecordedInMetrics() {
+        Supplier<RefreshResult<String>> valueSupplier = () -> {
+            throw new IllegalStateException("failed");
+        };
+
+        try (CachedSupplier<String> cachedSupplier = cachedSupplier(valueSupplier, null)) {
+            assertThatThrownBy(cachedSupplier::get).isInstanceOf(IllegalStateException.class);
+        }
+
+        RefreshScheduler.Metrics metrics = scheduler.metrics();
+        assertThat(metrics.refreshCount()).isEqualTo(1);
+        assertThat(metrics.failedRefreshCount()).isEqualTo(1);
+        assertThat(metrics.maxRefreshLatency()).isGreaterThanOrEqualTo(metrics.averageRefreshLatency());
+    }
+
+    @Test
+    public void prefetchTimeArrives_valueIsRefreshedInBackground() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(2);
+        Supplier<RefreshResult<String>> valueSupplier = () -> {
+            refreshed.countDown();
+            return RefreshResult.builder("value")
+                                .prefetchTime(now().plusMillis(100))
+                                .staleTime(now().plusSeconds(60))
+                                .build();
+        };
+
+        try (CachedSupplier<String> cachedSupplier = cachedSupplier(valueSupplier, null)) {
+            cachedSupplier.get();
+            assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    public void refreshesBeyondMaxConcurrency_areQueued() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        Supplier<RefreshResult<String>> valueSupplier = () -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            done.countDown();
+            return RefreshResult.builder("value").prefetchTime(now().plusSeconds(60)).build();
+        };
+
+        CachedSupplier.PrefetchStrategy first = scheduler.prefetchStrategy("first");
+        CachedSupplier.PrefetchStrategy second = scheduler.prefetchStrategy("second");
+        first.prefetch(() -> first.fetch(valueSupplier));
+        second.prefetch(() -> second.fetch(valueSupplier));
+
+        Thread.sleep(100);
+        assertThat(scheduler.metrics().pendingRefreshes()).isEqualTo(1);
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxActive.get()).isEqualTo(1);
+        first.close();
+        second.close();
+    }
+
+    private CachedSupplier<String> cachedSupplier(Supplier<RefreshResult<String>> valueSupplier, Object deduplicationKey) {
+        return cachedSupplier(valueSupplier, deduplicationKey, Clock.systemUTC());
+    }
+
+    private CachedSupplier<String> cachedSupplier(Supplier<RefreshResult<String>> valueSupplier, Object deduplicationKey,
+                                                  Clock clock) {
+        return CachedSupplier.builder(valueSupplier)
+                             .prefetchStrategy(scheduler.prefetchStrategy("test", deduplicationKey))
+                             .jitterEnabled(false)
+                             .clock(clock)
+                             .build();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.lru;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ConcurrentLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Integer, AtomicInteger> supplierCalls = new ConcurrentHashMap<>();
+    private final List<Integer> closedKeys = new ArrayList<>();
+
+    private final Function<Integer, String> countingSupplier = key -> {
+        supplierCalls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        return Integer.toString(key);
+    };
+
+    @BeforeEach
+    void setup() {
+        clock.set(0);
+    }
+
+    @Test
+    void when_cacheHasHit_ValueIsRetrievedFromCache() {
+        ConcurrentLruCache<Integer, String> cache = cache(countingSupplier, 3, null);
+
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(cache.get(1)).isEqualTo("1");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(supplierCalls(1)).isEqualTo(1);
+    }
+
+    @Test
+    void when_cacheFillsUp_LeastRecentlyUsedValueIsEvicted() {
+        ConcurrentLruCache<Integer, String> cache = cache(countingSupplier, 3, null);
+
+        // [2, 1, 0]
+        cache.get(0);
+        cache.get(1);
+        cache.get(2);
+
+        // move 0 up -> [0, 2, 1]
+        cache.get(0);
+
+        // evict 1 -> [3, 0, 2]
+        cache.get(3);
+        assertThat(cache.size()).isEqualTo(3);
+
+        cache.get(0);
+        cache.get(2);
+        cache.get(1);
+
+        assertThat(supplierCalls(0)).isEqualTo(1);
+        assertThat(supplierCalls(1)).isEqualTo(2);
+        assertThat(supplierCalls(2)).isEqualTo(1);
+        assertThat(supplierCalls(3)).isEqualTo(1);
+    }
+
+    @Test
+    void when_entryOutlivesTimeToLive_ValueIsRecalculatedAndOldValueClosed() {
+        ConcurrentLruCache<Integer, CloseableValue> cache = cache(CloseableValue::new, 3, Duration.ofNanos(10));
+
+        CloseableValue first = cache.get(1);
+        clock.addAndGet(5);
+        assertThat(cache.get(1)).isSameAs(first);
+
+        clock.addAndGet(10);
+        CloseableValue second = cache.get(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(closedKeys).containsExactly(1);
+    }
+
+    @Test
+    void when_closeableValuesAreEvicted_CloseMethodIsCalled() {
+        ConcurrentLruCache<Integer, CloseableValue> cache = cache(CloseableValue::new, 3, null);
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(i);
+        }
+
+        assertThat(closedKeys).containsExactly(0, 1);
+    }
+
+    @Test
+    void when_largeCacheFillsUp_OnlyLeastRecentlyUsedValueIsEvictedByDefault() {
+        ConcurrentLruCache<Integer, CloseableValue> cache = cache(CloseableValue::new, 32, null);
+
+        for (int i = 0; i < 32; i++) {
+            cache.get(i);
+        }
+        // move 0 up, so that 1 is the least recently used
+        cache.get(0);
+        cache.get(32);
+
+        assertThat(closedKeys).containsExactly(1);
+        assertThat(cache.size()).isEqualTo(32);
+    }
+
+    @Test
+    void when_cacheWithEvictionBatchFillsUp_BatchOfLeastRecentlyUsedValuesIsEvicted() {
+        ConcurrentLruCache<Integer, CloseableValue> cache =
+            ConcurrentLruCache.<Integer, CloseableValue>builder(CloseableValue::new)
+                              .maxSize(32)
+                              .evictionBatchSize(2)
+                              .nanoClock(clock::incrementAndGet)
+                              .build();
+
+        for (int i = 0; i < 32; i++) {
+            cache.get(i);
+        }
+        // move 0 up, so that 1, 2 and 3 are the least recently used
+        cache.get(0);
+        cache.get(32);
+
+        assertThat(closedKeys).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(cache.size()).isEqualTo(30);
+    }
+
+    @Test
+    void when_evictionBatchSizeIsNotLessThanMaxSize_ThrowsException() {
+        assertThatThrownBy(() -> ConcurrentLruCache.<Integer, CloseableValue>builder(CloseableValue::new)
+                                                   .maxSize(2)
+                                                   .evictionBatchSize(2)
+                                                   .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void when_cacheHasMiss_AndNoValueIsFound_ReturnsNull() {
+        ConcurrentLruCache<Integer, String> cache = cache(key -> {
+            supplierCalls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return null;
+        }, 3, null);
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1)).isNull();
+        assertThat(supplierCalls(1)).isEqualTo(1);
+    }
+
+    @Test
+    void when_valueSupplierThrows_FailureIsNotCached() {
+        ConcurrentLruCache<Integer, String> cache = cache(key -> {
+            if (supplierCalls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return Integer.toString(key);
+        }, 3, null);
+
+        assertThatThrownBy(() -> cache.get(1)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(supplierCalls(1)).isEqualTo(2);
+    }
+
+    @Test
+    void when_timeToLiveIsNotPositive_BuildFails() {
+        assertThatThrownBy(() -> ConcurrentLruCache.builder(countingSupplier).timeToLive(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50})
+    void when_multipleThreadsAreCallingCache_WorksAsExpected(int cacheSize) throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder((Integer k) -> Integer.toString(k))
+                                                                          .maxSize(cacheSize)
+                                                                          .build();
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 5000; j++) {
+                        int key = ThreadLocalRandom.current().nextInt(cacheSize * 2);
+                        assertThat(cache.get(key)).isEqualTo(Integer.toString(key));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(20, TimeUnit.SECONDS);
+            }
+            assertThat(cache.size()).isLessThanOrEqualTo(cacheSize);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <V> ConcurrentLruCache<Integer, V> cache(Function<Integer, V> supplier, int maxSize, Duration timeToLive) {
+        return ConcurrentLruCache.builder(supplier)
+                                 .maxSize(maxSize)
+                                 .timeToLive(timeToLive)
+                                 .nanoClock(clock::incrementAndGet)
+                                 .build();
+    }
+
+    private int supplierCalls(int key) {
+        AtomicInteger calls = supplierCalls.get(key);
+        return calls == null ? 0 : calls.get();
+    }
+
+    private final class CloseableValue implements AutoCloseable {
+        private final Integer key;
+
+        CloseableValue(Integer key) {
+            this.key = key;
+        }
+
+        @Override
+        public void close() {
+            closedKeys.add(key);
+        }
+    }
+}